@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the expansion of partner catalogs via {@link JakartaJsonBridge} with
+ * the former path that serialized the catalog to a String, parsed it with
+ * Jakarta JSON, expanded it and parsed the serialized result with Jackson again.
+ * <p>
+ * The catalogs resemble the ones returned by partner connectors: one dataset
+ * per offered asset, each with a policy and a pull and push distribution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonLdUtilsBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String DSP_URL = "https://supplier-control-plane.example.com/api/v1/dsp";
+
+    @Param({"1", "10", "50"})
+    private int datasets;
+
+    private JsonLdUtils jsonLdUtils;
+
+    private ObjectNode catalog;
+
+    private ObjectNode expandedCatalog;
+
+    @Setup
+    public void setUp() {
+        jsonLdUtils = new JsonLdUtils();
+        catalog = createCatalog(datasets);
+        expandedCatalog = jsonLdUtils.expand(catalog);
+    }
+
+    @Benchmark
+    public JsonNode expandViaString() throws Exception {
+        try (JsonReader jsonReader = Json.createReader(new StringReader(catalog.toString()))) {
+            var expanded = jsonLdUtils.expand(jsonReader.readObject());
+            return MAPPER.readTree(expanded.toString());
+        }
+    }
+
+    @Benchmark
+    public JsonNode expandViaBridge() {
+        return jsonLdUtils.expand(catalog);
+    }
+
+    @Benchmark
+    public JsonNode compactViaString() throws Exception {
+        try (JsonReader jsonReader = Json.createReader(new StringReader(expandedCatalog.toString()))) {
+            var compacted = jsonLdUtils.compact(jsonReader.readObject());
+            return MAPPER.readTree(compacted.toString());
+        }
+    }
+
+    @Benchmark
+    public JsonNode compactViaBridge() {
+        return jsonLdUtils.compact(expandedCatalog);
+    }
+
+    private static ObjectNode createCatalog(int datasets) {
+        ObjectNode catalog = MAPPER.createObjectNode();
+        catalog.put("@id", "0a5ad415-0d0d-4b04-afe7-172de85efe2e");
+        catalog.put("@type", "dcat:Catalog");
+        catalog.put("dspace:participantId", "BPNL1234567890ZZ");
+        ArrayNode datasetArray = catalog.putArray("dcat:dataset");
+        for (int i = 0; i < datasets; i++) {
+            datasetArray.add(createDataset("Asset" + i + "@BPNL1234567890ZZ"));
+        }
+        catalog.set("dcat:service", createDataService());
+        catalog.put("participantId", "BPNL1234567890ZZ");
+        ObjectNode context = catalog.putObject("@context");
+        context.put("@vocab", "https://w3id.org/edc/v0.0.1/ns/");
+        context.put("edc", "https://w3id.org/edc/v0.0.1/ns/");
+        context.put("tx", "https://w3id.org/tractusx/v0.0.1/ns/");
+        context.put("tx-auth", "https://w3id.org/tractusx/auth/");
+        context.put("cx-policy", "https://w3id.org/catenax/policy/");
+        context.put("dcat", "http://www.w3.org/ns/dcat#");
+        context.put("dct", "http://purl.org/dc/terms/");
+        context.put("odrl", "http://www.w3.org/ns/odrl/2/");
+        context.put("dspace", "https://w3id.org/dspace/v0.8/");
+        return catalog;
+    }
+
+    private static ObjectNode createDataset(String assetId) {
+        ObjectNode dataset = MAPPER.createObjectNode();
+        dataset.put("@id", assetId);
+        dataset.put("@type", "dcat:Dataset");
+
+        ObjectNode policy = dataset.putObject("odrl:hasPolicy");
+        policy.put("@id", "contractdefinition:" + assetId + ":957ec8d9-ac0b-41aa-8ad0-ccf2ae116ed5");
+        policy.put("@type", "odrl:Offer");
+        ObjectNode permission = policy.putObject("odrl:permission");
+        permission.putObject("odrl:action").put("@id", "odrl:use");
+        ArrayNode constraints = permission.putObject("odrl:constraint").putArray("odrl:and");
+        constraints.add(createConstraint("cx-policy:FrameworkAgreement", "Puris:1.0"));
+        constraints.add(createConstraint("cx-policy:UsagePurpose", "cx.puris.base:1"));
+        policy.putArray("odrl:prohibition");
+        policy.putArray("odrl:obligation");
+
+        ArrayNode distributions = dataset.putArray("dcat:distribution");
+        for (String format : new String[]{"HttpData-PULL", "HttpData-PUSH"}) {
+            ObjectNode distribution = distributions.addObject();
+            distribution.put("@type", "dcat:Distribution");
+            distribution.putObject("dct:format").put("@id", format);
+            distribution.set("dcat:accessService", createDataService());
+        }
+        dataset.putObject("https://admin-shell.io/aas/3/0/HasSemantics/semanticId")
+            .put("@id", "urn:samm:io.catenax.item_stock:2.0.0#ItemStock");
+        dataset.put("https://w3id.org/catenax/ontology/common#version", "3.0");
+        dataset.put("id", assetId);
+        dataset.putObject("https://purl.org/dc/terms/type").put("@id", "https://w3id.org/catenax/taxonomy#Submodel");
+        return dataset;
+    }
+
+    private static ObjectNode createConstraint(String leftOperand, String rightOperand) {
+        ObjectNode constraint = MAPPER.createObjectNode();
+        constraint.putObject("odrl:leftOperand").put("@id", leftOperand);
+        constraint.putObject("odrl:operator").put("@id", "odrl:eq");
+        constraint.put("odrl:rightOperand", rightOperand);
+        return constraint;
+    }
+
+    private static ObjectNode createDataService() {
+        ObjectNode dataService = MAPPER.createObjectNode();
+        dataService.put("@id", "aca2887d-ffbf-4224-a16c-e247f1ac3982");
+        dataService.put("@type", "dcat:DataService");
+        dataService.put("dcat:endpointDescription", "dspace:connector");
+        dataService.put("dcat:endpointUrl", DSP_URL);
+        dataService.put("dct:terms", "dspace:connector");
+        dataService.put("dct:endpointUrl", DSP_URL);
+        return dataService;
+    }
+}
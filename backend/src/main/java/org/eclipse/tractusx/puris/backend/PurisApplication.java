@@ -23,16 +23,18 @@ package org.eclipse.tractusx.puris.backend;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import org.eclipse.tractusx.puris.backend.common.util.ExecutorConfiguration;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.config.Configuration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
-
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@Import(ExecutorConfiguration.class)
 public class PurisApplication {
 
     public static void main(String[] args) {
@@ -49,11 +51,6 @@ public class PurisApplication {
         return new ModelMapper();
     }
 
-    @Bean
-    public ExecutorService getExecutorService() {
-        return Executors.newCachedThreadPool();
-    }
-
     @Bean
     public Validator getValidator() {
         try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
@@ -57,8 +57,8 @@ public class DtrAdapterService {
     private DigitalTwinMappingService digitalTwinMappingService;
 
     @Autowired(required = false)
-    public DtrAdapterService(@Nullable OAuth2ClientInterceptor oAuth2ClientInterceptor) {
-        OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
+    public DtrAdapterService(OkHttpClient httpClient, @Nullable OAuth2ClientInterceptor oAuth2ClientInterceptor) {
+        OkHttpClient.Builder clientBuilder = httpClient.newBuilder();
 
         // add client interceptor if enabled by property
         if (oAuth2ClientInterceptor != null) {
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.ddtr.logic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.util.ExecutorConfiguration;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Collects pending updates of the shells at your DTR and sends them in a debounced way.
+ * <p>
+ * All updates for the same shell that are enqueued within the debounce period are collapsed into
+ * a single update, which is sent once no further update has been enqueued for the debounce period,
+ * but no later than the maximum delay after the first one. At most one update per shell is running
+ * at the same time and the number of concurrent updates is limited. Failed updates are retried
+ * after the debounce period.
+ * <p>
+ * The queue is monitored via the counter puris.dtr.sync (tagged with the result enqueued,
+ * coalesced, succeeded, retried or failed) and the gauge puris.dtr.sync.pending.
+ */
+@Service
+@Slf4j
+public class DtrSyncQueue {
+
+    @Autowired
+    private VariablesService variablesService;
+
+    @Autowired
+    @Qualifier(ExecutorConfiguration.DTR_EXECUTOR)
+    private ExecutorService dtrExecutorService;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final Map<DtrSyncKey, PendingSync> pending = new ConcurrentHashMap<>();
+
+    private final Set<DtrSyncKey> running = ConcurrentHashMap.newKeySet();
+
+    private Semaphore permits;
+
+    private Counter enqueued;
+
+    private Counter coalesced;
+
+    private Counter succeeded;
+
+    private Counter retried;
+
+    private Counter failed;
+
+    public enum ShellType {
+        PRODUCT, MATERIAL
+    }
+
+    /**
+     * Identifies a shell at your DTR.
+     *
+     * @param type              whether it is the product shell of a material or the material shell for a supplier
+     * @param ownMaterialNumber the material number of the material
+     * @param partnerUuid       the uuid of the supplier partner, null for product shells
+     */
+    public record DtrSyncKey(ShellType type, String ownMaterialNumber, UUID partnerUuid) {
+
+        public static DtrSyncKey product(String ownMaterialNumber) {
+            return new DtrSyncKey(ShellType.PRODUCT, ownMaterialNumber, null);
+        }
+
+        public static DtrSyncKey material(String ownMaterialNumber, UUID partnerUuid) {
+            return new DtrSyncKey(ShellType.MATERIAL, ownMaterialNumber, partnerUuid);
+        }
+    }
+
+    private static final class PendingSync {
+        private final Callable<Boolean> update;
+        private final long firstEnqueuedAt;
+        private final long dueAt;
+        private final int attempt;
+
+        private PendingSync(Callable<Boolean> update, long firstEnqueuedAt, long dueAt, int attempt) {
+            this.update = update;
+            this.firstEnqueuedAt = firstEnqueuedAt;
+            this.dueAt = dueAt;
+            this.attempt = attempt;
+        }
+    }
+
+    @PostConstruct
+    private void init() {
+        permits = new Semaphore(Math.max(variablesService.getDtrSyncMaxParallel(), 1));
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            enqueued = registerCounter(registry, "enqueued");
+            coalesced = registerCounter(registry, "coalesced");
+            succeeded = registerCounter(registry, "succeeded");
+            retried = registerCounter(registry, "retried");
+            failed = registerCounter(registry, "failed");
+            Gauge.builder("puris.dtr.sync.pending", pending, Map::size)
+                .description("Shell updates waiting to be sent to the DTR")
+                .register(registry);
+        }
+    }
+
+    private Counter registerCounter(MeterRegistry registry, String result) {
+        return Counter.builder("puris.dtr.sync")
+            .description("Shell updates for the DTR")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    /**
+     * Enqueues an update of the given shell. If there already is a pending update for that shell,
+     * it is replaced by the given one and its sending is postponed by the debounce period, but no
+     * later than the maximum delay after the first enqueued update.
+     *
+     * @param key    identifies the shell
+     * @param update sends the update to the DTR and returns true, if it was successful
+     */
+    public void enqueue(DtrSyncKey key, Callable<Boolean> update) {
+        long now = System.currentTimeMillis();
+        long debounce = variablesService.getDtrSyncDebounce();
+        long maxDelay = variablesService.getDtrSyncMaxDelay();
+        boolean[] replaced = new boolean[1];
+        pending.compute(key, (k, existing) -> {
+            if (existing == null) {
+                return new PendingSync(update, now, now + debounce, 0);
+            }
+            replaced[0] = true;
+            long dueAt = Math.min(now + debounce, existing.firstEnqueuedAt + maxDelay);
+            return new PendingSync(update, existing.firstEnqueuedAt, dueAt, existing.attempt);
+        });
+        increment(replaced[0] ? coalesced : enqueued);
+    }
+
+    /**
+     * Sends all updates that are due, as long as the maximum number of concurrent updates allows.
+     * The remaining ones are sent in one of the next runs.
+     */
+    @Scheduled(fixedDelayString = "${puris.dtr.sync.interval}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        for (var entry : pending.entrySet()) {
+            DtrSyncKey key = entry.getKey();
+            PendingSync sync = entry.getValue();
+            if (sync.dueAt > now || running.contains(key)) {
+                continue;
+            }
+            if (!permits.tryAcquire()) {
+                return;
+            }
+            if (!running.add(key)) {
+                permits.release();
+                continue;
+            }
+            if (!pending.remove(key, sync)) {
+                // replaced in the meantime, the newer update will be sent once it is due
+                running.remove(key);
+                permits.release();
+                continue;
+            }
+            try {
+                dtrExecutorService.submit(() -> send(key, sync));
+            } catch (RuntimeException e) {
+                log.error("Could not submit update of {} shell for {}", key.type(), key.ownMaterialNumber(), e);
+                running.remove(key);
+                permits.release();
+                retry(key, sync);
+            }
+        }
+    }
+
+    private void send(DtrSyncKey key, PendingSync sync) {
+        boolean success = false;
+        try {
+            success = Boolean.TRUE.equals(sync.update.call());
+        } catch (Exception e) {
+            log.error("Update of {} shell for {} failed", key.type(), key.ownMaterialNumber(), e);
+        } finally {
+            running.remove(key);
+            permits.release();
+        }
+        if (success) {
+            increment(succeeded);
+        } else {
+            retry(key, sync);
+        }
+    }
+
+    private void retry(DtrSyncKey key, PendingSync sync) {
+        if (sync.attempt >= variablesService.getDtrSyncRetries()) {
+            log.warn("Giving up update of {} shell for {} after {} attempts", key.type(), key.ownMaterialNumber(), sync.attempt + 1);
+            increment(failed);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        // a newer update that has been enqueued in the meantime supersedes the retry
+        if (pending.putIfAbsent(key, new PendingSync(sync.update, now, now + variablesService.getDtrSyncDebounce(), sync.attempt + 1)) == null) {
+            increment(retried);
+        }
+    }
+
+    /**
+     * @return the number of shells with pending updates
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
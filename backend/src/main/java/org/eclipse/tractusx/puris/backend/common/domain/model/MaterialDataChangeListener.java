@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.domain.model;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.eclipse.tractusx.puris.backend.delivery.domain.model.Delivery;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.Demand;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.production.domain.model.Production;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.ItemStock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Entity listener that publishes a {@link MaterialDataChangedEvent} for every
+ * item stock, delivery, demand or production that has been written to the database.
+ * <p>
+ * Within a transaction, the event is published only once per material, no matter
+ * how many rows of the material are written.
+ * <p>
+ * Instances are created by hibernate using the spring bean container.
+ */
+public class MaterialDataChangeListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Remembers the materials whose change has already been published within a transaction.
+     * Bound to the transaction as synchronization, so that it is suspended and discarded
+     * together with the transaction.
+     */
+    private static final class PublishedMaterials implements TransactionSynchronization {
+        private final Set<String> ownMaterialNumbers = new HashSet<>();
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Material material = switch (entity) {
+            case ItemStock itemStock -> itemStock.getMaterial();
+            case Delivery delivery -> delivery.getMaterial();
+            case Demand demand -> demand.getMaterial();
+            case Production production -> production.getMaterial();
+            default -> null;
+        };
+        if (eventPublisher != null && material != null && isFirstChangeInTransaction(material.getOwnMaterialNumber())) {
+            eventPublisher.publishEvent(new MaterialDataChangedEvent(material.getOwnMaterialNumber()));
+        }
+    }
+
+    /**
+     * @param ownMaterialNumber the own material number of the changed material
+     * @return false, if the change of the material has already been published within the current transaction
+     */
+    private static boolean isFirstChangeInTransaction(String ownMaterialNumber) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return true;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PublishedMaterials publishedMaterials) {
+                return publishedMaterials.ownMaterialNumbers.add(ownMaterialNumber);
+            }
+        }
+        PublishedMaterials publishedMaterials = new PublishedMaterials();
+        publishedMaterials.ownMaterialNumbers.add(ownMaterialNumber);
+        TransactionSynchronizationManager.registerSynchronization(publishedMaterials);
+        return true;
+    }
+}
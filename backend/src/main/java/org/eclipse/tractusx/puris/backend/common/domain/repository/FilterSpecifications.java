@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.domain.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Reusable filter criteria for entities that reference a material and a partner, so that
+ * the filtering is done by the database instead of loading whole tables into memory.
+ * <p>
+ * Criteria can be combined with {@link Specification#allOf(Specification[])} and executed via
+ * the JpaSpecificationExecutor of the respective repository.
+ */
+public final class FilterSpecifications {
+
+    private FilterSpecifications() {
+    }
+
+    /**
+     * @param ownMaterialNumber the own material number
+     * @return criteria matching entities that reference the given material
+     */
+    public static <T> Specification<T> hasOwnMaterialNumber(String ownMaterialNumber) {
+        return (root, query, cb) -> cb.equal(root.get("material").get("ownMaterialNumber"), ownMaterialNumber);
+    }
+
+    /**
+     * @param bpnl the partner's BPNL
+     * @return criteria matching entities that reference the partner with the given BPNL
+     */
+    public static <T> Specification<T> hasPartnerBpnl(String bpnl) {
+        return (root, query, cb) -> cb.equal(root.get("partner").get("bpnl"), bpnl);
+    }
+
+    /**
+     * @param partnerUuid the partner's uuid
+     * @return criteria matching entities that reference the partner with the given uuid
+     */
+    public static <T> Specification<T> hasPartnerUuid(UUID partnerUuid) {
+        return (root, query, cb) -> cb.equal(root.get("partner").get("uuid"), partnerUuid);
+    }
+
+    /**
+     * @param attribute the name of the attribute
+     * @param value     the expected value
+     * @return criteria matching entities whose attribute equals the given value
+     */
+    public static <T> Specification<T> hasAttribute(String attribute, Object value) {
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    /**
+     * @param attribute the name of the attribute
+     * @param values    the accepted values, must not be empty
+     * @return criteria matching entities whose attribute equals one of the given values
+     */
+    public static <T> Specification<T> hasAttributeIn(String attribute, Collection<?> values) {
+        return (root, query, cb) -> root.get(attribute).in(values);
+    }
+
+    /**
+     * @param attribute the name of a date attribute
+     * @param from      the inclusive lower bound
+     * @param to        the exclusive upper bound
+     * @return criteria matching entities whose date lies within the given range
+     */
+    public static <T> Specification<T> isWithin(String attribute, Date from, Date to) {
+        return (root, query, cb) -> cb.and(
+            cb.greaterThanOrEqualTo(root.<Date>get(attribute), from),
+            cb.lessThan(root.<Date>get(attribute), to));
+    }
+
+    /**
+     * @param attribute the name of a date attribute
+     * @param day       any point in time of the requested day
+     * @return criteria matching entities whose date lies on the same day (UTC) as the given date
+     */
+    public static <T> Specification<T> isOnDay(String attribute, Date day) {
+        var startOfDay = day.toInstant().atOffset(ZoneOffset.UTC).toLocalDate().atStartOfDay(ZoneOffset.UTC);
+        return isWithin(attribute, Date.from(startOfDay.toInstant()), Date.from(startOfDay.plusDays(1).toInstant()));
+    }
+
+    /**
+     * @param after the uuid of the last entity that has already been returned
+     * @return criteria matching entities whose uuid is ordered after the given one
+     */
+    public static <T> Specification<T> isAfter(UUID after) {
+        return (root, query, cb) -> cb.greaterThan(root.<UUID>get("uuid"), after);
+    }
+
+    /**
+     * Loads the material and the partner together with the entities instead of one select per referenced
+     * material and partner. Count queries are left untouched, since they must not fetch associations.
+     *
+     * @return criteria matching all entities
+     */
+    public static <T> Specification<T> fetchesMaterialAndPartner() {
+        return (root, query, cb) -> {
+            if (query != null && !Long.class.equals(query.getResultType())) {
+                root.fetch("material");
+                root.fetch("partner");
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.domain.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Queries that return the entities matching a filter ordered by their uuid, either page by page or as a stream,
+ * so that large result sets never have to be held in memory at once.
+ * <p>
+ * Pages are addressed by the uuid of the last entity of the previous page (keyset pagination) instead of an offset,
+ * so that fetching a page costs the same no matter how far the client has already paged.
+ */
+public final class KeysetQueries {
+
+    private static final Sort BY_UUID = Sort.by("uuid");
+
+    private KeysetQueries() {
+    }
+
+    /**
+     * @param repository the repository to query
+     * @param filter     the criteria the entities have to match
+     * @param after      the uuid of the last entity of the previous page, empty for the first page
+     * @param limit      the maximum number of entities to return
+     * @return the next entities matching the filter, ordered by their uuid
+     */
+    public static <T> List<T> findPage(JpaSpecificationExecutor<T> repository, Specification<T> filter,
+                                       Optional<UUID> after, int limit) {
+        Specification<T> page = after.map(uuid -> filter.and(FilterSpecifications.<T>isAfter(uuid))).orElse(filter);
+        return repository.findBy(page, query -> query.sortBy(BY_UUID).limit(limit).all());
+    }
+
+    /**
+     * The returned stream is backed by an open database cursor. It must be consumed within a transaction
+     * and closed afterwards.
+     *
+     * @param repository the repository to query
+     * @param filter     the criteria the entities have to match
+     * @return all entities matching the filter, ordered by their uuid
+     */
+    public static <T> Stream<T> stream(JpaSpecificationExecutor<T> repository, Specification<T> filter) {
+        return repository.findBy(filter, query -> query.sortBy(BY_UUID).stream());
+    }
+}
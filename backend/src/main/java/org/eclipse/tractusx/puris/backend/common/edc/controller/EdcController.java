@@ -27,11 +27,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.Response;
 import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService;
+import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcStateTrackingService;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -51,11 +54,14 @@ public class EdcController {
     private EdcAdapterService edcAdapter;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private EdcStateTrackingService edcStateTrackingService;
 
     private static final String CATALOG = "catalog";
     private static final String ASSETS = "assets";
     private static final String CONTRACTNEGOTIATIONS = "contractnegotiations";
     private static final String TRANSFERS = "transfers";
+    private static final String CALLBACK = "callback";
 
 
     /**
@@ -210,6 +216,21 @@ public class EdcController {
         }
     }
 
+    /**
+     * Receives transfer process and negotiation events from your control plane.
+     *
+     * @param event the event
+     * @return status code 204
+     */
+    @PreAuthorize("hasRole('PURIS_ADMIN')")
+    @PostMapping(CALLBACK)
+    @Operation(summary = "Receives events from the own control plane -- ADMIN ONLY",
+        description = "Callback for transfer process and negotiation events. Meant to be accessed by the own control plane only.")
+    public ResponseEntity<Void> receiveCallback(@RequestBody JsonNode event) {
+        edcStateTrackingService.onEvent(event);
+        return ResponseEntity.noContent().build();
+    }
+
     private String exceptionMessageGenerator(String endpointName) {
         return "Exception in " + endpointName + " endpoint ";
     }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.controller;
+
+import org.eclipse.tractusx.puris.backend.common.edc.logic.service.PartnerCircuitBreakerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint (/actuator/partners) showing the state of the circuit breakers
+ * of all partners that have been requested since the start of the application.
+ */
+@Component
+@Endpoint(id = "partners")
+public class PartnerHealthEndpoint {
+
+    @Autowired
+    private PartnerCircuitBreakerService partnerCircuitBreakerService;
+
+    @ReadOperation
+    public Map<String, PartnerCircuitBreakerService.PartnerHealth> partners() {
+        return partnerCircuitBreakerService.getPartnerHealth();
+    }
+
+    @ReadOperation
+    public PartnerCircuitBreakerService.PartnerHealth partner(@Selector String bpnl) {
+        return partnerCircuitBreakerService.getPartnerHealth().get(bpnl);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.dto;
+
+/**
+ * Endpoint Data Reference as provided by your control plane for a started
+ * transfer process.
+ *
+ * @param authKey           The name of the header that carries the auth code
+ * @param authCode          The token to be used when accessing the partner's data plane
+ * @param endpoint          The partner's data plane endpoint
+ * @param transferProcessId The id of the transfer process this EDR belongs to
+ * @param expiresAt         Point in time (epoch milliseconds) at which the token expires,
+ *                          or 0 if the control plane did not provide an expiry
+ */
+public record EdrDto(String authKey, String authCode, String endpoint, String transferProcessId, long expiresAt) {
+}
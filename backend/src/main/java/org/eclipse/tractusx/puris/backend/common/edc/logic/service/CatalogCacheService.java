@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Keeps the expanded catalogs of partners for a configurable time, so that
+ * contract negotiations don't need to request and expand the catalog every time.
+ * <p>
+ * Concurrent requests for the same catalog are collapsed into a single request.
+ * Callers always receive their own copy of the catalog, that they may modify.
+ */
+@Service
+@Slf4j
+public class CatalogCacheService {
+
+    @Autowired
+    private VariablesService variablesService;
+
+    private final Map<CatalogCacheKey, CacheEntry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies a cached catalog.
+     *
+     * @param partnerBpnl The BPNL of the partner
+     * @param dspUrl      The dsp url of the partner's connector
+     * @param filter      The equal filters of the catalog request
+     */
+    public record CatalogCacheKey(String partnerBpnl, String dspUrl, Map<String, String> filter) {
+        public CatalogCacheKey {
+            filter = filter == null ? Map.of() : Map.copyOf(filter);
+        }
+    }
+
+    /**
+     * Requests a catalog. Implementations return the catalog in expanded form
+     * and throw an IOException instead of returning null.
+     */
+    @FunctionalInterface
+    public interface CatalogLoader {
+        JsonNode load() throws IOException;
+    }
+
+    private static final class CacheEntry {
+        private final CompletableFuture<JsonNode> catalog = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private boolean isExpired() {
+            return expiresAt <= System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Returns the cached catalog for the given key. If there is none, the catalog is requested
+     * using the given loader, unless a request for the same key is already running. In that case
+     * the result of the running request is awaited.
+     *
+     * @param key    the key
+     * @param loader requests the catalog in expanded form
+     * @return a copy of the catalog, never null
+     * @throws IOException if requesting the catalog failed or the loader provided no catalog
+     */
+    public JsonNode get(CatalogCacheKey key, CatalogLoader loader) throws IOException {
+        if (!variablesService.isEdcCatalogCacheEnabled()) {
+            return load(key, loader);
+        }
+        while (true) {
+            CacheEntry entry = cache.get(key);
+            if (entry != null && !entry.isExpired()) {
+                return await(entry).deepCopy();
+            }
+            CacheEntry newEntry = new CacheEntry();
+            boolean owner = entry == null ? cache.putIfAbsent(key, newEntry) == null : cache.replace(key, entry, newEntry);
+            if (owner) {
+                try {
+                    JsonNode catalog = load(key, loader);
+                    newEntry.expiresAt = System.currentTimeMillis() + variablesService.getEdcCatalogCacheTtl() * 1000;
+                    newEntry.catalog.complete(catalog);
+                    return catalog.deepCopy();
+                } catch (IOException | RuntimeException e) {
+                    cache.remove(key, newEntry);
+                    newEntry.catalog.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private JsonNode load(CatalogCacheKey key, CatalogLoader loader) throws IOException {
+        JsonNode catalog = loader.load();
+        if (catalog == null) {
+            throw new IOException("No catalog received from " + key.dspUrl());
+        }
+        return catalog;
+    }
+
+    /**
+     * Removes the catalog for the given key, e.g. after a failed negotiation
+     * for one of its entries.
+     *
+     * @param key the key
+     */
+    public void invalidate(CatalogCacheKey key) {
+        if (cache.remove(key) != null) {
+            log.debug("Invalidated catalog of {} at {}", key.partnerBpnl(), key.dspUrl());
+        }
+    }
+
+    private JsonNode await(CacheEntry entry) throws IOException {
+        try {
+            return entry.catalog.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for catalog", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Failed to request catalog", e.getCause());
+        }
+    }
+}
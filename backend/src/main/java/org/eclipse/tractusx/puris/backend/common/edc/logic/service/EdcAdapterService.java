@@ -25,8 +25,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
 import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
+import org.eclipse.tractusx.puris.backend.common.edc.logic.dto.EdrDto;
 import org.eclipse.tractusx.puris.backend.common.edc.logic.util.EdcRequestBodyBuilder;
 import org.eclipse.tractusx.puris.backend.common.edc.logic.util.JsonLdUtils;
+import org.eclipse.tractusx.puris.backend.common.util.ExecutorConfiguration;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
@@ -34,11 +36,19 @@ import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.stock.logic.dto.itemstocksamm.DirectionCharacteristic;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 /**
@@ -48,7 +58,8 @@ import java.util.regex.Pattern;
 @Service
 @Slf4j
 public class EdcAdapterService {
-    private static final OkHttpClient CLIENT = new OkHttpClient();
+    @Autowired
+    private OkHttpClient httpClient;
     @Autowired
     private VariablesService variablesService;
     private final ObjectMapper objectMapper;
@@ -61,6 +72,29 @@ public class EdcAdapterService {
     @Autowired
     private JsonLdUtils jsonLdUtils;
 
+    @Autowired
+    private EdrCacheService edrCacheService;
+
+    @Autowired
+    private EdcStateTrackingService edcStateTrackingService;
+
+    @Autowired
+    private CatalogCacheService catalogCacheService;
+
+    @Autowired
+    private SubmodelDescriptorCacheService submodelDescriptorCacheService;
+
+    @Autowired
+    private PartnerCircuitBreakerService partnerCircuitBreakerService;
+
+    @Autowired
+    @Qualifier(ExecutorConfiguration.PARTNER_REQUEST_EXECUTOR)
+    private ExecutorService partnerRequestExecutor;
+
+    @Autowired
+    @Qualifier(ExecutorConfiguration.EDC_EXECUTOR)
+    private ExecutorService edcExecutor;
+
     private final Pattern urlPattern = PatternStore.URL_PATTERN;
 
     public EdcAdapterService(ObjectMapper objectMapper) {
@@ -90,7 +124,7 @@ public class EdcAdapterService {
             .url(urlBuilder.build())
             .header("X-Api-Key", variablesService.getEdcApiKey())
             .build();
-        return CLIENT.newCall(request).execute();
+        return httpClient.newCall(request).execute();
     }
 
     /**
@@ -130,7 +164,7 @@ public class EdcAdapterService {
             .header("Content-Type", "application/json")
             .build();
 
-        return CLIENT.newCall(request).execute();
+        return httpClient.newCall(request).execute();
     }
 
     /**
@@ -377,6 +411,35 @@ public class EdcAdapterService {
 
     }
 
+    /**
+     * Retrieve the catalog from the partner with the given dspUrl in expanded form.
+     * The expanded catalog is cached for the time configured in puris.edc.catalog.cache.ttl
+     * and concurrent requests for the same catalog are collapsed into a single request.
+     *
+     * @param dspUrl      The dspUrl of your partner
+     * @param partnerBpnl The bpnl of your partner
+     * @param filter      Map of key (leftOperand) and values (rightOperand) to use as filterExpression with equal operand
+     * @return The catalog in expanded form
+     * @throws IOException If the connection to the partners control plane fails
+     */
+    public JsonNode getExpandedCatalog(String dspUrl, String partnerBpnl, Map<String, String> filter) throws IOException {
+        var key = new CatalogCacheService.CatalogCacheKey(partnerBpnl, dspUrl, filter);
+        return catalogCacheService.get(key, () -> {
+            try (var response = getCatalogResponse(dspUrl, partnerBpnl, filter)) {
+                if (!response.isSuccessful()) {
+                    throw new IOException("Catalog request to " + dspUrl + " failed with status " + response.code());
+                }
+                JsonNode responseNode = objectMapper.readTree(response.body().string());
+                log.debug("Got Catalog response {}", responseNode.toPrettyString());
+                JsonNode expandedCatalog = jsonLdUtils.expand(responseNode);
+                if (expandedCatalog == null) {
+                    throw new IOException("Catalog of " + dspUrl + " could not be expanded");
+                }
+                return expandedCatalog;
+            }
+        });
+    }
+
     /**
      * Helper method for contracting a certain asset as specified in the catalog item from
      * a specific Partner.
@@ -429,6 +492,21 @@ public class EdcAdapterService {
         }
     }
 
+    /**
+     * Sends a request to the own control plane in order to receive
+     * the negotiations with the given ids.
+     *
+     * @param negotiationIds The ids of the negotiations
+     * @return The array of negotiations found
+     * @throws IOException If the connection to your control plane fails
+     */
+    public JsonNode queryNegotiations(Collection<String> negotiationIds) throws IOException {
+        var requestBody = edcRequestBodyBuilder.buildQueryByIdsRequestBody(negotiationIds);
+        try (var response = sendPostRequest(requestBody, List.of("v3", "contractnegotiations", "request"))) {
+            return objectMapper.readTree(response.body().string());
+        }
+    }
+
     /**
      * Sends a request to the own control plane in order to receive
      * a list of all negotiations.
@@ -480,6 +558,21 @@ public class EdcAdapterService {
         }
     }
 
+    /**
+     * Sends a request to the own control plane in order to receive
+     * the transfer processes with the given ids.
+     *
+     * @param transferProcessIds The ids of the transfer processes
+     * @return The array of transfer processes found
+     * @throws IOException If the connection to your control plane fails
+     */
+    public JsonNode queryTransferProcesses(Collection<String> transferProcessIds) throws IOException {
+        var requestBody = edcRequestBodyBuilder.buildQueryByIdsRequestBody(transferProcessIds);
+        try (var response = sendPostRequest(requestBody, List.of("v3", "transferprocesses", "request"))) {
+            return objectMapper.readTree(response.body().string());
+        }
+    }
+
     /**
      * Sends a request to the own control plane in order to receive
      * a list of all transfers.
@@ -527,7 +620,7 @@ public class EdcAdapterService {
                 .header(authKey, authCode)
                 .post(requestBody)
                 .build();
-            return CLIENT.newCall(request).execute();
+            return httpClient.newCall(request).execute();
         } catch (Exception e) {
             log.error("Failed to send Proxy Pull request to " + url, e);
             throw new RuntimeException(e);
@@ -545,203 +638,359 @@ public class EdcAdapterService {
                 .url(urlBuilder.build())
                 .header(authKey, authCode)
                 .build();
-            return CLIENT.newCall(request).execute();
+            return httpClient.newCall(request).execute();
         } catch (Exception e) {
             log.error("ProxyPull GET Request failed ", e);
             return null;
         }
     }
 
-    private JsonNode postNotificationToPartner(Partner partner, AssetType type, JsonNode payload, int retries) {
+    private CompletableFuture<JsonNode> postNotificationToPartner(Partner partner, AssetType type, JsonNode payload, int retries) {
         if (retries < 0) {
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
-        boolean failed = true;
         String partnerDspUrl = partner.getEdcUrl();
         var assetId = switch (type) {
             case NOTIFICATION -> variablesService.getNotificationApiAssetId();
             default -> throw new IllegalArgumentException("Unsupported type " + type);
         };
-        try {
-            String contractId = edcContractMappingService.getContractId(partner, type, assetId, partnerDspUrl);
-            if (contractId == null) {
-                log.info("Need Contract for " + type + " with " + partner.getBpnl());
-                if (negotiateContractForNotification(partner, type)) {
-                    contractId = edcContractMappingService.getContractId(partner, type, assetId, partnerDspUrl);
-                } else {
-                    log.error("Failed to contract for " + type + " with " + partner.getBpnl());
-                    return postNotificationToPartner(partner, type, payload, --retries);
-                }
+        return postNotification(partner, type, assetId, payload).handleAsync((result, throwable) -> {
+            if (throwable == null) {
+                return CompletableFuture.completedFuture(result);
             }
-            // Request EdrToken
-            var transferResp = initiateProxyPullTransfer(partner, contractId, partnerDspUrl);
-            log.debug("Transfer Request {}", transferResp.toPrettyString());
-            String transferId = transferResp.get("@id").asText();
-            // try proxy pull and terminate request
-            try {
-                EdrDto edrDto = getAndAwaitEdrDto(transferId);
+            log.error("Error in Transfer Request for " + type + " at " + partner.getBpnl(), throwable);
+            log.warn("Invalidating Contract data for " + type + " with " + partner.getBpnl());
+            invalidateContract(partner, type, assetId, partnerDspUrl);
+            if (retries == 0) {
+                return CompletableFuture.<JsonNode>failedFuture(throwable);
+            }
+            return postNotificationToPartner(partner, type, payload, retries - 1);
+        }, edcExecutor).thenCompose(Function.identity());
+    }
+
+    /**
+     * Single attempt to post a notification to a partner, negotiating a contract first if necessary.
+     *
+     * @return the response of the partner or null, if the partner rejected the notification with a client
+     * error. Completes exceptionally, if no contract or EDR could be obtained, the partner could not be
+     * reached or responded with a server error.
+     */
+    private CompletableFuture<JsonNode> postNotification(Partner partner, AssetType type, String assetId, JsonNode payload) {
+        String partnerDspUrl = partner.getEdcUrl();
+        CompletableFuture<String> contractIdFuture;
+        String contractId = edcContractMappingService.getContractId(partner, type, assetId, partnerDspUrl);
+        if (contractId != null) {
+            contractIdFuture = CompletableFuture.completedFuture(contractId);
+        } else {
+            log.info("Need Contract for " + type + " with " + partner.getBpnl());
+            contractIdFuture = negotiateContractForNotification(partner, type).thenApply(negotiated -> negotiated ?
+                edcContractMappingService.getContractId(partner, type, assetId, partnerDspUrl) : null);
+        }
+        return contractIdFuture.thenComposeAsync(notificationContractId -> {
+            if (notificationContractId == null) {
+                return CompletableFuture.<JsonNode>failedFuture(new IOException("Failed to contract for " + type + " with " + partner.getBpnl()));
+            }
+            var edrCacheKey = new EdrCacheService.EdrCacheKey(partner.getBpnl(), assetId, notificationContractId);
+            return acquireEdr(edrCacheKey, partner, partnerDspUrl).thenApplyAsync(edrLease -> {
                 log.info("Received EDR data for " + assetId + " with " + partner.getEdcUrl());
-                if (edrDto == null) {
-                    log.error("Failed to obtain EDR data for " + assetId + " with " + partner.getEdcUrl());
-                    return doNotificationPostRequest(type, partner, payload, --retries);
-                }
-                try (var response = postProxyPullRequest(edrDto.endpoint(), edrDto.authKey(), edrDto.authCode(), new ObjectMapper().writeValueAsString(payload))) {
-                    if (response.isSuccessful()) {
-                        String responseString = response.body().string();
+                EdrDto edrDto = edrLease.edr();
+                boolean failed = true;
+                // try proxy pull and release EDR
+                try (var response = postProxyPullRequest(edrDto.endpoint(), edrDto.authKey(), edrDto.authCode(), objectMapper.writeValueAsString(payload))) {
+                    if (response.code() >= 500) {
+                        throw new IOException("Partner " + partner.getBpnl() + " responded to notification with status " + response.code());
+                    }
+                    if (!response.isSuccessful()) {
                         failed = false;
-                        return objectMapper.readTree(responseString);
+                        log.warn("Partner {} rejected notification with status {}", partner.getBpnl(), response.code());
+                        return null;
                     }
-                    log.info("Failed to post Notification to Partner.");
-                }
-            } finally {
-                if (transferId != null) {
-                    terminateTransfer(transferId);
+                    String responseString = response.body().string();
+                    failed = false;
+                    return objectMapper.readTree(responseString);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                } finally {
+                    releaseEdr(edrLease, failed);
                 }
-            }
-        } catch (Exception e) {
-            log.error("Error in Transfer Request for " + type + " at " + partner.getBpnl(), e);
-        } finally {
-            if (failed) {
-                log.warn("Invalidating Contract data for " + type + " with " + partner.getBpnl());
-                edcContractMappingService.putContractId(partner, type, assetId, partnerDspUrl, null);
-            }
-        }
-        return postNotificationToPartner(partner, type, payload, --retries);
+            }, edcExecutor);
+        }, edcExecutor);
     }
 
-    private JsonNode getSubmodelFromPartner(MaterialPartnerRelation mpr, AssetType type, DirectionCharacteristic direction, int retries) {
+    private CompletableFuture<JsonNode> getSubmodelFromPartner(MaterialPartnerRelation mpr, AssetType type, DirectionCharacteristic direction, int retries) {
         if (retries < 0) {
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
         Partner partner = mpr.getPartner();
-        SubmodelData submodelData = switch (type) {
-            case DTR -> throw new IllegalArgumentException("DTR not supported");
-            case ITEM_STOCK_SUBMODEL -> fetchSubmodelDataByDirection(mpr, AssetType.ITEM_STOCK_SUBMODEL.URN_SEMANTIC_ID, direction);
-            case PRODUCTION_SUBMODEL -> fetchSubmodelDataByDirection(mpr, AssetType.PRODUCTION_SUBMODEL.URN_SEMANTIC_ID, direction);
-            case DEMAND_SUBMODEL -> fetchSubmodelDataByDirection(mpr, AssetType.DEMAND_SUBMODEL.URN_SEMANTIC_ID, direction);
-            case DELIVERY_SUBMODEL -> fetchSubmodelDataByDirection(mpr, AssetType.DELIVERY_SUBMODEL.URN_SEMANTIC_ID, direction);
-            case NOTIFICATION -> throw new IllegalArgumentException("DemandAndCapacityNotification not supported");
-            case DAYS_OF_SUPPLY -> fetchSubmodelDataByDirection(mpr, AssetType.DAYS_OF_SUPPLY.URN_SEMANTIC_ID, direction);
-            case PART_TYPE_INFORMATION_SUBMODEL -> fetchPartTypeSubmodelData(mpr);
-        };
-        boolean failed = true;
-        try {
-            String assetId = submodelData.assetId();
-            String partnerDspUrl = submodelData.dspUrl();
-            String submodelContractId = edcContractMappingService.getContractId(partner, type, assetId, partnerDspUrl);
-            if (submodelContractId == null) {
-                log.info("Need Contract for " + type + " with " + partner.getBpnl());
-                if (negotiateContractForSubmodel(mpr, type, direction)) {
-                    submodelContractId = edcContractMappingService.getContractId(partner, type, assetId, partnerDspUrl);
-                } else {
-                    log.error("Failed to contract for " + type + " with " + partner.getBpnl());
-                    return getSubmodelFromPartner(mpr, type, direction, --retries);
+        return fetchSubmodelDataByType(mpr, type, direction).thenComposeAsync(submodelData -> {
+            if (submodelData == null) {
+                log.error("No submodel descriptor found for " + type + " at " + partner.getBpnl());
+                return CompletableFuture.completedFuture(null);
+            }
+            return requestSubmodel(partner, type, submodelData).handleAsync((result, throwable) -> {
+                if (throwable == null) {
+                    return CompletableFuture.completedFuture(result);
+                }
+                log.error("Error in Submodel Transfer Request for " + type + " at " + partner.getBpnl(), throwable);
+                log.warn("Invalidating Contract data for " + type + " with " + partner.getBpnl());
+                invalidateContract(partner, type, submodelData.assetId(), submodelData.dspUrl());
+                submodelDescriptorCacheService.invalidate(submodelData);
+                if (retries == 0) {
+                    return CompletableFuture.<JsonNode>failedFuture(throwable);
                 }
+                return getSubmodelFromPartner(mpr, type, direction, retries - 1);
+            }, edcExecutor).thenCompose(Function.identity());
+        }, edcExecutor);
+    }
+
+    /**
+     * Single attempt to request a submodel from a partner, negotiating a contract first if necessary.
+     *
+     * @return the submodel or null, if the partner responded with a client error or without data. Completes
+     * exceptionally, if no contract or EDR could be obtained, the partner could not be reached or responded
+     * with a server error.
+     */
+    private CompletableFuture<JsonNode> requestSubmodel(Partner partner, AssetType type, SubmodelDescriptorCacheService.SubmodelDescriptor submodelData) {
+        String assetId = submodelData.assetId();
+        String partnerDspUrl = submodelData.dspUrl();
+        CompletableFuture<String> contractIdFuture;
+        String contractId = edcContractMappingService.getContractId(partner, type, assetId, partnerDspUrl);
+        if (contractId != null) {
+            contractIdFuture = CompletableFuture.completedFuture(contractId);
+        } else {
+            log.info("Need Contract for " + type + " with " + partner.getBpnl());
+            contractIdFuture = negotiateContractForSubmodel(partner, type, submodelData).thenApply(negotiated -> negotiated ?
+                edcContractMappingService.getContractId(partner, type, assetId, partnerDspUrl) : null);
+        }
+        return contractIdFuture.thenComposeAsync(submodelContractId -> {
+            if (submodelContractId == null) {
+                return CompletableFuture.<JsonNode>failedFuture(new IOException("Failed to contract for " + type + " with " + partner.getBpnl()));
             }
             if (!partner.getEdcUrl().equals(partnerDspUrl)) {
                 log.warn("Diverging Edc Urls for Partner: " + partner.getBpnl() + " and type " + type);
                 log.warn("General Partner EdcUrl: " + partner.getEdcUrl());
                 log.warn("URL from AAS: " + partnerDspUrl);
             }
-            // Request EdrToken
-            var transferResp = initiateProxyPullTransfer(partner, submodelContractId, partnerDspUrl);
-            log.debug("Transfer Request {}", transferResp.toPrettyString());
-            String transferId = transferResp.get("@id").asText();
-            // try proxy pull and terminate request
-            try {
-                EdrDto edrDto = getAndAwaitEdrDto(transferId);
+            var edrCacheKey = new EdrCacheService.EdrCacheKey(partner.getBpnl(), assetId, submodelContractId);
+            return acquireEdr(edrCacheKey, partner, partnerDspUrl).thenApplyAsync(edrLease -> {
                 log.info("Received EDR data for " + assetId + " with " + partner.getEdcUrl());
-                if (edrDto == null) {
-                    log.error("Failed to obtain EDR data for " + assetId + " with " + partner.getEdcUrl());
-                    return doSubmodelRequest(type, mpr, direction, --retries);
-                }
+                EdrDto edrDto = edrLease.edr();
                 if (!submodelData.href().startsWith(edrDto.endpoint())) {
                     log.warn("Diverging URLs in ItemStock Submodel request");
                     log.warn("href: " + submodelData.href());
                     log.warn("Data plane base URL from EDR: " + edrDto.endpoint());
                 }
-                try (var response = getProxyPullRequest(submodelData.href, edrDto.authKey(), edrDto.authCode(), new String[]{type.REPRESENTATION})) {
-                    if (response.isSuccessful()) {
-                        String responseString = response.body().string();
-                        failed = false;
-                        return objectMapper.readTree(responseString);
+                boolean failed = true;
+                // try proxy pull and release EDR
+                try (var response = getProxyPullRequest(submodelData.href(), edrDto.authKey(), edrDto.authCode(), new String[]{type.REPRESENTATION})) {
+                    if (response == null) {
+                        throw new IOException("Submodel request for " + type + " at " + partner.getBpnl() + " failed");
+                    }
+                    if (response.code() >= 500) {
+                        throw new IOException("Partner " + partner.getBpnl() + " responded to submodel request with status " + response.code());
                     }
+                    String responseString = response.isSuccessful() ? response.body().string() : "";
+                    failed = false;
+                    if (responseString.isBlank()) {
+                        log.warn("Partner {} responded to submodel request for {} with status {} and no data", partner.getBpnl(), type, response.code());
+                        return null;
+                    }
+                    return objectMapper.readTree(responseString);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                } finally {
+                    releaseEdr(edrLease, failed);
                 }
-            } finally {
-                if (transferId != null) {
-                    terminateTransfer(transferId);
+            }, edcExecutor);
+        }, edcExecutor);
+    }
+
+    /**
+     * Await the finalization of the contract negotiation.
+     *
+     * @param negotiationId the id of the negotiation
+     * @return the contract agreement id or null, if the negotiation has not been finalized
+     */
+    private CompletableFuture<String> awaitContractAgreementId(String negotiationId) {
+        return edcStateTrackingService.awaitNegotiationState(negotiationId, "FINALIZED")
+            .handle((negotiation, throwable) -> {
+                if (throwable != null) {
+                    log.warn("Negotiation {} has not been finalized: {}", negotiationId, throwable.getMessage());
+                    return null;
                 }
+                return negotiation.get("contractAgreementId").asText();
+            });
+    }
+
+    /**
+     * Provides an EDR for the given contract. If a transfer process for that contract has
+     * already been started before, its EDR is reused and, if the token is about to expire,
+     * refreshed. Otherwise, a new transfer process is started. Concurrent calls for the
+     * same contract share the same transfer process.
+     * <p>
+     * Any caller of this method has the responsibility to call {@link #releaseEdr} after using the EDR.
+     *
+     * @param key     identifies partner, asset and contract
+     * @param partner the partner
+     * @param dspUrl  the dspUrl of the partner's connector offering the asset
+     * @return the lease on the EDR, completed exceptionally if none could be obtained
+     */
+    private CompletableFuture<EdrCacheService.EdrLease> acquireEdr(EdrCacheService.EdrCacheKey key, Partner partner, String dspUrl) {
+        return edrCacheService.acquire(key, current -> loadEdr(key, partner, dspUrl, current));
+    }
+
+    /**
+     * Loads an EDR for the {@link EdrCacheService}, either by refreshing the given one or
+     * by starting a new transfer process and awaiting its EDR.
+     *
+     * @param key     identifies partner, asset and contract
+     * @param partner the partner
+     * @param dspUrl  the dspUrl of the partner's connector offering the asset
+     * @param current the cached EDR that is about to expire, or null
+     * @return the EDR, completed exceptionally if none could be obtained
+     */
+    private CompletableFuture<EdrDto> loadEdr(EdrCacheService.EdrCacheKey key, Partner partner, String dspUrl, @Nullable EdrDto current) {
+        if (current != null) {
+            try {
+                // the edr api refreshes the token for us, if necessary
+                JsonNode dataAddress = getEdrDataAddress(current.transferProcessId());
+                if (dataAddress != null) {
+                    log.debug("Refreshed EDR of transfer process {}", current.transferProcessId());
+                    return CompletableFuture.completedFuture(toEdrDto(current.transferProcessId(), dataAddress));
+                }
+            } catch (IOException e) {
+                log.error("EDR token for transfer process with ID {} could not be obtained", current.transferProcessId(), e);
             }
-        } catch (Exception e) {
-            log.error("Error in Submodel Transfer Request for " + type + " at " + partner.getBpnl(), e);
-        } finally {
-            if (failed) {
-                log.warn("Invalidating Contract data for " + type + " with " + partner.getBpnl());
-                edcContractMappingService.putContractId(partner, type, submodelData.assetId(), submodelData.dspUrl(), null);
+            log.warn("Failed to refresh EDR of transfer process {}", current.transferProcessId());
+            if (edrCacheService.invalidate(key, current.transferProcessId())) {
+                terminateTransfer(current.transferProcessId());
             }
         }
-        return getSubmodelFromPartner(mpr, type, direction, --retries);
+        String transferId;
+        try {
+            var transferResp = initiateProxyPullTransfer(partner, key.contractId(), dspUrl);
+            log.debug("Transfer Request {}", transferResp.toPrettyString());
+            transferId = transferResp.get("@id").asText();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return edcStateTrackingService.awaitEdr(transferId)
+            .thenApply(dataAddress -> toEdrDto(transferId, dataAddress))
+            .whenCompleteAsync((edrDto, throwable) -> {
+                if (throwable != null) {
+                    log.error("Failed to obtain EDR data for " + key.assetId() + " with " + dspUrl + ": " + throwable.getMessage());
+                    terminateTransfer(transferId);
+                }
+            }, edcExecutor);
     }
 
     /**
-     * Get the EDR via edr api and retry multiple times in case the EDR has not yet been available
+     * Releases an EDR obtained via {@link #acquireEdr}. The underlying transfer process is
+     * terminated once it is no longer cached (because it is not kept for reuse or because a
+     * request using it failed) and the last lease on it has been released.
      *
-     * @param transferProcessId to get the EDR for, not null
-     * @return edr received, or null if not yet available
-     * @throws InterruptedException if thread was not able to sleep
+     * @param lease  the lease on the EDR
+     * @param failed true, if the request using the EDR failed
      */
-    private @Nullable EdrDto getAndAwaitEdrDto(String transferProcessId) throws InterruptedException, IOException {
-        for (int i = 0; i < 100; i++) {
-            Thread.sleep(100);
-            JsonNode transferResp = getTransferState(transferProcessId);
-            if ("STARTED".equals(transferResp.get("state").asText())) {
-                break;
-            }
+    private void releaseEdr(EdrCacheService.EdrLease lease, boolean failed) {
+        if (edrCacheService.release(lease, failed)) {
+            terminateTransfer(lease.edr().transferProcessId());
         }
-        EdrDto edrDto = null;
-        // retry, if Data Space Protocol / Data Plane Provisioning communication needs time to prepare
-        for (int i = 0; i < 100; i++) {
-            edrDto = getEdrForTransferProcessId(transferProcessId, 2);
-            if (edrDto != null) {
-                break;
-            }
-            Thread.sleep(100);
+    }
+
+    /**
+     * Removes the contract for the given asset from the partner's contract mapping and
+     * terminates all cached transfer processes that are based on it.
+     */
+    private void invalidateContract(Partner partner, AssetType type, String assetId, String dspUrl) {
+        String contractId = edcContractMappingService.getContractId(partner, type, assetId, dspUrl);
+        edcContractMappingService.putContractId(partner, type, assetId, dspUrl, null);
+        if (contractId != null) {
+            edrCacheService.invalidateContract(partner.getBpnl(), contractId)
+                .forEach(edr -> terminateTransfer(edr.transferProcessId()));
         }
-        return edrDto;
     }
 
-    public JsonNode doSubmodelRequest(AssetType type, MaterialPartnerRelation mpr, DirectionCharacteristic direction, int retries) {
-        if (retries < 0) {
-            return null;
+    /**
+     * Removes the DTR contract data of the partner and terminates all cached transfer
+     * processes that are based on it.
+     */
+    private void invalidateDtrContract(Partner partner) {
+        String contractId = edcContractMappingService.getDtrAssetAndContractId(partner)[1];
+        edcContractMappingService.putDtrContractData(partner, null, null);
+        if (contractId != null) {
+            edrCacheService.invalidateContract(partner.getBpnl(), contractId)
+                .forEach(edr -> terminateTransfer(edr.transferProcessId()));
         }
-        var data = getSubmodelFromPartner(mpr, type, direction, 1);
-        if (data == null) {
-            return doSubmodelRequest(type, mpr, direction, --retries);
+    }
+
+    /**
+     * Terminates cached transfer processes that have not been used for longer than
+     * the configured maximum idle time. The terminations are handed over to the partner
+     * request executor, so that they don't block the scheduler thread shared with other jobs.
+     */
+    @Scheduled(fixedDelayString = "${puris.edr.cache.maxidle}", timeUnit = TimeUnit.SECONDS)
+    public void terminateIdleTransfers() {
+        for (EdrDto edrDto : edrCacheService.evictIdle()) {
+            partnerRequestExecutor.execute(() -> terminateTransfer(edrDto.transferProcessId()));
         }
-        return data;
     }
 
+    /**
+     * Requests a submodel from a partner. Fails fast, if the partner's circuit is open or too many
+     * requests to the partner are already running (see {@link PartnerCircuitBreakerService}).
+     *
+     * @param type      the type of the submodel
+     * @param mpr       the material partner relation
+     * @param direction the direction of the submodel
+     * @param retries   number of retries in case of failure
+     * @return the submodel or null, if it could not be obtained
+     */
+    public JsonNode doSubmodelRequest(AssetType type, MaterialPartnerRelation mpr, DirectionCharacteristic direction, int retries) {
+        return callPartner(mpr.getPartner(), () -> getSubmodelFromPartner(mpr, type, direction, retries));
+    }
+
+    /**
+     * Posts a notification to a partner. Fails fast, if the partner's circuit is open or too many
+     * requests to the partner are already running (see {@link PartnerCircuitBreakerService}).
+     *
+     * @param type    the type of the notification
+     * @param partner the partner
+     * @param body    the notification
+     * @param retries number of retries in case of failure
+     * @return the response or null, if the notification could not be posted
+     */
     public JsonNode doNotificationPostRequest(AssetType type, Partner partner, JsonNode body, int retries) {
-        if (retries < 0) {
+        return callPartner(partner, () -> postNotificationToPartner(partner, type, body, retries));
+    }
+
+    /**
+     * Performs a request to a partner via the {@link PartnerCircuitBreakerService}. Only a failed
+     * request counts towards the partner's circuit, an answer without data does not.
+     *
+     * @param partner the partner
+     * @param request the request, completing exceptionally if it failed
+     * @return the result or null, if the partner had no data, the request failed or has not been performed
+     */
+    private JsonNode callPartner(Partner partner, Supplier<CompletableFuture<JsonNode>> request) {
+        try {
+            return partnerCircuitBreakerService.call(partner.getBpnl(), () -> request.get().join());
+        } catch (CompletionException e) {
+            log.error("Request to partner " + partner.getBpnl() + " failed: " + e.getMessage());
             return null;
         }
-        var data = postNotificationToPartner(partner, type, body, retries);
-        if (data == null) {
-            return doNotificationPostRequest(type, partner, body, --retries);
-        }
-        return data;
     }
 
-    private boolean negotiateForPartnerDtr(Partner partner) {
+    private CompletableFuture<Boolean> negotiateForPartnerDtr(Partner partner) {
+        Map<String, String> equalFilters = new HashMap<>();
+        equalFilters.put(EdcRequestBodyBuilder.CX_COMMON_NAMESPACE + "version", "3.0");
+        equalFilters.put(
+            "'" + EdcRequestBodyBuilder.DCT_NAMESPACE + "type'.'@id'",
+            EdcRequestBodyBuilder.CX_TAXO_NAMESPACE + "DigitalTwinRegistry"
+        );
+        var catalogKey = new CatalogCacheService.CatalogCacheKey(partner.getBpnl(), partner.getEdcUrl(), equalFilters);
         try {
-            Map<String, String> equalFilters = new HashMap<>();
-            equalFilters.put(EdcRequestBodyBuilder.CX_COMMON_NAMESPACE + "version", "3.0");
-            equalFilters.put(
-                "'" + EdcRequestBodyBuilder.DCT_NAMESPACE + "type'.'@id'",
-                EdcRequestBodyBuilder.CX_TAXO_NAMESPACE + "DigitalTwinRegistry"
-            );
-            var responseNode = getCatalog(partner.getEdcUrl(), partner.getBpnl(), equalFilters);
-            responseNode = jsonLdUtils.expand(responseNode);
+            var responseNode = getExpandedCatalog(partner.getEdcUrl(), partner.getBpnl(), equalFilters);
 
             var catalogArray = responseNode.get(EdcRequestBodyBuilder.DCAT_NAMESPACE + "dataset");
             // If there is exactly one asset, the catalogContent will be a JSON object.
@@ -757,7 +1006,8 @@ public class EdcAdapterService {
             JsonNode targetCatalogEntry = catalogArray.get(0);
             if (targetCatalogEntry == null) {
                 log.error("Could not find asset for DigitalTwinRegistry at partner " + partner.getBpnl() + "'s catalog");
-                return false;
+                catalogCacheService.invalidate(catalogKey);
+                return CompletableFuture.completedFuture(false);
             }
             String assetId = targetCatalogEntry.get("@id").asText();
             log.debug("Found contract offer for asset {}", assetId);
@@ -765,32 +1015,56 @@ public class EdcAdapterService {
             String negotiationId = negotiationResponse.get("@id").asText();
             log.info("Started negotiation with id {}", negotiationId);
             // Await confirmation of contract and contractId
-            String contractId = null;
-            for (int i = 0; i < 100; i++) {
-                Thread.sleep(100);
-                var responseObject = getNegotiationState(negotiationId);
-                if ("FINALIZED".equals(responseObject.get("state").asText())) {
-                    contractId = responseObject.get("contractAgreementId").asText();
-                    log.info("Contracted DTR with contractAgreementId {}", contractId);
-                    break;
+            return awaitContractAgreementId(negotiationId).thenApplyAsync(contractId -> {
+                if (contractId == null) {
+                    logLastNegotiationState(negotiationId);
+                    log.error("Failed to obtain " + assetId + " from " + partner.getEdcUrl());
+                    catalogCacheService.invalidate(catalogKey);
+                    return false;
                 }
-            }
-            if (contractId == null) {
-                var negotiationState = getNegotiationState(negotiationId);
-                log.warn("no contract id, last negotiation state: \n" + negotiationState.toPrettyString());
-                log.error("Failed to obtain " + assetId + " from " + partner.getEdcUrl());
-                return false;
-            }
-            log.info("Got contract for DTR api with partner {}", partner.getBpnl());
-            edcContractMappingService.putDtrContractData(partner, assetId, contractId);
-            return true;
+                log.info("Contracted DTR with contractAgreementId {}", contractId);
+                log.info("Got contract for DTR api with partner {}", partner.getBpnl());
+                edcContractMappingService.putDtrContractData(partner, assetId, contractId);
+                return true;
+            }, edcExecutor);
         } catch (Exception e) {
             log.error("Error in Negotiation for DTR of " + partner.getBpnl(), e);
-            return false;
+            catalogCacheService.invalidate(catalogKey);
+            return CompletableFuture.completedFuture(false);
         }
     }
 
-    private SubmodelData fetchSubmodelDataByDirection(MaterialPartnerRelation mpr, String semanticId, DirectionCharacteristic direction) {
+    private void logLastNegotiationState(String negotiationId) {
+        try {
+            var negotiationState = getNegotiationState(negotiationId);
+            log.warn("no contract id, last negotiation state: \n" + negotiationState.toPrettyString());
+        } catch (IOException e) {
+            log.warn("no contract id, failed to request last state of negotiation " + negotiationId, e);
+        }
+    }
+
+    /**
+     * Determines the data needed to request a submodel of the given type from a partner.
+     *
+     * @param mpr       the material partner relation
+     * @param type      the type of the submodel (DTR and notifications are not supported)
+     * @param direction may be null if the type is not direction-sensitive
+     * @return the submodel descriptor or null, if none was found
+     */
+    private CompletableFuture<SubmodelDescriptorCacheService.SubmodelDescriptor> fetchSubmodelDataByType(MaterialPartnerRelation mpr, AssetType type, DirectionCharacteristic direction) {
+        return switch (type) {
+            case DTR -> throw new IllegalArgumentException("DTR not supported");
+            case ITEM_STOCK_SUBMODEL -> fetchSubmodelDataByDirection(mpr, AssetType.ITEM_STOCK_SUBMODEL.URN_SEMANTIC_ID, direction);
+            case PRODUCTION_SUBMODEL -> fetchSubmodelDataByDirection(mpr, AssetType.PRODUCTION_SUBMODEL.URN_SEMANTIC_ID, direction);
+            case DEMAND_SUBMODEL -> fetchSubmodelDataByDirection(mpr, AssetType.DEMAND_SUBMODEL.URN_SEMANTIC_ID, direction);
+            case DELIVERY_SUBMODEL -> fetchSubmodelDataByDirection(mpr, AssetType.DELIVERY_SUBMODEL.URN_SEMANTIC_ID, direction);
+            case NOTIFICATION -> throw new IllegalArgumentException("DemandAndCapacityNotification not supported");
+            case DAYS_OF_SUPPLY -> fetchSubmodelDataByDirection(mpr, AssetType.DAYS_OF_SUPPLY.URN_SEMANTIC_ID, direction);
+            case PART_TYPE_INFORMATION_SUBMODEL -> fetchPartTypeSubmodelData(mpr);
+        };
+    }
+
+    private CompletableFuture<SubmodelDescriptorCacheService.SubmodelDescriptor> fetchSubmodelDataByDirection(MaterialPartnerRelation mpr, String semanticId, DirectionCharacteristic direction) {
         String manufacturerPartId = switch (direction) {
             case INBOUND -> mpr.getMaterial().getOwnMaterialNumber();
             case OUTBOUND -> mpr.getPartnerMaterialNumber();
@@ -802,19 +1076,36 @@ public class EdcAdapterService {
         return fetchSubmodelData(mpr, semanticId, manufacturerPartId, manufacturerId);
     }
 
-    private SubmodelData fetchPartTypeSubmodelData(MaterialPartnerRelation mpr) {
+    private CompletableFuture<SubmodelDescriptorCacheService.SubmodelDescriptor> fetchPartTypeSubmodelData(MaterialPartnerRelation mpr) {
         return fetchSubmodelData(mpr, "urn:samm:io.catenax.part_type_information:1.0.0#PartTypeInformation",
             mpr.getPartnerMaterialNumber(), mpr.getPartner().getBpnl());
     }
 
-    private record SubmodelData(String assetId, String dspUrl, String href) {
-    }
-
-    private record EdrDto(String authKey, String authCode, String endpoint){
+    /**
+     * Determines the data needed to request a submodel of a partner. Uses the cached submodel descriptor
+     * if there is one, otherwise looks up the descriptor in the partner's DTR and caches it.
+     *
+     * @param mpr                containing the mapping between material and partner to lookup at dtr
+     * @param semanticId         the semantic id of the submodel
+     * @param manufacturerPartId material number of the supplier party
+     * @param manufacturerId     bpnl of the supplier party
+     * @return the submodel descriptor or null, if none was found
+     */
+    private CompletableFuture<SubmodelDescriptorCacheService.SubmodelDescriptor> fetchSubmodelData(MaterialPartnerRelation mpr, String semanticId, String manufacturerPartId, String manufacturerId) {
+        var descriptorKey = new SubmodelDescriptorCacheService.SubmodelDescriptorKey(
+            mpr.getPartner().getBpnl(), manufacturerPartId, manufacturerId, semanticId);
+        var cachedDescriptor = submodelDescriptorCacheService.get(descriptorKey);
+        if (cachedDescriptor != null) {
+            log.debug("Reusing submodel descriptor for {} of {}", semanticId, manufacturerPartId);
+            return CompletableFuture.completedFuture(cachedDescriptor);
+        }
+        return getAasSubmodelDescriptors(manufacturerPartId, manufacturerId, mpr, 1)
+            .thenApply(submodelDescriptors -> submodelDescriptors == null ? null :
+                findSubmodelDescriptor(descriptorKey, submodelDescriptors));
     }
 
-    private SubmodelData fetchSubmodelData(MaterialPartnerRelation mpr, String semanticId, String manufacturerPartId, String manufacturerId) {
-        JsonNode submodelDescriptors = getAasSubmodelDescriptors(manufacturerPartId, manufacturerId, mpr, 1);
+    private SubmodelDescriptorCacheService.SubmodelDescriptor findSubmodelDescriptor(SubmodelDescriptorCacheService.SubmodelDescriptorKey descriptorKey, JsonNode submodelDescriptors) {
+        String semanticId = descriptorKey.semanticId();
         for (var submodelDescriptor : submodelDescriptors) {
             var semanticIdObject = submodelDescriptor.get("semanticId");
             var keys = semanticIdObject.get("keys");
@@ -835,7 +1126,9 @@ public class EdcAdapterService {
                         if (!urlPattern.matcher(dspUrl).matches()) {
                             log.error("Found invalid URL Submodel Descriptor: " + dspUrl);
                         }
-                        return new SubmodelData(assetId, dspUrl, href);
+                        var descriptor = new SubmodelDescriptorCacheService.SubmodelDescriptor(descriptorKey, assetId, dspUrl, href);
+                        submodelDescriptorCacheService.put(descriptor);
+                        return descriptor;
                     }
                 }
             }
@@ -846,164 +1139,204 @@ public class EdcAdapterService {
     /**
      * Queries the dtr of a partner for the given mpr / material and returns submodel descriptors
      * <p>
-     * Method assumes that the query at dtr only finds one shell (else take first entry)
+     * A critical failure (the connection to the partner's DTR could not be established at all or
+     * it delivers a completely unexpected response) invalidates the DTR contract before the retry.
+     * An empty result is retried without invalidation.
      *
      * @param manufacturerPartId material number of the supplier party
      * @param manufacturerId     bpnl of the supplier party
      * @param mpr                containing the mapping between material and partner to lookup at dtr
      * @param retries            number of times to retry in case the shell could not (yet) been found
-     * @return array of submodelDescriptors of the found shell
+     * @return array of submodelDescriptors of the found shell or null, if none was found. Completes
+     * exceptionally, if the last attempt failed critically.
      */
-    private JsonNode getAasSubmodelDescriptors(String manufacturerPartId, String manufacturerId, MaterialPartnerRelation mpr, int retries) {
+    private CompletableFuture<JsonNode> getAasSubmodelDescriptors(String manufacturerPartId, String manufacturerId, MaterialPartnerRelation mpr, int retries) {
         if (retries < 0) {
             log.error("AasSubmodelDescriptors Request failed for " + manufacturerPartId + " and " + manufacturerId);
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
-
-        // A criticalFailure indicates that the connection to the partner's DTR could not be established at all
-        // or delivers a completely unexpected response. This is assumed to be true at first, and will be set to false
-        // if a response was received that contains the expected answer or at least an empty result.
-        boolean criticalFailure = true;
         Partner partner = mpr.getPartner();
-        try {
-            var dtrContractData = edcContractMappingService.getDtrAssetAndContractId(partner);
-            String assetId = dtrContractData[0];
-            String contractId = dtrContractData[1];
-            if (contractId == null || assetId == null) {
-                if (!negotiateForPartnerDtr(partner)) {
-                    return getAasSubmodelDescriptors(manufacturerPartId, manufacturerId, mpr, --retries);
+        return lookupAasSubmodelDescriptors(manufacturerPartId, manufacturerId, partner).handleAsync((submodelDescriptors, throwable) -> {
+            if (submodelDescriptors != null) {
+                return CompletableFuture.completedFuture(submodelDescriptors);
+            }
+            if (throwable != null) {
+                log.error("Error in AasSubmodelDescriptor Request for " + mpr + " and manufacturerPartId " + manufacturerPartId, throwable);
+                log.warn("Invalidating DTR contract data");
+                invalidateDtrContract(partner);
+                if (retries == 0) {
+                    return CompletableFuture.<JsonNode>failedFuture(throwable);
                 }
-                dtrContractData = edcContractMappingService.getDtrAssetAndContractId(partner);
-                assetId = dtrContractData[0];
-                contractId = dtrContractData[1];
             }
-            var transferResp = initiateProxyPullTransfer(partner, contractId);
-            String transferId = transferResp.get("@id").asText();
-            try {
-                EdrDto edrDto = getAndAwaitEdrDto(transferId);
-                if (edrDto == null) {
-                    log.error("Failed to obtain EDR data for " + assetId + " with " + partner.getEdcUrl());
-                    return getAasSubmodelDescriptors(manufacturerPartId, manufacturerId, mpr, --retries);
-                } else {
-                    log.info("Received EDR data for " + assetId + " with " + partner.getEdcUrl());
+            return getAasSubmodelDescriptors(manufacturerPartId, manufacturerId, mpr, retries - 1);
+        }, edcExecutor).thenCompose(Function.identity());
+    }
+
+    /**
+     * Single attempt to look up the submodel descriptors of a shell in the partner's DTR, negotiating
+     * a contract for the DTR first if necessary.
+     *
+     * @return the submodel descriptors or null, if the DTR has no matching shell. Completes exceptionally
+     * in case of a critical failure.
+     */
+    private CompletableFuture<JsonNode> lookupAasSubmodelDescriptors(String manufacturerPartId, String manufacturerId, Partner partner) {
+        CompletableFuture<String[]> dtrContractDataFuture;
+        var dtrContractData = edcContractMappingService.getDtrAssetAndContractId(partner);
+        if (dtrContractData[0] != null && dtrContractData[1] != null) {
+            dtrContractDataFuture = CompletableFuture.completedFuture(dtrContractData);
+        } else {
+            dtrContractDataFuture = negotiateForPartnerDtr(partner).thenApply(negotiated -> {
+                if (!negotiated) {
+                    throw new CompletionException(new IOException("No contract for the DTR of " + partner.getBpnl()));
                 }
-                // expected per CX-0002: dtr base url should contain /api/v3
-                HttpUrl.Builder urlBuilder = HttpUrl.parse(edrDto.endpoint()).newBuilder()
-                    .addPathSegment("lookup")
-                    .addPathSegment("shells");
-                String query = "{\"name\":\"manufacturerPartId\",\"value\":\"" + manufacturerPartId + "\"}";
-                query += ",{\"name\":\"digitalTwinType\",\"value\":\"PartType\"}";
-                query += ",{\"name\":\"manufacturerId\",\"value\":\"" + manufacturerId + "\"}";
-                String encodedQuery = Base64.getEncoder().encodeToString(query.getBytes(StandardCharsets.UTF_8));
-                urlBuilder.addQueryParameter("assetIds", encodedQuery);
-                var request = new Request.Builder()
-                    .get()
-                    .header(edrDto.authKey(), edrDto.authCode())
-                    .url(urlBuilder.build())
-                    .build();
-                try (var response = CLIENT.newCall(request).execute()) {
-                    var bodyString = response.body().string();
-                    var jsonResponse = objectMapper.readTree(bodyString);
-                    var resultArray = jsonResponse.get("result");
-                    if (resultArray != null && resultArray.isArray() && !resultArray.isEmpty()) {
-                        if (resultArray.size() > 1) {
-                            log.warn("Found more than one result for query " + query);
-                            log.info(resultArray.toPrettyString());
-                        }
-                        String aasId = resultArray.get(0).asText();
-                        // expected per CX-0002: dtr base url should contain /api/v3
-                        urlBuilder = HttpUrl.parse(edrDto.endpoint()).newBuilder()
-                            .addPathSegment("shell-descriptors");
-                        String base64AasId = Base64.getEncoder().encodeToString(aasId.getBytes(StandardCharsets.UTF_8));
-                        urlBuilder.addPathSegment(base64AasId);
-                        request = new Request.Builder()
-                            .get()
-                            .header(edrDto.authKey(), edrDto.authCode())
-                            .url(urlBuilder.build())
-                            .build();
-                        try (var response2 = CLIENT.newCall(request).execute()) {
-                            var body2String = response2.body().string();
-                            var aasJson = objectMapper.readTree(body2String);
-                            var submodelDescriptors = aasJson.get("submodelDescriptors");
-                            if (submodelDescriptors != null) {
-                                criticalFailure = false;
-                                return submodelDescriptors;
-                            } else {
-                                log.warn("No SubmodelDescriptors found in DTR shell-descriptors response:\n" + aasJson.toPrettyString());
-                            }
-                        }
-                    } else {
-                        if (resultArray != null) {
-                            if (resultArray.isArray() && resultArray.isEmpty()) {
-                                log.warn("Empty Result array received");
-                                criticalFailure = false;
-                            } else {
-                                log.warn("Unexpected Response for DTR lookup with query " + query + "\n" + resultArray.toPrettyString());
-                            }
-                        } else {
-                            log.warn("No Result Array received in DTR lookup response: \n" + jsonResponse.toPrettyString());
-                        }
-                    }
+                return edcContractMappingService.getDtrAssetAndContractId(partner);
+            });
+        }
+        return dtrContractDataFuture.thenComposeAsync(contractData -> {
+            String assetId = contractData[0];
+            String contractId = contractData[1];
+            var edrCacheKey = new EdrCacheService.EdrCacheKey(partner.getBpnl(), assetId, contractId);
+            return acquireEdr(edrCacheKey, partner, partner.getEdcUrl()).thenApplyAsync(edrLease -> {
+                log.info("Received EDR data for " + assetId + " with " + partner.getEdcUrl());
+                boolean criticalFailure = true;
+                try {
+                    JsonNode submodelDescriptors = queryDtr(edrLease.edr(), manufacturerPartId, manufacturerId);
+                    criticalFailure = false;
+                    return submodelDescriptors;
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                } finally {
+                    releaseEdr(edrLease, criticalFailure);
                 }
+            }, edcExecutor);
+        }, edcExecutor);
+    }
 
-            } finally {
-                if (transferId != null) {
-                    terminateTransfer(transferId);
-                }
+    /**
+     * Looks up the shell for the given part in a partner's DTR and requests its submodel descriptors.
+     *
+     * @param edrDto             the EDR for the partner's DTR
+     * @param manufacturerPartId material number of the supplier party
+     * @param manufacturerId     bpnl of the supplier party
+     * @return the submodel descriptors or null, if the DTR has no matching shell
+     * @throws IOException if the DTR could not be reached or delivered an unexpected response
+     */
+    private JsonNode queryDtr(EdrDto edrDto, String manufacturerPartId, String manufacturerId) throws IOException {
+        // expected per CX-0002: dtr base url should contain /api/v3
+        HttpUrl.Builder urlBuilder = HttpUrl.parse(edrDto.endpoint()).newBuilder()
+            .addPathSegment("lookup")
+            .addPathSegment("shells");
+        String query = "{\"name\":\"manufacturerPartId\",\"value\":\"" + manufacturerPartId + "\"}";
+        query += ",{\"name\":\"digitalTwinType\",\"value\":\"PartType\"}";
+        query += ",{\"name\":\"manufacturerId\",\"value\":\"" + manufacturerId + "\"}";
+        String encodedQuery = Base64.getEncoder().encodeToString(query.getBytes(StandardCharsets.UTF_8));
+        urlBuilder.addQueryParameter("assetIds", encodedQuery);
+        var request = new Request.Builder()
+            .get()
+            .header(edrDto.authKey(), edrDto.authCode())
+            .url(urlBuilder.build())
+            .build();
+        try (var response = httpClient.newCall(request).execute()) {
+            var bodyString = response.body().string();
+            var jsonResponse = objectMapper.readTree(bodyString);
+            var resultArray = jsonResponse.get("result");
+            if (resultArray == null) {
+                log.warn("No Result Array received in DTR lookup response: \n" + jsonResponse.toPrettyString());
+                throw new IOException("No result array in DTR lookup response");
             }
-        } catch (Exception e) {
-            log.error("Error in AasSubmodelDescriptor Request for " + mpr + " and manufacturerPartId " + manufacturerPartId, e);
-            return getAasSubmodelDescriptors(manufacturerPartId, manufacturerId, mpr, --retries);
-        } finally {
-            if (criticalFailure) {
-                log.warn("Invalidating DTR contract data");
-                edcContractMappingService.putDtrContractData(partner, null, null);
+            if (!resultArray.isArray()) {
+                log.warn("Unexpected Response for DTR lookup with query " + query + "\n" + resultArray.toPrettyString());
+                throw new IOException("Unexpected DTR lookup response");
+            }
+            if (resultArray.isEmpty()) {
+                log.warn("Empty Result array received");
+                return null;
+            }
+            if (resultArray.size() > 1) {
+                log.warn("Found more than one result for query " + query);
+                log.info(resultArray.toPrettyString());
+            }
+            String aasId = resultArray.get(0).asText();
+            // expected per CX-0002: dtr base url should contain /api/v3
+            urlBuilder = HttpUrl.parse(edrDto.endpoint()).newBuilder()
+                .addPathSegment("shell-descriptors");
+            String base64AasId = Base64.getEncoder().encodeToString(aasId.getBytes(StandardCharsets.UTF_8));
+            urlBuilder.addPathSegment(base64AasId);
+            request = new Request.Builder()
+                .get()
+                .header(edrDto.authKey(), edrDto.authCode())
+                .url(urlBuilder.build())
+                .build();
+            try (var response2 = httpClient.newCall(request).execute()) {
+                var body2String = response2.body().string();
+                var aasJson = objectMapper.readTree(body2String);
+                var submodelDescriptors = aasJson.get("submodelDescriptors");
+                if (submodelDescriptors == null) {
+                    log.warn("No SubmodelDescriptors found in DTR shell-descriptors response:\n" + aasJson.toPrettyString());
+                    throw new IOException("No submodel descriptors in DTR shell-descriptors response");
+                }
+                return submodelDescriptors;
             }
         }
-        return getAasSubmodelDescriptors(manufacturerPartId, manufacturerId, mpr, --retries);
     }
 
     /**
-     * Requests an EDR for the communication from edc
+     * Requests the data address of the EDR of a transfer process from the edr api of your control plane.
      * <p>
-     * The edc already handles the expiry as configured in the provider data plane and refreshs the token before
+     * The edc already handles the expiry as configured in the provider data plane and refreshes the token before
      * answering.
      *
      * @param transferProcessId to get the EDR for
-     * @return unpersisted EdrDto.
+     * @return the data address, or null if the EDR is not (yet) available
+     * @throws IOException If the connection to your control plane fails
      */
-    private EdrDto getEdrForTransferProcessId(String transferProcessId, int retries) {
-        if (retries < 0) return null;
-        boolean failed = true;
+    public @Nullable JsonNode getEdrDataAddress(String transferProcessId) throws IOException {
         try (Response response = sendGetRequest(
             List.of("v3", "edrs", transferProcessId, "dataaddress"),
             Map.of("auto_refresh", "true"))
         ) {
-            if (response.isSuccessful() && response.body() != null) {
-                JsonNode responseObject = objectMapper.readTree(response.body().string());
-
-                String dataPlaneEndpoint = responseObject.get("endpoint").asText();
-                String authToken = responseObject.get("authorization").asText();
-                if (dataPlaneEndpoint != null && authToken != null) {
-                    EdrDto edr = new EdrDto("Authorization", authToken, dataPlaneEndpoint);
-                    log.debug("Requested EDR successfully: {}", edr);
-                    failed = false;
-                    return edr;
-                }
+            if (!response.isSuccessful() || response.body() == null) {
+                return null;
             }
-        } catch (Exception e) {
-            log.error("EDR token for transfer process with ID {} could not be obtained", transferProcessId);
-        } finally {
-            if (failed && --retries >= 0) {
-                try {
-                    Thread.sleep(100);
-                } catch (Exception e1) {
-                    log.error("Sleep interrupted", e1);
-                }
+            JsonNode dataAddress = objectMapper.readTree(response.body().string());
+            if (!dataAddress.hasNonNull("endpoint") || !dataAddress.hasNonNull("authorization")) {
+                return null;
             }
+            return dataAddress;
         }
-        return getEdrForTransferProcessId(transferProcessId, retries);
+    }
 
+    /**
+     * Creates an unpersisted EdrDto from the data address of a transfer process. The expiry
+     * of the token is taken over into the EdrDto, if provided.
+     *
+     * @param transferProcessId the id of the transfer process
+     * @param dataAddress       the data address as returned by the edr api
+     * @return the EdrDto
+     */
+    private EdrDto toEdrDto(String transferProcessId, JsonNode dataAddress) {
+        EdrDto edr = new EdrDto("Authorization", dataAddress.get("authorization").asText(),
+            dataAddress.get("endpoint").asText(), transferProcessId, getEdrExpiry(dataAddress));
+        log.debug("Requested EDR successfully: {}", edr);
+        return edr;
+    }
+
+    /**
+     * Determines the point in time at which the token of an EDR data address expires.
+     *
+     * @param dataAddress the data address as returned by the edr api
+     * @return the expiry in epoch milliseconds, or 0 if the data address contains no expiry
+     */
+    private long getEdrExpiry(JsonNode dataAddress) {
+        JsonNode expiresIn = dataAddress.get("tx-auth:expiresIn");
+        if (expiresIn == null) {
+            expiresIn = dataAddress.get(EdcRequestBodyBuilder.TX_AUTH_NAMESPACE + "expiresIn");
+        }
+        if (expiresIn == null) {
+            return 0;
+        }
+        long seconds = expiresIn.asLong(0);
+        return seconds > 0 ? System.currentTimeMillis() + seconds * 1000 : 0;
     }
 
     /**
@@ -1040,36 +1373,24 @@ public class EdcAdapterService {
      * and can be retrieved from there to be used in later
      * transfer requests for that api asset.
      *
-     * @param mpr       The mpr indicating the partner and material in question
-     * @param type      The SubmodelType (DTR is not supported)
-     * @param direction May be null if the SubmodelType is not direction-sensitive
+     * @param partner      The partner offering the submodel
+     * @param type         The SubmodelType (DTR is not supported)
+     * @param submodelData The descriptor of the submodel
      * @return true, if a contract was successfully negotiated
      */
-
-    private boolean negotiateContractForSubmodel(MaterialPartnerRelation mpr, AssetType type, DirectionCharacteristic direction) {
-        Partner partner = mpr.getPartner();
-        SubmodelData submodelData = switch (type) {
-            case DTR -> throw new IllegalArgumentException("DTR not supported");
-            case ITEM_STOCK_SUBMODEL -> fetchSubmodelDataByDirection(mpr, AssetType.ITEM_STOCK_SUBMODEL.URN_SEMANTIC_ID, direction);
-            case PRODUCTION_SUBMODEL -> fetchSubmodelDataByDirection(mpr, AssetType.PRODUCTION_SUBMODEL.URN_SEMANTIC_ID, direction);
-            case DEMAND_SUBMODEL -> fetchSubmodelDataByDirection(mpr, AssetType.DEMAND_SUBMODEL.URN_SEMANTIC_ID, direction);
-            case DELIVERY_SUBMODEL -> fetchSubmodelDataByDirection(mpr, AssetType.DELIVERY_SUBMODEL.URN_SEMANTIC_ID, direction);
-            case NOTIFICATION -> throw new IllegalArgumentException("DemandAndCapacityNotification not supported");
-            case DAYS_OF_SUPPLY -> fetchSubmodelDataByDirection(mpr, AssetType.DAYS_OF_SUPPLY.URN_SEMANTIC_ID, direction);
-            case PART_TYPE_INFORMATION_SUBMODEL -> fetchPartTypeSubmodelData(mpr);
-        };
+    private CompletableFuture<Boolean> negotiateContractForSubmodel(Partner partner, AssetType type, SubmodelDescriptorCacheService.SubmodelDescriptor submodelData) {
         Map<String, String> equalFilters = new HashMap<>();
         // use only assetId and version (previously semanticId, submodel type, no assetId) to follow all conventions:
         // - asset per asset type per material
         // - asset per asset type
         // - asset for submodel bundle
         equalFilters.put(EdcRequestBodyBuilder.CX_COMMON_NAMESPACE + "version", "3.0");
-        equalFilters.put(EdcRequestBodyBuilder.EDC_NAMESPACE + "id", submodelData.assetId);
+        equalFilters.put(EdcRequestBodyBuilder.EDC_NAMESPACE + "id", submodelData.assetId());
 
         return negotiateContract(partner, submodelData.assetId(), type, submodelData.dspUrl(), equalFilters);
     }
 
-    public boolean negotiateContractForNotification(Partner partner, AssetType type) {
+    public CompletableFuture<Boolean> negotiateContractForNotification(Partner partner, AssetType type) {
         Map<String, String> equalFilters = new HashMap<>();
         equalFilters.put(EdcRequestBodyBuilder.CX_COMMON_NAMESPACE + "version", "1.0");
         equalFilters.put(
@@ -1079,10 +1400,10 @@ public class EdcAdapterService {
         return negotiateContract(partner, variablesService.getNotificationApiAssetId(), type, partner.getEdcUrl(), equalFilters);
     }
 
-    public boolean negotiateContract(Partner partner, String assetId, AssetType type, String dspUrl, Map<String, String> equalFilters) {
+    public CompletableFuture<Boolean> negotiateContract(Partner partner, String assetId, AssetType type, String dspUrl, Map<String, String> equalFilters) {
+        var catalogKey = new CatalogCacheService.CatalogCacheKey(partner.getBpnl(), dspUrl, equalFilters);
         try {
-            var responseNode = getCatalog(dspUrl, partner.getBpnl(), equalFilters);
-            responseNode = jsonLdUtils.expand(responseNode);
+            var responseNode = getExpandedCatalog(dspUrl, partner.getBpnl(), equalFilters);
             var catalogArray = responseNode.get(EdcRequestBodyBuilder.DCAT_NAMESPACE + "dataset");
             // If there is exactly one asset, the catalogContent will be a JSON object.
             // In all other cases catalogContent will be a JSON array.
@@ -1114,34 +1435,28 @@ public class EdcAdapterService {
             if (targetCatalogEntry == null) {
                 log.error("Could not find asset for " + type + " at partner " + partner.getBpnl() + "'s catalog");
                 log.warn("CATALOG CONTENT \n" + catalogArray.toPrettyString());
-                return false;
+                catalogCacheService.invalidate(catalogKey);
+                return CompletableFuture.completedFuture(false);
             }
             JsonNode negotiationResponse = initiateNegotiation(partner, targetCatalogEntry, dspUrl);
             String negotiationId = negotiationResponse.get("@id").asText();
             // Await confirmation of contract and contractId
-            String contractId = null;
-            for (int i = 0; i < 100; i++) {
-                Thread.sleep(100);
-                var responseObject = getNegotiationState(negotiationId);
-                if ("FINALIZED".equals(responseObject.get("state").asText())) {
-                    contractId = responseObject.get("contractAgreementId").asText();
-                    break;
+            return awaitContractAgreementId(negotiationId).thenApplyAsync(contractId -> {
+                if (contractId == null) {
+                    logLastNegotiationState(negotiationId);
+                    log.error("Failed to obtain " + type + " from " + partner.getEdcUrl());
+                    catalogCacheService.invalidate(catalogKey);
+                    return false;
                 }
-            }
-            if (contractId == null) {
-                var negotiationState = getNegotiationState(negotiationId);
-                log.error("Failed to obtain " + type + " from " + partner.getEdcUrl() + ", last negotiation state: \n"
-                    + negotiationState.toPrettyString());
-                return false;
-            }
-            log.info("Putting new ContractId" + contractId + "for " + type + " api with partner " + partner.getBpnl());
-            edcContractMappingService.putContractId(partner, type, assetId, dspUrl, contractId);
-            log.info("Got contract for " + type + " api with partner " + partner.getBpnl());
-            return true;
-
+                log.info("Putting new ContractId" + contractId + "for " + type + " api with partner " + partner.getBpnl());
+                edcContractMappingService.putContractId(partner, type, assetId, dspUrl, contractId);
+                log.info("Got contract for " + type + " api with partner " + partner.getBpnl());
+                return true;
+            }, edcExecutor);
         } catch (Exception e) {
             log.error("Error in negotiation for " + type, e);
-            return false;
+            catalogCacheService.invalidate(catalogKey);
+            return CompletableFuture.completedFuture(false);
         }
     }
 
@@ -1153,10 +1468,14 @@ public class EdcAdapterService {
      * result a that partner's PartType Submodel API.
      *
      * @param mpr the MaterialPartnerRelation
-     * @return the partner's CXid for that material
+     * @return the partner's CXid for that material or null, if it could not be retrieved
      */
     public String getCxIdFromPartTypeInformation(MaterialPartnerRelation mpr) {
-        var data = getSubmodelFromPartner(mpr, AssetType.PART_TYPE_INFORMATION_SUBMODEL, null, 1);
+        var data = callPartner(mpr.getPartner(), () -> getSubmodelFromPartner(mpr, AssetType.PART_TYPE_INFORMATION_SUBMODEL, null, 1));
+        if (data == null || !data.hasNonNull("catenaXId")) {
+            // the request failed, the partner had no data or the submodel lacks the id
+            return null;
+        }
         return data.get("catenaXId").asText();
     }
 
@@ -20,10 +20,11 @@
 
 package org.eclipse.tractusx.puris.backend.common.edc.logic.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.tractusx.puris.backend.common.edc.domain.model.ContractMapping;
-import org.eclipse.tractusx.puris.backend.common.edc.domain.model.DtrContractMapping;
-import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
+import org.eclipse.tractusx.puris.backend.common.edc.domain.model.*;
 import org.eclipse.tractusx.puris.backend.common.edc.domain.repository.DaysOfSupplyContractMappingRepository;
 import org.eclipse.tractusx.puris.backend.common.edc.domain.repository.DeliveryContractMappingRepository;
 import org.eclipse.tractusx.puris.backend.common.edc.domain.repository.DemandAndCapacityNotificationContractMappingRepository;
@@ -34,10 +35,13 @@ import org.eclipse.tractusx.puris.backend.common.edc.domain.repository.ItemStock
 import org.eclipse.tractusx.puris.backend.common.edc.domain.repository.PartTypeContractMappingRepository;
 import org.eclipse.tractusx.puris.backend.common.edc.domain.repository.ProductionContractMappingRepository;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
@@ -67,25 +71,55 @@ public class EdcContractMappingService {
     @Autowired
     private PartTypeContractMappingRepository partTypeContractMappingRepository;
 
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
     private final String SEPARATOR = "\n@\n";
 
+    /**
+     * Write-through cache of the asset to contract mappings per partner and asset type.
+     */
+    private final Map<MappingKey, Map<String, String>> cache = new ConcurrentHashMap<>();
+
+    private Counter cacheHits;
+
+    private Counter cacheMisses;
+
+    private record MappingKey(String partnerBpnl, AssetType type) {
+    }
+
+    @PostConstruct
+    private void registerMetrics() {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            cacheHits = Counter.builder("puris.contractmapping.cache")
+                .description("Lookups of contract mappings")
+                .tag("result", "hit")
+                .register(registry);
+            cacheMisses = Counter.builder("puris.contractmapping.cache")
+                .description("Lookups of contract mappings")
+                .tag("result", "miss")
+                .register(registry);
+        }
+    }
+
     public String getContractId(Partner partner, AssetType type, String assetId, String dspUrl) {
-        ContractMapping contractMapping = getOrCreateContractMapping(partner, type);
-        return contractMapping.getAssetToContractMapping().get(assetId + SEPARATOR + dspUrl);
+        return getMappings(partner, type).get(assetId + SEPARATOR + dspUrl);
     }
 
+    /**
+     * Stores the contract id for the given asset. Passing null as contract id removes
+     * the mapping for the asset.
+     */
     public void putContractId(Partner partner, AssetType type, String assetId, String dspUrl, String contractId) {
-        ContractMapping contractMapping = getOrCreateContractMapping(partner, type);
-        contractMapping.getAssetToContractMapping().put(assetId + SEPARATOR + dspUrl, contractId);
-        var repository = getContractMappingRepository(type);
-        repository.checkedSave(contractMapping);
+        updateMappings(partner, type, mappings -> put(mappings, assetId + SEPARATOR + dspUrl, contractId));
     }
 
     public void putDtrContractData(Partner partner, String dtrAssetId, String dtrContractId) {
-        ContractMapping contractMapping = getOrCreateContractMapping(partner, AssetType.DTR);
-        contractMapping.getAssetToContractMapping().put("dtrContractId", dtrContractId);
-        contractMapping.getAssetToContractMapping().put("dtrAssetId", dtrAssetId);
-        dtrContractMappingRepository.save((DtrContractMapping) contractMapping);
+        updateMappings(partner, AssetType.DTR, mappings -> {
+            put(mappings, "dtrContractId", dtrContractId);
+            put(mappings, "dtrAssetId", dtrAssetId);
+        });
     }
 
     /**
@@ -96,28 +130,86 @@ public class EdcContractMappingService {
      * @return  a String array as described above
      */
     public String [] getDtrAssetAndContractId(Partner partner) {
-        ContractMapping contractMapping = getOrCreateContractMapping(partner, AssetType.DTR);
-        String assetId = contractMapping.getAssetToContractMapping().get("dtrAssetId");
-        String contractId = contractMapping.getAssetToContractMapping().get("dtrContractId");
+        Map<String, String> mappings = getMappings(partner, AssetType.DTR);
+        String assetId = mappings.get("dtrAssetId");
+        String contractId = mappings.get("dtrContractId");
         return new String[] {assetId, contractId};
     }
 
+    private Map<String, String> getMappings(Partner partner, AssetType type) {
+        MappingKey key = new MappingKey(partner.getBpnl(), type);
+        Map<String, String> mappings = cache.get(key);
+        if (mappings != null) {
+            increment(cacheHits);
+            return mappings;
+        }
+        increment(cacheMisses);
+        ContractMapping entity = getContractMappingRepository(type).findById(partner.getBpnl()).orElse(null);
+        // a concurrent update may have been cached in the meantime, which takes precedence
+        Map<String, String> loaded = cache.putIfAbsent(key, copyOf(entity));
+        return loaded != null ? loaded : cache.get(key);
+    }
 
-    private ContractMapping getOrCreateContractMapping(Partner partner, AssetType type) {
-        GeneralContractMappingRepository<? extends ContractMapping> repository = getContractMappingRepository(type);
+    /**
+     * Applies the given change to the stored contract mapping and replaces the cached
+     * mappings afterward. Updates are serialized, so that concurrent updates of the same
+     * contract mapping don't get lost.
+     */
+    private synchronized void updateMappings(Partner partner, AssetType type, Consumer<Map<String, String>> change) {
+        MappingKey key = new MappingKey(partner.getBpnl(), type);
+        var repository = getContractMappingRepository(type);
         ContractMapping entity = repository.findById(partner.getBpnl()).orElse(null);
         if (entity == null) {
-            try {
-                Constructor<? extends ContractMapping> constructor = repository.getType().getConstructor();
-                entity = constructor.newInstance();
-                entity.setPartnerBpnl(partner.getBpnl());
-            } catch (Exception e) {
-                log.error("Error in GetOrCreateContractMapping for partner " + partner.getBpnl() +
-                    " and type " + type, e);
-                return null;
-            }
+            entity = createContractMapping(type);
+            entity.setPartnerBpnl(partner.getBpnl());
+        }
+        change.accept(entity.getAssetToContractMapping());
+        try {
+            repository.checkedSave(entity);
+            cache.put(key, copyOf(entity));
+        } catch (RuntimeException e) {
+            cache.remove(key);
+            throw e;
+        }
+    }
+
+    private static void put(Map<String, String> mappings, String key, String value) {
+        if (value == null) {
+            mappings.remove(key);
+        } else {
+            mappings.put(key, value);
+        }
+    }
+
+    private static Map<String, String> copyOf(ContractMapping entity) {
+        Map<String, String> copy = new ConcurrentHashMap<>();
+        if (entity != null) {
+            entity.getAssetToContractMapping().forEach((key, value) -> {
+                if (key != null && value != null) {
+                    copy.put(key, value);
+                }
+            });
+        }
+        return copy;
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
         }
-        return entity;
+    }
+
+    private ContractMapping createContractMapping(AssetType type) {
+        return switch (type) {
+            case DTR -> new DtrContractMapping();
+            case ITEM_STOCK_SUBMODEL -> new ItemStockContractMapping();
+            case PRODUCTION_SUBMODEL -> new ProductionContractMapping();
+            case DEMAND_SUBMODEL -> new DemandContractMapping();
+            case DELIVERY_SUBMODEL -> new DeliveryContractMapping();
+            case NOTIFICATION -> new DemandAndCapacityNotificationContractMapping();
+            case DAYS_OF_SUPPLY -> new DaysOfSupplyContractMapping();
+            case PART_TYPE_INFORMATION_SUBMODEL -> new PartTypeContractMapping();
+        };
     }
 
     private GeneralContractMappingRepository<? extends ContractMapping> getContractMappingRepository(AssetType type) {
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Tracks the states of transfer processes and contract negotiations in your control plane.
+ * <p>
+ * Instead of every caller polling the state of its own process, callers register the
+ * state they are waiting for and receive a CompletableFuture. A single poller thread
+ * queries the states of all pending processes in batches, backing off while nothing
+ * changes. Once a transfer process has started, the same poller requests its EDR until
+ * the data plane provides it. Events received via the EDC callback api trigger an
+ * immediate poll.
+ */
+@Service
+@Slf4j
+public class EdcStateTrackingService {
+
+    private static final Set<String> FAILURE_STATES = Set.of("TERMINATED");
+
+    @Autowired
+    private VariablesService variablesService;
+
+    @Autowired
+    @Lazy
+    private EdcAdapterService edcAdapterService;
+
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "edc-state-tracker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ScheduledFuture<?> nextPoll;
+
+    private boolean polling;
+
+    private boolean pollRequested;
+
+    private long interval;
+
+    private enum ProcessType {
+        TRANSFER, NEGOTIATION, EDR
+    }
+
+    private record Waiter(ProcessType type, String id, Set<String> states, CompletableFuture<JsonNode> future,
+                          long deadline) {
+    }
+
+    /**
+     * Waits for a transfer process to reach one of the given states.
+     * <p>
+     * The returned future completes with the transfer process as returned by your control plane. It
+     * completes exceptionally, if the transfer process was terminated or the configured timeout expired.
+     *
+     * @param transferProcessId the id of the transfer process
+     * @param states            the states to wait for
+     * @return the future
+     */
+    public CompletableFuture<JsonNode> awaitTransferState(String transferProcessId, String... states) {
+        return register(ProcessType.TRANSFER, transferProcessId, states);
+    }
+
+    /**
+     * Waits for a contract negotiation to reach one of the given states.
+     * <p>
+     * The returned future completes with the contract negotiation as returned by your control plane. It
+     * completes exceptionally, if the negotiation was terminated or the configured timeout expired.
+     *
+     * @param negotiationId the id of the contract negotiation
+     * @param states        the states to wait for
+     * @return the future
+     */
+    public CompletableFuture<JsonNode> awaitNegotiationState(String negotiationId, String... states) {
+        return register(ProcessType.NEGOTIATION, negotiationId, states);
+    }
+
+    /**
+     * Waits for a transfer process to start and for its EDR to become available.
+     * <p>
+     * The returned future completes with the data address of the EDR as returned by the edr api
+     * of your control plane. It completes exceptionally, if the transfer process was terminated or
+     * the configured timeout expired.
+     *
+     * @param transferProcessId the id of the transfer process
+     * @return the future
+     */
+    public CompletableFuture<JsonNode> awaitEdr(String transferProcessId) {
+        return awaitTransferState(transferProcessId, "STARTED")
+            .thenCompose(transferProcess -> register(ProcessType.EDR, transferProcessId));
+    }
+
+    /**
+     * Handles an event sent by your control plane via the callback api. Since the
+     * event itself is only used as a hint, the states of all pending processes are
+     * queried immediately.
+     *
+     * @param event the event
+     */
+    public void onEvent(JsonNode event) {
+        log.debug("Received EDC event {}", event.has("type") ? event.get("type").asText() : event);
+        if (!waiters.isEmpty()) {
+            requestPoll(0);
+        }
+    }
+
+    private CompletableFuture<JsonNode> register(ProcessType type, String id, String... states) {
+        var future = new CompletableFuture<JsonNode>();
+        var waiter = new Waiter(type, id, Set.of(states), future,
+            System.currentTimeMillis() + variablesService.getEdcStateTrackingTimeout());
+        waiters.add(waiter);
+        future.whenComplete((result, throwable) -> waiters.remove(waiter));
+        requestPoll(variablesService.getEdcStateTrackingMinInterval());
+        return future;
+    }
+
+    private synchronized void requestPoll(long delay) {
+        interval = variablesService.getEdcStateTrackingMinInterval();
+        if (polling) {
+            // the running poll will schedule the next one with the reset interval
+            pollRequested = true;
+            return;
+        }
+        if (nextPoll != null) {
+            if (nextPoll.getDelay(TimeUnit.MILLISECONDS) <= delay) {
+                return;
+            }
+            nextPoll.cancel(false);
+        }
+        nextPoll = poller.schedule(this::poll, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void poll() {
+        synchronized (this) {
+            polling = true;
+            pollRequested = false;
+            nextPoll = null;
+        }
+        boolean progress = false;
+        for (ProcessType type : ProcessType.values()) {
+            try {
+                progress |= type == ProcessType.EDR ? pollEdrs() : pollStates(type);
+            } catch (Exception e) {
+                log.error("Error while polling {} states", type, e);
+            }
+        }
+        long now = System.currentTimeMillis();
+        for (Waiter waiter : waiters) {
+            if (waiter.deadline() < now) {
+                waiter.future().completeExceptionally(new TimeoutException(
+                    "Timeout while waiting for " + waiter.type() + " " + waiter.id() + " to reach " + waiter.states()));
+            }
+        }
+        synchronized (this) {
+            polling = false;
+            if (progress || pollRequested) {
+                interval = variablesService.getEdcStateTrackingMinInterval();
+            } else {
+                interval = Math.min(interval * 2, variablesService.getEdcStateTrackingMaxInterval());
+            }
+            if (!waiters.isEmpty()) {
+                nextPoll = poller.schedule(this::poll, interval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Queries the states of all pending processes of the given type in batches
+     * and completes the futures of the respective waiters. A failed batch is skipped and
+     * queried again with the next poll.
+     *
+     * @param type the process type, either TRANSFER or NEGOTIATION
+     * @return true, if at least one waiter was completed
+     */
+    private boolean pollStates(ProcessType type) {
+        List<String> ids = waiters.stream()
+            .filter(waiter -> waiter.type() == type)
+            .map(Waiter::id)
+            .distinct()
+            .toList();
+        boolean progress = false;
+        int batchSize = variablesService.getEdcStateTrackingBatchSize();
+        for (int i = 0; i < ids.size(); i += batchSize) {
+            var batch = ids.subList(i, Math.min(i + batchSize, ids.size()));
+            JsonNode processes;
+            try {
+                processes = switch (type) {
+                    case TRANSFER -> edcAdapterService.queryTransferProcesses(batch);
+                    case NEGOTIATION -> edcAdapterService.queryNegotiations(batch);
+                    case EDR -> throw new IllegalArgumentException("EDRs are not queried in batches");
+                };
+            } catch (Exception e) {
+                log.error("Error while polling {} states of {}", type, batch, e);
+                continue;
+            }
+            if (processes == null || !processes.isArray()) {
+                log.warn("Unexpected response while polling {} states: {}", type, processes);
+                continue;
+            }
+            for (JsonNode process : processes) {
+                if (!process.hasNonNull("@id") || !process.hasNonNull("state")) {
+                    log.warn("Skipping {} without id or state: {}", type, process);
+                    continue;
+                }
+                String id = process.get("@id").asText();
+                String state = process.get("state").asText();
+                for (Waiter waiter : waiters) {
+                    if (waiter.type() != type || !waiter.id().equals(id)) {
+                        continue;
+                    }
+                    if (waiter.states().contains(state)) {
+                        progress |= waiter.future().complete(process);
+                    } else if (FAILURE_STATES.contains(state)) {
+                        progress |= waiter.future().completeExceptionally(
+                            new IllegalStateException(type + " " + id + " reached state " + state));
+                    }
+                }
+            }
+        }
+        return progress;
+    }
+
+    /**
+     * Requests the EDRs of all started transfer processes that are awaited
+     * and completes the futures of the respective waiters. A failed request is
+     * repeated with the next poll.
+     *
+     * @return true, if at least one waiter was completed
+     */
+    private boolean pollEdrs() {
+        List<String> ids = waiters.stream()
+            .filter(waiter -> waiter.type() == ProcessType.EDR)
+            .map(Waiter::id)
+            .distinct()
+            .toList();
+        boolean progress = false;
+        for (String id : ids) {
+            JsonNode dataAddress;
+            try {
+                dataAddress = edcAdapterService.getEdrDataAddress(id);
+            } catch (Exception e) {
+                log.error("Error while requesting the EDR of transfer process {}", id, e);
+                continue;
+            }
+            if (dataAddress == null) {
+                // the data plane has not yet provisioned the EDR
+                continue;
+            }
+            for (Waiter waiter : waiters) {
+                if (waiter.type() == ProcessType.EDR && waiter.id().equals(id)) {
+                    progress |= waiter.future().complete(dataAddress);
+                }
+            }
+        }
+        return progress;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+        waiters.forEach(waiter -> waiter.future().cancel(false));
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.edc.logic.dto.EdrDto;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Keeps the EDRs of running transfer processes, so that subsequent requests
+ * to the same asset of a partner can reuse them instead of starting (and
+ * terminating) a new transfer process for every single request.
+ * <p>
+ * EDRs are handed out as leases. A transfer process is only reported for
+ * termination once it has been evicted from the cache and the last lease on
+ * it has been released, so that a failing request never pulls the transfer
+ * process away from concurrent requests still using it. Concurrent
+ * acquisitions of a key that is not (or no longer) usable share a single load.
+ * <p>
+ * This service only holds the state. Starting, refreshing and terminating the
+ * transfer processes is done by the EdcAdapterService.
+ */
+@Service
+@Slf4j
+public class EdrCacheService {
+
+    @Autowired
+    private VariablesService variablesService;
+
+    private final Map<EdrCacheKey, CacheEntry> cache = new HashMap<>();
+
+    private final Map<EdrCacheKey, PendingLoad> pendingLoads = new HashMap<>();
+
+    /**
+     * Identifies a cached EDR.
+     *
+     * @param partnerBpnl The BPNL of the partner
+     * @param assetId     The id of the asset at the partner's connector
+     * @param contractId  The id of the contract agreement used for the transfer
+     */
+    public record EdrCacheKey(String partnerBpnl, String assetId, String contractId) {
+    }
+
+    /**
+     * A lease on an EDR, obtained via {@link #acquire}. Every lease has to be
+     * given back via {@link #release} exactly once.
+     */
+    public static final class EdrLease {
+        private final CacheEntry entry;
+        private final EdrDto edr;
+        private boolean released;
+
+        private EdrLease(CacheEntry entry) {
+            this.entry = entry;
+            this.edr = entry.edr;
+        }
+
+        public EdrCacheKey key() {
+            return entry.key;
+        }
+
+        public EdrDto edr() {
+            return edr;
+        }
+    }
+
+    private static final class CacheEntry {
+        private final EdrCacheKey key;
+        private EdrDto edr;
+        private int leases;
+        private long lastAccess;
+        private boolean evicted;
+        private boolean terminated;
+
+        private CacheEntry(EdrCacheKey key, EdrDto edr) {
+            this.key = key;
+            this.edr = edr;
+            this.lastAccess = System.currentTimeMillis();
+        }
+    }
+
+    private static final class PendingLoad {
+        private final CompletableFuture<CacheEntry> future = new CompletableFuture<>();
+        private int waiters = 1;
+    }
+
+    /**
+     * @return true, if EDRs may be kept for reuse
+     */
+    public boolean isEnabled() {
+        return variablesService.isEdrCacheEnabled();
+    }
+
+    /**
+     * Leases the EDR for the given key. A cached EDR that is not about to expire
+     * is handed out directly. Otherwise, the loader is called with the cached,
+     * expiring EDR (or null, if there is none) and has to provide either the
+     * refreshed EDR of the same transfer process or the EDR of a new transfer
+     * process. In the latter case the loader has to {@link #invalidate} the
+     * expiring EDR first. Concurrent callers for the same key wait for the same
+     * loader call.
+     *
+     * @param key    the key
+     * @param loader provides a fresh EDR
+     * @return the lease, completed exceptionally if the loader failed
+     */
+    public CompletableFuture<EdrLease> acquire(EdrCacheKey key, Function<EdrDto, CompletableFuture<EdrDto>> loader) {
+        PendingLoad load;
+        EdrDto current;
+        synchronized (this) {
+            var entry = cache.get(key);
+            if (entry != null && !isExpiring(entry.edr)) {
+                entry.leases++;
+                entry.lastAccess = System.currentTimeMillis();
+                log.debug("Reusing EDR of transfer process {}", entry.edr.transferProcessId());
+                return CompletableFuture.completedFuture(new EdrLease(entry));
+            }
+            load = pendingLoads.get(key);
+            if (load != null) {
+                load.waiters++;
+                return load.future.thenApply(EdrLease::new);
+            }
+            load = new PendingLoad();
+            pendingLoads.put(key, load);
+            current = entry == null ? null : entry.edr;
+        }
+        CompletableFuture<EdrDto> loaded;
+        try {
+            loaded = loader.apply(current);
+        } catch (Exception e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+        PendingLoad finalLoad = load;
+        loaded.whenComplete((edr, throwable) -> completeLoad(key, finalLoad, edr, throwable));
+        return load.future.thenApply(EdrLease::new);
+    }
+
+    private void completeLoad(EdrCacheKey key, PendingLoad load, EdrDto edr, Throwable throwable) {
+        CacheEntry entry = null;
+        synchronized (this) {
+            pendingLoads.remove(key, load);
+            if (throwable == null && edr != null) {
+                var cached = cache.get(key);
+                if (cached != null && cached.edr.transferProcessId().equals(edr.transferProcessId())) {
+                    cached.edr = edr;
+                    entry = cached;
+                } else {
+                    entry = new CacheEntry(key, edr);
+                    if (isEnabled() && cached == null) {
+                        cache.put(key, entry);
+                    } else {
+                        // not kept for reuse, terminated with the release of the last lease
+                        entry.evicted = true;
+                    }
+                }
+                entry.leases += load.waiters;
+                entry.lastAccess = System.currentTimeMillis();
+            }
+        }
+        if (entry != null) {
+            load.future.complete(entry);
+        } else {
+            load.future.completeExceptionally(throwable != null ? throwable :
+                new IllegalStateException("No EDR obtained for " + key));
+        }
+    }
+
+    /**
+     * Gives back a lease. If the request using the EDR failed, the EDR is evicted
+     * from the cache.
+     *
+     * @param lease  the lease
+     * @param failed true, if the request using the EDR failed
+     * @return true, if the caller has to terminate the transfer process of the lease's EDR,
+     * because it is no longer cached and this was the last lease on it
+     */
+    public synchronized boolean release(EdrLease lease, boolean failed) {
+        if (lease.released) {
+            return false;
+        }
+        lease.released = true;
+        var entry = lease.entry;
+        entry.leases--;
+        entry.lastAccess = System.currentTimeMillis();
+        if (failed) {
+            evict(entry);
+        }
+        return markTerminated(entry);
+    }
+
+    /**
+     * Removes the given transfer process from the cache.
+     *
+     * @param key               the key
+     * @param transferProcessId the transfer process id
+     * @return true, if the caller has to terminate the transfer process now. Otherwise, it is
+     * either not cached or still leased and will be reported on the release of its last lease.
+     */
+    public synchronized boolean invalidate(EdrCacheKey key, String transferProcessId) {
+        var entry = cache.get(key);
+        if (entry == null || !entry.edr.transferProcessId().equals(transferProcessId)) {
+            return false;
+        }
+        evict(entry);
+        return markTerminated(entry);
+    }
+
+    /**
+     * Removes all EDRs that have been obtained with the given contract of the partner.
+     *
+     * @param partnerBpnl the BPNL of the partner
+     * @param contractId  the contract agreement id
+     * @return the removed EDRs that are not leased and have to be terminated now
+     */
+    public synchronized List<EdrDto> invalidateContract(String partnerBpnl, String contractId) {
+        List<EdrDto> removed = new ArrayList<>();
+        for (var entry : List.copyOf(cache.values())) {
+            if (entry.key.partnerBpnl().equals(partnerBpnl) && entry.key.contractId().equals(contractId)) {
+                evict(entry);
+                if (markTerminated(entry)) {
+                    removed.add(entry.edr);
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Checks whether the token of the given EDR expires within the configured
+     * refresh margin. EDRs without known expiry are always considered as expiring.
+     *
+     * @param edr the EDR
+     * @return true, if the token should be refreshed before usage
+     */
+    public boolean isExpiring(EdrDto edr) {
+        return edr.expiresAt() <= 0 ||
+            edr.expiresAt() - variablesService.getEdrCacheRefreshMargin() * 1000 <= System.currentTimeMillis();
+    }
+
+    /**
+     * Removes all EDRs that are not leased and have not been used for longer than
+     * the configured maximum idle time.
+     *
+     * @return the removed EDRs, which have to be terminated
+     */
+    public synchronized List<EdrDto> evictIdle() {
+        long threshold = System.currentTimeMillis() - variablesService.getEdrCacheMaxIdle() * 1000;
+        List<EdrDto> removed = new ArrayList<>();
+        for (var entry : List.copyOf(cache.values())) {
+            if (entry.leases == 0 && entry.lastAccess < threshold) {
+                evict(entry);
+                if (markTerminated(entry)) {
+                    removed.add(entry.edr);
+                }
+            }
+        }
+        if (!removed.isEmpty()) {
+            log.debug("Evicted {} idle EDRs", removed.size());
+        }
+        return removed;
+    }
+
+    private void evict(CacheEntry entry) {
+        entry.evicted = true;
+        cache.remove(entry.key, entry);
+    }
+
+    private boolean markTerminated(CacheEntry entry) {
+        if (entry.evicted && entry.leases == 0 && !entry.terminated) {
+            entry.terminated = true;
+            return true;
+        }
+        return false;
+    }
+}
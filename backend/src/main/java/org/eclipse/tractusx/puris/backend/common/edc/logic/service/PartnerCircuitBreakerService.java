@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Isolates the requests to different partners from each other, so that a single partner whose
+ * connector, DTR or data plane is unavailable can't occupy all threads of the application.
+ * <p>
+ * Per partner, only a limited number of requests may run at the same time (bulkhead). Further
+ * requests wait for a free slot for a limited time and fail afterwards. After a number of
+ * consecutive failed requests, the circuit of the partner opens and all requests to it fail fast.
+ * After the configured open time, a single probe request is let through (half open). If it
+ * succeeds, the circuit closes again, otherwise it stays open for another period.
+ */
+@Service
+@Slf4j
+public class PartnerCircuitBreakerService {
+
+    @Autowired
+    private VariablesService variablesService;
+
+    private final Map<String, PartnerCircuit> circuits = new ConcurrentHashMap<>();
+
+    public enum State {
+        /**
+         * requests are let through
+         */
+        CLOSED,
+        /**
+         * requests fail fast
+         */
+        OPEN,
+        /**
+         * a single probe request is let through to test the partner
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * The health of a partner as seen from this application.
+     *
+     * @param state               the state of the partner's circuit
+     * @param consecutiveFailures the number of failed requests since the last successful one
+     * @param activeRequests      the number of currently running requests to the partner
+     * @param openUntil           the point in time after which a probe request will be let through,
+     *                            null if the circuit is not open
+     */
+    public record PartnerHealth(State state, int consecutiveFailures, int activeRequests, Instant openUntil) {
+    }
+
+    private final class PartnerCircuit {
+        private final Semaphore bulkhead = new Semaphore(Math.max(1, variablesService.getEdcPartnerMaxConcurrentRequests()));
+
+        // guarded by this
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openUntil;
+        private boolean probing;
+
+        private synchronized boolean tryAcquirePermission() {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (openUntil > System.currentTimeMillis()) {
+                        return false;
+                    }
+                    state = State.HALF_OPEN;
+                    probing = true;
+                    return true;
+                default:
+                    if (probing) {
+                        return false;
+                    }
+                    probing = true;
+                    return true;
+            }
+        }
+
+        private synchronized void releaseProbe() {
+            probing = false;
+        }
+
+        private synchronized void onResult(String partnerBpnl, boolean success) {
+            probing = false;
+            if (success) {
+                if (state != State.CLOSED) {
+                    log.info("Circuit for partner {} closed", partnerBpnl);
+                }
+                state = State.CLOSED;
+                consecutiveFailures = 0;
+                return;
+            }
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED &&
+                consecutiveFailures >= variablesService.getEdcPartnerCircuitBreakerFailureThreshold())) {
+                state = State.OPEN;
+                openUntil = System.currentTimeMillis() + variablesService.getEdcPartnerCircuitBreakerOpenTime() * 1000;
+                log.warn("Circuit for partner {} opened after {} consecutive failures", partnerBpnl, consecutiveFailures);
+            }
+        }
+
+        private synchronized PartnerHealth getHealth() {
+            return new PartnerHealth(state, consecutiveFailures,
+                variablesService.getEdcPartnerMaxConcurrentRequests() - bulkhead.availablePermits(),
+                state == State.OPEN ? Instant.ofEpochMilli(openUntil) : null);
+        }
+    }
+
+    /**
+     * Performs a request to a partner, unless the partner's circuit is open or no slot becomes
+     * available in time. A request fails, if it throws an exception, because the partner could not
+     * be reached, did not answer in time or responded with a server error. A request returning null,
+     * because the partner answered without data, does not count as a failure.
+     *
+     * @param partnerBpnl the BPNL of the partner
+     * @param request     the request, throwing an exception if it failed
+     * @param <T>         the type of the result
+     * @return the result of the request or null, if the partner had no data or the request has not been performed
+     * @throws RuntimeException the exception of the failed request
+     */
+    public <T> T call(String partnerBpnl, Supplier<T> request) {
+        PartnerCircuit circuit = circuits.computeIfAbsent(partnerBpnl, bpnl -> new PartnerCircuit());
+        if (!circuit.tryAcquirePermission()) {
+            log.warn("Circuit for partner {} is open, skipping request", partnerBpnl);
+            return null;
+        }
+        try {
+            if (!circuit.bulkhead.tryAcquire(variablesService.getEdcPartnerMaxWait(), TimeUnit.MILLISECONDS)) {
+                log.warn("Too many concurrent requests to partner {}, skipping request", partnerBpnl);
+                circuit.releaseProbe();
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuit.releaseProbe();
+            return null;
+        }
+        boolean success = false;
+        try {
+            T result = request.get();
+            success = true;
+            return result;
+        } finally {
+            circuit.bulkhead.release();
+            circuit.onResult(partnerBpnl, success);
+        }
+    }
+
+    /**
+     * @param partnerBpnl the BPNL of the partner
+     * @return the current state of the partner's circuit
+     */
+    public State getState(String partnerBpnl) {
+        var circuit = circuits.get(partnerBpnl);
+        return circuit == null ? State.CLOSED : circuit.getHealth().state();
+    }
+
+    /**
+     * @return the health of all partners that have been requested so far, by BPNL
+     */
+    public Map<String, PartnerHealth> getPartnerHealth() {
+        Map<String, PartnerHealth> health = new TreeMap<>();
+        circuits.forEach((bpnl, circuit) -> health.put(bpnl, circuit.getHealth()));
+        return health;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the submodel descriptors that were looked up in the DTRs of partners for a
+ * configurable time, so that submodel requests don't need to query the partner's DTR
+ * every time.
+ * <p>
+ * A cached descriptor should be invalidated as soon as a request based on it fails.
+ */
+@Service
+@Slf4j
+public class SubmodelDescriptorCacheService {
+
+    @Autowired
+    private VariablesService variablesService;
+
+    private final Map<SubmodelDescriptorKey, CacheEntry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies the submodel of a material at a partner's DTR.
+     *
+     * @param partnerBpnl        The BPNL of the partner
+     * @param manufacturerPartId The material number of the supplier party
+     * @param manufacturerId     The BPNL of the supplier party
+     * @param semanticId         The semantic id of the submodel
+     */
+    public record SubmodelDescriptorKey(String partnerBpnl, String manufacturerPartId, String manufacturerId,
+                                        String semanticId) {
+    }
+
+    /**
+     * The data of a submodel descriptor that is needed to request the submodel.
+     *
+     * @param key     The key under which the descriptor is cached
+     * @param assetId The id of the asset offering the submodel
+     * @param dspUrl  The dsp url of the connector offering the asset
+     * @param href    The url of the submodel
+     */
+    public record SubmodelDescriptor(SubmodelDescriptorKey key, String assetId, String dspUrl, String href) {
+    }
+
+    private record CacheEntry(SubmodelDescriptor descriptor, long expiresAt) {
+    }
+
+    /**
+     * @param key the key
+     * @return the cached descriptor or null, if there is none or it has expired
+     */
+    public SubmodelDescriptor get(SubmodelDescriptorKey key) {
+        if (!variablesService.isDtrDescriptorCacheEnabled()) {
+            return null;
+        }
+        CacheEntry entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            cache.remove(key, entry);
+            return null;
+        }
+        return entry.descriptor();
+    }
+
+    /**
+     * Caches the given descriptor under its key.
+     *
+     * @param descriptor the descriptor
+     */
+    public void put(SubmodelDescriptor descriptor) {
+        if (!variablesService.isDtrDescriptorCacheEnabled()) {
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + variablesService.getDtrDescriptorCacheTtl() * 1000;
+        cache.put(descriptor.key(), new CacheEntry(descriptor, expiresAt));
+    }
+
+    /**
+     * Removes the given descriptor, unless it has already been replaced by
+     * another one in the meantime.
+     *
+     * @param descriptor the descriptor
+     */
+    public void invalidate(SubmodelDescriptor descriptor) {
+        CacheEntry entry = cache.get(descriptor.key());
+        if (entry != null && entry.descriptor().equals(descriptor) && cache.remove(descriptor.key(), entry)) {
+            log.debug("Invalidated submodel descriptor {} of {}", descriptor.key().semanticId(), descriptor.key().partnerBpnl());
+        }
+    }
+}
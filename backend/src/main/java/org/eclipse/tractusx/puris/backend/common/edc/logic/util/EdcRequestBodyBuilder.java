@@ -27,12 +27,14 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.puris.backend.common.security.DtrSecurityConfiguration;
+import org.eclipse.tractusx.puris.backend.common.security.SecurityConfig;
 import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -314,6 +316,7 @@ public class EdcRequestBodyBuilder {
         offerNode.set("policy", policyNode);
 
         body.set("policy", policyNode);
+        addCallbackAddress(body, "contract.negotiation");
 
         log.debug("Created asset negotiation body:\n" + body.toPrettyString());
         return body;
@@ -340,11 +343,55 @@ public class EdcRequestBodyBuilder {
         var dataDestination = MAPPER.createObjectNode();
         dataDestination.put("type", "HttpProxy");
         body.set("dataDestination", dataDestination);
+        addCallbackAddress(body, "transfer.process");
 
         log.debug("Built Proxy Pull Request:\n{}", body.toPrettyString());
         return body;
     }
 
+    /**
+     * Registers this application's callback endpoint for the given events at the
+     * request body, if callbacks are enabled.
+     *
+     * @param body   the request body of a negotiation or transfer request
+     * @param events the event prefix, e.g. "transfer.process"
+     */
+    private void addCallbackAddress(ObjectNode body, String events) {
+        if (!variablesService.isEdcCallbackEnabled()) {
+            return;
+        }
+        var callbackAddress = MAPPER.createObjectNode();
+        callbackAddress.put("@type", "CallbackAddress");
+        callbackAddress.put("uri", variablesService.getEdcCallbackEndpoint());
+        callbackAddress.put("transactional", false);
+        callbackAddress.set("events", MAPPER.createArrayNode().add(events));
+        callbackAddress.put("authKey", SecurityConfig.API_KEY_HEADER_NAME);
+        callbackAddress.put("authCodeId", variablesService.getEdcCallbackAuthCodeId());
+        body.set("callbackAddresses", MAPPER.createArrayNode().add(callbackAddress));
+    }
+
+    /**
+     * Creates the request body for querying the transfer processes or
+     * negotiations with the given ids.
+     *
+     * @param ids the ids
+     * @return The request body
+     */
+    public JsonNode buildQueryByIdsRequestBody(Collection<String> ids) {
+        var body = getEdcContextObject();
+        body.put("@type", "QuerySpec");
+        body.put("offset", 0);
+        body.put("limit", ids.size());
+        var filterExpression = MAPPER.createObjectNode();
+        filterExpression.put("operandLeft", "id");
+        filterExpression.put("operator", "in");
+        var operandRight = MAPPER.createArrayNode();
+        ids.forEach(operandRight::add);
+        filterExpression.set("operandRight", operandRight);
+        body.set("filterExpression", MAPPER.createArrayNode().add(filterExpression));
+        return body;
+    }
+
     /**
      * Creates the request body for requesting a full list of all
      * negotiations in the history of your EDC control plane.
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.puris.backend.common.edc.logic.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Converts between Jackson and Jakarta JSON trees by walking them directly,
+ * instead of serializing one of them to a String and parsing it with the
+ * other library.
+ * <p>
+ * Numbers are mapped the same way as Jackson's default deserialization does,
+ * so a converted tree equals the one obtained by parsing the serialized form.
+ */
+public final class JakartaJsonBridge {
+
+    /**
+     * Looked up once, since every call of the static factory methods in
+     * {@link jakarta.json.Json} runs a service loader lookup.
+     */
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private JakartaJsonBridge() {
+    }
+
+    /**
+     * @param node a Jackson object node
+     * @return the equivalent Jakarta JSON object
+     */
+    public static JsonObject toJakarta(ObjectNode node) {
+        JsonObjectBuilder builder = PROVIDER.createObjectBuilder();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            var field = fields.next();
+            builder.add(field.getKey(), toJakarta(field.getValue()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param node a Jackson node
+     * @return the equivalent Jakarta JSON value
+     */
+    public static JsonValue toJakarta(JsonNode node) {
+        return switch (node.getNodeType()) {
+            case OBJECT -> toJakarta((ObjectNode) node);
+            case ARRAY -> {
+                JsonArrayBuilder builder = PROVIDER.createArrayBuilder();
+                for (JsonNode element : node) {
+                    builder.add(toJakarta(element));
+                }
+                yield builder.build();
+            }
+            case STRING -> PROVIDER.createValue(node.textValue());
+            case NUMBER -> {
+                if (node.isIntegralNumber()) {
+                    yield node.canConvertToLong() ? PROVIDER.createValue(node.longValue()) : PROVIDER.createValue(node.bigIntegerValue());
+                }
+                yield PROVIDER.createValue(node.decimalValue());
+            }
+            case BOOLEAN -> node.booleanValue() ? JsonValue.TRUE : JsonValue.FALSE;
+            case NULL, MISSING -> JsonValue.NULL;
+            case BINARY, POJO -> PROVIDER.createValue(node.asText());
+        };
+    }
+
+    /**
+     * @param value a Jakarta JSON object
+     * @return the equivalent Jackson object node
+     */
+    public static ObjectNode toJackson(JsonObject value) {
+        ObjectNode node = NODE_FACTORY.objectNode();
+        for (var entry : value.entrySet()) {
+            node.set(entry.getKey(), toJackson(entry.getValue()));
+        }
+        return node;
+    }
+
+    /**
+     * @param value a Jakarta JSON value
+     * @return the equivalent Jackson node
+     */
+    public static JsonNode toJackson(JsonValue value) {
+        return switch (value.getValueType()) {
+            case OBJECT -> toJackson((JsonObject) value);
+            case ARRAY -> {
+                ArrayNode node = NODE_FACTORY.arrayNode(((JsonArray) value).size());
+                for (JsonValue element : (JsonArray) value) {
+                    node.add(toJackson(element));
+                }
+                yield node;
+            }
+            case STRING -> NODE_FACTORY.textNode(((JsonString) value).getString());
+            case NUMBER -> toJackson((JsonNumber) value);
+            case TRUE -> NODE_FACTORY.booleanNode(true);
+            case FALSE -> NODE_FACTORY.booleanNode(false);
+            case NULL -> NODE_FACTORY.nullNode();
+        };
+    }
+
+    private static JsonNode toJackson(JsonNumber number) {
+        if (!number.isIntegral()) {
+            return NODE_FACTORY.numberNode(number.doubleValue());
+        }
+        BigInteger integer = number.bigIntegerValue();
+        if (integer.bitLength() < Integer.SIZE) {
+            return NODE_FACTORY.numberNode(integer.intValue());
+        }
+        if (integer.bitLength() < Long.SIZE) {
+            return NODE_FACTORY.numberNode(integer.longValue());
+        }
+        return NODE_FACTORY.numberNode(integer);
+    }
+}
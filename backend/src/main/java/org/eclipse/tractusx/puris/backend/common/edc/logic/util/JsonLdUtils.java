@@ -21,10 +21,8 @@
 package org.eclipse.tractusx.puris.backend.common.edc.logic.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import jakarta.json.Json;
-import jakarta.json.JsonReader;
+import jakarta.json.JsonObject;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.jsonld.TitaniumJsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -32,7 +30,6 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import java.io.File;
-import java.io.StringReader;
 import java.net.URI;
 import java.util.Map;
 import java.util.function.Function;
@@ -42,8 +39,6 @@ import java.util.function.Supplier;
 @Service
 public class JsonLdUtils {
 
-    private final ObjectMapper MAPPER = new ObjectMapper();
-
     private final TitaniumJsonLd TITANIUM_JSON_LD = new TitaniumJsonLd(new MonitorAdapter() {
     });
 
@@ -81,30 +76,46 @@ public class JsonLdUtils {
         }
     }
 
+    /**
+     * Expands the given JSON-LD object node. The node is handed to Titanium and
+     * read back via {@link JakartaJsonBridge}, without serializing it in between.
+     *
+     * @param node the JSON-LD object node
+     * @return the expanded node or null, if the expansion failed
+     */
     public ObjectNode expand(JsonNode node) {
-        JsonReader jsonReader = Json.createReader(new StringReader(node.toString()));
-        var jakartaJson = jsonReader.readObject();
-        var expandedJakartaJson = TITANIUM_JSON_LD.expand(jakartaJson).getContent();
         try {
-            return (ObjectNode) MAPPER.readTree(expandedJakartaJson.toString());
+            return JakartaJsonBridge.toJackson(expand(JakartaJsonBridge.toJakarta((ObjectNode) node)));
         } catch (Exception e) {
             log.error("Failure expanding json node: \n{}", node.toPrettyString(), e);
             return null;
         }
     }
 
+    /**
+     * Compacts the given JSON-LD object node. The node is handed to Titanium and
+     * read back via {@link JakartaJsonBridge}, without serializing it in between.
+     *
+     * @param node the expanded JSON-LD object node
+     * @return the compacted node or null, if the compaction failed
+     */
     public ObjectNode compact(JsonNode node) {
-        JsonReader jsonReader = Json.createReader(new StringReader(node.toString()));
-        var jakartaJson = jsonReader.readObject();
-        var expandedJakartaJson = TITANIUM_JSON_LD.compact(jakartaJson).getContent();
         try {
-            return (ObjectNode) MAPPER.readTree(expandedJakartaJson.toString());
+            return JakartaJsonBridge.toJackson(compact(JakartaJsonBridge.toJakarta((ObjectNode) node)));
         } catch (Exception e) {
             log.error("Failure compacting json node: \n{}", node.toPrettyString(), e);
             return null;
         }
     }
 
+    JsonObject expand(JsonObject jsonObject) {
+        return TITANIUM_JSON_LD.expand(jsonObject).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    JsonObject compact(JsonObject jsonObject) {
+        return TITANIUM_JSON_LD.compact(jsonObject).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
     private static class MonitorAdapter implements Monitor {
 
         @Override
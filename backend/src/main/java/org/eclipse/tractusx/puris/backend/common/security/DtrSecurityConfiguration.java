@@ -35,6 +35,11 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class DtrSecurityConfiguration {
 
+    /**
+     * id of the puris client at the OAuth2TokenManager
+     **/
+    public static final String DTR_CLIENT_REGISTRATION = "dtr";
+
     /**
      * if true, then DTR is configured with IDP
      **/
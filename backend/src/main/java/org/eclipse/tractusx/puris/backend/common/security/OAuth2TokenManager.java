@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.FormBody;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Obtains and keeps OAuth2 access tokens (e.g. client credential flow) for one or more
+ * client registrations, e.g. the PURIS client of the DTR.
+ * <p>
+ * If the token response contains expires_in, the token is refreshed in the background before
+ * it expires (refresh margin), so that requests don't have to wait for the identity provider.
+ * Concurrent requests for a registration without a valid token share a single token request.
+ * <p>
+ * Token requests are recorded at the MeterRegistry as timer puris.oauth2.token.refresh,
+ * tagged with the registration and the outcome (success or failure).
+ */
+@Slf4j
+public class OAuth2TokenManager implements AutoCloseable {
+
+    public static final String KEY_GRANT_TYPE = "grant_type";
+    public static final String KEY_CLIENT_ID = "client_id";
+    public static final String KEY_CLIENT_SECRET = "client_secret";
+    public static final String METRIC_NAME = "puris.oauth2.token.refresh";
+
+    private final ObjectMapper objectMapper;
+    private final OkHttpClient httpClient;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * period before expiry in which a token is refreshed (milliseconds)
+     **/
+    private final long refreshMargin;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("puris-oauth2-token-refresh").daemon(true).factory());
+
+    private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+
+    /**
+     * creates a token manager without any client registration
+     *
+     * @param objectMapper  to parse the token responses
+     * @param httpClient    to make the token requests with
+     * @param meterRegistry to record the token requests at, may be null
+     * @param refreshMargin period before expiry in which a token is refreshed (seconds)
+     */
+    public OAuth2TokenManager(ObjectMapper objectMapper,
+                              OkHttpClient httpClient,
+                              @Nullable MeterRegistry meterRegistry,
+                              long refreshMargin) {
+        this.objectMapper = objectMapper;
+        this.httpClient = httpClient;
+        this.meterRegistry = meterRegistry;
+        this.refreshMargin = refreshMargin * 1000;
+    }
+
+    /**
+     * An access token.
+     *
+     * @param value     the token
+     * @param expiresAt point in time (epoch millis) at which the token expires, 0 if unknown
+     */
+    private record AccessToken(String value, long expiresAt) {
+
+        private boolean isExpired() {
+            return expiresAt > 0 && expiresAt <= System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Registers a client, replacing a former registration with the same id.
+     *
+     * @param registrationId to refer to the client, e.g. when obtaining a token
+     * @param tokenUrl       to authenticate against (full url including realm and protocol)
+     * @param clientId       to authenticate against
+     * @param clientSecret   to authenticate with
+     * @param grantType      to use as flow (e.g. client_credentials)
+     */
+    public void register(String registrationId, String tokenUrl, String clientId, String clientSecret, String grantType) {
+        var former = registrations.put(registrationId,
+            new Registration(registrationId, tokenUrl, clientId, clientSecret, grantType));
+        if (former != null) {
+            former.cancelScheduledRefresh();
+        }
+        log.debug("Registered OAuth2 client {} for {}", clientId, registrationId);
+    }
+
+    /**
+     * Returns a valid token of the given registration. If there is none, a new token is
+     * requested or the pending token request of another thread is awaited.
+     *
+     * @param registrationId of the client
+     * @return the token or null, if it could not be obtained
+     */
+    public String getToken(String registrationId) {
+        Registration registration = getRegistration(registrationId);
+        AccessToken token = registration.token;
+        if (token != null && !token.isExpired()) {
+            return token.value();
+        }
+        return valueOf(registration.refresh(token).join());
+    }
+
+    /**
+     * Returns a new token of the given registration after the given token has been rejected.
+     * If the token has already been renewed by another thread, the new token is returned
+     * without requesting another one.
+     *
+     * @param registrationId of the client
+     * @param rejectedToken  the token that has been rejected
+     * @return the new token or null, if it could not be obtained
+     */
+    public String renewToken(String registrationId, String rejectedToken) {
+        Registration registration = getRegistration(registrationId);
+        AccessToken token = registration.token;
+        if (token != null && !token.value().equals(rejectedToken) && !token.isExpired()) {
+            return token.value();
+        }
+        return valueOf(registration.refresh(token).join());
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private Registration getRegistration(String registrationId) {
+        Registration registration = registrations.get(registrationId);
+        if (registration == null) {
+            throw new IllegalArgumentException("Unknown OAuth2 client registration " + registrationId);
+        }
+        return registration;
+    }
+
+    private static String valueOf(AccessToken token) {
+        return token == null ? null : token.value();
+    }
+
+    private final class Registration {
+        private final String id;
+        private final String tokenUrl;
+        private final String clientId;
+        private final String clientSecret;
+        private final String grantType;
+
+        /**
+         * contains the latest obtained token, if any; may be outdated
+         **/
+        private volatile AccessToken token;
+
+        // guarded by this
+        private CompletableFuture<AccessToken> pendingRequest;
+        private ScheduledFuture<?> scheduledRefresh;
+
+        private Registration(String id, String tokenUrl, String clientId, String clientSecret, String grantType) {
+            this.id = id;
+            this.tokenUrl = tokenUrl;
+            this.clientId = clientId;
+            this.clientSecret = clientSecret;
+            this.grantType = grantType;
+        }
+
+        /**
+         * Replaces the given token with a new one. Only the first caller performs the token
+         * request, all others get the same future. If the token has already been replaced in
+         * the meantime, the current token is returned without any request.
+         *
+         * @param outdated the token to replace, null if none has been obtained yet
+         * @return future of the new token, completed with null if the request failed
+         */
+        private CompletableFuture<AccessToken> refresh(AccessToken outdated) {
+            CompletableFuture<AccessToken> future;
+            synchronized (this) {
+                if (token != outdated) {
+                    return CompletableFuture.completedFuture(token);
+                }
+                if (pendingRequest != null) {
+                    return pendingRequest;
+                }
+                future = pendingRequest = new CompletableFuture<>();
+            }
+            AccessToken obtained = null;
+            try {
+                obtained = requestToken();
+            } finally {
+                synchronized (this) {
+                    if (obtained != null) {
+                        token = obtained;
+                        scheduleRefresh(obtained);
+                    }
+                    pendingRequest = null;
+                }
+                future.complete(obtained);
+            }
+            return future;
+        }
+
+        /**
+         * Schedules the background refresh of the given token before it expires. If the
+         * lifetime of the token is shorter than twice the refresh margin, it is refreshed
+         * after half of its lifetime.
+         */
+        private synchronized void scheduleRefresh(AccessToken current) {
+            cancelScheduledRefresh();
+            if (current.expiresAt() <= 0 || scheduler.isShutdown()) {
+                return;
+            }
+            long lifetime = current.expiresAt() - System.currentTimeMillis();
+            long delay = Math.max(lifetime - refreshMargin, lifetime / 2);
+            scheduledRefresh = scheduler.schedule(() -> refreshInBackground(current), delay, TimeUnit.MILLISECONDS);
+        }
+
+        private synchronized void cancelScheduledRefresh() {
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel(false);
+                scheduledRefresh = null;
+            }
+        }
+
+        private void refreshInBackground(AccessToken current) {
+            if (registrations.get(id) != this) {
+                return;
+            }
+            if (refresh(current).join() == null && token == current && !current.isExpired()) {
+                // keep using the current token and try again after half of its remaining lifetime
+                synchronized (this) {
+                    long delay = Math.max((current.expiresAt() - System.currentTimeMillis()) / 2, 1000);
+                    scheduledRefresh = scheduler.schedule(() -> refreshInBackground(current), delay, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+
+        /**
+         * performs the OAuth2 token request
+         *
+         * @return the token or null, if not obtained
+         */
+        private AccessToken requestToken() {
+            RequestBody requestBody = new FormBody.Builder()
+                .add(KEY_GRANT_TYPE, grantType)
+                .add(KEY_CLIENT_ID, clientId)
+                .add(KEY_CLIENT_SECRET, clientSecret)
+                .build();
+
+            Request tokenRequest = new Request.Builder()
+                .url(tokenUrl)
+                .post(requestBody)
+                .build();
+
+            long start = System.nanoTime();
+            AccessToken obtained = null;
+            try (Response tokenResponse = httpClient.newCall(tokenRequest).execute()) {
+                if (tokenResponse.isSuccessful()) {
+                    long now = System.currentTimeMillis();
+                    JsonNode body = objectMapper.readTree(tokenResponse.body().string());
+                    JsonNode expiresIn = body.get("expires_in");
+                    long expiresAt = expiresIn != null && expiresIn.asLong() > 0 ? now + expiresIn.asLong() * 1000 : 0;
+                    obtained = new AccessToken(body.get("access_token").asText(), expiresAt);
+                } else {
+                    log.error("JWT for {} could not be obtained (status {}). Please check configuration.", id, tokenResponse.code());
+                }
+            } catch (Exception e) {
+                log.error("Obtaining JWT for {} failed: {}", id, e.toString());
+            }
+            if (meterRegistry != null) {
+                Timer.builder(METRIC_NAME)
+                    .tag("registration", id)
+                    .tag("outcome", obtained != null ? "success" : "failure")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            return obtained;
+        }
+    }
+}
@@ -22,6 +22,7 @@ package org.eclipse.tractusx.puris.backend.common.security;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeIn;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
@@ -29,9 +30,11 @@ import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import jakarta.servlet.DispatcherType;
+import okhttp3.OkHttpClient;
 import org.eclipse.tractusx.puris.backend.common.security.logic.ApiKeyAuthenticationFilter;
 import org.eclipse.tractusx.puris.backend.common.security.logic.KeycloakJwtAuthenticationConverter;
 import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -122,7 +125,8 @@ public class SecurityConfig {
                         "/edc/**",
                         "/erp-adapter/**",
                         "/parttypeinformation/**",
-                        "/files/**"
+                        "/files/**",
+                        "/actuator/partners/**"
                     )
                     .authenticated()
                     .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/actuator/health/**").permitAll()
@@ -144,10 +148,16 @@ public class SecurityConfig {
         return http.build();
     }
 
+    @Bean
+    public OAuth2TokenManager oAuth2TokenManager(OkHttpClient httpClient, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new OAuth2TokenManager(objectMapper, httpClient, meterRegistry.getIfAvailable(), variablesService.getOauth2TokenRefreshMargin());
+    }
+
     @Bean
     @ConditionalOnProperty(name = "puris.dtr.idp.enabled", havingValue = "true")
-    public OAuth2ClientInterceptor oAuth2ClientInterceptor() {
-        return new OAuth2ClientInterceptor(objectMapper, dtrSecurityConfiguration.getTokenUrl(), dtrSecurityConfiguration.getPurisClientId(), dtrSecurityConfiguration.getPurisClientSecret(), dtrSecurityConfiguration.getGrant_type());
+    public OAuth2ClientInterceptor oAuth2ClientInterceptor(OAuth2TokenManager oAuth2TokenManager) {
+        oAuth2TokenManager.register(DtrSecurityConfiguration.DTR_CLIENT_REGISTRATION, dtrSecurityConfiguration.getTokenUrl(), dtrSecurityConfiguration.getPurisClientId(), dtrSecurityConfiguration.getPurisClientSecret(), dtrSecurityConfiguration.getGrant_type());
+        return new OAuth2ClientInterceptor(oAuth2TokenManager, DtrSecurityConfiguration.DTR_CLIENT_REGISTRATION);
     }
 
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import org.eclipse.tractusx.puris.backend.common.domain.repository.DatedQuantity;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * A window of consecutive days, starting today, for which quantities are summed up per day.
+ * <p>
+ * The n-th day of the window is the day (UTC) of the start of the n-th local day from now on,
+ * so a quantity is assigned to a day if its date lies on that day in UTC. Use {@link #getStart()}
+ * and {@link #getEnd()} as bounds for an aggregate query and pass its result to {@link #sum(List)}.
+ */
+public final class DailyQuantityWindow {
+
+    private final Map<LocalDate, Integer> dayIndices = new HashMap<>();
+
+    private final int numberOfDays;
+
+    private final Date start;
+
+    private final Date end;
+
+    private DailyQuantityWindow(LocalDate firstLocalDay, int numberOfDays) {
+        this.numberOfDays = numberOfDays;
+        LocalDate firstDay = null;
+        LocalDate lastDay = null;
+        for (int i = 0; i < numberOfDays; i++) {
+            LocalDate day = firstLocalDay.plusDays(i).atStartOfDay(ZoneId.systemDefault()).toInstant()
+                .atOffset(ZoneOffset.UTC).toLocalDate();
+            dayIndices.putIfAbsent(day, i);
+            firstDay = firstDay == null || day.isBefore(firstDay) ? day : firstDay;
+            lastDay = lastDay == null || day.isAfter(lastDay) ? day : lastDay;
+        }
+        LocalDate today = firstLocalDay.atStartOfDay(ZoneId.systemDefault()).toInstant().atOffset(ZoneOffset.UTC).toLocalDate();
+        this.start = toDate(firstDay != null ? firstDay : today);
+        this.end = toDate(lastDay != null ? lastDay.plusDays(1) : today);
+    }
+
+    /**
+     * @param numberOfDays the number of days of the window
+     * @return a window of the given number of days starting today
+     */
+    public static DailyQuantityWindow startingToday(int numberOfDays) {
+        return new DailyQuantityWindow(LocalDate.now(), numberOfDays);
+    }
+
+    /**
+     * @return the inclusive lower bound of the window
+     */
+    public Date getStart() {
+        return start;
+    }
+
+    /**
+     * @return the exclusive upper bound of the window
+     */
+    public Date getEnd() {
+        return end;
+    }
+
+    /**
+     * @return a list containing a zero for every day of the window
+     */
+    public List<Double> empty() {
+        return new ArrayList<>(Collections.nCopies(numberOfDays, 0d));
+    }
+
+    /**
+     * Sums up the given quantities per day of the window. Quantities with dates outside
+     * of the window are ignored.
+     *
+     * @param quantities the quantities, e.g. the result of an aggregate query
+     * @return the sum of quantities for every day of the window
+     */
+    public List<Double> sum(List<? extends DatedQuantity> quantities) {
+        List<Double> sums = empty();
+        for (DatedQuantity quantity : quantities) {
+            LocalDate day = quantity.getDate().toInstant().atOffset(ZoneOffset.UTC).toLocalDate();
+            Integer index = dayIndices.get(day);
+            if (index != null && quantity.getQuantity() != null) {
+                sums.set(index, sums.get(index) + quantity.getQuantity());
+            }
+        }
+        return sums;
+    }
+
+    private static Date toDate(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.*;
+
+/**
+ * Provides one named, bounded executor per workload class instead of a single
+ * unbounded thread pool that is shared by all asynchronous tasks.
+ * <p>
+ * Tasks of one workload class may only wait for tasks of a class further down this chain:
+ * partner requests, dtr registration, part type retrieval, edc. That way a saturated pool can't
+ * block the pool that it is waiting for. Tasks of the edc pool never wait for other tasks.
+ * <p>
+ * If the queue of a pool is full, the submitting thread runs the task itself, which slows
+ * down the producer instead of dropping the task. Only the erp adapter pool rejects the task
+ * instead, since its only producer is a scheduler thread that backs off and retries later. All executors are registered at the
+ * MeterRegistry with the prefix "puris" (e.g. puris.executor.active, puris.executor.queued
+ * and the timers puris.executor and puris.executor.idle), tagged with the executor's name.
+ */
+@Configuration
+@Slf4j
+public class ExecutorConfiguration {
+
+    public static final String PARTNER_REQUEST_EXECUTOR = "partnerRequestExecutor";
+
+    public static final String DTR_EXECUTOR = "dtrExecutor";
+
+    public static final String PART_TYPE_EXECUTOR = "partTypeExecutor";
+
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+
+    public static final String ERP_ADAPTER_EXECUTOR = "erpAdapterExecutor";
+
+    public static final String EDC_EXECUTOR = "edcExecutor";
+
+    public static final String ERP_ADAPTER_DAEMON_EXECUTOR = "erpAdapterDaemonExecutor";
+
+    /**
+     * Toggles the usage of virtual threads. If enabled, every task runs in its own
+     * virtual thread and the pool sizes and queue capacity are ignored.
+     */
+    @Value("${puris.executor.virtualthreads}")
+    private boolean virtualThreads;
+
+    /**
+     * Maximum number of tasks that may wait in the queue of a single pool.
+     */
+    @Value("${puris.executor.queuecapacity}")
+    private int queueCapacity;
+
+    @Value("${puris.executor.partnerrequests.poolsize}")
+    private int partnerRequestPoolSize;
+
+    @Value("${puris.executor.dtr.poolsize}")
+    private int dtrPoolSize;
+
+    @Value("${puris.executor.parttype.poolsize}")
+    private int partTypePoolSize;
+
+    @Value("${puris.executor.notifications.poolsize}")
+    private int notificationPoolSize;
+
+    @Value("${puris.executor.erpadapter.poolsize}")
+    private int erpAdapterPoolSize;
+
+    @Value("${puris.executor.edc.poolsize}")
+    private int edcPoolSize;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * Executor for requests to partners, e.g. when refreshing reported data.
+     */
+    @Bean(name = PARTNER_REQUEST_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService partnerRequestExecutor() {
+        return createExecutor("partner-requests", partnerRequestPoolSize);
+    }
+
+    /**
+     * Executor for the registration of shells at your DTR and of partners at your control plane.
+     */
+    @Bean(name = DTR_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService dtrExecutor() {
+        return createExecutor("dtr", dtrPoolSize);
+    }
+
+    /**
+     * Executor for the retrieval of part type information from supplier partners.
+     */
+    @Bean(name = PART_TYPE_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService partTypeExecutor() {
+        return createExecutor("part-type", partTypePoolSize);
+    }
+
+    /**
+     * Executor for sending demand and capacity notifications to partners.
+     */
+    @Bean(name = NOTIFICATION_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService notificationExecutor() {
+        return createExecutor("notifications", notificationPoolSize);
+    }
+
+    /**
+     * Executor for requests to the erp adapter. Throws a RejectedExecutionException if the
+     * queue is full, so that the scheduler thread of the ErpAdapterTriggerService doesn't
+     * run the requests itself.
+     */
+    @Bean(name = ERP_ADAPTER_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService erpAdapterExecutor() {
+        return createExecutor("erp-adapter", erpAdapterPoolSize, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Executor for the steps of requests to partners that continue once a contract negotiation
+     * or transfer process in your control plane reached the awaited state.
+     */
+    @Bean(name = EDC_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService edcExecutor() {
+        return createExecutor("edc", edcPoolSize);
+    }
+
+    /**
+     * Dedicated scheduler thread of the ErpAdapterTriggerService, which fires the scheduled
+     * erp adapter requests at their due time without occupying a thread of the erp adapter pool.
+     */
+    @Bean(name = ERP_ADAPTER_DAEMON_EXECUTOR, destroyMethod = "shutdownNow")
+    public ScheduledExecutorService erpAdapterDaemonExecutor() {
+        return Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("puris-erp-adapter-daemon").daemon(true).factory());
+    }
+
+    private ExecutorService createExecutor(String name, int poolSize) {
+        return createExecutor(name, poolSize, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private ExecutorService createExecutor(String name, int poolSize, RejectedExecutionHandler rejectionPolicy) {
+        ExecutorService executor;
+        if (virtualThreads) {
+            executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("puris-" + name + "-", 0).factory());
+        } else {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("puris-" + name + "-", 0).daemon(true).factory(),
+                rejectionPolicy);
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            executor = threadPoolExecutor;
+        }
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            log.warn("No MeterRegistry available, executor {} will not be monitored", name);
+            return executor;
+        }
+        return ExecutorServiceMetrics.monitor(registry, executor, name, "puris");
+    }
+}
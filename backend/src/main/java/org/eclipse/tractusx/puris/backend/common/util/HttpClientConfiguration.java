@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides the client for all outbound HTTP calls, i.e. to your control plane, your DTR, the IdP, the ERP adapter
+ * and the data planes of your partners. Clients that need additional interceptors are derived via
+ * {@link OkHttpClient#newBuilder()}, so that they share the connection pool and its limits.
+ * <p>
+ * The pool keeps connections per target address, so calls to one partner reuse their own connections. HTTP/2 is
+ * negotiated with servers that support it via TLS, and responses are requested and decompressed as gzip
+ * transparently. If a MeterRegistry is available, the phases of every call are recorded by
+ * {@link HttpClientMetricsListener}.
+ */
+@Configuration
+public class HttpClientConfiguration {
+
+    /**
+     * Timeout for establishing a connection in milliseconds.
+     */
+    @Value("${puris.http.connecttimeout}")
+    private long connectTimeout;
+
+    /**
+     * Maximum time of inactivity while waiting for data of the response in milliseconds.
+     */
+    @Value("${puris.http.readtimeout}")
+    private long readTimeout;
+
+    /**
+     * Maximum time of inactivity while sending the request in milliseconds.
+     */
+    @Value("${puris.http.writetimeout}")
+    private long writeTimeout;
+
+    /**
+     * Upper bound for a whole call including retries and reading the response in milliseconds, 0 for no limit.
+     */
+    @Value("${puris.http.calltimeout}")
+    private long callTimeout;
+
+    @Value("${puris.http.pool.maxidleconnections}")
+    private int maxIdleConnections;
+
+    /**
+     * Time in seconds after which idle connections are closed.
+     */
+    @Value("${puris.http.pool.keepalive}")
+    private long keepAlive;
+
+    @Value("${puris.http.http2}")
+    private boolean http2;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Bean
+    public OkHttpClient httpClient() {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+            .connectTimeout(connectTimeout, TimeUnit.MILLISECONDS)
+            .readTimeout(readTimeout, TimeUnit.MILLISECONDS)
+            .writeTimeout(writeTimeout, TimeUnit.MILLISECONDS)
+            .callTimeout(callTimeout, TimeUnit.MILLISECONDS)
+            .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive, TimeUnit.SECONDS))
+            .protocols(http2 ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1));
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            builder.eventListenerFactory(call -> new HttpClientMetricsListener(registry));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latency of the phases of a single call as timers, tagged with the host of the target:
+ * <ul>
+ *     <li>puris.http.client.dns: resolving the host name</li>
+ *     <li>puris.http.client.connect: establishing the connection including the TLS handshake,
+ *     additionally tagged with the outcome</li>
+ *     <li>puris.http.client.ttfb: from the start of the call until the first response headers arrive</li>
+ *     <li>puris.http.client.call: the whole call, additionally tagged with the outcome</li>
+ * </ul>
+ * DNS and connect are only recorded if no pooled connection could be reused. A new listener is created per call.
+ */
+public class HttpClientMetricsListener extends EventListener {
+
+    public static final String METRIC_PREFIX = "puris.http.client.";
+
+    private final MeterRegistry registry;
+
+    private long callStart;
+
+    private long dnsStart;
+
+    private long connectStart;
+
+    private boolean firstByteRecorded;
+
+    public HttpClientMetricsListener(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void callStart(@NotNull Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(@NotNull Call call, @NotNull String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(@NotNull Call call, @NotNull String domainName, @NotNull List<InetAddress> inetAddressList) {
+        record("dns", call, dnsStart, null);
+    }
+
+    @Override
+    public void connectStart(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress, @NotNull Proxy proxy) {
+        connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void connectEnd(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress, @NotNull Proxy proxy,
+                           @Nullable Protocol protocol) {
+        record("connect", call, connectStart, "success");
+    }
+
+    @Override
+    public void connectFailed(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress, @NotNull Proxy proxy,
+                              @Nullable Protocol protocol, @NotNull IOException ioe) {
+        record("connect", call, connectStart, "failure");
+    }
+
+    @Override
+    public void responseHeadersStart(@NotNull Call call) {
+        // a call may receive several responses, e.g. when an interceptor retries it
+        if (!firstByteRecorded) {
+            firstByteRecorded = true;
+            record("ttfb", call, callStart, null);
+        }
+    }
+
+    @Override
+    public void callEnd(@NotNull Call call) {
+        record("call", call, callStart, "success");
+    }
+
+    @Override
+    public void callFailed(@NotNull Call call, @NotNull IOException ioe) {
+        record("call", call, callStart, "failure");
+    }
+
+    private void record(String phase, Call call, long start, String outcome) {
+        Timer.Builder timer = Timer.builder(METRIC_PREFIX + phase)
+            .tag("host", call.request().url().host());
+        if (outcome != null) {
+            timer.tag("outcome", outcome);
+        }
+        timer.register(registry).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
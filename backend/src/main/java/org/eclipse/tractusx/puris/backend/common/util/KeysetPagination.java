@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Helpers for endpoints that return their results page by page. A page is requested by a limit and, except for the
+ * first page, the uuid of the last entry of the previous page. If there may be more entries, the response carries
+ * that uuid in the {@value #NEXT_CURSOR_HEADER} header.
+ */
+public final class KeysetPagination {
+
+    /**
+     * Response header holding the value for the {@code after} parameter of the request for the next page.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * The largest page that may be requested.
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    /**
+     * Orders uuids the way the database does, i.e. by their bytes compared as unsigned values.
+     */
+    private static final Comparator<UUID> DATABASE_ORDER = Comparator
+        .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+        .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * @param limit the requested page size
+     * @return the given page size
+     * @throws ResponseStatusException with status 400, if the page size is not between 1 and {@value #MAX_LIMIT}
+     */
+    public static int checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                String.format("Limit must be between 1 and %d.", MAX_LIMIT));
+        }
+        return limit;
+    }
+
+    /**
+     * Merges pages of two sources that have been fetched with the same cursor and limit into one page.
+     *
+     * @param first  the page of the first source, ordered by uuid
+     * @param second the page of the second source, ordered by uuid
+     * @param limit  the page size
+     * @param uuidOf returns the uuid of an entry
+     * @return the first entries of both pages, ordered by uuid
+     */
+    public static <E> List<E> merge(List<? extends E> first, List<? extends E> second, int limit, Function<E, UUID> uuidOf) {
+        List<E> merged = new ArrayList<>(first.size() + second.size());
+        merged.addAll(first);
+        merged.addAll(second);
+        merged.sort(Comparator.comparing(uuidOf, DATABASE_ORDER));
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    /**
+     * @param page   the entries of the page, ordered by uuid
+     * @param limit  the page size
+     * @param uuidOf returns the uuid of an entry
+     * @param mapper converts an entry to its dto
+     * @return a response with the converted entries and, if the page is full, the cursor of the next page
+     */
+    public static <E, D> ResponseEntity<List<D>> toResponse(List<E> page, int limit, Function<E, UUID> uuidOf,
+                                                            Function<E, D> mapper) {
+        List<D> dtos = page.stream().map(mapper).toList();
+        if (page.size() < limit) {
+            return ResponseEntity.ok(dtos);
+        }
+        return ResponseEntity.ok()
+            .header(NEXT_CURSOR_HEADER, uuidOf.apply(page.get(page.size() - 1)).toString())
+            .body(dtos);
+    }
+}
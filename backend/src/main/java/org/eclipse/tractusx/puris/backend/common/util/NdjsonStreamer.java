@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes query results as newline delimited JSON (one dto per line) while they are read from the database.
+ * <p>
+ * The query is executed in a read-only transaction on the thread that writes the response body. Every entity
+ * is detached after it has been written, so that the persistence context does not grow with the result set.
+ */
+@Component
+public class NdjsonStreamer {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * @param query  opens the stream of entities to write, will be called within the transaction
+     * @param mapper converts an entity to the dto that is written
+     * @return a response streaming the converted entities as {@link MediaType#APPLICATION_NDJSON}
+     */
+    public <E, D> ResponseEntity<StreamingResponseBody> stream(Supplier<Stream<E>> query, Function<E, D> mapper) {
+        StreamingResponseBody body = outputStream -> {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<E> entities = query.get()) {
+                    entities.forEach(entity -> {
+                        writeLine(outputStream, mapper.apply(entity));
+                        entityManager.detach(entity);
+                    });
+                }
+            });
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private void writeLine(OutputStream outputStream, Object dto) {
+        try {
+            // serialize to bytes first, writing to the stream directly would close it
+            outputStream.write(objectMapper.writeValueAsBytes(dto));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
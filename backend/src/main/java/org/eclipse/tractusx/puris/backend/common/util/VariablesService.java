@@ -245,6 +245,181 @@ public class VariablesService {
      */
     private String edcDataplanePublicUrl;
 
+    @Value("${puris.edr.cache.enabled}")
+    /**
+     * Toggles the reuse of EDRs and their transfer processes for subsequent
+     * requests to the same asset of a partner. If disabled, every request
+     * starts and terminates its own transfer process.
+     */
+    private boolean edrCacheEnabled;
+
+    @Value("${puris.oauth2.token.refreshmargin}")
+    /**
+     * Period before the expiry of an OAuth2 access token (e.g. for the DTR)
+     * in which the token will be refreshed in the background (seconds).
+     */
+    private long oauth2TokenRefreshMargin;
+
+    @Value("${puris.edr.cache.refreshmargin}")
+    /**
+     * Period before the expiry of a cached EDR token in which the
+     * token will be refreshed before usage (seconds).
+     */
+    private long edrCacheRefreshMargin;
+
+    @Value("${puris.edr.cache.maxidle}")
+    /**
+     * Period after which an unused cached transfer process will be
+     * terminated (seconds).
+     */
+    private long edrCacheMaxIdle;
+
+    @Value("${puris.edc.statetracking.mininterval}")
+    /**
+     * Minimum interval between two queries for the states of pending
+     * transfer processes and negotiations (milliseconds).
+     */
+    private long edcStateTrackingMinInterval;
+
+    @Value("${puris.edc.statetracking.maxinterval}")
+    /**
+     * Maximum interval between two queries for the states of pending
+     * transfer processes and negotiations (milliseconds). The interval grows
+     * up to this value while no state changes are observed.
+     */
+    private long edcStateTrackingMaxInterval;
+
+    @Value("${puris.edc.statetracking.timeout}")
+    /**
+     * Period after which waiting for a transfer process or negotiation
+     * to reach a certain state is given up (milliseconds).
+     */
+    private long edcStateTrackingTimeout;
+
+    @Value("${puris.edc.statetracking.batchsize}")
+    /**
+     * Maximum number of transfer processes or negotiations that are
+     * queried with a single request to your control plane.
+     */
+    private int edcStateTrackingBatchSize;
+
+    @Value("${puris.edc.catalog.cache.enabled}")
+    /**
+     * Toggles the caching of partner catalogs for contract negotiations.
+     */
+    private boolean edcCatalogCacheEnabled;
+
+    @Value("${puris.edc.catalog.cache.ttl}")
+    /**
+     * Period for which a partner catalog is reused for contract
+     * negotiations (seconds).
+     */
+    private long edcCatalogCacheTtl;
+
+    @Value("${puris.dtr.descriptor.cache.enabled}")
+    /**
+     * Toggles the caching of submodel descriptors found in partner DTRs.
+     */
+    private boolean dtrDescriptorCacheEnabled;
+
+    @Value("${puris.dtr.descriptor.cache.ttl}")
+    /**
+     * Period for which a submodel descriptor found in a partner DTR is
+     * reused for submodel requests (seconds).
+     */
+    private long dtrDescriptorCacheTtl;
+
+    @Value("${puris.dtr.sync.debounce}")
+    /**
+     * Period without further changes after which a pending update of a shell
+     * is sent to your DTR (milliseconds).
+     */
+    private long dtrSyncDebounce;
+
+    @Value("${puris.dtr.sync.maxdelay}")
+    /**
+     * Maximum period for which a pending update of a shell is postponed by
+     * further changes (milliseconds).
+     */
+    private long dtrSyncMaxDelay;
+
+    @Value("${puris.dtr.sync.maxparallel}")
+    /**
+     * Maximum number of shell updates that are sent to your DTR concurrently.
+     */
+    private int dtrSyncMaxParallel;
+
+    @Value("${puris.dtr.sync.retries}")
+    /**
+     * Number of times a failed shell update is retried.
+     */
+    private int dtrSyncRetries;
+
+    @Value("${puris.edc.callback.enabled}")
+    /**
+     * Toggles the registration of this application's callback endpoint
+     * for transfer process and negotiation events at your control plane.
+     */
+    private boolean edcCallbackEnabled;
+
+    @Value("${puris.edc.callback.authcodeid}")
+    /**
+     * The alias of the secret in your control plane's vault that holds this
+     * application's api key. Used by the control plane to authenticate its
+     * callbacks.
+     */
+    private String edcCallbackAuthCodeId;
+
+    /**
+     * The url under which this application's callback endpoint for
+     * events of your control plane can be reached.
+     */
+    public String getEdcCallbackEndpoint() {
+        return getPurisBaseUrl() + getContextPath() + "edc/callback";
+    }
+
+    @Value("${puris.refresh.maxrequestsperpartner}")
+    /**
+     * Maximum number of concurrent requests to a single partner
+     * while refreshing the data of all materials.
+     */
+    private int refreshMaxRequestsPerPartner;
+
+    @Value("${puris.edc.partner.maxconcurrentrequests}")
+    /**
+     * Maximum number of concurrent requests to the connector, DTR
+     * and data plane of a single partner.
+     */
+    private int edcPartnerMaxConcurrentRequests;
+
+    @Value("${puris.edc.partner.maxwait}")
+    /**
+     * Maximum period that a request to a partner waits for a free
+     * slot before it fails (milliseconds).
+     */
+    private long edcPartnerMaxWait;
+
+    @Value("${puris.edc.partner.circuitbreaker.failurethreshold}")
+    /**
+     * Number of consecutive failed requests to a partner after
+     * which further requests fail fast.
+     */
+    private int edcPartnerCircuitBreakerFailureThreshold;
+
+    @Value("${puris.edc.partner.circuitbreaker.opentime}")
+    /**
+     * Period in which requests to a failing partner fail fast
+     * before a probe request is let through (seconds).
+     */
+    private long edcPartnerCircuitBreakerOpenTime;
+
+    @Value("${puris.parttype.timeout}")
+    /**
+     * Maximum period to wait for the retrieval of a partner's CatenaX-Id
+     * from its PartTypeInformation submodel (milliseconds).
+     */
+    private long partTypeTimeout;
+
     @Value("${own.bpnl}")
     /**
      * The BPNL that was assigned to you.
@@ -27,9 +27,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.util.ExecutorConfiguration;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetPagination;
+import org.eclipse.tractusx.puris.backend.common.util.NdjsonStreamer;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
+import org.eclipse.tractusx.puris.backend.delivery.domain.model.Delivery;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.OwnDelivery;
-import org.eclipse.tractusx.puris.backend.delivery.domain.model.ReportedDelivery;
+import org.eclipse.tractusx.puris.backend.delivery.logic.adapter.DeliveryDtoMapper;
 import org.eclipse.tractusx.puris.backend.delivery.logic.dto.DeliveryDto;
 import org.eclipse.tractusx.puris.backend.delivery.logic.service.DeliveryRequestApiService;
 import org.eclipse.tractusx.puris.backend.delivery.logic.service.OwnDeliveryService;
@@ -42,11 +46,14 @@ import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialServi
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.management.openmbean.KeyAlreadyExistsException;
 import java.util.Base64;
@@ -59,6 +66,7 @@ import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("delivery")
@@ -88,26 +96,56 @@ public class DeliveryController {
     @Autowired
     private Validator validator;
 
+    @Autowired
+    private NdjsonStreamer ndjsonStreamer;
+
     private final Pattern materialPattern = PatternStore.NON_EMPTY_NON_VERTICAL_WHITESPACE_PATTERN;
 
     @Autowired
+    @Qualifier(ExecutorConfiguration.PARTNER_REQUEST_EXECUTOR)
     private ExecutorService executorService;
 
     @GetMapping()
     @ResponseBody
     @Operation(summary = "Get all planned deliveries for the given Material",
-        description = "Get all planned deliveries for the given material number. Optionally a bpns and partner bpnl can be provided to filter the deliveries further.")
-    public List<DeliveryDto> getAllDeliveries(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> bpns, Optional<String> bpnl) {
+        description = "Get all planned deliveries for the given material number. Optionally a bpns and partner bpnl can be provided to filter the deliveries further. If a limit is given, at most that many entries ordered by uuid are returned and the header X-Next-Cursor holds the value of `after` for the next page.")
+    public ResponseEntity<List<DeliveryDto>> getAllDeliveries(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> bpns, Optional<String> bpnl,
+            @Parameter(description = "uuid of the last entry of the previous page") Optional<UUID> after,
+            @Parameter(description = "maximum number of entries to return, all entries if omitted") Optional<Integer> limit) {
         ownMaterialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
         Material material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
         if (material == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Material does not exist.");
         }
-        var reportedDeliveries = reportedDeliveryService.findAllByFilters(Optional.of(ownMaterialNumber), bpns, bpnl, Optional.empty(), Optional.empty())
-            .stream().map(this::convertToDto).collect(Collectors.toList());
-        var ownDeliveries = ownDeliveryService.findAllByFilters(Optional.of(ownMaterialNumber), bpns, bpnl, Optional.empty(), Optional.empty())
-            .stream().map(this::convertToDto).collect(Collectors.toList());
-        return List.of(reportedDeliveries, ownDeliveries).stream().flatMap(List::stream).toList();
+        if (limit.isEmpty()) {
+            var reportedDeliveries = reportedDeliveryService.findAllByFilters(Optional.of(ownMaterialNumber), bpns, bpnl, Optional.empty(), Optional.empty())
+                .stream().map(DeliveryDtoMapper::toDto).collect(Collectors.toList());
+            var ownDeliveries = ownDeliveryService.findAllByFilters(Optional.of(ownMaterialNumber), bpns, bpnl, Optional.empty(), Optional.empty())
+                .stream().map(DeliveryDtoMapper::toDto).collect(Collectors.toList());
+            return ResponseEntity.ok(List.of(reportedDeliveries, ownDeliveries).stream().flatMap(List::stream).toList());
+        }
+        int pageSize = KeysetPagination.checkLimit(limit.get());
+        // both kinds share the order by uuid, so the next page is made of the first entries of both next pages
+        List<Delivery> page = KeysetPagination.merge(
+            reportedDeliveryService.findPageByFilters(Optional.of(ownMaterialNumber), bpns, bpnl, after, pageSize),
+            ownDeliveryService.findPageByFilters(Optional.of(ownMaterialNumber), bpns, bpnl, after, pageSize),
+            pageSize, Delivery::getUuid);
+        return KeysetPagination.toResponse(page, pageSize, Delivery::getUuid, DeliveryDtoMapper::toDto);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all planned deliveries for the given Material",
+        description = "Get all planned deliveries for the given material number. Optionally a bpns and partner bpnl can be provided to filter the deliveries further. The entries are streamed as newline delimited JSON while they are read.")
+    public ResponseEntity<StreamingResponseBody> streamAllDeliveries(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> bpns, Optional<String> bpnl) {
+        String materialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
+        if (materialService.findByOwnMaterialNumber(materialNumber) == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Material does not exist.");
+        }
+        return ndjsonStreamer.stream(
+            () -> Stream.<Delivery>concat(
+                reportedDeliveryService.streamAllByFilters(Optional.of(materialNumber), bpns, bpnl),
+                ownDeliveryService.streamAllByFilters(Optional.of(materialNumber), bpns, bpnl)),
+            DeliveryDtoMapper::toDto);
     }
 
     @PostMapping()
@@ -141,7 +179,7 @@ public class DeliveryController {
         }
 
         try {
-            var dto = convertToDto(ownDeliveryService.create(convertToEntity(deliveryDto)));
+            var dto = DeliveryDtoMapper.toDto(ownDeliveryService.create(convertToEntity(deliveryDto)));
             materialService.updateTimestamp(deliveryDto.getOwnMaterialNumber());
             return dto;
         } catch (KeyAlreadyExistsException e) {
@@ -171,7 +209,7 @@ public class DeliveryController {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Delivery does not exist.");
         }
         materialService.updateTimestamp(dto.getOwnMaterialNumber());
-        return convertToDto(updatedDelivery);
+        return DeliveryDtoMapper.toDto(updatedDelivery);
     }
 
     @DeleteMapping("{id}")
@@ -242,20 +280,4 @@ public class DeliveryController {
         entity.setPartner(existingPartner);
         return entity;
     }
-
-    private DeliveryDto convertToDto(OwnDelivery entity) {
-        DeliveryDto dto = modelMapper.map(entity, DeliveryDto.class);
-        dto.setOwnMaterialNumber(entity.getMaterial().getOwnMaterialNumber());
-        dto.setPartnerBpnl(entity.getPartner().getBpnl());
-        dto.setReported(false);
-        return dto;
-    }
-
-    private DeliveryDto convertToDto(ReportedDelivery entity) {
-        DeliveryDto dto = modelMapper.map(entity, DeliveryDto.class);
-        dto.setOwnMaterialNumber(entity.getMaterial().getOwnMaterialNumber());
-        dto.setPartnerBpnl(entity.getPartner().getBpnl());
-        dto.setReported(true);
-        return dto;
-    }
 }
@@ -25,12 +25,15 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.eclipse.tractusx.puris.backend.common.domain.model.MaterialDataChangeListener;
 import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -41,6 +44,7 @@ import java.util.UUID;
 @SuperBuilder
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
 @Entity
+@EntityListeners(MaterialDataChangeListener.class)
 @ToString
 public abstract class Delivery {
     @Id
@@ -99,6 +103,24 @@ public abstract class Delivery {
         return material.getOwnMaterialNumber();
     }
 
+    /**
+     * Provides the values that are compared by {@link #equals(Object)}. In contrast to {@link #hashCode()},
+     * the key can be used to find equal deliveries in hash based collections.
+     *
+     * Dates are compared by their point in time, so that keys of loaded entities match keys of new ones.
+     *
+     * @return the business key
+     */
+    public List<Object> businessKey() {
+        return Arrays.asList(getClass(),
+            material == null ? null : material.getOwnMaterialNumber(),
+            partner == null ? null : partner.getUuid(),
+            trackingNumber, incoterm, destinationBpns, destinationBpna, originBpns, originBpna,
+            dateOfDeparture == null ? null : dateOfDeparture.getTime(),
+            dateOfArrival == null ? null : dateOfArrival.getTime(), departureType, arrivalType,
+            customerOrderNumber, customerOrderPositionNumber, supplierOrderNumber);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
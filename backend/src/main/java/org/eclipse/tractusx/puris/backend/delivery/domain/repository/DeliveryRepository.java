@@ -20,11 +20,123 @@
 
 package org.eclipse.tractusx.puris.backend.delivery.domain.repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
+import org.eclipse.tractusx.puris.backend.common.domain.repository.DatedQuantity;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.Delivery;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface DeliveryRepository<T extends Delivery> extends JpaRepository<T, UUID> {
-    
+public interface DeliveryRepository<T extends Delivery> extends JpaRepository<T, UUID>, JpaSpecificationExecutor<T> {
+
+    List<T> findAllByPartner_Bpnl(String bpnl);
+
+    List<T> findAllByPartner_Uuid(UUID partnerUuid);
+
+    List<T> findAllByMaterial_OwnMaterialNumber(String ownMaterialNumber);
+
+    List<T> findAllByMaterial_OwnMaterialNumberAndPartner_Uuid(String ownMaterialNumber, UUID partnerUuid);
+
+    List<T> findAllByMaterial_OwnMaterialNumberInAndPartner_UuidIn(Collection<String> ownMaterialNumbers, Collection<UUID> partnerUuids);
+
+    /**
+     * @return the ids of all deliveries, without loading the entities
+     */
+    @Query("select e.uuid from #{#entityName} e")
+    List<UUID> findAllUuids();
+
+    /**
+     * @param uuids the ids of the deliveries
+     * @return the own material numbers of the materials of the given deliveries
+     */
+    @Query("select distinct e.material.ownMaterialNumber from #{#entityName} e where e.uuid in :uuids")
+    List<String> findOwnMaterialNumbersByUuidIn(@Param("uuids") Collection<UUID> uuids);
+
+    /**
+     * Deletes all deliveries of the given partner and material by a single statement. The statement bypasses
+     * the entity listeners.
+     *
+     * @param partner  the partner
+     * @param material the material
+     * @return the number of deleted deliveries
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from #{#entityName} e where e.partner = :partner and e.material = :material")
+    int deleteAllByPartnerAndMaterialInBulk(@Param("partner") Partner partner, @Param("material") Material material);
+
+    /**
+     * Replaces all deliveries of the given partner and material by the given deliveries within one transaction. The
+     * old deliveries are deleted by a single statement and the new ones are inserted in JDBC batches.
+     *
+     * @param partner  the partner
+     * @param material the material
+     * @param deliveries the new deliveries
+     * @return the saved deliveries
+     */
+    @Transactional
+    default List<T> replaceAllForPartnerAndMaterial(Partner partner, Material material, List<T> deliveries) {
+        deleteAllByPartnerAndMaterialInBulk(partner, material);
+        return saveAll(deliveries);
+    }
+
+    /**
+     * Sums up the quantities of the deliveries for the given material arriving at one of the given
+     * sites per date of arrival within [from, to).
+     *
+     * @param ownMaterialNumber the own material number of the material
+     * @param partnerBpnl       the bpnl of the partner or null for all partners
+     * @param siteBpns          the bpns of either the origin or the destination or null for all sites
+     * @param destinationBpns   the bpns of the sites the deliveries have to arrive at
+     * @param from              inclusive lower bound of the date of arrival
+     * @param to                exclusive upper bound of the date of arrival
+     * @return the summed up quantities per date of arrival
+     */
+    @Query("select d.dateOfArrival as date, sum(d.quantity) as quantity from #{#entityName} d " +
+        "where d.material.ownMaterialNumber = :ownMaterialNumber " +
+        "and (:partnerBpnl is null or d.partner.bpnl = :partnerBpnl) " +
+        "and (:siteBpns is null or d.destinationBpns = :siteBpns or d.originBpns = :siteBpns) " +
+        "and d.destinationBpns in :destinationBpns " +
+        "and d.dateOfArrival >= :from and d.dateOfArrival < :to " +
+        "group by d.dateOfArrival")
+    List<DatedQuantity> sumInboundQuantitiesByDay(@Param("ownMaterialNumber") String ownMaterialNumber,
+                                                  @Param("partnerBpnl") String partnerBpnl,
+                                                  @Param("siteBpns") String siteBpns,
+                                                  @Param("destinationBpns") Collection<String> destinationBpns,
+                                                  @Param("from") Date from,
+                                                  @Param("to") Date to);
+
+    /**
+     * Sums up the quantities of the deliveries for the given material departing from one of the given
+     * sites per date of departure within [from, to).
+     *
+     * @param ownMaterialNumber the own material number of the material
+     * @param partnerBpnl       the bpnl of the partner or null for all partners
+     * @param siteBpns          the bpns of either the origin or the destination or null for all sites
+     * @param originBpns        the bpns of the sites the deliveries have to depart from
+     * @param from              inclusive lower bound of the date of departure
+     * @param to                exclusive upper bound of the date of departure
+     * @return the summed up quantities per date of departure
+     */
+    @Query("select d.dateOfDeparture as date, sum(d.quantity) as quantity from #{#entityName} d " +
+        "where d.material.ownMaterialNumber = :ownMaterialNumber " +
+        "and (:partnerBpnl is null or d.partner.bpnl = :partnerBpnl) " +
+        "and (:siteBpns is null or d.destinationBpns = :siteBpns or d.originBpns = :siteBpns) " +
+        "and d.originBpns in :originBpns " +
+        "and d.dateOfDeparture >= :from and d.dateOfDeparture < :to " +
+        "group by d.dateOfDeparture")
+    List<DatedQuantity> sumOutboundQuantitiesByDay(@Param("ownMaterialNumber") String ownMaterialNumber,
+                                                   @Param("partnerBpnl") String partnerBpnl,
+                                                   @Param("siteBpns") String siteBpns,
+                                                   @Param("originBpns") Collection<String> originBpns,
+                                                   @Param("from") Date from,
+                                                   @Param("to") Date to);
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.delivery.logic.adapter;
+
+import org.eclipse.tractusx.puris.backend.delivery.domain.model.Delivery;
+import org.eclipse.tractusx.puris.backend.delivery.domain.model.ReportedDelivery;
+import org.eclipse.tractusx.puris.backend.delivery.logic.dto.DeliveryDto;
+
+/**
+ * Explicit mapping of deliveries to the dtos of the delivery endpoints.
+ */
+public final class DeliveryDtoMapper {
+
+    private DeliveryDtoMapper() {
+    }
+
+    /**
+     * @param entity the own or reported delivery
+     * @return the dto, marked as reported if the entity is a {@link ReportedDelivery}
+     */
+    public static DeliveryDto toDto(Delivery entity) {
+        DeliveryDto dto = new DeliveryDto();
+        dto.setUuid(entity.getUuid());
+        dto.setPartnerBpnl(entity.getPartner().getBpnl());
+        dto.setOwnMaterialNumber(entity.getMaterial().getOwnMaterialNumber());
+        dto.setQuantity(entity.getQuantity());
+        dto.setMeasurementUnit(entity.getMeasurementUnit());
+        dto.setTrackingNumber(entity.getTrackingNumber());
+        dto.setIncoterm(entity.getIncoterm());
+        dto.setSupplierOrderNumber(entity.getSupplierOrderNumber());
+        dto.setCustomerOrderNumber(entity.getCustomerOrderNumber());
+        dto.setCustomerOrderPositionNumber(entity.getCustomerOrderPositionNumber());
+        dto.setDestinationBpns(entity.getDestinationBpns());
+        dto.setDestinationBpna(entity.getDestinationBpna());
+        dto.setOriginBpns(entity.getOriginBpns());
+        dto.setOriginBpna(entity.getOriginBpna());
+        dto.setDateOfDeparture(entity.getDateOfDeparture());
+        dto.setDateOfArrival(entity.getDateOfArrival());
+        dto.setDepartureType(entity.getDepartureType());
+        dto.setArrivalType(entity.getArrivalType());
+        dto.setLastUpdatedOnDateTime(entity.getLastUpdatedOnDateTime());
+        dto.setReported(entity instanceof ReportedDelivery);
+        return dto;
+    }
+}
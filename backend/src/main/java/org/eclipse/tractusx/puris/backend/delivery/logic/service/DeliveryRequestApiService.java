@@ -185,14 +185,8 @@ public class DeliveryRequestApiService {
                 return new RefreshResult("Validation failed for reported deliveries", errors);
             }
    
-            // delete older data:
-            var oldDeliveries = reportedDeliveryService.findAllByFilters(Optional.of(material.getOwnMaterialNumber()), Optional.empty(), Optional.of(partner.getBpnl()), Optional.empty(), Optional.empty());
-            for (var oldDelivery : oldDeliveries) {
-                reportedDeliveryService.delete(oldDelivery.getUuid());
-            }
-            for (var newDelivery : deliveries) {
-                reportedDeliveryService.create(newDelivery);
-            }
+            // replace older data:
+            reportedDeliveryService.replaceAll(partner, material, deliveries);
             log.info("Successfully updated ReportedDelivery for {} and partner {}", 
                         material.getOwnMaterialNumber(), partner.getBpnl());
             materialService.updateTimestamp(material.getOwnMaterialNumber());
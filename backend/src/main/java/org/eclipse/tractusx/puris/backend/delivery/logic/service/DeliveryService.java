@@ -20,27 +20,33 @@
 
 package org.eclipse.tractusx.puris.backend.delivery.logic.service;
 
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import org.eclipse.tractusx.puris.backend.common.domain.model.MaterialDataChangedEvent;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.DatedQuantity;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.FilterSpecifications;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.KeysetQueries;
+import org.eclipse.tractusx.puris.backend.common.util.DailyQuantityWindow;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.Delivery;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.EventTypeEnumeration;
 import org.eclipse.tractusx.puris.backend.delivery.domain.repository.DeliveryRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.eclipse.tractusx.puris.backend.stock.logic.dto.itemstocksamm.DirectionCharacteristic;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 
 public abstract class DeliveryService<T extends Delivery> {
     @Autowired
@@ -49,12 +55,19 @@ public abstract class DeliveryService<T extends Delivery> {
     @Autowired
     private PartnerService partnerService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private Partner ownPartnerEntity;
     
     public final List<T> findAll() {
         return repository.findAll();
     }
 
+    public final List<UUID> findAllUuids() {
+        return repository.findAllUuids();
+    }
+
     public final T findById(UUID id) {
         return repository.findById(id).orElse(null);
     }
@@ -65,41 +78,109 @@ public abstract class DeliveryService<T extends Delivery> {
         Optional<String> bpnl,
         Optional<Date> day,
         Optional<DirectionCharacteristic> direction) {
-        Stream<T> stream = repository.findAll().stream();
-        if (ownMaterialNumber.isPresent()) {
-            stream = stream.filter(delivery -> delivery.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber.get()));
-        }
+        Specification<T> filter = filtersOf(ownMaterialNumber, bpns, bpnl, day, direction);
+        return filter == null ? List.of() : repository.findAll(filter);
+    }
+
+    /**
+     * @param after the uuid of the last delivery of the previous page, empty for the first page
+     * @param limit the maximum number of deliveries to return
+     * @return the next deliveries matching the filters, ordered by their uuid
+     * @see #findAllByFilters(Optional, Optional, Optional, Optional, Optional)
+     */
+    public final List<T> findPageByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpns,
+        Optional<String> bpnl,
+        Optional<UUID> after,
+        int limit) {
+        return KeysetQueries.findPage(repository,
+            filtersOf(ownMaterialNumber, bpns, bpnl, Optional.empty(), Optional.empty()), after, limit);
+    }
+
+    /**
+     * The stream must be consumed within a transaction and closed afterwards.
+     *
+     * @return all deliveries matching the filters, ordered by their uuid
+     * @see #findAllByFilters(Optional, Optional, Optional, Optional, Optional)
+     */
+    public final Stream<T> streamAllByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpns,
+        Optional<String> bpnl) {
+        return KeysetQueries.stream(repository,
+            filtersOf(ownMaterialNumber, bpns, bpnl, Optional.empty(), Optional.empty()));
+    }
+
+    /**
+     * @return the combined filters or null, if no delivery can match them
+     */
+    private Specification<T> filtersOf(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpns,
+        Optional<String> bpnl,
+        Optional<Date> day,
+        Optional<DirectionCharacteristic> direction) {
+        List<Specification<T>> filters = new ArrayList<>();
+        filters.add(FilterSpecifications.fetchesMaterialAndPartner());
+        ownMaterialNumber.ifPresent(number -> filters.add(FilterSpecifications.hasOwnMaterialNumber(number)));
         if (direction.isPresent()) {
             if (ownPartnerEntity == null) {
                 ownPartnerEntity = partnerService.getOwnPartnerEntity();
             }
-            if (direction.get() == DirectionCharacteristic.INBOUND) {
-                stream = stream.filter(delivery -> ownPartnerEntity.getSites().stream().anyMatch(site -> delivery.getDestinationBpns().equals(site.getBpns())));
-            } else {
-                stream = stream.filter(delivery -> ownPartnerEntity.getSites().stream().anyMatch(site -> delivery.getOriginBpns().equals(site.getBpns())));
+            List<String> ownSites = ownPartnerEntity.getSites().stream().map(Site::getBpns).toList();
+            if (ownSites.isEmpty()) {
+                return null;
+            }
+            String siteAttribute = direction.get() == DirectionCharacteristic.INBOUND ? "destinationBpns" : "originBpns";
+            filters.add(FilterSpecifications.hasAttributeIn(siteAttribute, ownSites));
+        }
+        bpns.ifPresent(siteBpns -> filters.add(Specification.anyOf(
+            FilterSpecifications.hasAttribute("destinationBpns", siteBpns),
+            FilterSpecifications.hasAttribute("originBpns", siteBpns))));
+        bpnl.ifPresent(partnerBpnl -> filters.add(FilterSpecifications.hasPartnerBpnl(partnerBpnl)));
+        if (day.isPresent()) {
+            String dateAttribute = direction.get() == DirectionCharacteristic.INBOUND ? "dateOfArrival" : "dateOfDeparture";
+            filters.add(FilterSpecifications.isOnDay(dateAttribute, day.get()));
+        }
+        return Specification.allOf(filters);
+    }
+
+    /**
+     * Checks whether a delivery equal to the given one has already been stored.
+     *
+     * @param delivery the delivery to look for
+     * @return true, if an equal delivery exists
+     */
+    protected final boolean exists(T delivery) {
+        return anyExists(List.of(delivery));
+    }
+
+    /**
+     * Checks whether a delivery equal to one of the given ones has already been stored. The stored deliveries
+     * for the materials and partners of the given ones are loaded by a single query and compared by their
+     * business key.
+     *
+     * @param deliveries the deliveries to look for
+     * @return true, if an equal delivery exists for at least one of them
+     */
+    protected final boolean anyExists(List<T> deliveries) {
+        Set<String> ownMaterialNumbers = new HashSet<>();
+        Set<UUID> partnerUuids = new HashSet<>();
+        for (T delivery : deliveries) {
+            if (delivery.getMaterial() != null && delivery.getPartner() != null) {
+                ownMaterialNumbers.add(delivery.getMaterial().getOwnMaterialNumber());
+                partnerUuids.add(delivery.getPartner().getUuid());
             }
         }
-        if (bpns.isPresent()) {
-            stream = stream.filter(delivery -> delivery.getDestinationBpns().equals(bpns.get()) || delivery.getOriginBpns().equals(bpns.get()));
+        if (ownMaterialNumbers.isEmpty()) {
+            return false;
         }
-        if (bpnl.isPresent()) {
-            stream = stream.filter(delivery -> delivery.getPartner().getBpnl().equals(bpnl.get()));
+        Set<List<Object>> existingKeys = new HashSet<>();
+        for (T existing : repository.findAllByMaterial_OwnMaterialNumberInAndPartner_UuidIn(ownMaterialNumbers, partnerUuids)) {
+            existingKeys.add(existing.businessKey());
         }
-        if (day.isPresent()) {
-            LocalDate localDayDate = Instant.ofEpochMilli(day.get().getTime())
-                .atOffset(ZoneOffset.UTC)
-                .toLocalDate();
-            stream = stream.filter(delivery -> {
-                long time = direction.get() == DirectionCharacteristic.INBOUND
-                    ? delivery.getDateOfArrival().getTime()
-                    : delivery.getDateOfDeparture().getTime();
-                LocalDate deliveryDayDate = Instant.ofEpochMilli(time)
-                    .atOffset(ZoneOffset.UTC)
-                    .toLocalDate();
-                return deliveryDayDate.getDayOfMonth() == localDayDate.getDayOfMonth();
-            });
-        }
-        return stream.toList();
+        return deliveries.stream().anyMatch(delivery -> existingKeys.contains(delivery.businessKey()));
     }
 
     public final double getSumOfQuantities(List<T> deliveries) {
@@ -110,18 +191,30 @@ public abstract class DeliveryService<T extends Delivery> {
         return sum;
     }
 
+    /**
+     * Sums up the quantities of the deliveries per day, starting today. The quantities are summed up
+     * by a single aggregate query.
+     *
+     * @param material     the own material number
+     * @param partnerBpnl  the partner to filter for, if present
+     * @param siteBpns     the site (origin or destination) to filter for, if present
+     * @param direction    INBOUND to sum up arrivals at own sites, OUTBOUND to sum up departures from own sites
+     * @param numberOfDays the number of days
+     * @return the summed up quantities for each day
+     */
     public final List<Double> getQuantityForDays(String material, Optional<String> partnerBpnl, Optional<String> siteBpns, DirectionCharacteristic direction, int numberOfDays) {
-        List<Double> deliveryQtys = new ArrayList<>();
-        LocalDate localDate = LocalDate.now();
-
-        for (int i = 0; i < numberOfDays; i++) {
-            Date date = Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
-            List<T> deliveries = findAllByFilters(Optional.of(material), siteBpns, partnerBpnl, Optional.of(date), Optional.of(direction));
-            deliveryQtys.add(getSumOfQuantities(deliveries));
-
-            localDate = localDate.plusDays(1);
+        DailyQuantityWindow window = DailyQuantityWindow.startingToday(numberOfDays);
+        if (ownPartnerEntity == null) {
+            ownPartnerEntity = partnerService.getOwnPartnerEntity();
         }
-        return deliveryQtys;
+        List<String> ownSites = ownPartnerEntity.getSites().stream().map(Site::getBpns).toList();
+        if (ownSites.isEmpty()) {
+            return window.empty();
+        }
+        List<DatedQuantity> quantities = direction == DirectionCharacteristic.INBOUND
+            ? repository.sumInboundQuantitiesByDay(material, partnerBpnl.orElse(null), siteBpns.orElse(null), ownSites, window.getStart(), window.getEnd())
+            : repository.sumOutboundQuantitiesByDay(material, partnerBpnl.orElse(null), siteBpns.orElse(null), ownSites, window.getStart(), window.getEnd());
+        return window.sum(quantities);
     }
 
     public final T update(T delivery) {
@@ -135,6 +228,38 @@ public abstract class DeliveryService<T extends Delivery> {
         repository.deleteById(id);
     }
 
+    /**
+     * Deletes the given deliveries by a single statement. As the statement bypasses the entity listeners,
+     * the change of the affected materials is published explicitly.
+     *
+     * @param uuids the ids of the deliveries
+     */
+    public final void deleteAll(List<UUID> uuids) {
+        if (uuids.isEmpty()) {
+            return;
+        }
+        List<String> ownMaterialNumbers = repository.findOwnMaterialNumbersByUuidIn(uuids);
+        repository.deleteAllByIdInBatch(uuids);
+        ownMaterialNumbers.forEach(ownMaterialNumber ->
+            eventPublisher.publishEvent(new MaterialDataChangedEvent(ownMaterialNumber)));
+    }
+
+    /**
+     * Replaces all deliveries of the given partner and material by the given ones within one transaction. The
+     * old deliveries are deleted by a single statement and the new ones are inserted in JDBC batches. The
+     * deliveries must have been validated before.
+     *
+     * @param partner  the partner
+     * @param material the material
+     * @param deliveries the new deliveries
+     * @return the saved deliveries
+     */
+    public final List<T> replaceAll(Partner partner, Material material, List<T> deliveries) {
+        List<T> saved = repository.replaceAllForPartnerAndMaterial(partner, material, deliveries);
+        eventPublisher.publishEvent(new MaterialDataChangedEvent(material.getOwnMaterialNumber()));
+        return saved;
+    }
+
     protected List<String> basicValidation(Delivery delivery) {
         List<String> errors = new ArrayList<>();
 
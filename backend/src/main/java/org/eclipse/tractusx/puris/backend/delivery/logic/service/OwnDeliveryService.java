@@ -46,13 +46,11 @@ public class OwnDeliveryService extends DeliveryService<OwnDelivery> {
     }
 
     public final List<OwnDelivery> findAllByBpnl(String bpnl) {
-        return repository.findAll().stream().filter(delivery -> delivery.getPartner().getBpnl().equals(bpnl))
-                .toList();
+        return repository.findAllByPartner_Bpnl(bpnl);
     }
 
     public final List<OwnDelivery> findAllByOwnMaterialNumber(String ownMaterialNumber) {
-        return repository.findAll().stream().filter(delivery -> delivery.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber))
-                .toList();
+        return repository.findAllByMaterial_OwnMaterialNumber(ownMaterialNumber);
     }
 
     public final OwnDelivery create(OwnDelivery delivery) {
@@ -69,8 +67,7 @@ public class OwnDeliveryService extends DeliveryService<OwnDelivery> {
         if (deliveries.stream().anyMatch(delivery -> !validator.apply(delivery))) {
             throw new IllegalArgumentException("Invalid delivery");
         }
-        if (repository.findAll().stream()
-                .anyMatch(existing -> deliveries.stream().anyMatch(delivery -> delivery.equals(existing)))) {
+        if (anyExists(deliveries)) {
             throw new KeyAlreadyExistsException("delivery already exists");
         }
         return repository.saveAll(deliveries);
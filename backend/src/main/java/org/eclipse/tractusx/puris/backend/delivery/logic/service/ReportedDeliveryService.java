@@ -46,8 +46,7 @@ public class ReportedDeliveryService extends DeliveryService<ReportedDelivery> {
     }
 
     public final List<ReportedDelivery> findAllByReportedId(UUID reportedId) {
-        return repository.findAll().stream().filter(delivery -> delivery.getPartner().getUuid().equals(reportedId))
-            .toList();
+        return repository.findAllByPartner_Uuid(reportedId);
     }
 
     public final ReportedDelivery create(ReportedDelivery delivery) {
@@ -64,8 +63,7 @@ public class ReportedDeliveryService extends DeliveryService<ReportedDelivery> {
         if (deliveries.stream().anyMatch(delivery -> !validator.apply(delivery))) {
             return null;
         }
-        if (repository.findAll().stream()
-                .anyMatch(existing -> deliveries.stream().anyMatch(delivery -> delivery.equals(existing)))) {
+        if (anyExists(deliveries)) {
             return null;
         }
         return repository.saveAll(deliveries);
@@ -25,9 +25,13 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Validator;
+import org.eclipse.tractusx.puris.backend.common.util.ExecutorConfiguration;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetPagination;
+import org.eclipse.tractusx.puris.backend.common.util.NdjsonStreamer;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.demand.domain.model.OwnDemand;
 import org.eclipse.tractusx.puris.backend.demand.domain.model.ReportedDemand;
+import org.eclipse.tractusx.puris.backend.demand.logic.adapter.DemandDtoMapper;
 import org.eclipse.tractusx.puris.backend.demand.logic.dto.DemandDto;
 import org.eclipse.tractusx.puris.backend.demand.logic.services.DemandRequestApiService;
 import org.eclipse.tractusx.puris.backend.demand.logic.services.OwnDemandService;
@@ -40,16 +44,20 @@ import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialServi
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.management.openmbean.KeyAlreadyExistsException;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
@@ -83,18 +91,38 @@ public class DemandController {
     @Autowired
     private Validator validator;
 
+    @Autowired
+    private NdjsonStreamer ndjsonStreamer;
+
     private final Pattern materialPattern = PatternStore.NON_EMPTY_NON_VERTICAL_WHITESPACE_PATTERN;
 
     @Autowired
+    @Qualifier(ExecutorConfiguration.PARTNER_REQUEST_EXECUTOR)
     private ExecutorService executorService;
 
     @GetMapping()
     @ResponseBody
-    @Operation(summary = "Get all own demands for the given Material", description = "Get all own demands for the given material number. Optionally the demanding site can be filtered by its bpns.")
-    public List<DemandDto> getAllDemands(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> site) {
+    @Operation(summary = "Get all own demands for the given Material", description = "Get all own demands for the given material number. Optionally the demanding site can be filtered by its bpns. If a limit is given, at most that many entries ordered by uuid are returned and the header X-Next-Cursor holds the value of `after` for the next page.")
+    public ResponseEntity<List<DemandDto>> getAllDemands(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> site,
+            @Parameter(description = "uuid of the last entry of the previous page") Optional<UUID> after,
+            @Parameter(description = "maximum number of entries to return, all entries if omitted") Optional<Integer> limit) {
         ownMaterialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
-        return ownDemandService.findAllByFilters(Optional.of(ownMaterialNumber), Optional.empty(), site)
-                .stream().map(this::convertToDto).collect(Collectors.toList());
+        if (limit.isEmpty()) {
+            return ResponseEntity.ok(ownDemandService.findAllByFilters(Optional.of(ownMaterialNumber), Optional.empty(), site)
+                .stream().map(DemandDtoMapper::toDto).collect(Collectors.toList()));
+        }
+        int pageSize = KeysetPagination.checkLimit(limit.get());
+        return KeysetPagination.toResponse(
+            ownDemandService.findPageByFilters(Optional.of(ownMaterialNumber), Optional.empty(), site, after, pageSize),
+            pageSize, OwnDemand::getUuid, DemandDtoMapper::toDto);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all own demands for the given Material", description = "Get all own demands for the given material number. Optionally the demanding site can be filtered by its bpns. The entries are streamed as newline delimited JSON while they are read.")
+    public ResponseEntity<StreamingResponseBody> streamAllDemands(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> site) {
+        String materialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
+        return ndjsonStreamer.stream(
+            () -> ownDemandService.streamAllByFilters(Optional.of(materialNumber), Optional.empty(), site), DemandDtoMapper::toDto);
     }
 
     @PostMapping()
@@ -128,7 +156,7 @@ public class DemandController {
         }
 
         try {
-            var dto = convertToDto(ownDemandService.create(convertToEntity(demandDto)));
+            var dto = DemandDtoMapper.toDto(ownDemandService.create(convertToEntity(demandDto)));
             materialService.updateTimestamp(demandDto.getOwnMaterialNumber());
             return dto;
         } catch (KeyAlreadyExistsException e) {
@@ -157,7 +185,7 @@ public class DemandController {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Demand does not exist.");
         }
         materialService.updateTimestamp(dto.getOwnMaterialNumber());
-        return convertToDto(updatedDemand);
+        return DemandDtoMapper.toDto(updatedDemand);
     }
 
     @DeleteMapping("{id}")
@@ -182,15 +210,38 @@ public class DemandController {
     @ResponseBody
     @Operation(
         summary = "Get all demands of partners for a material", 
-        description = "Get all demands of partners for a material number. Optionally the partners can be filtered by their bpnl and the demanding site can be filtered by its bpns."
+        description = "Get all demands of partners for a material number. Optionally the partners can be filtered by their bpnl and the demanding site can be filtered by its bpns. If a limit is given, at most that many entries ordered by uuid are returned and the header X-Next-Cursor holds the value of `after` for the next page."
     )
-    public List<DemandDto> getAllDemandsForPartner(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> bpnl,
-            Optional<String> site) {
+    public ResponseEntity<List<DemandDto>> getAllDemandsForPartner(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> bpnl,
+            Optional<String> site,
+            @Parameter(description = "uuid of the last entry of the previous page") Optional<UUID> after,
+            @Parameter(description = "maximum number of entries to return, all entries if omitted") Optional<Integer> limit) {
         if (ownMaterialNumber != null) {
             ownMaterialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
         }
-        return reportedDemandService.findAllByFilters(Optional.of(ownMaterialNumber), bpnl, site)
-                .stream().map(this::convertToDto).collect(Collectors.toList());
+        Map<UUID, String> partnerMaterialNumbers = mprService.findPartnerMaterialNumbers(ownMaterialNumber);
+        if (limit.isEmpty()) {
+            return ResponseEntity.ok(reportedDemandService.findAllByFilters(Optional.of(ownMaterialNumber), bpnl, site)
+                .stream().map(demand -> convertToDto(demand, partnerMaterialNumbers)).collect(Collectors.toList()));
+        }
+        int pageSize = KeysetPagination.checkLimit(limit.get());
+        return KeysetPagination.toResponse(
+            reportedDemandService.findPageByFilters(Optional.of(ownMaterialNumber), bpnl, site, after, pageSize),
+            pageSize, ReportedDemand::getUuid, demand -> convertToDto(demand, partnerMaterialNumbers));
+    }
+
+    @GetMapping(value = "reported", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Stream all demands of partners for a material",
+        description = "Get all demands of partners for a material number. Optionally the partners can be filtered by their bpnl and the demanding site can be filtered by its bpns. The entries are streamed as newline delimited JSON while they are read."
+    )
+    public ResponseEntity<StreamingResponseBody> streamAllDemandsForPartner(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> bpnl,
+            Optional<String> site) {
+        String materialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
+        Map<UUID, String> partnerMaterialNumbers = mprService.findPartnerMaterialNumbers(materialNumber);
+        return ndjsonStreamer.stream(
+            () -> reportedDemandService.streamAllByFilters(Optional.of(materialNumber), bpnl, site),
+            demand -> convertToDto(demand, partnerMaterialNumbers));
     }
 
     @GetMapping("reported/refresh")
@@ -217,14 +268,6 @@ public class DemandController {
             .toList());
     }
 
-    private DemandDto convertToDto(OwnDemand entity) {
-        DemandDto dto = modelMapper.map(entity, DemandDto.class);
-        dto.setOwnMaterialNumber(entity.getMaterial().getOwnMaterialNumber());
-        dto.setPartnerBpnl(entity.getPartner().getBpnl());
-
-        return dto;
-    }
-
     private OwnDemand convertToEntity(DemandDto dto) {
         OwnDemand entity = modelMapper.map(dto, OwnDemand.class);
         Material material = materialService.findByOwnMaterialNumber(dto.getOwnMaterialNumber());
@@ -241,15 +284,8 @@ public class DemandController {
         return entity;
     }
 
-    private DemandDto convertToDto(ReportedDemand entity) {
-        DemandDto dto = modelMapper.map(entity, DemandDto.class);
-
-        var materialPartnerRelation = mprService.find(entity.getMaterial().getOwnMaterialNumber(),
-                entity.getPartner().getUuid());
-        dto.setOwnMaterialNumber(materialPartnerRelation.getPartnerMaterialNumber());
-        dto.setPartnerBpnl(entity.getPartner().getBpnl());
-
-        return dto;
+    private DemandDto convertToDto(ReportedDemand entity, Map<UUID, String> partnerMaterialNumbers) {
+        return DemandDtoMapper.toDto(entity, partnerMaterialNumbers.get(entity.getPartner().getUuid()));
     }
 }
 
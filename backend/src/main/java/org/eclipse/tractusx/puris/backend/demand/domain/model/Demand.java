@@ -19,10 +19,13 @@ SPDX-License-Identifier: Apache-2.0
 */
 package org.eclipse.tractusx.puris.backend.demand.domain.model;
 
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.eclipse.tractusx.puris.backend.common.domain.model.MaterialDataChangeListener;
 import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
@@ -45,6 +48,7 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
 @Entity
+@EntityListeners(MaterialDataChangeListener.class)
 @ToString
 public abstract class Demand {
     @Id
@@ -84,6 +88,21 @@ public abstract class Demand {
         return material.getOwnMaterialNumber();
     }
 
+    /**
+     * Provides the values that are compared by {@link #equals(Object)}. In contrast to {@link #hashCode()},
+     * the key can be used to find equal demands in hash based collections.
+     *
+     * Dates are compared by their point in time, so that keys of loaded entities match keys of new ones.
+     *
+     * @return the business key
+     */
+    public List<Object> businessKey() {
+        return Arrays.asList(getClass(),
+            material == null ? null : material.getOwnMaterialNumber(),
+            partner == null ? null : partner.getUuid(),
+            day == null ? null : day.getTime(), demandCategoryCode, demandLocationBpns, supplierLocationBpns);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.puris.backend.demand.domain.repository;
+
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.Demand;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.DatedQuantity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+public interface DemandRepository<T extends Demand> extends JpaRepository<T, UUID>, JpaSpecificationExecutor<T> {
+
+    List<T> findAllByPartner_Bpnl(String bpnl);
+
+    List<T> findAllByMaterial_OwnMaterialNumber(String ownMaterialNumber);
+
+    List<T> findAllByMaterial_OwnMaterialNumberAndPartner_Uuid(String ownMaterialNumber, UUID partnerUuid);
+
+    List<T> findAllByMaterial_OwnMaterialNumberInAndPartner_UuidIn(Collection<String> ownMaterialNumbers, Collection<UUID> partnerUuids);
+
+    /**
+     * @return the ids of all demands, without loading the entities
+     */
+    @Query("select e.uuid from #{#entityName} e")
+    List<UUID> findAllUuids();
+
+    /**
+     * @param uuids the ids of the demands
+     * @return the own material numbers of the materials of the given demands
+     */
+    @Query("select distinct e.material.ownMaterialNumber from #{#entityName} e where e.uuid in :uuids")
+    List<String> findOwnMaterialNumbersByUuidIn(@Param("uuids") Collection<UUID> uuids);
+
+    /**
+     * Deletes all demands of the given partner and material by a single statement. The statement bypasses
+     * the entity listeners.
+     *
+     * @param partner  the partner
+     * @param material the material
+     * @return the number of deleted demands
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from #{#entityName} e where e.partner = :partner and e.material = :material")
+    int deleteAllByPartnerAndMaterialInBulk(@Param("partner") Partner partner, @Param("material") Material material);
+
+    /**
+     * Replaces all demands of the given partner and material by the given demands within one transaction. The
+     * old demands are deleted by a single statement and the new ones are inserted in JDBC batches.
+     *
+     * @param partner  the partner
+     * @param material the material
+     * @param demands the new demands
+     * @return the saved demands
+     */
+    @Transactional
+    default List<T> replaceAllForPartnerAndMaterial(Partner partner, Material material, List<T> demands) {
+        deleteAllByPartnerAndMaterialInBulk(partner, material);
+        return saveAll(demands);
+    }
+
+    /**
+     * Sums up the quantities of the demands for the given material per point in time within [from, to).
+     *
+     * @param ownMaterialNumber  the own material number of the material
+     * @param partnerBpnl        the bpnl of the partner or null for all partners
+     * @param demandLocationBpns the bpns of the demand location or null for all locations
+     * @param from               inclusive lower bound of the day
+     * @param to                 exclusive upper bound of the day
+     * @return the summed up quantities per day
+     */
+    @Query("select d.day as date, sum(d.quantity) as quantity from #{#entityName} d " +
+        "where d.material.ownMaterialNumber = :ownMaterialNumber " +
+        "and (:partnerBpnl is null or d.partner.bpnl = :partnerBpnl) " +
+        "and (:demandLocationBpns is null or d.demandLocationBpns = :demandLocationBpns) " +
+        "and d.day >= :from and d.day < :to " +
+        "group by d.day")
+    List<DatedQuantity> sumQuantitiesByDay(@Param("ownMaterialNumber") String ownMaterialNumber,
+                                           @Param("partnerBpnl") String partnerBpnl,
+                                           @Param("demandLocationBpns") String demandLocationBpns,
+                                           @Param("from") Date from,
+                                           @Param("to") Date to);
+}
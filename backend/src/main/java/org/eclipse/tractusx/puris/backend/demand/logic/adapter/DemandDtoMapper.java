@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.demand.logic.adapter;
+
+import org.eclipse.tractusx.puris.backend.demand.domain.model.Demand;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.OwnDemand;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.ReportedDemand;
+import org.eclipse.tractusx.puris.backend.demand.logic.dto.DemandDto;
+
+/**
+ * Explicit mapping of demands to the dtos of the demand endpoints.
+ */
+public final class DemandDtoMapper {
+
+    private DemandDtoMapper() {
+    }
+
+    public static DemandDto toDto(OwnDemand entity) {
+        DemandDto dto = fill(new DemandDto(), entity);
+        dto.setOwnMaterialNumber(entity.getMaterial().getOwnMaterialNumber());
+        return dto;
+    }
+
+    /**
+     * The dto of a reported demand carries the material number of the customer who reported it.
+     *
+     * @param entity                the reported demand
+     * @param partnerMaterialNumber the material number of the customer, may be null
+     * @return the dto
+     */
+    public static DemandDto toDto(ReportedDemand entity, String partnerMaterialNumber) {
+        DemandDto dto = fill(new DemandDto(), entity);
+        dto.setOwnMaterialNumber(partnerMaterialNumber);
+        return dto;
+    }
+
+    private static DemandDto fill(DemandDto dto, Demand entity) {
+        dto.setUuid(entity.getUuid());
+        dto.setPartnerBpnl(entity.getPartner().getBpnl());
+        dto.setQuantity(entity.getQuantity());
+        dto.setMeasurementUnit(entity.getMeasurementUnit());
+        dto.setDay(entity.getDay());
+        dto.setDemandLocationBpns(entity.getDemandLocationBpns());
+        dto.setSupplierLocationBpns(entity.getSupplierLocationBpns());
+        dto.setDemandCategoryCode(entity.getDemandCategoryCode());
+        dto.setLastUpdatedOnDateTime(entity.getLastUpdatedOnDateTime());
+        return dto;
+    }
+}
@@ -65,7 +65,7 @@ public class ShortTermMaterialDemandSammMapper {
                 .collect(Collectors.groupingBy(demand -> new DemandGroupingHelper(demand.getDemandCategoryCode(), demand.getDemandLocationBpns(), demand.getSupplierLocationBpns())));
         ShortTermMaterialDemand samm = new ShortTermMaterialDemand();
 
-        var mpr = mprService.findAll().stream().filter(mr -> mr.getMaterial().equals(material) && mr.getPartner().equals(partner)).findFirst().orElse(null);
+        var mpr = mprService.find(material, partner);
         if (mpr == null) {
             log.warn("Could not identify materialPartnerRelation with ownMaterialNumber " + material.getOwnMaterialNumber()
                     + " and partner bpnl " + partner.getBpnl());
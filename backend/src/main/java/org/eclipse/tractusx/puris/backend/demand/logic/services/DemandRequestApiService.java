@@ -134,14 +134,8 @@ public class DemandRequestApiService {
                 return new RefreshResult("Validation failed for reported demands", errors);
             }
 
-            // delete older data:
-            var oldDemands = reportedDemandService.findAllByFilters(Optional.of(material.getOwnMaterialNumber()), Optional.of(partner.getBpnl()), Optional.empty());
-            for (var oldDemand : oldDemands) {
-                reportedDemandService.delete(oldDemand.getUuid());
-            }
-            for (var newDemand : demands) {
-                reportedDemandService.create(newDemand);
-            }
+            // replace older data:
+            reportedDemandService.replaceAll(partner, material, demands);
             log.info("Successfully updated ReportedDemand for {} and partner {}", 
                 material.getOwnMaterialNumber(), partner.getBpnl());
                 materialService.updateTimestamp(material.getOwnMaterialNumber());
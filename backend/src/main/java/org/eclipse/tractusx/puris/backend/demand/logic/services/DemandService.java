@@ -21,26 +21,39 @@ package org.eclipse.tractusx.puris.backend.demand.logic.services;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import javax.management.openmbean.KeyAlreadyExistsException;
 
+import org.eclipse.tractusx.puris.backend.common.domain.model.MaterialDataChangedEvent;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.FilterSpecifications;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.KeysetQueries;
 import org.eclipse.tractusx.puris.backend.demand.domain.model.Demand;
+import org.eclipse.tractusx.puris.backend.demand.domain.repository.DemandRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 
-public abstract class DemandService<TEntity extends Demand, TRepository extends JpaRepository<TEntity, UUID> >  {
+public abstract class DemandService<TEntity extends Demand, TRepository extends DemandRepository<TEntity>>  {
     protected final TRepository repository;
     protected final PartnerService partnerService;
     protected final MaterialPartnerRelationService mprService;
 
     protected final Function<TEntity, Boolean> validator;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public DemandService(TRepository repository, PartnerService partnerService, MaterialPartnerRelationService mprService) {
         this.repository = repository;
         this.partnerService = partnerService;
@@ -56,31 +69,63 @@ public abstract class DemandService<TEntity extends Demand, TRepository extends
         return repository.findAll();
     }
 
+    public final List<UUID> findAllUuids() {
+        return repository.findAllUuids();
+    }
+
     public final List<TEntity> findAllByBpnl(String bpnl) {
-        return repository.findAll().stream().filter(demand -> demand.getPartner().getBpnl().equals(bpnl))
-                .toList();
+        return repository.findAllByPartner_Bpnl(bpnl);
     }
 
     public final List<TEntity> findAllByOwnMaterialNumber(String ownMaterialNumber) {
-        return repository.findAll().stream().filter(demand -> demand.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber))
-                .toList();
+        return repository.findAllByMaterial_OwnMaterialNumber(ownMaterialNumber);
     }
 
     public final List<TEntity> findAllByFilters(
         Optional<String> ownMaterialNumber,
         Optional<String> bpnl,
         Optional<String> demandLocationBpns) {
-        var stream = repository.findAll().stream();
-        if (ownMaterialNumber.isPresent()) {
-            stream = stream.filter(demand -> demand.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber.get()));
-        }
-        if (bpnl.isPresent()) {
-            stream = stream.filter(demand -> demand.getPartner().getBpnl().equals(bpnl.get()));
-        }
-        if (demandLocationBpns.isPresent()) {
-            stream = stream.filter(demand -> demand.getDemandLocationBpns().equals(demandLocationBpns.get()));
-        }
-        return stream.toList();
+        return repository.findAll(filtersOf(ownMaterialNumber, bpnl, demandLocationBpns));
+    }
+
+    /**
+     * @param after the uuid of the last demand of the previous page, empty for the first page
+     * @param limit the maximum number of demands to return
+     * @return the next demands matching the filters, ordered by their uuid
+     * @see #findAllByFilters(Optional, Optional, Optional)
+     */
+    public final List<TEntity> findPageByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        Optional<String> demandLocationBpns,
+        Optional<UUID> after,
+        int limit) {
+        return KeysetQueries.findPage(repository, filtersOf(ownMaterialNumber, bpnl, demandLocationBpns), after, limit);
+    }
+
+    /**
+     * The stream must be consumed within a transaction and closed afterwards.
+     *
+     * @return all demands matching the filters, ordered by their uuid
+     * @see #findAllByFilters(Optional, Optional, Optional)
+     */
+    public final Stream<TEntity> streamAllByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        Optional<String> demandLocationBpns) {
+        return KeysetQueries.stream(repository, filtersOf(ownMaterialNumber, bpnl, demandLocationBpns));
+    }
+
+    private Specification<TEntity> filtersOf(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        Optional<String> demandLocationBpns) {
+        List<Specification<TEntity>> filters = new ArrayList<>();
+        filters.add(FilterSpecifications.fetchesMaterialAndPartner());
+        ownMaterialNumber.ifPresent(number -> filters.add(FilterSpecifications.hasOwnMaterialNumber(number)));
+        bpnl.ifPresent(partnerBpnl -> filters.add(FilterSpecifications.hasPartnerBpnl(partnerBpnl)));
+        demandLocationBpns.ifPresent(bpns -> filters.add(FilterSpecifications.hasAttribute("demandLocationBpns", bpns)));
+        return Specification.allOf(filters);
     }
 
     protected List<String> basicValidation(Demand demand) {
@@ -153,12 +198,59 @@ public abstract class DemandService<TEntity extends Demand, TRepository extends
         if (!validator.apply(demand)) {
             throw new IllegalArgumentException("Invalid demand");
         }
-        if (repository.findAll().stream().anyMatch(d -> d.equals(demand))) {
+        if (exists(demand)) {
             throw new KeyAlreadyExistsException("Demand already exists");
         }
         return repository.save(demand);
     }
 
+    public final List<TEntity> createAll(List<TEntity> demands) {
+        if (demands.stream().anyMatch(demand -> !validator.apply(demand))) {
+            throw new IllegalArgumentException("Invalid demand");
+        }
+        if (anyExists(demands)) {
+            throw new KeyAlreadyExistsException("Demand already exists");
+        }
+        return repository.saveAll(demands);
+    }
+
+    /**
+     * Checks whether a demand equal to the given one has already been stored.
+     *
+     * @param demand the demand to look for
+     * @return true, if an equal demand exists
+     */
+    protected final boolean exists(TEntity demand) {
+        return anyExists(List.of(demand));
+    }
+
+    /**
+     * Checks whether a demand equal to one of the given ones has already been stored. The stored demands
+     * for the materials and partners of the given ones are loaded by a single query and compared by their
+     * business key.
+     *
+     * @param demands the demands to look for
+     * @return true, if an equal demand exists for at least one of them
+     */
+    protected final boolean anyExists(List<TEntity> demands) {
+        Set<String> ownMaterialNumbers = new HashSet<>();
+        Set<UUID> partnerUuids = new HashSet<>();
+        for (TEntity demand : demands) {
+            if (demand.getMaterial() != null && demand.getPartner() != null) {
+                ownMaterialNumbers.add(demand.getMaterial().getOwnMaterialNumber());
+                partnerUuids.add(demand.getPartner().getUuid());
+            }
+        }
+        if (ownMaterialNumbers.isEmpty()) {
+            return false;
+        }
+        Set<List<Object>> existingKeys = new HashSet<>();
+        for (TEntity existing : repository.findAllByMaterial_OwnMaterialNumberInAndPartner_UuidIn(ownMaterialNumbers, partnerUuids)) {
+            existingKeys.add(existing.businessKey());
+        }
+        return demands.stream().anyMatch(demand -> existingKeys.contains(demand.businessKey()));
+    }
+
     public final TEntity update(TEntity demand) {
         if (demand.getUuid() == null || repository.findById(demand.getUuid()).isEmpty()) {
             return null;
@@ -170,5 +262,37 @@ public abstract class DemandService<TEntity extends Demand, TRepository extends
         repository.deleteById(uuid);
     }
 
+    /**
+     * Deletes the given demands by a single statement. As the statement bypasses the entity listeners,
+     * the change of the affected materials is published explicitly.
+     *
+     * @param uuids the ids of the demands
+     */
+    public final void deleteAll(List<UUID> uuids) {
+        if (uuids.isEmpty()) {
+            return;
+        }
+        List<String> ownMaterialNumbers = repository.findOwnMaterialNumbersByUuidIn(uuids);
+        repository.deleteAllByIdInBatch(uuids);
+        ownMaterialNumbers.forEach(ownMaterialNumber ->
+            eventPublisher.publishEvent(new MaterialDataChangedEvent(ownMaterialNumber)));
+    }
+
+    /**
+     * Replaces all demands of the given partner and material by the given ones within one transaction. The
+     * old demands are deleted by a single statement and the new ones are inserted in JDBC batches. The
+     * demands must have been validated before.
+     *
+     * @param partner  the partner
+     * @param material the material
+     * @param demands the new demands
+     * @return the saved demands
+     */
+    public final List<TEntity> replaceAll(Partner partner, Material material, List<TEntity> demands) {
+        List<TEntity> saved = repository.replaceAllForPartnerAndMaterial(partner, material, demands);
+        eventPublisher.publishEvent(new MaterialDataChangedEvent(material.getOwnMaterialNumber()));
+        return saved;
+    }
+
     public abstract boolean validate(TEntity demand);
 }
@@ -20,14 +20,10 @@ SPDX-License-Identifier: Apache-2.0
 */
 package org.eclipse.tractusx.puris.backend.demand.logic.services;
 
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import org.eclipse.tractusx.puris.backend.common.util.DailyQuantityWindow;
 import org.eclipse.tractusx.puris.backend.demand.domain.model.OwnDemand;
 import org.eclipse.tractusx.puris.backend.demand.domain.repository.OwnDemandRepository;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
@@ -43,23 +39,20 @@ public class OwnDemandService extends DemandService<OwnDemand, OwnDemandReposito
         super(repository, partnerService, mprService);
     }
 
+    /**
+     * Sums up the quantities of the own demands per day, starting today. The quantities are summed up
+     * by a single aggregate query.
+     *
+     * @param material     the own material number
+     * @param partnerBpnl  the partner to filter for, if present
+     * @param siteBpns     the demand location to filter for, if present
+     * @param numberOfDays the number of days
+     * @return the summed up quantities for each day
+     */
     public final List<Double> getQuantityForDays(String material, Optional<String> partnerBpnl, Optional<String> siteBpns, int numberOfDays) {
-        List<Double> quantities = new ArrayList<>();
-        LocalDate localDate = LocalDate.now();
-        List<OwnDemand> demands = findAllByFilters(Optional.of(material), partnerBpnl, siteBpns);
-        for (int i = 0; i < numberOfDays; i++) {
-            Date date = Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
-            LocalDate localDayDate = Instant.ofEpochMilli(date.getTime()).atOffset(ZoneOffset.UTC).toLocalDate();
-            List<OwnDemand> demandsForDate = demands.stream().filter(demand -> {
-                LocalDate demandDayDate = Instant.ofEpochMilli(demand.getDay().getTime()).atOffset(ZoneOffset.UTC).toLocalDate();
-                return demandDayDate.getDayOfMonth() == localDayDate.getDayOfMonth() && demandDayDate.getMonthValue() == localDayDate.getMonthValue();
-            }).toList();
-            double demandQuantity = getSumOfQuantities(demandsForDate);
-            quantities.add(demandQuantity);
-
-            localDate = localDate.plusDays(1);
-        }
-        return quantities;
+        DailyQuantityWindow window = DailyQuantityWindow.startingToday(numberOfDays);
+        return window.sum(repository.sumQuantitiesByDay(
+            material, partnerBpnl.orElse(null), siteBpns.orElse(null), window.getStart(), window.getEnd()));
     }
 
     @Override
@@ -73,12 +66,4 @@ public class OwnDemandService extends DemandService<OwnDemand, OwnDemandReposito
         validationErrors.addAll(validateOwnDemand(demand));
         return validationErrors;
     }
-
-    private final double getSumOfQuantities(List<OwnDemand> demands) {
-        double sum = 0;
-        for (OwnDemand demand : demands) {
-            sum += demand.getQuantity();
-        }
-        return sum;
-    }
 }
@@ -41,7 +41,7 @@ public class OwnDemandAndCapacityNotificationService extends DemandAndCapacityNo
     }
 
     public List<OwnDemandAndCapacityNotification>  findAllByPartnerBpnl(String bpnl) {
-        return repository.findAll().stream().filter(notification -> notification.getPartner().getBpnl().equals(bpnl)).toList();
+        return repository.findAllByPartner_Bpnl(bpnl);
     }
 
     @Override
@@ -109,9 +109,9 @@ public class OwnDemandAndCapacityNotificationService extends DemandAndCapacityNo
         if (notification.getMaterials() == null || notification.getMaterials().isEmpty()) {
             return true;
         }
-        return mprService.findAll().stream().filter(mpr ->
-            mpr.getPartner().equals(notification.getPartner()) &&
-            notification.getMaterials().contains(mpr.getMaterial())).count() == notification.getMaterials().size();
+        return notification.getMaterials().stream().distinct()
+            .filter(material -> mprService.find(material, notification.getPartner()) != null)
+            .count() == notification.getMaterials().size();
     }
 
     public boolean validateSites(OwnDemandAndCapacityNotification notification) {
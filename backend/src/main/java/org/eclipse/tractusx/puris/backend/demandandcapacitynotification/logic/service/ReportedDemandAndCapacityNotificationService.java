@@ -38,8 +38,7 @@ public class ReportedDemandAndCapacityNotificationService extends DemandAndCapac
     }
 
     public List<ReportedDemandAndCapacityNotification> findAllByPartnerBpnl(String bpnl) {
-        return repository.findAll().stream().filter(notification -> notification.getPartner().getBpnl().equals(bpnl))
-                .toList();
+        return repository.findAllByPartner_Bpnl(bpnl);
     }
 
     @Override
@@ -81,9 +80,9 @@ public class ReportedDemandAndCapacityNotificationService extends DemandAndCapac
         if (notification.getMaterials() == null || notification.getMaterials().isEmpty()) {
             return true;
         }
-        return mprService.findAll().stream().filter(mpr ->
-            mpr.getPartner().equals(notification.getPartner()) &&
-            notification.getMaterials().contains(mpr.getMaterial())).count() == notification.getMaterials().size();
+        return notification.getMaterials().stream().distinct()
+            .filter(material -> mprService.find(material, notification.getPartner()) != null)
+            .count() == notification.getMaterials().size();
     }
 
     public boolean validateSites(ReportedDemandAndCapacityNotification notification) {
@@ -22,6 +22,7 @@ package org.eclipse.tractusx.puris.backend.erpadapter;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
@@ -65,7 +66,14 @@ public class ErpAdapterConfiguration {
 
     @Value("${puris.erpadapter.refreshinterval}")
     @Getter(AccessLevel.NONE)
-    private long refreshInterval;
+    private String refreshInterval;
+
+    /**
+     * Delay after which received partner requests are written to the
+     * erp adapter trigger datasets in one batch (milliseconds)
+     */
+    @Value("${puris.erpadapter.notification.flushinterval}")
+    private long notificationFlushInterval;
 
     @Value("${puris.erpadapter.timelimit}")
     @Getter(AccessLevel.NONE)
@@ -109,12 +117,19 @@ public class ErpAdapterConfiguration {
      * request at or a few seconds after May 15 13:39:21 GMT 2024.
      *
      * These update requests will perpetuate with the given interval, for as long as the refreshTimeLimit has not expired.
+     * <p>
+     * A plain number is interpreted as minutes. Shorter intervals can be configured with a unit suffix
+     * (e.g. "30s") or as ISO-8601 duration (e.g. "PT30S").
      *
      * @return the interval
      */
     public long getRefreshInterval() {
-        // translate minutes to milliseconds
-        return refreshInterval * 60 * 1000;
+        String interval = refreshInterval.trim();
+        if (!interval.isEmpty() && interval.chars().allMatch(Character::isDigit)) {
+            // translate minutes to milliseconds
+            return Long.parseLong(interval) * 60 * 1000;
+        }
+        return DurationStyle.detectAndParse(interval).toMillis();
     }
 
     /**
@@ -25,6 +25,16 @@ import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterTrig
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ErpAdapterTriggerDatasetRepository extends JpaRepository<ErpAdapterTriggerDataset, ErpAdapterTriggerDataset.Key> {
+
+    /**
+     * Finds all datasets whose next erp adapter request is due at or before the given point in time.
+     *
+     * @param horizon the point in time (milliseconds since epoch)
+     * @return the due datasets
+     */
+    List<ErpAdapterTriggerDataset> findAllByNextErpRequestScheduledLessThanEqual(long horizon);
 }
@@ -36,7 +36,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class ErpAdapterRequestClient {
 
-    private final OkHttpClient client = new OkHttpClient();
+    private final OkHttpClient client;
 
     private final ObjectMapper mapper = new ObjectMapper();
 
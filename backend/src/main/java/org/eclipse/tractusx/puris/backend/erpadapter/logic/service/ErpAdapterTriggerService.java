@@ -21,25 +21,56 @@
 
 package org.eclipse.tractusx.puris.backend.erpadapter.logic.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
+import org.eclipse.tractusx.puris.backend.common.util.ExecutorConfiguration;
 import org.eclipse.tractusx.puris.backend.erpadapter.ErpAdapterConfiguration;
 import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequest;
 import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterTriggerDataset;
 import org.eclipse.tractusx.puris.backend.erpadapter.domain.repository.ErpAdapterTriggerDatasetRepository;
 import org.eclipse.tractusx.puris.backend.stock.logic.dto.itemstocksamm.DirectionCharacteristic;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Schedules regular update requests to the erp adapter for every kind of request that was recently
+ * received from a partner.
+ * <p>
+ * Only the datasets that are due within the next {@link #LOOKAHEAD} are held in a priority queue
+ * ordered by their next scheduled request. The scheduler thread wakes up exactly when the head of the
+ * queue is due and loads the datasets of the following window with an indexed query, so that the
+ * whole table is never scanned. All accesses to the queue and all writes to the repository happen
+ * on the single scheduler thread. A dataset is only rescheduled after its request was sent, so that
+ * requests are triggered at least once across restarts.
+ * <p>
+ * Partner requests are collected in a concurrent map, which keeps only the latest request per
+ * dataset, and are written in batches. This is monitored via the counter
+ * puris.erpadapter.trigger.notifications (tagged with the result accepted or coalesced), the counter
+ * puris.erpadapter.trigger.writes and the gauge puris.erpadapter.trigger.pending.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -52,86 +83,106 @@ public class ErpAdapterTriggerService {
     @Autowired
     private ErpAdapterRequestService erpAdapterRequestService;
     @Autowired
+    @Qualifier(ExecutorConfiguration.ERP_ADAPTER_EXECUTOR)
     private ExecutorService executorService;
+    @Autowired
+    @Qualifier(ExecutorConfiguration.ERP_ADAPTER_DAEMON_EXECUTOR)
+    private ScheduledExecutorService scheduler;
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
 
-    private final long daemonActivityInterval = 1 * 60 * 1000; // daemon wakes up every minute
+    /**
+     * Length of the window of upcoming requests that is held in memory (milliseconds)
+     */
+    static final long LOOKAHEAD = 60 * 1000;
 
-    private Future<?> daemonObject;
+    private final PriorityQueue<ErpAdapterTriggerDataset> queue =
+        new PriorityQueue<>(Comparator.comparingLong(ErpAdapterTriggerDataset::getNextErpRequestScheduled));
 
-    private final List<ErpAdapterTriggerDataset> datasets = new ArrayList<>();
+    /**
+     * the queued datasets, so that partner requests update the instance that will be fired
+     */
+    private final Map<ErpAdapterTriggerDataset.Key, ErpAdapterTriggerDataset> queued = new HashMap<>();
 
     /**
-     * protect accesses to the datasets list
+     * all datasets that are due at or before this point in time are held in the queue
      */
-    private final Lock lock = new ReentrantLock();
+    private long loadedUntil = Long.MIN_VALUE;
 
-    private final Runnable daemon = () -> {
-        log.info("Daemon thread started");
-        ArrayList<ErpAdapterTriggerDataset> updatedData = new ArrayList<>();
-        while (true) {
-            lock.lock();
-            try {
-                // keep the most recent information in case of conflict
-                for (ErpAdapterTriggerDataset dataset : datasets) {
-                    for (ErpAdapterTriggerDataset updatedDataset : updatedData) {
-                        if (dataset.equals(updatedDataset)) {
-                            dataset.setLastPartnerRequest(
-                                Math.max(dataset.getLastPartnerRequest(), updatedDataset.getLastPartnerRequest()));
-                            dataset.setNextErpRequestScheduled(
-                                Math.max(dataset.getNextErpRequestScheduled(), updatedDataset.getNextErpRequestScheduled()));
-                        }
-                    }
-                }
-                updatedData.clear();
-                repository.saveAll(datasets);
-                datasets.clear();
-            } finally {
-                lock.unlock();
-            }
+    /**
+     * no wake-up is scheduled before this point in time, set after a failed pass
+     */
+    private long notBefore = Long.MIN_VALUE;
 
-            long timeLimit = erpAdapterConfiguration.getRefreshTimeLimit();
-            var allDatasets = repository.findAll();
-            long now = new Date().getTime();
-            log.info("Daemon waking up, found {} datasets", allDatasets.size());
-            for (var dataset : allDatasets) {
-                if (dataset.getLastPartnerRequest() + timeLimit <= now) {
-                    // too much time has passed since last request of this kind, so
-                    // we will stop triggering further updates from the erp adapter
-                    repository.delete(dataset);
-                    log.info("Stopped scheduling further requests for : {}", dataset);
-                } else {
-                    if (dataset.getNextErpRequestScheduled() <= now) {
-                        // the time has come for a new erp adapter request
-                        ErpAdapterRequest request = new ErpAdapterRequest();
-                        request.setOwnMaterialNumber(dataset.getOwnMaterialNumber());
-                        request.setPartnerBpnl(dataset.getPartnerBpnl());
-                        request.setRequestDate(new Date(now));
-                        DirectionCharacteristic directionCharacteristic = dataset.getDirectionCharacteristic().isEmpty() ?
-                            null : DirectionCharacteristic.valueOf(dataset.getDirectionCharacteristic());
-                        request.setDirectionCharacteristic(directionCharacteristic);
-                        request.setRequestType(dataset.getAssetType());
-                        request.setSammVersion(dataset.getAssetType().ERP_SAMM_VERSION);
-                        executorService.submit(() -> erpAdapterRequestService.createAndSend(request));
-
-                        // schedule next request
-                        dataset.setNextErpRequestScheduled(now + erpAdapterConfiguration.getRefreshInterval());
-                        dataset = repository.save(dataset);
-                        updatedData.add(dataset);
-                        log.info("Scheduled next erp adapter request: {}", dataset);
-                    }
-                }
-            }
-            try {
-                // sleep for the defined interval
-                Thread.sleep(daemonActivityInterval);
-            } catch (InterruptedException ignore) {
-            }
+    private ScheduledFuture<?> wakeUp;
+
+    private long wakeUpTime = Long.MAX_VALUE;
+
+    private boolean started = false;
+
+    /**
+     * latest partner request per dataset that has not been written yet
+     */
+    private final Map<ErpAdapterTriggerDataset.Key, Long> pending = new ConcurrentHashMap<>();
+
+    /**
+     * next due time per dataset whose erp adapter request has completed
+     */
+    private final Map<ErpAdapterTriggerDataset.Key, Long> completed = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    private Counter accepted;
+
+    private Counter coalesced;
+
+    private Counter written;
+
+    @PostConstruct
+    private void init() {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            accepted = registerCounter(registry, "accepted");
+            coalesced = registerCounter(registry, "coalesced");
+            written = Counter.builder("puris.erpadapter.trigger.writes")
+                .description("Erp adapter trigger datasets written for partner requests")
+                .register(registry);
+            Gauge.builder("puris.erpadapter.trigger.pending", pending, Map::size)
+                .description("Partner requests waiting to be written to the erp adapter trigger datasets")
+                .register(registry);
         }
-    };
+    }
+
+    private Counter registerCounter(MeterRegistry registry, String result) {
+        return Counter.builder("puris.erpadapter.trigger.notifications")
+            .description("Partner requests notified to the erp adapter trigger")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    /**
+     * Writes the partner requests that are still pending before the scheduler is shut down.
+     */
+    @PreDestroy
+    private void shutdown() {
+        if (pending.isEmpty() || scheduler.isShutdown()) {
+            return;
+        }
+        try {
+            scheduler.submit(this::flush).get(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Failed to write {} pending partner requests on shutdown", pending.size(), e);
+        }
+    }
 
     /**
      * Send a notification about a just received request from a partner via this
      * method in order to schedule regular updates from the erp adapter.
+     * <p>
+     * The notification is only recorded in memory. Repeated notifications for the same specifics are
+     * coalesced and written in one batch after the configured flush interval.
      *
      * @param partnerBpnl           the BPNL of the requesting partner
      * @param ownMaterialNumber     the material number of the requested material
@@ -143,47 +194,259 @@ public class ErpAdapterTriggerService {
             return;
         }
         String directionString = direction != null ? direction.name() : "";
+        ErpAdapterTriggerDataset.Key key = new ErpAdapterTriggerDataset.Key(partnerBpnl, ownMaterialNumber, type, directionString);
+        long now = new Date().getTime();
+        if (pending.putIfAbsent(key, now) == null) {
+            increment(accepted);
+        } else {
+            pending.merge(key, now, Math::max);
+            increment(coalesced);
+        }
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, erpAdapterConfiguration.getNotificationFlushInterval(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @return the number of datasets with partner requests that have not been written yet
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
 
-        ErpAdapterTriggerDataset dataset = repository.findById(new ErpAdapterTriggerDataset.Key(partnerBpnl,
-                ownMaterialNumber, type, directionString))
-            .orElse(null);
+    /**
+     * Writes the pending partner requests in one batch. Datasets with unknown specifics are created
+     * as immediately due, so that the first erp adapter request is sent by the scheduler as well and
+     * will be repeated after a restart, if it could not be sent. Runs on the scheduler thread only.
+     */
+    private void flush() {
+        flushScheduled.set(false);
+        if (!started) {
+            // load the current window before the first dataset is written
+            started = true;
+            fire();
+        }
+        Map<ErpAdapterTriggerDataset.Key, Long> notifications = new HashMap<>();
+        for (ErpAdapterTriggerDataset.Key key : pending.keySet()) {
+            Long lastPartnerRequest = pending.remove(key);
+            if (lastPartnerRequest != null) {
+                notifications.put(key, lastPartnerRequest);
+            }
+        }
+        if (notifications.isEmpty()) {
+            return;
+        }
+        try {
+            List<ErpAdapterTriggerDataset.Key> unknown = new ArrayList<>();
+            for (ErpAdapterTriggerDataset.Key key : notifications.keySet()) {
+                if (!queued.containsKey(key)) {
+                    unknown.add(key);
+                }
+            }
+            Map<ErpAdapterTriggerDataset.Key, ErpAdapterTriggerDataset> stored = new HashMap<>();
+            if (!unknown.isEmpty()) {
+                for (ErpAdapterTriggerDataset dataset : repository.findAllById(unknown)) {
+                    stored.put(key(dataset), dataset);
+                }
+            }
+            List<ErpAdapterTriggerDataset> changed = new ArrayList<>(notifications.size());
+            for (var entry : notifications.entrySet()) {
+                ErpAdapterTriggerDataset.Key key = entry.getKey();
+                ErpAdapterTriggerDataset dataset = queued.getOrDefault(key, stored.get(key));
+                if (dataset == null) {
+                    // unknown request specifics, so we trigger a new request right now
+                    dataset = new ErpAdapterTriggerDataset(key.getPartnerBpnl(), key.getOwnMaterialNumber(),
+                        key.getAssetType(), key.getDirectionCharacteristic(), entry.getValue(), entry.getValue());
+                    log.info("Created {}", dataset);
+                } else {
+                    // we had previous requests of that kind, so we just store the timestamp of this latest request
+                    dataset.setLastPartnerRequest(Math.max(dataset.getLastPartnerRequest(), entry.getValue()));
+                }
+                changed.add(dataset);
+            }
+            for (ErpAdapterTriggerDataset dataset : repository.saveAll(changed)) {
+                if (!queued.containsKey(key(dataset))) {
+                    enqueue(dataset);
+                }
+            }
+            if (written != null) {
+                written.increment(changed.size());
+            }
+        } catch (Exception e) {
+            log.error("Failed to write {} partner requests, retrying", notifications.size(), e);
+            notifications.forEach((key, lastPartnerRequest) -> pending.merge(key, lastPartnerRequest, Math::max));
+            if (flushScheduled.compareAndSet(false, true)) {
+                scheduler.schedule(this::flush, erpAdapterConfiguration.getNotificationFlushInterval(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
 
+    /**
+     * Sends all erp adapter requests that are due, deletes expired datasets and schedules
+     * the next wake-up. Runs on the scheduler thread only.
+     * <p>
+     * The next due time of a dataset is only advanced and persisted after its request was
+     * sent (see {@link #complete()}). Until then the dataset stays due in the database, so
+     * a request that was still running or waiting in the executor is repeated after a restart.
+     */
+    private void fire() {
+        wakeUp = null;
+        wakeUpTime = Long.MAX_VALUE;
         long now = new Date().getTime();
-        if (dataset == null) {
-            // unknown request specifics, so we trigger a new request right now
-            ErpAdapterRequest erpAdapterRequest = new ErpAdapterRequest();
-            erpAdapterRequest.setRequestDate(new Date(now));
-            erpAdapterRequest.setPartnerBpnl(partnerBpnl);
-            erpAdapterRequest.setOwnMaterialNumber(ownMaterialNumber);
-            erpAdapterRequest.setDirectionCharacteristic(direction);
-            erpAdapterRequest.setRequestType(type);
-            erpAdapterRequest.setSammVersion(type.ERP_SAMM_VERSION);
-            executorService.submit(() -> erpAdapterRequestService.createAndSend(erpAdapterRequest));
-
-            // create dataset for the daemon thread to schedule future erp adapter requests
-            dataset = new ErpAdapterTriggerDataset(partnerBpnl, ownMaterialNumber, type, directionString, now,
-                now + erpAdapterConfiguration.getRefreshInterval());
-            // it seems safer when only the Daemon thread writes to the repository
-            lock.lock();
-            try {
-                datasets.add(dataset);
-            } finally {
-                lock.unlock();
+        try {
+            if (now >= loadedUntil) {
+                load(now + LOOKAHEAD);
             }
-            log.info("Created {}", dataset);
-        } else {
-            // we had previous requests of that kind, so we just store the timestamp of this latest request
-            dataset.setLastPartnerRequest(now);
-            lock.lock();
-            try {
-                datasets.add(dataset);
-            } finally {
-                lock.unlock();
+            long timeLimit = erpAdapterConfiguration.getRefreshTimeLimit();
+            List<ErpAdapterTriggerDataset> expired = new ArrayList<>();
+            int sent = 0;
+            boolean rejected = false;
+            while (!queue.isEmpty() && queue.peek().getNextErpRequestScheduled() <= now) {
+                ErpAdapterTriggerDataset dataset = queue.peek();
+                if (dataset.getLastPartnerRequest() + timeLimit <= now) {
+                    // too much time has passed since last request of this kind, so
+                    // we will stop triggering further updates from the erp adapter
+                    queue.poll();
+                    queued.remove(key(dataset));
+                    expired.add(dataset);
+                    log.info("Stopped scheduling further requests for : {}", dataset);
+                    continue;
+                }
+                // the time has come for a new erp adapter request
+                try {
+                    sendRequest(dataset, now);
+                } catch (RejectedExecutionException e) {
+                    // the executor is saturated, the remaining datasets stay due
+                    log.warn("Erp adapter executor rejected scheduled requests, retrying in {} ms", LOOKAHEAD);
+                    rejected = true;
+                    break;
+                }
+                // the dataset remains in queued while in flight, so that it is neither loaded
+                // again nor enqueued by a flush
+                queue.poll();
+                sent++;
             }
+            if (!expired.isEmpty()) {
+                repository.deleteAll(expired);
+            }
+            if (sent > 0) {
+                log.info("Sent {} scheduled erp adapter requests", sent);
+            }
+            notBefore = rejected ? now + LOOKAHEAD : Long.MIN_VALUE;
+        } catch (Exception e) {
+            // back off instead of retrying right away, e.g. while the database is unavailable
+            log.error("Failed to process scheduled erp adapter requests, retrying in {} ms", LOOKAHEAD, e);
+            notBefore = now + LOOKAHEAD;
         }
-        if (daemonObject == null) {
-            daemonObject = executorService.submit(daemon);
+        reschedule();
+    }
+
+    /**
+     * Advances and persists the next due time of all datasets whose request has completed
+     * and puts them back into the queue. Runs on the scheduler thread only.
+     */
+    private void complete() {
+        List<ErpAdapterTriggerDataset> rescheduled = new ArrayList<>();
+        for (ErpAdapterTriggerDataset.Key key : completed.keySet()) {
+            Long nextErpRequestScheduled = completed.remove(key);
+            ErpAdapterTriggerDataset dataset = queued.remove(key);
+            if (nextErpRequestScheduled == null || dataset == null) {
+                continue;
+            }
+            dataset.setNextErpRequestScheduled(nextErpRequestScheduled);
+            rescheduled.add(dataset);
+            log.debug("Scheduled next erp adapter request: {}", dataset);
+        }
+        if (rescheduled.isEmpty()) {
+            return;
+        }
+        try {
+            for (ErpAdapterTriggerDataset dataset : repository.saveAll(rescheduled)) {
+                enqueue(dataset);
+            }
+        } catch (Exception e) {
+            // the stored due time has not been advanced, so the requests are repeated at the latest
+            // when the window is loaded again
+            log.error("Failed to write the next due time of {} erp adapter trigger datasets", rescheduled.size(), e);
+            for (ErpAdapterTriggerDataset dataset : rescheduled) {
+                enqueue(dataset);
+            }
         }
     }
 
+    private void load(long horizon) {
+        int loaded = 0;
+        for (ErpAdapterTriggerDataset dataset : repository.findAllByNextErpRequestScheduledLessThanEqual(horizon)) {
+            // queued instances may carry more recent information than the database
+            if (queued.putIfAbsent(key(dataset), dataset) == null) {
+                queue.add(dataset);
+                loaded++;
+            }
+        }
+        loadedUntil = horizon;
+        log.debug("Loaded {} erp adapter trigger datasets due until {}", loaded, new Date(horizon));
+    }
+
+    private void enqueue(ErpAdapterTriggerDataset dataset) {
+        // later datasets are loaded by the query as soon as they enter the window
+        if (dataset.getNextErpRequestScheduled() <= loadedUntil) {
+            queued.put(key(dataset), dataset);
+            queue.add(dataset);
+        }
+        reschedule();
+    }
+
+    private void reschedule() {
+        long next = loadedUntil;
+        if (!queue.isEmpty()) {
+            next = Math.min(next, queue.peek().getNextErpRequestScheduled());
+        }
+        next = Math.max(next, notBefore);
+        if (wakeUp != null) {
+            if (wakeUpTime <= next) {
+                return;
+            }
+            wakeUp.cancel(false);
+        }
+        wakeUpTime = next;
+        wakeUp = scheduler.schedule(this::fire, Math.max(0, next - new Date().getTime()), TimeUnit.MILLISECONDS);
+    }
+
+    private void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private void sendRequest(ErpAdapterTriggerDataset dataset, long now) {
+        ErpAdapterTriggerDataset.Key key = key(dataset);
+        AssetType type = dataset.getAssetType();
+        ErpAdapterRequest request = new ErpAdapterRequest();
+        request.setRequestDate(new Date(now));
+        request.setPartnerBpnl(dataset.getPartnerBpnl());
+        request.setOwnMaterialNumber(dataset.getOwnMaterialNumber());
+        request.setDirectionCharacteristic(dataset.getDirectionCharacteristic().isEmpty() ?
+            null : DirectionCharacteristic.valueOf(dataset.getDirectionCharacteristic()));
+        request.setRequestType(type);
+        request.setSammVersion(type.ERP_SAMM_VERSION);
+        long refreshInterval = erpAdapterConfiguration.getRefreshInterval();
+        executorService.submit(() -> {
+            long nextErpRequestScheduled;
+            try {
+                erpAdapterRequestService.createAndSend(request);
+                nextErpRequestScheduled = now + refreshInterval;
+            } catch (Exception e) {
+                log.error("Failed to send scheduled erp adapter request, retrying in {} ms: {}", LOOKAHEAD, request, e);
+                nextErpRequestScheduled = new Date().getTime() + LOOKAHEAD;
+            }
+            // hand the dataset back to the scheduler thread
+            completed.put(key, nextErpRequestScheduled);
+            scheduler.execute(this::complete);
+        });
+    }
+
+    private static ErpAdapterTriggerDataset.Key key(ErpAdapterTriggerDataset dataset) {
+        return new ErpAdapterTriggerDataset.Key(dataset.getPartnerBpnl(), dataset.getOwnMaterialNumber(),
+            dataset.getAssetType(), dataset.getDirectionCharacteristic());
+    }
 }
@@ -126,8 +126,7 @@ public class ItemStockErpAdapterService {
                     if (removed > 0) {
                         log.warn("Removed {} out of {} MaterialItemStocks because of failing validation.", removed, initialSize);
                     }
-                    materialItemStockService.findByPartnerAndMaterial(partner, material).forEach(stock -> materialItemStockService.delete(stock.getUuid()));
-                    materialItemStockList.forEach(stock -> materialItemStockService.create(stock));
+                    materialItemStockService.replaceAll(partner, material, materialItemStockList);
                     log.info("Inserted {} MaterialItemStocks for {} and {}", materialItemStockList.size(), material.getOwnMaterialNumber(), partner.getBpnl());
                     request.setResponseReceivedDate(dto.responseTimeStamp());
                     erpAdapterRequestService.update(request);
@@ -146,8 +145,7 @@ public class ItemStockErpAdapterService {
                     if (removed > 0) {
                         log.warn("Removed {} out of {} ProductItemStocks because of failing validation.", removed, initialSize);
                     }
-                    productItemStockService.findByPartnerAndMaterial(partner, material).forEach(stock -> productItemStockService.delete(stock.getUuid()));
-                    productItemStockList.forEach(stock -> productItemStockService.create(stock));
+                    productItemStockService.replaceAll(partner, material, productItemStockList);
                     log.info("Inserted {} ProductItemStocks for {} and {}", productItemStockList.size(), material.getOwnMaterialNumber(), partner.getBpnl());
                     request.setResponseReceivedDate(dto.responseTimeStamp());
                     erpAdapterRequestService.update(request);
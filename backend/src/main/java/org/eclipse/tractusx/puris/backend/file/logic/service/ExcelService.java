@@ -21,32 +21,35 @@ package org.eclipse.tractusx.puris.backend.file.logic.service;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
 
-import org.apache.poi.ss.formula.FormulaParseException;
-import org.apache.poi.ss.formula.eval.NotImplementedFunctionException;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.ss.util.CellReference;
 import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
+import org.eclipse.tractusx.puris.backend.delivery.domain.model.Delivery;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.EventTypeEnumeration;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.IncotermEnumeration;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.OwnDelivery;
 import org.eclipse.tractusx.puris.backend.delivery.logic.service.OwnDeliveryService;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.Demand;
 import org.eclipse.tractusx.puris.backend.demand.domain.model.DemandCategoryEnumeration;
 import org.eclipse.tractusx.puris.backend.demand.domain.model.OwnDemand;
 import org.eclipse.tractusx.puris.backend.demand.logic.services.OwnDemandService;
 import org.eclipse.tractusx.puris.backend.file.domain.model.DataDocumentTypeEnumeration;
 import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportError;
 import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportResult;
+import org.eclipse.tractusx.puris.backend.file.logic.util.StreamingSheetReader;
+import org.eclipse.tractusx.puris.backend.file.logic.util.StreamingSheetReader.SheetRow;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.eclipse.tractusx.puris.backend.production.domain.model.OwnProduction;
+import org.eclipse.tractusx.puris.backend.production.domain.model.Production;
 import org.eclipse.tractusx.puris.backend.production.logic.service.OwnProductionService;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.ItemStock;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.MaterialItemStock;
@@ -58,9 +61,30 @@ import org.springframework.stereotype.Service;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Imports demands, productions, deliveries or stocks from an excel file, replacing all existing
+ * entries of that type.
+ * <p>
+ * The file is streamed row by row. Valid rows are persisted in chunks of {@link #CHUNK_SIZE}, so that
+ * memory usage does not grow with the size of the file. Should any row fail, the import continues
+ * to validate the remaining rows, but the already persisted rows are removed again and the existing
+ * data is kept.
+ */
 @Service
 @Slf4j
 public class ExcelService {
+
+    /**
+     * Number of rows that are persisted together
+     */
+    static final int CHUNK_SIZE = 1000;
+
+    /**
+     * Maximum number of errors per kind that are returned in the result. All errors are passed to
+     * the error listener.
+     */
+    static final int MAX_REPORTED_ERRORS = 1000;
+
     private final List<String> demandColumns = List.of(
         "ownMaterialNumber",
         "partnerBpnl",
@@ -135,543 +159,693 @@ public class ExcelService {
     private ProductItemStockService productItemStockService;
     
     public DataImportResult readExcelFile(InputStream is) throws IOException {
-        Workbook workbook = WorkbookFactory.create(is);
-        List<DataImportError> formulaErrors = evaluateWorkbook(workbook);
-        if (!formulaErrors.isEmpty()) {
-            return new DataImportResult("Excel formula evaluation failed.", formulaErrors);
-        }
-        Sheet sheet = workbook.getSheetAt(0);
-        var result = extractAndSaveData(sheet);
-        workbook.close();
-        return result;
+        return readExcelFile(is, error -> { });
     }
 
-    private DataImportResult extractAndSaveData(Sheet sheet) {
-        DataDocumentTypeEnumeration documentType = validateHeaders(sheet);
+    /**
+     * Imports the data of the given excel file.
+     *
+     * @param is            the excel file
+     * @param errorListener receives every row-level error as soon as it is detected
+     * @return the result of the import
+     * @throws IOException              if the file can not be read
+     * @throws IllegalArgumentException if the columns don't match any supported data type
+     */
+    public DataImportResult readExcelFile(InputStream is, Consumer<DataImportError> errorListener) throws IOException {
+        RowImporter<?>[] importer = new RowImporter<?>[1];
+        StreamingSheetReader.read(is, row -> {
+            if (importer[0] == null) {
+                importer[0] = createImporter(validateHeaders(row), errorListener);
+            } else {
+                importer[0].accept(row);
+            }
+        });
+        if (importer[0] == null) {
+            throw new IllegalArgumentException("Unsupported Excel file format: column structure does not match any supported data type (Demand, Production, Delivery, or Stock)");
+        }
+        return importer[0].finish();
+    }
+
+    private RowImporter<?> createImporter(DataDocumentTypeEnumeration documentType, Consumer<DataImportError> errorListener) {
         if (documentType == null) {
             throw new IllegalArgumentException("Unsupported Excel file format: column structure does not match any supported data type (Demand, Production, Delivery, or Stock)");
         }
-        
+
         switch(documentType) {
             case DataDocumentTypeEnumeration.DEMAND:
-                return extractAndSaveDemands(sheet);
+                return new DemandImporter(errorListener);
             case DataDocumentTypeEnumeration.PRODUCTION:
-                return extractAndSaveProductions(sheet);
+                return new ProductionImporter(errorListener);
             case DataDocumentTypeEnumeration.DELIVERY:
-                return extractAndSaveDeliveries(sheet);
+                return new DeliveryImporter(errorListener);
             case DataDocumentTypeEnumeration.STOCK:
-                return extractAndSaveStocks(sheet);
+                return new StockImporter(errorListener);
             default:
                 throw new IllegalArgumentException("Unsupported Excel file format: column structure does not match any supported data type (Demand, Production, Delivery, or Stock)");
         }
     }
 
-    private DataImportResult extractAndSaveDemands(Sheet sheet) {
-        List<OwnDemand> demands = new ArrayList<>();
-        List<DataImportError> errors = new ArrayList<>();
-        Iterator<Row> rowIterator = sheet.iterator();
-        int rowIndex = 0;
-
-        if (rowIterator.hasNext()) {
-            rowIterator.next();
-            rowIndex++;
+    /**
+     * Validates, checks for conflicts and persists the rows of one type of data. Rows are persisted in
+     * chunks as long as no error occurred. The existing entries are only deleted once all rows have been
+     * persisted successfully.
+     *
+     * @param <T> the type of imported data
+     */
+    private abstract class RowImporter<T> {
+        private final String processFailedMessage;
+        private final String persistFailedMessage;
+        private final String successMessage;
+        private final Consumer<DataImportError> errorListener;
+
+        private final List<DataImportError> rowErrors = new ArrayList<>();
+        private final List<DataImportError> conflictErrors = new ArrayList<>();
+        private final List<DataImportError> persistErrors = new ArrayList<>();
+        private int errorCount = 0;
+
+        /**
+         * the first row for each business key, only the keys are kept to detect conflicts
+         */
+        private final Map<Object, Integer> firstRowByKey = new HashMap<>();
+        private final Map<Object, List<Integer>> conflictingRowsByKey = new HashMap<>();
+
+        private final List<T> chunk = new ArrayList<>();
+        private final List<Integer> chunkRows = new ArrayList<>();
+        private boolean existingRecorded = false;
+
+        RowImporter(String processFailedMessage, String persistFailedMessage, String successMessage,
+                    Consumer<DataImportError> errorListener) {
+            this.processFailedMessage = processFailedMessage;
+            this.persistFailedMessage = persistFailedMessage;
+            this.successMessage = successMessage;
+            this.errorListener = errorListener;
         }
 
-        while (rowIterator.hasNext()) {
-            List<String> rowErrors = new ArrayList<>();
-            Row row = rowIterator.next();
-            rowIndex++;
-            if (isRowEmpty(row)) {
-                continue;
+        /**
+         * Creates the entity of a row and validates it.
+         *
+         * @param row       the row
+         * @param rowErrors collects the validation errors of the row
+         * @return the entity
+         * @throws Exception if the row can't be validated any further
+         */
+        abstract T parse(SheetRow row, List<String> rowErrors) throws Exception;
+
+        /**
+         * Persists a new entity and remembers it for a rollback.
+         *
+         * @throws Exception if the entity could not be persisted
+         */
+        abstract void persist(T entity) throws Exception;
+
+        /**
+         * Persists the new entities of a chunk with one existence check and one batched insert and
+         * remembers them for a rollback. Either all or none of the entities are persisted.
+         *
+         * @throws Exception if the entities could not be persisted
+         */
+        abstract void persistAll(List<T> entities) throws Exception;
+
+        /**
+         * Deletes all entities that have been persisted by this import.
+         */
+        abstract void rollback();
+
+        /**
+         * Remembers the entries that existed before this import.
+         */
+        abstract void recordExisting();
+
+        /**
+         * Deletes the entries that existed before this import.
+         */
+        abstract void deleteExisting();
+
+        void accept(SheetRow row) {
+            if (row.isEmpty()) {
+                return;
             }
+            int rowNumber = row.getRowNumber();
+            List<String> errors = new ArrayList<>(row.getFormulaErrors());
+            T entity;
             try {
-                String ownMaterialNumber = getStringCellValue(row.getCell(0));
-                String partnerBpnl = getStringCellValue(row.getCell(1));
-                double quantity = Double.parseDouble(getStringCellValue(row.getCell(2)));
-                String unitOfMeasurement = getStringCellValue(row.getCell(3));
-                String expectedSupplierSiteBpns = getStringCellValue(row.getCell(4));
-                String demandSiteBpns = getStringCellValue(row.getCell(5));
-                String demandCategoryCodeStr = getStringCellValue(row.getCell(6));
-                Date day = getDateCellValue(row.getCell(7));
-                Date lastUpdatedOnDateTime = getDateCellValue(row.getCell(8));
-                ItemUnitEnumeration unitEnum = null;
-                try {
-                    unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
-                } catch (Exception e) {
-                    rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
-                }
-                DemandCategoryEnumeration categoryEnum = null;
-                try {
-                    categoryEnum = DemandCategoryEnumeration.fromValue(demandCategoryCodeStr.toUpperCase());
-                } catch (Exception e) {
-                    rowErrors.add("Invalid demand category: " + demandCategoryCodeStr);
-                }
+                entity = parse(row, errors);
+            } catch (Exception e) {
+                List<String> remainingErrors = new ArrayList<>(row.getFormulaErrors());
+                remainingErrors.add(e.getMessage() + " Further validations for this row are not possible.");
+                report(rowErrors, new DataImportError(rowNumber, remainingErrors));
+                return;
+            }
+            if (!errors.isEmpty()) {
+                report(rowErrors, new DataImportError(rowNumber, errors));
+                return;
+            }
 
-                if (lastUpdatedOnDateTime == null) {
-                    lastUpdatedOnDateTime = new Date();
-                }
+            Object key = businessKey(entity);
+            Integer firstRow = firstRowByKey.putIfAbsent(key, rowNumber);
+            if (firstRow != null) {
+                List<Integer> conflictingRows = conflictingRowsByKey.computeIfAbsent(key, k -> new ArrayList<>(List.of(firstRow)));
+                report(conflictErrors, new DataImportError(rowNumber, List.of("The row " + rowNumber + " conflicts with the following rows: " + conflictingRows.toString())));
+                conflictingRows.add(rowNumber);
+                return;
+            }
 
-                Material material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
-                if (material == null) throw new IllegalArgumentException("Material not found.");
-
-                Partner partner = partnerService.findByBpnl(partnerBpnl);
-                if (partner == null) throw new IllegalArgumentException("Partner not found.");
-
-                OwnDemand demand = OwnDemand.builder()
-                        .material(material)
-                        .partner(partner)
-                        .quantity(quantity)
-                        .measurementUnit(unitEnum)
-                        .supplierLocationBpns(expectedSupplierSiteBpns)
-                        .demandLocationBpns(demandSiteBpns)
-                        .demandCategoryCode(categoryEnum)
-                        .day(day)
-                        .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
-                        .build();
-                rowErrors.addAll(ownDemandService.validateWithDetails(demand));
-                if (!rowErrors.isEmpty()) {
-                    errors.add(new DataImportError(rowIndex, rowErrors));
+            if (errorCount == 0) {
+                chunk.add(entity);
+                chunkRows.add(rowNumber);
+                if (chunk.size() >= CHUNK_SIZE) {
+                    persistChunk();
                 }
-                demands.add(demand);
-            } catch (Exception e) {
-                errors.add(new DataImportError(rowIndex, List.of(e.getMessage() + " Further validations for this row are not possible.")));
             }
         }
 
-        if (errors.isEmpty()) {
-            try {
-                var conflictErrors = checkConflicts(demands);
-                if (!conflictErrors.isEmpty()) {
-                    return new DataImportResult("One or more conflicting rows found.", conflictErrors);
-                }
-            } catch(Exception e) {
-                return new DataImportResult("Error while checking conflicts", List.of(new DataImportError(0, List.of(e.getMessage()))));
+        DataImportResult finish() {
+            if (errorCount == 0) {
+                persistChunk();
             }
-            List<OwnDemand> addedDemands = new ArrayList<>();
-            List<OwnDemand> existingDemands = ownDemandService.findAll();
-            for (var newDemand : demands) {
-                try {
-                    var added = ownDemandService.create(newDemand);
-                    if (added == null) {
-                        log.error("Failed to persist demand: {}", newDemand);
-                        throw new IllegalArgumentException("Invalid demand");
+            if (!rowErrors.isEmpty()) {
+                rollback();
+                log.info(rowErrors.toString());
+                return new DataImportResult(processFailedMessage, truncated(rowErrors));
+            }
+            if (!conflictErrors.isEmpty()) {
+                rollback();
+                return new DataImportResult("One or more conflicting rows found.", truncated(conflictErrors));
+            }
+            if (!persistErrors.isEmpty()) {
+                rollback();
+                return new DataImportResult(persistFailedMessage, persistErrors);
+            }
+            if (!existingRecorded) {
+                recordExisting();
+            }
+            deleteExisting();
+            return new DataImportResult(successMessage, new ArrayList<>());
+        }
+
+        private void persistChunk() {
+            if (!existingRecorded) {
+                recordExisting();
+                existingRecorded = true;
+            }
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                persistAll(chunk);
+            } catch (Exception e) {
+                // persist the rows one by one, so that the error can be attributed to a row
+                log.warn("Failed to persist chunk of {} rows, persisting them one by one: {}", chunk.size(), e.getMessage());
+                for (int i = 0; i < chunk.size(); i++) {
+                    T entity = chunk.get(i);
+                    try {
+                        persist(entity);
+                    } catch (Exception rowException) {
+                        log.error("Failed to persist {}", entity);
+                        report(persistErrors, new DataImportError(chunkRows.get(i), List.of(String.valueOf(rowException.getMessage()))));
+                        break;
                     }
-                    addedDemands.add(added);
-                } catch (Exception e) {
-                    int idx = demands.indexOf(newDemand);
-                    errors.add(new DataImportError(idx + 2, List.of(e.getMessage())));
-                    addedDemands.forEach(s -> ownDemandService.delete(s.getUuid()));
-                    return new DataImportResult("Failed to persist demands", errors);
                 }
             }
-            existingDemands.forEach(d -> ownDemandService.delete(d.getUuid()));
-            return new DataImportResult("Successfully imported demands", errors);
-        } else {
-            log.info(errors.toString());
+            chunk.clear();
+            chunkRows.clear();
+        }
+
+        private void report(List<DataImportError> errors, DataImportError error) {
+            errorCount++;
+            errorListener.accept(error);
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+            // nothing is persisted anymore, so the pending rows can be released
+            chunk.clear();
+            chunkRows.clear();
         }
 
-        return new DataImportResult("Failed to process Demand rows", errors);
+        private List<DataImportError> truncated(List<DataImportError> errors) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                return errors;
+            }
+            List<DataImportError> result = new ArrayList<>(errors);
+            result.add(new DataImportError(0, List.of("Only the first " + MAX_REPORTED_ERRORS + " errors are reported.")));
+            return result;
+        }
     }
 
-    private DataImportResult extractAndSaveProductions(Sheet sheet) {
-        List<OwnProduction> productions = new ArrayList<>();
-        List<DataImportError> errors = new ArrayList<>();
-        Iterator<Row> rowIterator = sheet.iterator();
-        int rowIndex = 0;
+    private final class DemandImporter extends RowImporter<OwnDemand> {
+        private final List<UUID> created = new ArrayList<>();
+        private List<UUID> existing = List.of();
 
-        if (rowIterator.hasNext()) {
-            rowIterator.next();
-            rowIndex++;
+        DemandImporter(Consumer<DataImportError> errorListener) {
+            super("Failed to process Demand rows", "Failed to persist demands", "Successfully imported demands", errorListener);
         }
 
-        while (rowIterator.hasNext()) {
-            List<String> rowErrors = new ArrayList<>();
-            Row row = rowIterator.next();
-            rowIndex++;
-            if (isRowEmpty(row)) {
-                continue;
+        @Override
+        OwnDemand parse(SheetRow row, List<String> rowErrors) {
+            String ownMaterialNumber = row.getString(0);
+            String partnerBpnl = row.getString(1);
+            double quantity = Double.parseDouble(row.getString(2));
+            String unitOfMeasurement = row.getString(3);
+            String expectedSupplierSiteBpns = row.getString(4);
+            String demandSiteBpns = row.getString(5);
+            String demandCategoryCodeStr = row.getString(6);
+            Date day = row.getDate(7);
+            Date lastUpdatedOnDateTime = row.getDate(8);
+            ItemUnitEnumeration unitEnum = null;
+            try {
+                unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
+            } catch (Exception e) {
+                rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
             }
+            DemandCategoryEnumeration categoryEnum = null;
             try {
-                String ownMaterialNumber = getStringCellValue(row.getCell(0));
-                String partnerBpnl = getStringCellValue(row.getCell(1));
-                double quantity = Double.parseDouble(getStringCellValue(row.getCell(2)));
-                String unitOfMeasurement = getStringCellValue(row.getCell(3));
-                String productionSiteBpns = getStringCellValue(row.getCell(4));
-                Date estimatedTimeOfCompletion = getDateCellValue(row.getCell(5));
-                String customerOrderNumber = getStringCellValue(row.getCell(6));
-                String customerPositionNumber = getStringCellValue(row.getCell(7));
-                String supplierOrderNumber = getStringCellValue(row.getCell(8));
-                Date lastUpdatedOnDateTime = getDateCellValue(row.getCell(9));
-
-                ItemUnitEnumeration unitEnum = null;
-                try {
-                    unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
-                } catch (Exception e) {
-                    rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
-                }
+                categoryEnum = DemandCategoryEnumeration.fromValue(demandCategoryCodeStr.toUpperCase());
+            } catch (Exception e) {
+                rowErrors.add("Invalid demand category: " + demandCategoryCodeStr);
+            }
 
-                if (lastUpdatedOnDateTime == null) {
-                    lastUpdatedOnDateTime = new Date();
-                }
+            if (lastUpdatedOnDateTime == null) {
+                lastUpdatedOnDateTime = new Date();
+            }
 
-                Material material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
-                if (material == null) throw new IllegalArgumentException("Material not found.");
+            Material material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
+            if (material == null) throw new IllegalArgumentException("Material not found.");
 
-                Partner partner = partnerService.findByBpnl(partnerBpnl);
-                if (partner == null) throw new IllegalArgumentException("Partner not found.");
+            Partner partner = partnerService.findByBpnl(partnerBpnl);
+            if (partner == null) throw new IllegalArgumentException("Partner not found.");
 
-                OwnProduction production = OwnProduction.builder()
+            OwnDemand demand = OwnDemand.builder()
                     .material(material)
                     .partner(partner)
                     .quantity(quantity)
                     .measurementUnit(unitEnum)
-                    .productionSiteBpns(productionSiteBpns)
-                    .estimatedTimeOfCompletion(estimatedTimeOfCompletion)
-                    .customerOrderNumber(customerOrderNumber)
-                    .customerOrderPositionNumber(customerPositionNumber)
-                    .supplierOrderNumber(supplierOrderNumber)
+                    .supplierLocationBpns(expectedSupplierSiteBpns)
+                    .demandLocationBpns(demandSiteBpns)
+                    .demandCategoryCode(categoryEnum)
+                    .day(day)
                     .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
                     .build();
-                rowErrors.addAll(ownProductionService.validateWithDetails(production));
-                if (!rowErrors.isEmpty()) {
-                    errors.add(new DataImportError(rowIndex, rowErrors));
-                }
-                productions.add(production);
-            } catch (Exception e) {
-                errors.add(new DataImportError(rowIndex, List.of(e.getMessage() + " Further validations for this row are not possible.")));
-            }
+            rowErrors.addAll(ownDemandService.validateWithDetails(demand));
+            return demand;
         }
 
-        if (errors.isEmpty()) {
-            try {
-                var conflictErrors = checkConflicts(productions);
-                if (!conflictErrors.isEmpty()) {
-                    return new DataImportResult("One or more conflicting rows found.", conflictErrors);
-                }
-            } catch(Exception e) {
-                return new DataImportResult("Error while checking conflicts", List.of(new DataImportError(0, List.of(e.getMessage()))));
-            }
-            List<OwnProduction> addedProductions = new ArrayList<>();
-            List<OwnProduction> existingProductions = ownProductionService.findAll();
-            for (var newProduction : productions) {
-                try {
-                    var added = ownProductionService.create(newProduction);
-                    addedProductions.add(added);
-                } catch (Exception e) {
-                    log.error("Failed to persist production: {}", newProduction);
-                    var idx = productions.indexOf(newProduction);
-                    errors.add(new DataImportError(idx + 2, List.of("Failed to persist")));
-                    addedProductions.forEach(p -> ownProductionService.delete(p.getUuid()));
-                    return new DataImportResult("Failed to persist Productions", errors);
-                }
+        @Override
+        void persist(OwnDemand demand) {
+            var added = ownDemandService.create(demand);
+            if (added == null) {
+                log.error("Failed to persist demand: {}", demand);
+                throw new IllegalArgumentException("Invalid demand");
             }
-            existingProductions.forEach(p -> ownProductionService.delete(p.getUuid()));
-            return new DataImportResult("Successfully imported productions", errors);
-        } else {
-            log.info(errors.toString());
+            created.add(added.getUuid());
+        }
+
+        @Override
+        void persistAll(List<OwnDemand> demands) {
+            ownDemandService.createAll(demands).forEach(added -> created.add(added.getUuid()));
+        }
+
+        @Override
+        void rollback() {
+            deleteInChunks(created, ownDemandService::deleteAll);
+        }
+
+        @Override
+        void recordExisting() {
+            existing = ownDemandService.findAllUuids();
+        }
+
+        @Override
+        void deleteExisting() {
+            deleteInChunks(existing, ownDemandService::deleteAll);
         }
-        return new DataImportResult("Failed to process Production rows", errors);
     }
 
-    private DataImportResult extractAndSaveDeliveries(Sheet sheet) {
-        List<OwnDelivery> deliveries = new ArrayList<>();
-        List<DataImportError> errors = new ArrayList<>();
-        Iterator<Row> rowIterator = sheet.iterator();
-        int rowIndex = 0;
+    private final class ProductionImporter extends RowImporter<OwnProduction> {
+        private final List<UUID> created = new ArrayList<>();
+        private List<UUID> existing = List.of();
 
-        if (rowIterator.hasNext()) {
-            rowIterator.next();
-            rowIndex++;
+        ProductionImporter(Consumer<DataImportError> errorListener) {
+            super("Failed to process Production rows", "Failed to persist Productions", "Successfully imported productions", errorListener);
         }
 
-        while (rowIterator.hasNext()) {
-            List<String> rowErrors = new ArrayList<>();
-            Row row = rowIterator.next();
-            rowIndex++;
-            if (isRowEmpty(row)) {
-                continue;
+        @Override
+        OwnProduction parse(SheetRow row, List<String> rowErrors) {
+            String ownMaterialNumber = row.getString(0);
+            String partnerBpnl = row.getString(1);
+            double quantity = Double.parseDouble(row.getString(2));
+            String unitOfMeasurement = row.getString(3);
+            String productionSiteBpns = row.getString(4);
+            Date estimatedTimeOfCompletion = row.getDate(5);
+            String customerOrderNumber = row.getString(6);
+            String customerPositionNumber = row.getString(7);
+            String supplierOrderNumber = row.getString(8);
+            Date lastUpdatedOnDateTime = row.getDate(9);
+
+            ItemUnitEnumeration unitEnum = null;
+            try {
+                unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
+            } catch (Exception e) {
+                rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
+            }
+
+            if (lastUpdatedOnDateTime == null) {
+                lastUpdatedOnDateTime = new Date();
             }
+
+            Material material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
+            if (material == null) throw new IllegalArgumentException("Material not found.");
+
+            Partner partner = partnerService.findByBpnl(partnerBpnl);
+            if (partner == null) throw new IllegalArgumentException("Partner not found.");
+
+            OwnProduction production = OwnProduction.builder()
+                .material(material)
+                .partner(partner)
+                .quantity(quantity)
+                .measurementUnit(unitEnum)
+                .productionSiteBpns(productionSiteBpns)
+                .estimatedTimeOfCompletion(estimatedTimeOfCompletion)
+                .customerOrderNumber(customerOrderNumber)
+                .customerOrderPositionNumber(customerPositionNumber)
+                .supplierOrderNumber(supplierOrderNumber)
+                .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
+                .build();
+            rowErrors.addAll(ownProductionService.validateWithDetails(production));
+            return production;
+        }
+
+        @Override
+        void persist(OwnProduction production) {
+            OwnProduction added;
             try {
-                String ownMaterialNumber = getStringCellValue(row.getCell(0));
-                String partnerBpnl = getStringCellValue(row.getCell(1));
-                double quantity = Double.parseDouble(getStringCellValue(row.getCell(2)));
-                String unitOfMeasurement = getStringCellValue(row.getCell(3));
-                String originSiteBpns = getStringCellValue(row.getCell(4));
-                String originAddressBpna = getStringCellValue(row.getCell(5));
-                String destinationSiteBpns = getStringCellValue(row.getCell(6));
-                String destinationAddressBpna = getStringCellValue(row.getCell(7));
-                String departureType = getStringCellValue(row.getCell(8));
-                Date departureTime = getDateCellValue(row.getCell(9));
-                String arrivalType = getStringCellValue(row.getCell(10));
-                Date arrivalTime = getDateCellValue(row.getCell(11));
-                String trackingNumber = getStringCellValue(row.getCell(12));
-                String incoterm = getStringCellValue(row.getCell(13));
-                String customerOrderNumber = getStringCellValue(row.getCell(14));
-                String customerPositionNumber = getStringCellValue(row.getCell(15));
-                String supplierOrderNumber = getStringCellValue(row.getCell(16));
-                Date lastUpdatedOnDateTime = getDateCellValue(row.getCell(17));
-
-                ItemUnitEnumeration unitEnum = null;
-                try {
-                    unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
-                } catch (Exception e) {
-                    rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
-                }
+                added = ownProductionService.create(production);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Failed to persist", e);
+            }
+            if (added != null) {
+                created.add(added.getUuid());
+            }
+        }
 
-                IncotermEnumeration incotermEnum = null;
-                try {
-                    incotermEnum = IncotermEnumeration.valueOf(incoterm.toUpperCase());
-                } catch (Exception e) {
-                    rowErrors.add("Invalid incoterm: " + incoterm);
-                }
+        @Override
+        void persistAll(List<OwnProduction> productions) {
+            ownProductionService.createAll(productions).forEach(added -> created.add(added.getUuid()));
+        }
 
-                EventTypeEnumeration departureTypeEnum = null;
-                try {
-                    departureTypeEnum = EventTypeEnumeration.fromValue(departureType);
-                } catch (Exception e) {
-                    rowErrors.add("Invalid departure type: " + departureType);
-                }
+        @Override
+        void rollback() {
+            deleteInChunks(created, ownProductionService::deleteAll);
+        }
 
-                EventTypeEnumeration arrivalTypeEnum = null;
-                try {
-                    arrivalTypeEnum = EventTypeEnumeration.fromValue(arrivalType);
-                } catch (Exception e) {
-                    rowErrors.add("Invalid arrival type: " + arrivalType);
-                }
+        @Override
+        void recordExisting() {
+            existing = ownProductionService.findAllUuids();
+        }
 
-                if (lastUpdatedOnDateTime == null) {
-                    lastUpdatedOnDateTime = new Date();
-                }
+        @Override
+        void deleteExisting() {
+            deleteInChunks(existing, ownProductionService::deleteAll);
+        }
+    }
 
-                Material material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
-                if (material == null) throw new IllegalArgumentException("Material not found.");
+    private final class DeliveryImporter extends RowImporter<OwnDelivery> {
+        private final List<UUID> created = new ArrayList<>();
+        private List<UUID> existing = List.of();
 
-                Partner partner = partnerService.findByBpnl(partnerBpnl);
-                if (partner == null) throw new IllegalArgumentException("Partner not found.");
+        DeliveryImporter(Consumer<DataImportError> errorListener) {
+            super("Failed to process Delivery rows", "Failed to persist Deliveries", "Successfully imported deliveries", errorListener);
+        }
 
-                OwnDelivery delivery = OwnDelivery.builder()
-                    .material(material)
-                    .partner(partner)
-                    .quantity(quantity)
-                    .measurementUnit(unitEnum)
-                    .originBpns(originSiteBpns)
-                    .originBpna(originAddressBpna)
-                    .destinationBpns(destinationSiteBpns)
-                    .destinationBpna(destinationAddressBpna)
-                    .departureType(departureTypeEnum)
-                    .dateOfDeparture(departureTime)
-                    .arrivalType(arrivalTypeEnum)
-                    .dateOfArrival(arrivalTime)
-                    .trackingNumber(trackingNumber)
-                    .incoterm(incotermEnum)
-                    .customerOrderNumber(customerOrderNumber)
-                    .customerOrderPositionNumber(customerPositionNumber)
-                    .supplierOrderNumber(supplierOrderNumber)
-                    .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
-                    .build();
-                rowErrors.addAll(ownDeliveryService.validateWithDetails(delivery));
-                if (!rowErrors.isEmpty()) {
-                    errors.add(new DataImportError(rowIndex, rowErrors));
-                }
-                deliveries.add(delivery);
+        @Override
+        OwnDelivery parse(SheetRow row, List<String> rowErrors) {
+            String ownMaterialNumber = row.getString(0);
+            String partnerBpnl = row.getString(1);
+            double quantity = Double.parseDouble(row.getString(2));
+            String unitOfMeasurement = row.getString(3);
+            String originSiteBpns = row.getString(4);
+            String originAddressBpna = row.getString(5);
+            String destinationSiteBpns = row.getString(6);
+            String destinationAddressBpna = row.getString(7);
+            String departureType = row.getString(8);
+            Date departureTime = row.getDate(9);
+            String arrivalType = row.getString(10);
+            Date arrivalTime = row.getDate(11);
+            String trackingNumber = row.getString(12);
+            String incoterm = row.getString(13);
+            String customerOrderNumber = row.getString(14);
+            String customerPositionNumber = row.getString(15);
+            String supplierOrderNumber = row.getString(16);
+            Date lastUpdatedOnDateTime = row.getDate(17);
+
+            ItemUnitEnumeration unitEnum = null;
+            try {
+                unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
             } catch (Exception e) {
-                errors.add(new DataImportError(rowIndex, List.of(e.getMessage() + " Further validations for this row are not possible.")));
+                rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
             }
-        }
 
-        if (errors.isEmpty()) {
+            IncotermEnumeration incotermEnum = null;
             try {
-                var conflictErrors = checkConflicts(deliveries);
-                if (!conflictErrors.isEmpty()) {
-                    return new DataImportResult("One or more conflicting rows found.", conflictErrors);
-                }
-            } catch(Exception e) {
-                return new DataImportResult("Error while checking conflicts", List.of(new DataImportError(0, List.of(e.getMessage()))));
+                incotermEnum = IncotermEnumeration.valueOf(incoterm.toUpperCase());
+            } catch (Exception e) {
+                rowErrors.add("Invalid incoterm: " + incoterm);
             }
-            List<OwnDelivery> addedDeliveries = new ArrayList<>();
-            List<OwnDelivery> existingDeliveries = ownDeliveryService.findAll();
 
-            for (var newDelivery : deliveries) {
-                try {
-                    var added = ownDeliveryService.create(newDelivery);
-                    addedDeliveries.add(added);
-                } catch(Exception e) {
-                    log.error("Failed to persist delivery: {}", newDelivery);
-                    int idx = deliveries.indexOf(newDelivery);
-                    errors.add(new DataImportError(idx + 2, List.of(e.getMessage())));
-                    addedDeliveries.forEach(d -> ownDeliveryService.delete(d.getUuid()));
-                    return new DataImportResult("Failed to persist Deliveries", errors);
-                }
+            EventTypeEnumeration departureTypeEnum = null;
+            try {
+                departureTypeEnum = EventTypeEnumeration.fromValue(departureType);
+            } catch (Exception e) {
+                rowErrors.add("Invalid departure type: " + departureType);
             }
-            existingDeliveries.forEach(d -> ownDeliveryService.delete(d.getUuid()));
-            return new DataImportResult("Successfully imported deliveries", errors);
-        } else {
-            log.info(errors.toString());
+
+            EventTypeEnumeration arrivalTypeEnum = null;
+            try {
+                arrivalTypeEnum = EventTypeEnumeration.fromValue(arrivalType);
+            } catch (Exception e) {
+                rowErrors.add("Invalid arrival type: " + arrivalType);
+            }
+
+            if (lastUpdatedOnDateTime == null) {
+                lastUpdatedOnDateTime = new Date();
+            }
+
+            Material material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
+            if (material == null) throw new IllegalArgumentException("Material not found.");
+
+            Partner partner = partnerService.findByBpnl(partnerBpnl);
+            if (partner == null) throw new IllegalArgumentException("Partner not found.");
+
+            OwnDelivery delivery = OwnDelivery.builder()
+                .material(material)
+                .partner(partner)
+                .quantity(quantity)
+                .measurementUnit(unitEnum)
+                .originBpns(originSiteBpns)
+                .originBpna(originAddressBpna)
+                .destinationBpns(destinationSiteBpns)
+                .destinationBpna(destinationAddressBpna)
+                .departureType(departureTypeEnum)
+                .dateOfDeparture(departureTime)
+                .arrivalType(arrivalTypeEnum)
+                .dateOfArrival(arrivalTime)
+                .trackingNumber(trackingNumber)
+                .incoterm(incotermEnum)
+                .customerOrderNumber(customerOrderNumber)
+                .customerOrderPositionNumber(customerPositionNumber)
+                .supplierOrderNumber(supplierOrderNumber)
+                .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
+                .build();
+            rowErrors.addAll(ownDeliveryService.validateWithDetails(delivery));
+            return delivery;
+        }
+
+        @Override
+        void persist(OwnDelivery delivery) {
+            var added = ownDeliveryService.create(delivery);
+            if (added != null) {
+                created.add(added.getUuid());
+            }
+        }
+
+        @Override
+        void persistAll(List<OwnDelivery> deliveries) {
+            ownDeliveryService.createAll(deliveries).forEach(added -> created.add(added.getUuid()));
+        }
+
+        @Override
+        void rollback() {
+            deleteInChunks(created, ownDeliveryService::deleteAll);
+        }
+
+        @Override
+        void recordExisting() {
+            existing = ownDeliveryService.findAllUuids();
         }
 
-        return new DataImportResult("Failed to process Delivery rows", errors);
+        @Override
+        void deleteExisting() {
+            deleteInChunks(existing, ownDeliveryService::deleteAll);
+        }
     }
 
-    private DataImportResult extractAndSaveStocks(Sheet sheet) {
-        List<MaterialItemStock> materialStocks = new ArrayList<>();
-        List<ProductItemStock> productStocks = new ArrayList<>();
-        List<ItemStock> allStocks = new ArrayList<>();
-        List<DataImportError> errors = new ArrayList<>();
-        Iterator<Row> rowIterator = sheet.iterator();
-        int rowIndex = 0;
+    private final class StockImporter extends RowImporter<ItemStock> {
+        private final List<UUID> createdMaterialStocks = new ArrayList<>();
+        private final List<UUID> createdProductStocks = new ArrayList<>();
+        private List<UUID> existingMaterialStocks = List.of();
+        private List<UUID> existingProductStocks = List.of();
 
-        if (rowIterator.hasNext()) {
-            rowIterator.next();
-            rowIndex++;
+        StockImporter(Consumer<DataImportError> errorListener) {
+            super("Failed to process stock rows", "Failed to persist stocks", "Successfully imported stocks", errorListener);
         }
 
-        while (rowIterator.hasNext()) {
-            List<String> rowErrors = new ArrayList<>();
-            Row row = rowIterator.next();
-            rowIndex++;
-            if (isRowEmpty(row)) {
-                continue;
-            }
+        @Override
+        ItemStock parse(SheetRow row, List<String> rowErrors) {
+            String ownMaterialNumber = row.getString(0);
+            String partnerBpnl = row.getString(1);
+            double quantity = Double.parseDouble(row.getString(2));
+            String unitOfMeasurement = row.getString(3);
+            String stockSiteBpns = row.getString(4);
+            String stockAddressBpna = row.getString(5);
+            String customerOrderNumber = row.getString(6);
+            String customerPositionNumber = row.getString(7);
+            String supplierOrderNumber = row.getString(8);
+            boolean isBlocked = row.getBoolean(9);
+            Date lastUpdatedOnDateTime = row.getDate(10);
+            String direction = row.getString(11);
+
+            ItemUnitEnumeration unitEnum = null;
             try {
-                String ownMaterialNumber = getStringCellValue(row.getCell(0));
-                String partnerBpnl = getStringCellValue(row.getCell(1));
-                double quantity = Double.parseDouble(getStringCellValue(row.getCell(2)));
-                String unitOfMeasurement = getStringCellValue(row.getCell(3));
-                String stockSiteBpns = getStringCellValue(row.getCell(4));
-                String stockAddressBpna = getStringCellValue(row.getCell(5));
-                String customerOrderNumber = getStringCellValue(row.getCell(6));
-                String customerPositionNumber = getStringCellValue(row.getCell(7));
-                String supplierOrderNumber = getStringCellValue(row.getCell(8));
-                boolean isBlocked = row.getCell(9).getBooleanCellValue();
-                Date lastUpdatedOnDateTime = getDateCellValue(row.getCell(10));
-                String direction = getStringCellValue(row.getCell(11));
-
-                ItemUnitEnumeration unitEnum = null;
-                try {
-                    unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
-                } catch (Exception e) {
-                    rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
-                }
+                unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
+            } catch (Exception e) {
+                rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
+            }
 
-                if (lastUpdatedOnDateTime == null) {
-                    lastUpdatedOnDateTime = new Date();
-                }
+            if (lastUpdatedOnDateTime == null) {
+                lastUpdatedOnDateTime = new Date();
+            }
 
-                Material material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
-                if (material == null) throw new IllegalArgumentException("Material not found.");
-
-                Partner partner = partnerService.findByBpnl(partnerBpnl);
-                if (partner == null) throw new IllegalArgumentException("Partner not found.");
-
-                if ("inbound".equalsIgnoreCase(direction)) {
-                    MaterialItemStock stock = MaterialItemStock.builder()
-                        .material(material)
-                        .partner(partner)
-                        .quantity(quantity)
-                        .measurementUnit(unitEnum)
-                        .locationBpns(stockSiteBpns)
-                        .locationBpna(stockAddressBpna)
-                        .customerOrderId(customerOrderNumber)
-                        .customerOrderPositionId(customerPositionNumber)
-                        .supplierOrderId(supplierOrderNumber)
-                        .isBlocked(isBlocked)
-                        .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
-                        .build();
-                    rowErrors.addAll(materialItemStockService.validateWithDetails(stock));
-                    if (!rowErrors.isEmpty()) {
-                        errors.add(new DataImportError(rowIndex, rowErrors));
-                    }
-                    materialStocks.add(stock);
-                    allStocks.add(stock);
-                } else if ("outbound".equalsIgnoreCase(direction)) {
-                    ProductItemStock stock = ProductItemStock.builder()
-                        .material(material)
-                        .partner(partner)
-                        .quantity(quantity)
-                        .measurementUnit(unitEnum)
-                        .locationBpns(stockSiteBpns)
-                        .locationBpna(stockAddressBpna)
-                        .customerOrderId(customerOrderNumber)
-                        .customerOrderPositionId(customerPositionNumber)
-                        .supplierOrderId(supplierOrderNumber)
-                        .isBlocked(isBlocked)
-                        .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
-                        .build();
-                    rowErrors.addAll(productItemStockService.validateWithDetails(stock));
-                    if (!rowErrors.isEmpty()) {
-                        errors.add(new DataImportError(rowIndex, rowErrors));
-                    }
-                    productStocks.add(stock);
-                    allStocks.add(stock);
-                } else {
-                    throw new IllegalArgumentException("Invalid direction: " + direction);
-                }
-            } catch (Exception e) {
-                errors.add(new DataImportError(rowIndex, List.of(e.getMessage() + " Further validations for this row are not possible.")));
+            Material material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
+            if (material == null) throw new IllegalArgumentException("Material not found.");
+
+            Partner partner = partnerService.findByBpnl(partnerBpnl);
+            if (partner == null) throw new IllegalArgumentException("Partner not found.");
+
+            if ("inbound".equalsIgnoreCase(direction)) {
+                MaterialItemStock stock = MaterialItemStock.builder()
+                    .material(material)
+                    .partner(partner)
+                    .quantity(quantity)
+                    .measurementUnit(unitEnum)
+                    .locationBpns(stockSiteBpns)
+                    .locationBpna(stockAddressBpna)
+                    .customerOrderId(customerOrderNumber)
+                    .customerOrderPositionId(customerPositionNumber)
+                    .supplierOrderId(supplierOrderNumber)
+                    .isBlocked(isBlocked)
+                    .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
+                    .build();
+                rowErrors.addAll(materialItemStockService.validateWithDetails(stock));
+                return stock;
+            } else if ("outbound".equalsIgnoreCase(direction)) {
+                ProductItemStock stock = ProductItemStock.builder()
+                    .material(material)
+                    .partner(partner)
+                    .quantity(quantity)
+                    .measurementUnit(unitEnum)
+                    .locationBpns(stockSiteBpns)
+                    .locationBpna(stockAddressBpna)
+                    .customerOrderId(customerOrderNumber)
+                    .customerOrderPositionId(customerPositionNumber)
+                    .supplierOrderId(supplierOrderNumber)
+                    .isBlocked(isBlocked)
+                    .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
+                    .build();
+                rowErrors.addAll(productItemStockService.validateWithDetails(stock));
+                return stock;
+            } else {
+                throw new IllegalArgumentException("Invalid direction: " + direction);
             }
         }
 
-        if (errors.isEmpty()) {
-            try {
-                var conflictErrors = checkConflicts(allStocks);
-                if (!conflictErrors.isEmpty()) {
-                    return new DataImportResult("One or more conflicting rows found.", conflictErrors);
+        @Override
+        void persist(ItemStock stock) {
+            if (stock instanceof MaterialItemStock materialStock) {
+                var added = materialItemStockService.create(materialStock);
+                if (added == null) {
+                    log.error("Failed to persist material stock: {}", stock);
+                    throw new IllegalArgumentException("Invalid material stock");
                 }
-            } catch(Exception e) {
-                return new DataImportResult("Error while checking conflicts", List.of(new DataImportError(0, List.of(e.getMessage()))));
+                createdMaterialStocks.add(added.getUuid());
+            } else {
+                var added = productItemStockService.create((ProductItemStock) stock);
+                if (added == null) {
+                    log.error("Failed to persist product stock: {}", stock);
+                    throw new IllegalArgumentException("Invalid product stock");
+                }
+                createdProductStocks.add(added.getUuid());
             }
-            List<MaterialItemStock> addedMaterialStocks = new ArrayList<>();
-            List<ProductItemStock> addedProductStocks = new ArrayList<>();
-            List<MaterialItemStock> existingMaterialStocks = materialItemStockService.findAll();
-            List<ProductItemStock> existingProductStocks = productItemStockService.findAll();
+        }
 
-            for (var newStock : materialStocks) {
-                try {
-                    var added = materialItemStockService.create(newStock);
-                    if (added == null) {
-                        log.error("Failed to persist material stock: {}", newStock);
-                        throw new IllegalArgumentException("Invalid material stock");
-                    }
-                    addedMaterialStocks.add(added);
-                } catch (Exception e) {
-                    int idx = allStocks.indexOf(newStock);
-                    errors.add(new DataImportError(idx + 2, List.of(e.getMessage())));
-                    addedMaterialStocks.forEach(s -> materialItemStockService.delete(s.getUuid()));
-                    addedProductStocks.forEach(s -> productItemStockService.delete(s.getUuid()));
-                    return new DataImportResult("Failed to persist stocks", errors);
+        @Override
+        void persistAll(List<ItemStock> stocks) {
+            List<MaterialItemStock> materialStocks = new ArrayList<>();
+            List<ProductItemStock> productStocks = new ArrayList<>();
+            for (ItemStock stock : stocks) {
+                if (stock instanceof MaterialItemStock materialStock) {
+                    materialStocks.add(materialStock);
+                } else {
+                    productStocks.add((ProductItemStock) stock);
                 }
             }
-
-            for (var newStock : productStocks) {
+            List<UUID> addedMaterialStocks = new ArrayList<>();
+            if (!materialStocks.isEmpty()) {
+                materialItemStockService.createAll(materialStocks).forEach(added -> addedMaterialStocks.add(added.getUuid()));
+            }
+            if (!productStocks.isEmpty()) {
                 try {
-
-                    var added = productItemStockService.create(newStock);
-                    if (added == null) {
-                        log.error("Failed to persist product stock: {}", newStock);
-                        throw new IllegalArgumentException("Invalid product stock");
-                    }
-                    addedProductStocks.add(added);
-                } catch (Exception e) {
-                    int idx = allStocks.indexOf(newStock);
-                    errors.add(new DataImportError(idx + 2, List.of(e.getMessage())));
-                    addedMaterialStocks.forEach(s -> materialItemStockService.delete(s.getUuid()));
-                    addedProductStocks.forEach(s -> productItemStockService.delete(s.getUuid()));
-                    return new DataImportResult("Failed to persist stocks", errors);
+                    productItemStockService.createAll(productStocks).forEach(added -> createdProductStocks.add(added.getUuid()));
+                } catch (RuntimeException e) {
+                    // the chunk is persisted row by row afterwards, so the material stocks must not remain
+                    materialItemStockService.deleteAll(addedMaterialStocks);
+                    throw e;
                 }
             }
+            createdMaterialStocks.addAll(addedMaterialStocks);
+        }
 
-            existingMaterialStocks.forEach(s -> materialItemStockService.delete(s.getUuid()));
-            existingProductStocks.forEach(s -> productItemStockService.delete(s.getUuid()));
-            return new DataImportResult("Successfully imported stocks", errors);
-        } else {
-            log.info(errors.toString());
+        @Override
+        void rollback() {
+            deleteInChunks(createdMaterialStocks, materialItemStockService::deleteAll);
+            deleteInChunks(createdProductStocks, productItemStockService::deleteAll);
+        }
+
+        @Override
+        void recordExisting() {
+            existingMaterialStocks = materialItemStockService.findAllUuids();
+            existingProductStocks = productItemStockService.findAllUuids();
         }
 
-        return new DataImportResult("Failed to process stock rows", errors);
+        @Override
+        void deleteExisting() {
+            deleteInChunks(existingMaterialStocks, materialItemStockService::deleteAll);
+            deleteInChunks(existingProductStocks, productItemStockService::deleteAll);
+        }
     }
 
-    private DataDocumentTypeEnumeration validateHeaders(Sheet sheet) {
-        var headerNames = extractHeader(sheet);
+    /**
+     * Deletes the given entries with one statement per chunk.
+     *
+     * @param uuids     the ids of the entries
+     * @param deleteAll deletes the entries of a chunk
+     */
+    private static void deleteInChunks(List<UUID> uuids, Consumer<List<UUID>> deleteAll) {
+        for (int i = 0; i < uuids.size(); i += CHUNK_SIZE) {
+            deleteAll.accept(uuids.subList(i, Math.min(i + CHUNK_SIZE, uuids.size())));
+        }
+    }
+
+    private DataDocumentTypeEnumeration validateHeaders(SheetRow headerRow) {
+        var headerNames = extractHeader(headerRow);
         if (headerNames.containsAll(demandColumns)) {
             return DataDocumentTypeEnumeration.DEMAND;
         } else if (headerNames.containsAll(deliveryColumns)) {
@@ -685,155 +859,48 @@ public class ExcelService {
         }
     }
 
-    private List<String> extractHeader(Sheet sheet) {
-        Row headerRows = sheet.getRow(0);
+    private List<String> extractHeader(SheetRow headerRow) {
         List<String> headerNames = new ArrayList<String>();
-        headerRows.forEach(cell -> {
-            headerNames.add(cell.getStringCellValue());
-        });
-        return headerNames;
-    }
-
-    private String getStringCellValue(Cell cell) {
-        if (cell == null || cell.getCellType() == CellType.BLANK) {
-            return null;
-        }
-        CellType type = cell.getCellType();
-        if (type == CellType.FORMULA) {
-            type = cell.getCachedFormulaResultType();
-        }
-        switch (type) {
-            case STRING:
-                return cell.getStringCellValue() == null ? null : cell.getStringCellValue().trim();
-            case NUMERIC:
-                return String.valueOf(cell.getNumericCellValue()).trim();
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            default:
-                return null;
-        }
-    }
-
-    private Date getDateCellValue(Cell cell) {
-        try {
-            return cell == null || cell.getCellType() == CellType.BLANK ? null : cell.getCellType() == CellType.STRING
-                ? Date.from(Instant.parse(cell.getStringCellValue().trim()))
-                : cell.getDateCellValue();
-        } catch(Exception e) {
-            return null;
+        for (int i = 0; i < headerRow.size(); i++) {
+            headerNames.add(headerRow.getString(i));
         }
+        return headerNames;
     }
 
     /**
-     * Checks a given List of imported rows for duplicates by comparing
-     * each current object with the previous one using Object.equals. This method works
-     * for all types of imported data (demand, production, delivery and stock).
+     * Checks a given List of imported rows for duplicates by grouping the rows by their
+     * business key in a hash map. This method works for all types of imported data
+     * (demand, production, delivery and stock).
      * @param <T> the type of imported data
      * @param importEntries the list of imported data rows
      * @return list of errors for each row that conflicts with one or more previous rows 
      */
     public <T> List<DataImportError> checkConflicts(List<T> importEntries) {
         List<DataImportError> errors = new ArrayList<>();
+        Map<Object, List<Integer>> rowsByKey = new HashMap<>();
         for (int i = 0; i < importEntries.size(); i++) {
-            T current = importEntries.get(i);
-            List<Integer> conflictingIndexes = new ArrayList<>();
-
-            for (int j = 0; j < i; j++) {
-                if (current.equals(importEntries.get(j))) {
-                    conflictingIndexes.add(j + 2);
-                }
-            }
-
-            if (!conflictingIndexes.isEmpty()) {
-                errors.add(new DataImportError(i + 2, List.of("The row " + (i + 2) + " conflicts with the following rows: " + conflictingIndexes.toString())));
+            List<Integer> previousRows = rowsByKey.computeIfAbsent(businessKey(importEntries.get(i)), k -> new ArrayList<>());
+            if (!previousRows.isEmpty()) {
+                errors.add(new DataImportError(i + 2, List.of("The row " + (i + 2) + " conflicts with the following rows: " + previousRows.toString())));
             }
+            previousRows.add(i + 2);
         }
         return errors;
     }
 
     /**
-     * Checks if a given row is empty (i.e. all cells are blank or null).
-     * @param row the row to check
-     * @return true if the row is empty, false otherwise
-     */
-    private boolean isRowEmpty(Row row) {
-        if (row == null) return true;
-        for (Cell cell : row) {
-            if (cell != null && cell.getCellType() != CellType.BLANK) {
-                String value = getStringCellValue(cell);
-                if (value != null && !value.trim().isEmpty()) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
-    private List<DataImportError> evaluateWorkbook(Workbook workbook) {
-        List<DataImportError> errors = new ArrayList<>();
-        FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
-        try {
-            evaluator.evaluateAll();
-            return errors;
-        } catch (RuntimeException bulkEx) {
-            for (int s = 0; s < workbook.getNumberOfSheets(); s++) {
-                Sheet sheet = workbook.getSheetAt(s);
-                String sheetName = sheet.getSheetName();
-                for (Row row : sheet) {
-                    for (Cell cell : row) {
-                        if (cell != null && cell.getCellType() == CellType.FORMULA) {
-                            try {
-                                evaluator.evaluateFormulaCell(cell);
-                            } catch (RuntimeException ex) {
-                                Throwable cause = ex.getCause();
-                                String cellRef = new CellReference(cell).formatAsString();
-                                int rowIndex = cell.getRowIndex() + 1;
-                                String formula = getFormulaAsString(cell);
-                                switch (cause) {
-                                    case NotImplementedFunctionException nie -> {
-                                        errors.add(new DataImportError(rowIndex, List.of(String.format("Unsupported function '%s' at Sheet '%s'!%s. Formula: =%s", nie.getFunctionName(), sheetName, cellRef, formula))));
-                                    }
-                                    case FormulaParseException fpe -> {
-                                        errors.add(new DataImportError(rowIndex, List.of(String.format("Formula parse error at Sheet '%s'!%s. Formula: =%s. Reason: %s", sheetName, cellRef, formula, nullToEmpty(fpe.getMessage())))));
-                                    }
-                                    default -> {
-                                        errors.add(new DataImportError(rowIndex, List.of(String.format("Error evaluating at Sheet '%s'!%s. Formula: =%s. Reason: %s", sheetName, cellRef, formula, nullToEmpty(ex.getMessage())))));
-                                    }
-                                }
-                                log.error("Excel import failed due to RuntimeException with cause:" + cause.toString());
-                            }
-                        }
-                    }
-                }
-            }
-
-            if (!errors.isEmpty()) {
-                String msg = "Excel formula evaluation failed. Likely unsupported function(s) or parse error(s) detected:\n" + errors;
-                log.warn(msg, bulkEx);
-                return errors;
-            } else {
-                String msg = "Excel formula evaluation failed, but the failing cell could not be pinpointed. ";
-                log.warn(msg);
-                errors.add(new DataImportError(0, List.of(msg)));
-                return errors;
-            }
-        }
-    }
-
-    /**
-     * Safely returns the formula of the given cell as a string.
+     * Provides a key for an imported entry that is equal for two entries exactly if the entries are equal.
      *
-     * @param c the cell whose formula should be obtained
-     * @return the cell's formula, or "<unavailable>" if it cannot be read
-     */
-    private static String getFormulaAsString(Cell c) {
-        try { return c.getCellFormula(); } catch (Exception ignore) { return "<unavailable>"; }
-    }
-
-    /**
-     * Returns an empty string if the given value is null.
+     * @param entry the imported entry
+     * @return the business key of demands, productions, deliveries and stocks or the entry itself otherwise
      */
-    private static String nullToEmpty(String s) {
-        return (s == null) ? "" : s;
+    private static Object businessKey(Object entry) {
+        return switch (entry) {
+            case Demand demand -> demand.businessKey();
+            case Production production -> production.businessKey();
+            case Delivery delivery -> delivery.businessKey();
+            case ItemStock stock -> stock.businessKey();
+            default -> entry;
+        };
     }
 }
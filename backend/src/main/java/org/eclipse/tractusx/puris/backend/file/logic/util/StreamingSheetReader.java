@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.util;
+
+import lombok.Getter;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads the first sheet of an xlsx file row by row with a SAX parser, so that only the current row is
+ * held in memory regardless of the size of the file.
+ * <p>
+ * Formulas are not evaluated. Instead, the results cached by the spreadsheet application are used. Formula
+ * cells with an error result or without a cached result are reported via {@link SheetRow#getFormulaErrors()}.
+ */
+public final class StreamingSheetReader {
+
+    private StreamingSheetReader() {
+    }
+
+    /**
+     * Reads the first sheet of the given xlsx file and passes each row to the given handler. Rows that are
+     * completely missing in the file are skipped.
+     *
+     * @param is         the xlsx file
+     * @param rowHandler receives the rows in the order of the sheet, starting with the header row
+     * @throws IOException if the file can not be read or is no valid xlsx file
+     */
+    public static void read(InputStream is, Consumer<SheetRow> rowHandler) throws IOException {
+        // the zip file needs random access, so it is spooled to disk instead of being buffered in memory
+        Path file = Files.createTempFile("puris-import-", ".xlsx");
+        try {
+            Files.copy(is, file, StandardCopyOption.REPLACE_EXISTING);
+            OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+            try {
+                XSSFReader reader = new XSSFReader(pkg);
+                boolean date1904 = isDate1904(reader);
+                ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+                XSSFReader.SheetIterator sheets = reader.getSheetIterator();
+                if (!sheets.hasNext()) {
+                    return;
+                }
+                try (InputStream sheet = sheets.next()) {
+                    parse(sheet, new SheetHandler(sheets.getSheetName(), sharedStrings, date1904, rowHandler));
+                }
+            } finally {
+                pkg.revert();
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Failed to read xlsx file", e);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static boolean isDate1904(XSSFReader reader) throws IOException, OpenXML4JException, SAXException,
+        ParserConfigurationException {
+        boolean[] date1904 = {false};
+        try (InputStream workbook = reader.getWorkbookData()) {
+            parse(workbook, new DefaultHandler() {
+                @Override
+                public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                    if ("workbookPr".equals(localName)) {
+                        String value = attributes.getValue("date1904");
+                        date1904[0] = "1".equals(value) || "true".equalsIgnoreCase(value);
+                    }
+                }
+            });
+        }
+        return date1904[0];
+    }
+
+    private static void parse(InputStream is, DefaultHandler handler) throws IOException, SAXException,
+        ParserConfigurationException {
+        XMLReader xmlReader = XMLHelper.newXMLReader();
+        xmlReader.setContentHandler(handler);
+        xmlReader.parse(new InputSource(is));
+    }
+
+    /**
+     * A formula cell whose result could not be read.
+     *
+     * @param cellReference the reference of the cell, e.g. C2
+     * @param formula       the formula, if present
+     * @param errorValue    the cached error value, e.g. #NAME?, or null if there is no cached result
+     */
+    private record FormulaError(String cellReference, String formula, String errorValue) {
+    }
+
+    /**
+     * A row of the sheet. Cell values are held as String, Double or Boolean.
+     */
+    public static final class SheetRow {
+
+        /**
+         * the 1-based row number as displayed by the spreadsheet application
+         */
+        @Getter
+        private final int rowNumber;
+
+        private final String sheetName;
+
+        private final List<Object> values;
+
+        private final boolean date1904;
+
+        private SheetRow(int rowNumber, String sheetName, List<Object> values, boolean date1904) {
+            this.rowNumber = rowNumber;
+            this.sheetName = sheetName;
+            this.values = values;
+            this.date1904 = date1904;
+        }
+
+        private Object getValue(int column) {
+            return column < values.size() ? values.get(column) : null;
+        }
+
+        /**
+         * @param column the 0-based column index
+         * @return the trimmed value of the cell as string or null, if the cell is blank
+         */
+        public String getString(int column) {
+            Object value = getValue(column);
+            if (value instanceof String string) {
+                return string.trim();
+            }
+            if (value instanceof Double || value instanceof Boolean) {
+                return String.valueOf(value);
+            }
+            return null;
+        }
+
+        /**
+         * Numeric cells are interpreted as excel dates, text cells as ISO-8601 instants.
+         *
+         * @param column the 0-based column index
+         * @return the date or null, if the cell is blank or does not contain a date
+         */
+        public Date getDate(int column) {
+            Object value = getValue(column);
+            try {
+                if (value instanceof String string) {
+                    return Date.from(Instant.parse(string.trim()));
+                }
+                if (value instanceof Double number) {
+                    return DateUtil.getJavaDate(number, date1904);
+                }
+            } catch (Exception ignore) {
+            }
+            return null;
+        }
+
+        /**
+         * @param column the 0-based column index
+         * @return the value of a boolean cell, false if the cell is blank
+         * @throws IllegalStateException if the cell contains a value of another type
+         */
+        public boolean getBoolean(int column) {
+            Object value = getValue(column);
+            if (value == null) {
+                return false;
+            }
+            if (value instanceof Boolean bool) {
+                return bool;
+            }
+            throw new IllegalStateException("Cannot get a BOOLEAN value from cell " + cellReference(column));
+        }
+
+        /**
+         * @return the number of cells up to the last non-blank cell of the row
+         */
+        public int size() {
+            return values.size();
+        }
+
+        /**
+         * @return true, if all cells are blank or contain only whitespace
+         */
+        public boolean isEmpty() {
+            for (int column = 0; column < values.size(); column++) {
+                if (getValue(column) instanceof FormulaError) {
+                    return false;
+                }
+                String value = getString(column);
+                if (value != null && !value.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return a description for each formula cell of this row without a usable result
+         */
+        public List<String> getFormulaErrors() {
+            List<String> errors = new ArrayList<>();
+            for (Object value : values) {
+                if (value instanceof FormulaError error) {
+                    String formula = error.formula() == null ? "" : error.formula();
+                    if (error.errorValue() == null) {
+                        errors.add(String.format("Formula without calculated result at Sheet '%s'!%s. Formula: =%s. " +
+                            "Please recalculate and save the file.", sheetName, error.cellReference(), formula));
+                    } else {
+                        errors.add(String.format("Error evaluating at Sheet '%s'!%s. Formula: =%s. Reason: %s",
+                            sheetName, error.cellReference(), formula, error.errorValue()));
+                    }
+                }
+            }
+            return errors;
+        }
+
+        private String cellReference(int column) {
+            StringBuilder letters = new StringBuilder();
+            for (int i = column + 1; i > 0; i = (i - 1) / 26) {
+                letters.insert(0, (char) ('A' + (i - 1) % 26));
+            }
+            return letters.toString() + rowNumber;
+        }
+    }
+
+    /**
+     * Collects the cells of the current row and emits the row at its end tag.
+     */
+    private static final class SheetHandler extends DefaultHandler {
+
+        private final String sheetName;
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final boolean date1904;
+        private final Consumer<SheetRow> rowHandler;
+
+        private final StringBuilder text = new StringBuilder();
+        private boolean collectText;
+
+        private int rowNumber;
+        private List<Object> values;
+
+        private String cellReference;
+        private int column;
+        private String cellType;
+        private String value;
+        private String formula;
+        private String inlineString;
+
+        private SheetHandler(String sheetName, ReadOnlySharedStringsTable sharedStrings, boolean date1904,
+                             Consumer<SheetRow> rowHandler) {
+            this.sheetName = sheetName;
+            this.sharedStrings = sharedStrings;
+            this.date1904 = date1904;
+            this.rowHandler = rowHandler;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row" -> {
+                    String r = attributes.getValue("r");
+                    rowNumber = r != null ? Integer.parseInt(r) : rowNumber + 1;
+                    values = new ArrayList<>();
+                }
+                case "c" -> {
+                    cellReference = attributes.getValue("r");
+                    column = cellReference != null ? columnIndex(cellReference) : values.size();
+                    if (cellReference == null) {
+                        cellReference = "R" + rowNumber + "C" + (column + 1);
+                    }
+                    cellType = attributes.getValue("t");
+                    value = null;
+                    formula = null;
+                    inlineString = null;
+                }
+                case "v", "f", "t" -> {
+                    text.setLength(0);
+                    collectText = true;
+                }
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (collectText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v" -> value = endText();
+                case "f" -> formula = endText();
+                case "t" -> inlineString = inlineString == null ? endText() : inlineString + endText();
+                case "c" -> setCell(column, cellValue());
+                case "row" -> {
+                    // drop trailing blank cells
+                    int size = values.size();
+                    while (size > 0 && values.get(size - 1) == null) {
+                        size--;
+                    }
+                    rowHandler.accept(new SheetRow(rowNumber, sheetName,
+                        Collections.unmodifiableList(values.subList(0, size)), date1904));
+                }
+                default -> {
+                }
+            }
+        }
+
+        private String endText() {
+            collectText = false;
+            return text.toString();
+        }
+
+        private Object cellValue() {
+            if ("e".equals(cellType)) {
+                return new FormulaError(cellReference, formula, value);
+            }
+            if ("inlineStr".equals(cellType)) {
+                return inlineString;
+            }
+            if (value == null) {
+                return formula != null ? new FormulaError(cellReference, formula, null) : null;
+            }
+            if (cellType == null || "n".equals(cellType)) {
+                return value.isEmpty() ? null : Double.parseDouble(value);
+            }
+            return switch (cellType) {
+                case "s" -> sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+                case "b" -> "1".equals(value) || "true".equalsIgnoreCase(value);
+                default -> value;
+            };
+        }
+
+        private void setCell(int column, Object cellValue) {
+            while (values.size() <= column) {
+                values.add(null);
+            }
+            values.set(column, cellValue);
+        }
+
+        private static int columnIndex(String cellReference) {
+            int column = 0;
+            for (int i = 0; i < cellReference.length() && Character.isLetter(cellReference.charAt(i)); i++) {
+                column = column * 26 + (Character.toUpperCase(cellReference.charAt(i)) - 'A' + 1);
+            }
+            return column - 1;
+        }
+    }
+}
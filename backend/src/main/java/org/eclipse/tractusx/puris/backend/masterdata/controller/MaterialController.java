@@ -176,4 +176,19 @@ public class MaterialController {
         materialRefreshService.refreshPartnerData(ownMaterialNumber);
         return new ResponseEntity<>(ownMaterialNumber, HttpStatusCode.valueOf(200));
     }
+
+    @PreAuthorize("hasRole('PURIS_ADMIN')")
+    @GetMapping("/refresh-all")
+    @Operation(summary = "Refreshes partner data for all materials -- ADMIN ONLY", description = "Requests material data for all materials from all partners. " +
+        "The result for each material is published on its topic as soon as its requests are done.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Started the refresh of all materials."),
+        @ApiResponse(responseCode = "409", description = "A refresh of all materials is already running.")
+    })
+    public ResponseEntity<Void> refreshAllMaterialData() {
+        if (!materialRefreshService.refreshAllPartnerData()) {
+            return new ResponseEntity<>(HttpStatusCode.valueOf(409));
+        }
+        return new ResponseEntity<>(HttpStatusCode.valueOf(202));
+    }
 }
@@ -24,6 +24,8 @@ package org.eclipse.tractusx.puris.backend.masterdata.domain.repository;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -40,6 +42,14 @@ public interface MaterialPartnerRelationRepository extends JpaRepository<Materia
 
     List<MaterialPartnerRelation> findAllByMaterial_OwnMaterialNumber(String ownMaterialNumber);
 
+    /**
+     * @param ownMaterialNumber the own material number of the material
+     * @return the material numbers of all partners with a relation to the material, without loading the relations
+     */
+    @Query("select r.key.partnerUuid as partnerUuid, r.partnerMaterialNumber as partnerMaterialNumber " +
+        "from MaterialPartnerRelation r where r.key.ownMaterialNumber = :ownMaterialNumber")
+    List<PartnerMaterialNumber> findPartnerMaterialNumbersByOwnMaterialNumber(@Param("ownMaterialNumber") String ownMaterialNumber);
+
     List<MaterialPartnerRelation> findAllByMaterial_OwnMaterialNumberAndPartnerSuppliesMaterialIsTrue(String ownMaterialNumber);
 
     List<MaterialPartnerRelation> findAllByMaterial_OwnMaterialNumberAndPartnerBuysMaterialIsTrue(String ownMaterialNumber);
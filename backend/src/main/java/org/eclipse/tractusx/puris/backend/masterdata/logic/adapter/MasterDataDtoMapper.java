@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.masterdata.logic.adapter;
+
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Address;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.dto.AddressDto;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.dto.MaterialDto;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.dto.PartnerDto;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.dto.SiteDto;
+
+/**
+ * Explicit mapping of master data entities to the dtos that are embedded in the list responses of the
+ * stock, demand, production and delivery endpoints. It produces the same dtos as a default ModelMapper,
+ * but without resolving the properties reflectively for every row.
+ */
+public final class MasterDataDtoMapper {
+
+    private MasterDataDtoMapper() {
+    }
+
+    /**
+     * Maps the flags, the cx number and the name of the material. The material numbers of customer and
+     * supplier depend on the perspective and have to be set by the caller.
+     *
+     * @param material the material
+     * @return the dto
+     */
+    public static MaterialDto toMaterialDto(Material material) {
+        if (material == null) {
+            return null;
+        }
+        MaterialDto dto = new MaterialDto();
+        dto.setMaterialFlag(material.isMaterialFlag());
+        dto.setProductFlag(material.isProductFlag());
+        dto.setMaterialNumberCx(material.getMaterialNumberCx());
+        dto.setName(material.getName());
+        return dto;
+    }
+
+    public static PartnerDto toPartnerDto(Partner partner) {
+        if (partner == null) {
+            return null;
+        }
+        PartnerDto dto = new PartnerDto();
+        dto.setUuid(partner.getUuid());
+        dto.setName(partner.getName());
+        dto.setEdcUrl(partner.getEdcUrl());
+        dto.setBpnl(partner.getBpnl());
+        for (Address address : partner.getAddresses()) {
+            dto.getAddresses().add(toAddressDto(address));
+        }
+        for (Site site : partner.getSites()) {
+            dto.getSites().add(toSiteDto(site));
+        }
+        return dto;
+    }
+
+    private static SiteDto toSiteDto(Site site) {
+        SiteDto dto = new SiteDto();
+        dto.setBpns(site.getBpns());
+        dto.setName(site.getName());
+        for (Address address : site.getAddresses()) {
+            dto.getAddresses().add(toAddressDto(address));
+        }
+        return dto;
+    }
+
+    private static AddressDto toAddressDto(Address address) {
+        return new AddressDto(address.getBpna(), address.getStreetAndNumber(), address.getZipCodeAndCity(),
+            address.getCountry());
+    }
+}
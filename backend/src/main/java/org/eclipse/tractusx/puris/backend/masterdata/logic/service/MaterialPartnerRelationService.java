@@ -49,6 +49,8 @@ public interface MaterialPartnerRelationService {
 
     MaterialPartnerRelation find(String ownMaterialNumber, UUID partnerUuid);
 
+    Map<UUID, String> findPartnerMaterialNumbers(String ownMaterialNumber);
+
     List<Partner> findAllSuppliersForOwnMaterialNumber(String ownMaterialNumber);
 
     List<Partner> findAllCustomersForOwnMaterialNumber(String ownMaterialNumber);
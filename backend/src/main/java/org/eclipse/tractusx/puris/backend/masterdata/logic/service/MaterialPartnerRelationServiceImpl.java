@@ -24,8 +24,7 @@ package org.eclipse.tractusx.puris.backend.masterdata.logic.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.puris.backend.common.ddtr.logic.DtrAdapterService;
-import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService;
-import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
+import org.eclipse.tractusx.puris.backend.common.ddtr.logic.DtrSyncQueue;
 import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
@@ -35,10 +34,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -57,18 +56,10 @@ public class MaterialPartnerRelationServiceImpl implements MaterialPartnerRelati
     private DtrAdapterService dtrAdapterService;
 
     @Autowired
-    private EdcAdapterService edcAdapterService;
+    private DtrSyncQueue dtrSyncQueue;
 
     @Autowired
-    private ExecutorService executorService;
-
-
-    /**
-     * Contains all MaterialPartnerRelations, for which there are
-     * currently ongoing PartTypeInformationRetrievalTasks in
-     * existance. Helps to avoid duplicate tasks running simultaneously.
-     */
-    private Set<MaterialPartnerRelation> currentPartTypeFetches = ConcurrentHashMap.newKeySet();
+    private PartTypeRetrievalService partTypeRetrievalService;
 
     /**
      * Stores the given relation to the database.
@@ -81,8 +72,9 @@ public class MaterialPartnerRelationServiceImpl implements MaterialPartnerRelati
         flagConsistencyTest(materialPartnerRelation);
         var searchResult = find(materialPartnerRelation.getMaterial(), materialPartnerRelation.getPartner());
         if (searchResult == null) {
-            executorService.submit(new DtrRegistrationTask(materialPartnerRelation, 3));
-            return mprRepository.save(materialPartnerRelation);
+            var savedRelation = mprRepository.save(materialPartnerRelation);
+            scheduleDtrSync(savedRelation);
+            return savedRelation;
         }
         log.error("Could not create MaterialPartnerRelation, " + materialPartnerRelation.getKey() + " already exists");
         return null;
@@ -90,12 +82,12 @@ public class MaterialPartnerRelationServiceImpl implements MaterialPartnerRelati
 
     /**
      * Call this method when a partnerCXId for a Material was needed but not found.
-     * This method will trigger a new Task for any material that
-     * the given partner supplies, but still misses a partnerCXId. This task will
-     * try to fetch the partner's CX Id for all materials that this partner supplies
-     * and where this partner's CX Id is still unknown.
+     * This method will retrieve the partner's CX Id for all materials that this partner
+     * supplies and where this partner's CX Id is still unknown. Retrievals that are already
+     * running for one of these materials are joined instead of started again. Afterwards,
+     * the material shells at the dDTR are updated with the retrieved CX Ids.
      *
-     * This method will block until all tasks have finished, if any.
+     * This method will block until all retrievals have finished, at most for the configured timeout.
      * <p>
      * Please consider that calling this method can only bring any meaningful results, when
      * the corresponding material entity is properly registered and there exists a
@@ -107,266 +99,124 @@ public class MaterialPartnerRelationServiceImpl implements MaterialPartnerRelati
      */
     @Override
     public void triggerPartTypeRetrievalTask(Partner supplierPartner) {
-        List<Future<Boolean>> futures = mprRepository
+        CompletableFuture<?>[] retrievals = mprRepository
             .findAllByPartner_UuidAndPartnerSuppliesMaterialIsTrue(supplierPartner.getUuid())
             .stream()
             .filter(mpr -> mpr.getPartnerCXNumber() == null)
-            .filter(mpr -> !currentPartTypeFetches.contains(mpr))
-            .map(mpr -> executorService.submit(new DtrRegistrationTask(mpr, 1)))
-            .toList();
-        if (futures.isEmpty()) {
+            .map(mpr -> partTypeRetrievalService.retrievePartnerCXNumber(mpr).thenAccept(partnerCXNumber -> {
+                if (partnerCXNumber != null) {
+                    scheduleMaterialShellSync(mpr.getMaterial().getOwnMaterialNumber(), mpr.getPartner().getUuid());
+                }
+            }))
+            .toArray(CompletableFuture[]::new);
+        if (retrievals.length == 0) {
             return;
         }
-
-        do {
-            Thread.yield();
-            // wait until all triggered tasks have returned
-        } while (!futures.stream().allMatch(Future::isDone));
-
-        // give the database a little bit of time to handle the updates
         try {
-                Thread.sleep(400);
-        } catch (InterruptedException ignored) {
+            CompletableFuture.allOf(retrievals).get(variablesService.getPartTypeTimeout(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("PartTypeInformation fetches from " + supplierPartner.getBpnl() + " did not finish in time");
+        } catch (ExecutionException e) {
+            log.warn("PartTypeInformation fetches from " + supplierPartner.getBpnl() + " failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-
     }
 
-
-    private class PartTypeInformationRetrievalTask implements Callable<Boolean> {
-        /**
-         * The MaterialPartnerRelation indicating the supplier partner we want to retrieve data from
-         * and the material entity we want to fetch the partner's CatenaX-Id for.
-         */
-        final MaterialPartnerRelation materialPartnerRelation;
-        /**
-         * The number of retries that this task has currently left.
-         */
-        int retries;
-        /**
-         * The number of retries that this task was given at creation.
-         */
-        final int initialRetries;
-
-        /**
-         * Is set to true if all goals of this task were accomplished or otherwise
-         * if the task failed and has no more retries left.
-         */
-        boolean done = false;
-
-        /**
-         * Constructor for a Task that tries to asynchronously fetch the CatenaX-Id from a
-         * supplier partner for a material entity, as specified by the materialPartnerRelation parameter.
-         *
-         * @param materialPartnerRelation the MaterialPartnerRelation
-         * @param retries                 a non-negative number of possible retry-attempts.
-         */
-        PartTypeInformationRetrievalTask(MaterialPartnerRelation materialPartnerRelation, int retries) {
-            this.materialPartnerRelation = materialPartnerRelation;
-            this.retries = retries;
-            this.initialRetries = retries;
-            currentPartTypeFetches.add(materialPartnerRelation);
+    /**
+     * Enqueues the updates of the shells at the dDTR that are affected by the given relation. Updates
+     * of the same shell, e.g. during a bulk import, are collapsed into a single one by the DtrSyncQueue.
+     *
+     * @param materialPartnerRelation the created or updated relation
+     */
+    private void scheduleDtrSync(MaterialPartnerRelation materialPartnerRelation) {
+        String ownMaterialNumber = materialPartnerRelation.getMaterial().getOwnMaterialNumber();
+        if (materialPartnerRelation.isPartnerBuysMaterial()) {
+            dtrSyncQueue.enqueue(DtrSyncQueue.DtrSyncKey.product(ownMaterialNumber), () -> syncProductShell(ownMaterialNumber));
         }
+        if (materialPartnerRelation.isPartnerSuppliesMaterial()) {
+            scheduleMaterialShellSync(ownMaterialNumber, materialPartnerRelation.getPartner().getUuid());
+        }
+    }
 
-        /**
-         * This method contains all the duties which the PartTypeInformationRetrievalTask is trying to fulfill.
-         *
-         * @return true, if the task finished successfully
-         */
-        @Override
-        public Boolean call() {
-            try {
-                if (retries < 0) {
-                    log.warn("PartTypeInformation fetch from " + materialPartnerRelation.getPartner().getBpnl() +
-                        " for " + materialPartnerRelation.getMaterial().getOwnMaterialNumber() + " failed");
-                    currentPartTypeFetches.remove(materialPartnerRelation);
-                    done = true;
-                    return false;
-                }
-                if (retries < initialRetries) {
-                    Thread.sleep(300);
-                }
-                String partnerCXId = edcAdapterService.getCxIdFromPartTypeInformation(materialPartnerRelation);
-                if (partnerCXId != null && PatternStore.URN_OR_UUID_PATTERN.matcher(partnerCXId).matches()) {
-                    materialPartnerRelation.setPartnerCXNumber(partnerCXId);
-                    mprRepository.save(materialPartnerRelation);
-                    log.info("Successfully inserted Partner CX Id for Partner " +
-                        materialPartnerRelation.getPartner().getBpnl() + " and Material "
-                        + materialPartnerRelation.getMaterial().getOwnMaterialNumber() +
-                        " -> " + partnerCXId);
-                } else {
-                    log.warn("PartTypeInformation fetch from " + materialPartnerRelation.getPartner().getBpnl() +
-                        " for " + materialPartnerRelation.getMaterial().getOwnMaterialNumber() + " failed. Retries left: " + retries);
-                    retries--;
-                    return call();
-                }
-
-                done = true;
+    private void scheduleMaterialShellSync(String ownMaterialNumber, UUID partnerUuid) {
+        dtrSyncQueue.enqueue(DtrSyncQueue.DtrSyncKey.material(ownMaterialNumber, partnerUuid), () -> {
+            var currentRelation = find(ownMaterialNumber, partnerUuid);
+            if (currentRelation == null || !currentRelation.isPartnerSuppliesMaterial()) {
                 return true;
-            } catch (Exception e) {
-                log.warn("PartTypeInformation fetch from " + materialPartnerRelation.getPartner().getBpnl() +
-                    " for " + materialPartnerRelation.getMaterial().getOwnMaterialNumber() + " failed. Retries left: " + retries);
-                retries--;
-                return call();
-            } finally {
-                if (done) {
-                    currentPartTypeFetches.remove(materialPartnerRelation);
-                }
             }
-        }
+            return syncMaterialShell(currentRelation);
+        });
     }
 
-
-    private class DtrRegistrationTask implements Callable<Boolean> {
-
-        /**
-         * The MaterialPartnerRelation that was created or updated and therefore makes it necessary to
-         * create or update material- and/or product AAS's in the dDTR.
-         */
-        MaterialPartnerRelation materialPartnerRelation;
-        /**
-         * The number of retries that this task has currently left.
-         */
-        int retries;
-        /**
-         * The number of retries that this task was given at creation (minimum value is 1).
-         */
-        final int initialRetries;
-        /**
-         * If the materialPartnerRelation indicates that the partner is a customer, this
-         * is set to true
-         */
-        final boolean needProductRegistration;
-        /**
-         * Is set to true during runtime if a product registration call to the dDTR ran successfully
-         */
-        boolean completedProductRegistration = false;
-        /**
-         * If the materialPartnerRelation indicates that the partner is a supplier, this
-         * is set to true
-         */
-        final boolean needMaterialRegistration;
-        /**
-         * Is set to true during runtime if a material registration call to the dDTR ran successfully
-         */
-        boolean completedMaterialRegistration = false;
-
-        /**
-         * Constructor for a task that makes sure that all potentially needed material and/or product AAS's
-         * are inserted into the dDTR, when a MaterialPartnerRelation entity is created or updated.
-         *
-         * @param materialPartnerRelation
-         * @param retries
-         */
-        public DtrRegistrationTask(MaterialPartnerRelation materialPartnerRelation, int retries) {
-            this.materialPartnerRelation = materialPartnerRelation;
-            this.initialRetries = Math.max(retries, 1);
-            this.retries = initialRetries;
-            this.needProductRegistration = materialPartnerRelation.isPartnerBuysMaterial();
-            this.needMaterialRegistration = materialPartnerRelation.isPartnerSuppliesMaterial();
+    /**
+     * Creates or updates the product AAS of the given material at the dDTR with all current customers.
+     *
+     * @param ownMaterialNumber the material number of the product
+     * @return true, if the dDTR accepted the product AAS
+     */
+    private boolean syncProductShell(String ownMaterialNumber) {
+        var allCustomers = mprRepository.findAllByMaterial_OwnMaterialNumberAndPartnerBuysMaterialIsTrue(ownMaterialNumber);
+        if (allCustomers.isEmpty()) {
+            log.warn("No customer partners found, skipping update of product ShellDescriptor at DTR for " + ownMaterialNumber);
+            return true;
+        }
+        Material material = allCustomers.get(0).getMaterial();
+        Integer result = dtrAdapterService.updateProduct(material, allCustomers);
+        if (result == null) {
+            log.warn("Update of product ShellDescriptor failed at DTR for " + ownMaterialNumber);
+            return false;
+        }
+        if (result < 400) {
+            log.info("Updated product ShellDescriptor at DTR for " + ownMaterialNumber + " and "
+                + allCustomers.size() + " customer partners. Result: " + result);
+            return true;
+        }
+        if (result == 404) {
+            Integer registrationResult = dtrAdapterService.registerProductAtDtr(material, allCustomers);
+            log.info("Tried to create product AAS for " + ownMaterialNumber + ", result: " + registrationResult);
+            return registrationResult != null && registrationResult < 400;
         }
+        return false;
+    }
 
-        /**
-         * This method contains all the duties which the DtrRegistrationTask is trying to fulfill.
-         *
-         * @return true, if the task finished successfully
-         */
-        @Override
-        public Boolean call() throws Exception {
-            if (retries < 0) {
+    /**
+     * Creates or updates the material AAS of the given relation at the dDTR. If the partner's CatenaX-Id
+     * of the material is still unknown, it is fetched from the supplier partner first.
+     *
+     * @param materialPartnerRelation the relation with a supplier partner
+     * @return true, if the dDTR accepted the material AAS
+     */
+    private boolean syncMaterialShell(MaterialPartnerRelation materialPartnerRelation) throws InterruptedException {
+        if (materialPartnerRelation.getPartnerCXNumber() == null) {
+            if (partTypeRetrievalService.awaitPartnerCXNumber(materialPartnerRelation) == null) {
+                log.error("Missing partnerCX Number in " + materialPartnerRelation);
                 return false;
             }
-            if (retries < initialRetries) {
-                Thread.sleep(2000);
-            } else {
-                Thread.sleep(400);
-            }
-
-            if (needProductRegistration && !completedProductRegistration) {
-                var allCustomers =
-                    mprRepository.findAllByMaterial_OwnMaterialNumberAndPartnerBuysMaterialIsTrue(
-                        materialPartnerRelation.getMaterial().getOwnMaterialNumber());
-                if (allCustomers.contains(materialPartnerRelation)) {
-                    Integer result = dtrAdapterService.updateProduct(materialPartnerRelation.getMaterial(), allCustomers);
-                    if (result != null) {
-                        if (result < 400) {
-                            log.info("Updated product ShellDescriptor at DTR for " + materialPartnerRelation.getMaterial().getOwnMaterialNumber() + " and "
-                                + allCustomers.size() + " customer partners. Result: " + result);
-                            completedProductRegistration = true;
-                        } else {
-                            if (result == 404) {
-                                Integer registrationResult = dtrAdapterService.registerProductAtDtr(materialPartnerRelation.getMaterial(), allCustomers);
-                                log.info("Tried to create product AAS for " + materialPartnerRelation.getMaterial().getOwnMaterialNumber()
-                                    + ", result: " + registrationResult);
-                                if (registrationResult != null && registrationResult < 400) {
-                                    completedProductRegistration = true;
-                                }
-                            }
-                        }
-                    } else {
-                        log.warn("Update of product ShellDescriptor failed at DTR for " + materialPartnerRelation.getMaterial().getOwnMaterialNumber());
-                    }
-                } else {
-                    log.warn("AllCustomers did not contain " + materialPartnerRelation.getKey());
-                    log.warn("Update of product ShellDescriptor failed at DTR for " + materialPartnerRelation.getMaterial().getOwnMaterialNumber());
-                }
+            // get result from database
+            materialPartnerRelation = find(materialPartnerRelation.getMaterial(), materialPartnerRelation.getPartner());
+            if (materialPartnerRelation == null) {
+                return true;
             }
+        }
 
-            if (needMaterialRegistration && !completedMaterialRegistration) {
-                if (materialPartnerRelation.getPartnerCXNumber() == null) {
-                    if (currentPartTypeFetches.contains(materialPartnerRelation)) {
-                        log.info("Awaiting PartTypeInformation Fetch");
-                        // await return of ongoing fetch task
-                        while (currentPartTypeFetches.contains(materialPartnerRelation)) {
-                            Thread.yield();
-                        }
-                    } else {
-                        // initiate new fetch
-                        log.info("Initiating new PartTypeInformation Fetch");
-                        Future<Boolean> futureResult = executorService.submit(new PartTypeInformationRetrievalTask(materialPartnerRelation, 1));
-                        while (!futureResult.isDone()) {
-                            Thread.yield();
-                        }
-                    }
-                    Thread.sleep(500);
-                    // get result from database
-                    materialPartnerRelation = find(materialPartnerRelation.getMaterial(), materialPartnerRelation.getPartner());
-                    if (materialPartnerRelation.getPartnerCXNumber() == null) {
-                        log.error("Missing partnerCX Number in " + materialPartnerRelation + ", retries left: " + retries);
-                        retries--;
-                        return call();
-                    }
-                }
-
-                Integer result = dtrAdapterService.updateMaterialAtDtr(materialPartnerRelation);
-                if (result != null) {
-                    if (result < 400) {
-                        completedMaterialRegistration = true;
-                        log.info("Updated material ShellDescriptor at DTR for " + materialPartnerRelation.getMaterial().getOwnMaterialNumber() +
-                            " and supplier partner " + materialPartnerRelation.getPartner().getBpnl());
-                    } else {
-                        if (result == 404) {
-                            Integer registrationResult = dtrAdapterService.registerMaterialAtDtr(materialPartnerRelation);
-                            log.info("Tried to create material AAS for " + materialPartnerRelation.getMaterial().getOwnMaterialNumber() +
-                                " and partner " + materialPartnerRelation.getPartner().getBpnl() +
-                                ", result: " + registrationResult);
-                        }
-                    }
-                }
-            }
-            if ((needMaterialRegistration && !completedMaterialRegistration) || (needProductRegistration && !completedProductRegistration)) {
-                retries--;
-                String message = "DTR Registration for " + materialPartnerRelation.getMaterial().getOwnMaterialNumber() + " and " + materialPartnerRelation.getPartner().getBpnl() + " failed";
-                if (needMaterialRegistration && !completedMaterialRegistration) {
-                    message += ", Material Registration still needed";
-                }
-                if (needProductRegistration && !completedProductRegistration) {
-                    message += ", Product Registration still needed";
-                }
-                log.warn(message);
-                return call();
-            }
+        Integer result = dtrAdapterService.updateMaterialAtDtr(materialPartnerRelation);
+        if (result == null) {
+            return false;
+        }
+        if (result < 400) {
+            log.info("Updated material ShellDescriptor at DTR for " + materialPartnerRelation.getMaterial().getOwnMaterialNumber() +
+                " and supplier partner " + materialPartnerRelation.getPartner().getBpnl());
             return true;
         }
+        if (result == 404) {
+            Integer registrationResult = dtrAdapterService.registerMaterialAtDtr(materialPartnerRelation);
+            log.info("Tried to create material AAS for " + materialPartnerRelation.getMaterial().getOwnMaterialNumber() +
+                " and partner " + materialPartnerRelation.getPartner().getBpnl() +
+                ", result: " + registrationResult);
+            return registrationResult != null && registrationResult < 400;
+        }
+        return false;
     }
 
     /**
@@ -380,8 +230,9 @@ public class MaterialPartnerRelationServiceImpl implements MaterialPartnerRelati
         flagConsistencyTest(materialPartnerRelation);
         var foundEntity = mprRepository.findById(materialPartnerRelation.getKey());
         if (foundEntity.isPresent()) {
-            executorService.submit(new DtrRegistrationTask(materialPartnerRelation, 3));
-            return mprRepository.save(materialPartnerRelation);
+            var savedRelation = mprRepository.save(materialPartnerRelation);
+            scheduleDtrSync(savedRelation);
+            return savedRelation;
         }
         log.error("Could not update MaterialPartnerRelation, " + materialPartnerRelation.getKey() + " didn't exist before");
         return null;
@@ -490,6 +341,22 @@ public class MaterialPartnerRelationServiceImpl implements MaterialPartnerRelati
         return null;
     }
 
+    /**
+     * Looks up the material numbers all partners use for the material with the given ownMaterialNumber
+     * in one query, so that lists of entities for this material can be mapped without a lookup per entity.
+     *
+     * @param ownMaterialNumber
+     * @return a Map from the uuid of each partner with a relation to the material to the partner's material number
+     */
+    @Override
+    public Map<UUID, String> findPartnerMaterialNumbers(String ownMaterialNumber) {
+        HashMap<UUID, String> output = new HashMap<>();
+        for (var partnerMaterialNumber : mprRepository.findPartnerMaterialNumbersByOwnMaterialNumber(ownMaterialNumber)) {
+            output.put(partnerMaterialNumber.getPartnerUuid(), partnerMaterialNumber.getPartnerMaterialNumber());
+        }
+        return output;
+    }
+
     /**
      * Returns a list containing all Partners that are registered as suppliers for
      * the material with the given ownMaterialNumber
@@ -21,23 +21,33 @@
 package org.eclipse.tractusx.puris.backend.masterdata.logic.service;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.eclipse.tractusx.puris.backend.common.util.ExecutorConfiguration;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
 import org.eclipse.tractusx.puris.backend.delivery.logic.service.DeliveryRequestApiService;
 import org.eclipse.tractusx.puris.backend.demand.logic.services.DemandRequestApiService;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.RefreshError;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.RefreshResult;
 import org.eclipse.tractusx.puris.backend.production.logic.service.ProductionRequestApiService;
 import org.eclipse.tractusx.puris.backend.stock.logic.dto.itemstocksamm.DirectionCharacteristic;
 import org.eclipse.tractusx.puris.backend.stock.logic.service.ItemStockRequestApiService;
 import org.eclipse.tractusx.puris.backend.supply.logic.service.DaysOfSupplyRequestApiService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import lombok.extern.slf4j.Slf4j;
@@ -66,20 +76,30 @@ public class MaterialRefreshService {
     @Autowired
     private DaysOfSupplyRequestApiService daysOfSupplyRequestApiService;
 
+    @Autowired
+    private MaterialPartnerRelationService mprService;
+
+    @Autowired
+    private VariablesService variablesService;
+
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    @Qualifier(ExecutorConfiguration.PARTNER_REQUEST_EXECUTOR)
+    private ExecutorService executorService;
+
+    private final AtomicBoolean bulkRefreshRunning = new AtomicBoolean(false);
+
     public void refreshPartnerData(String ownMaterialNumber) {
         var material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
         var customers = partnerService.findAllCustomerPartnersForMaterialId(ownMaterialNumber);
         var suppliers = partnerService.findAllSupplierPartnersForMaterialId(ownMaterialNumber);
         var allPartners = new ArrayList<>(customers);
         allPartners.addAll(suppliers);
-        var numberOfTasks = (customers.size() + suppliers.size()) * 3 + allPartners.size();
-        ExecutorService executorService = Executors.newFixedThreadPool(numberOfTasks);
         List<CompletableFuture<RefreshResult>> futures = new ArrayList<>();
         // customers
         customers.forEach(customer -> {
@@ -129,34 +149,159 @@ public class MaterialRefreshService {
         
         CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
             .thenApply(v -> futures.stream().map(CompletableFuture::join).toList())
-            .thenAccept(results -> {
-                var allErrors = results.stream()
-                        .filter(r -> r.getErrors() != null && !r.getErrors().isEmpty())
-                        .map(r -> Map.of(
-                        "message", r.getMessage(),
-                        "errors", r.getErrors()
-                        ))
-                        .toList();
-
-                var topic = "/topic/material/" + material.getOwnMaterialNumber();
-                if (allErrors.isEmpty()) {
-                    messagingTemplate.convertAndSend(topic, "SUCCESS");
-                    log.info("Successfully refreshed material {}", material.getOwnMaterialNumber());
-                } else {
-                        try {
-                                var json = objectMapper.writeValueAsString(allErrors);
-                                messagingTemplate.convertAndSend(topic, json);
-                                log.warn("Refresh completed with errors for material {}: {}",
-                                        material.getOwnMaterialNumber(), json);
-                        } catch (Exception e) {
-                                messagingTemplate.convertAndSend(topic, "[{\"errors\":[\"Serialization error: "
-                                        + e.getMessage().replace("\"","\\\"") + "\"]}]");
-                                log.error("Failed to serialize error payload for material {}", 
-                                        material.getOwnMaterialNumber(), e);
-                        }
+            .thenAccept(results -> publishResults(material.getOwnMaterialNumber(), results));
+    }
+
+    /**
+     * Refreshes the partner data of all materials with at least one partner. The requests are grouped by
+     * partner and type of request. Within each group, a single request is done first so that the subsequent
+     * requests can share its contract and EDR. Per partner, only one group is processed at a time, using up to
+     * {@link VariablesService#getRefreshMaxRequestsPerPartner()} concurrent requests.
+     * <p>
+     * The result for each material is sent to its STOMP topic as soon as all of its requests are done.
+     *
+     * @return false, if a refresh of all materials is already running
+     */
+    public boolean refreshAllPartnerData() {
+        if (!bulkRefreshRunning.compareAndSet(false, true)) {
+            log.warn("Refresh of all materials is already running");
+            return false;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            Map<Partner, Map<RefreshType, List<RefreshJob>>> jobsByPartner = new LinkedHashMap<>();
+            Map<String, List<CompletableFuture<RefreshResult>>> resultsByMaterial = new LinkedHashMap<>();
+            for (MaterialPartnerRelation mpr : mprService.findAll()) {
+                if (mpr.isPartnerBuysMaterial()) {
+                    addJobs(mpr, jobsByPartner, resultsByMaterial, RefreshType.DEMAND, RefreshType.PRODUCT_ITEM_STOCK, RefreshType.CUSTOMER_DAYS_OF_SUPPLY);
+                }
+                if (mpr.isPartnerSuppliesMaterial()) {
+                    addJobs(mpr, jobsByPartner, resultsByMaterial, RefreshType.PRODUCTION, RefreshType.MATERIAL_ITEM_STOCK, RefreshType.SUPPLIER_DAYS_OF_SUPPLY);
+                }
+                if (mpr.isPartnerBuysMaterial() || mpr.isPartnerSuppliesMaterial()) {
+                    addJobs(mpr, jobsByPartner, resultsByMaterial, RefreshType.DELIVERY);
+                }
+            }
+            log.info("Refreshing {} materials with {} partners", resultsByMaterial.size(), jobsByPartner.size());
+
+            jobsByPartner.forEach((partner, jobsByType) -> {
+                CompletableFuture<Void> pipeline = CompletableFuture.completedFuture(null);
+                for (var entry : jobsByType.entrySet()) {
+                    pipeline = pipeline.thenCompose(v -> runGroup(partner, entry.getKey(), entry.getValue()));
                 }
             });
+            resultsByMaterial.forEach((ownMaterialNumber, futures) ->
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .thenRun(() -> publishResults(ownMaterialNumber, futures.stream().map(CompletableFuture::join).toList())));
+
+            List<CompletableFuture<RefreshResult>> allFutures = resultsByMaterial.values().stream().flatMap(List::stream).toList();
+            CompletableFuture.allOf(allFutures.toArray(new CompletableFuture[0]))
+                .whenComplete((v, e) -> {
+                    bulkRefreshRunning.set(false);
+                    log.info("Refreshed {} materials with {} requests in {} ms", resultsByMaterial.size(), allFutures.size(),
+                        System.currentTimeMillis() - start);
+                });
+            return true;
+        } catch (RuntimeException e) {
+            bulkRefreshRunning.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Triggers {@link #refreshAllPartnerData()} as configured in the property puris.refresh.all.cron.
+     */
+    @Scheduled(cron = "${puris.refresh.all.cron}")
+    public void scheduledRefreshAllPartnerData() {
+        refreshAllPartnerData();
+    }
+
+    private void addJobs(MaterialPartnerRelation mpr, Map<Partner, Map<RefreshType, List<RefreshJob>>> jobsByPartner,
+                         Map<String, List<CompletableFuture<RefreshResult>>> resultsByMaterial, RefreshType... types) {
+        for (RefreshType type : types) {
+            var job = new RefreshJob(mpr.getMaterial(), new CompletableFuture<>());
+            jobsByPartner.computeIfAbsent(mpr.getPartner(), p -> new EnumMap<>(RefreshType.class))
+                .computeIfAbsent(type, t -> new ArrayList<>()).add(job);
+            resultsByMaterial.computeIfAbsent(mpr.getMaterial().getOwnMaterialNumber(), m -> new ArrayList<>()).add(job.result());
+        }
+    }
+
+    /**
+     * Runs the first job of the group, followed by the other jobs spread over a limited number of lanes.
+     * Each lane runs its jobs one after another, so no thread is blocked while waiting.
+     */
+    private CompletableFuture<Void> runGroup(Partner partner, RefreshType type, List<RefreshJob> jobs) {
+        return run(partner, type, jobs.get(0)).thenCompose(v -> {
+            int lanes = Math.max(1, Math.min(variablesService.getRefreshMaxRequestsPerPartner(), jobs.size() - 1));
+            List<CompletableFuture<Void>> laneFutures = new ArrayList<>();
+            for (int lane = 0; lane < lanes; lane++) {
+                CompletableFuture<Void> laneFuture = CompletableFuture.completedFuture(null);
+                for (int i = 1 + lane; i < jobs.size(); i += lanes) {
+                    RefreshJob job = jobs.get(i);
+                    laneFuture = laneFuture.thenCompose(x -> run(partner, type, job));
+                }
+                laneFutures.add(laneFuture);
+            }
+            return CompletableFuture.allOf(laneFutures.toArray(new CompletableFuture[0]));
+        });
+    }
+
+    private CompletableFuture<Void> run(Partner partner, RefreshType type, RefreshJob job) {
+        return CompletableFuture.supplyAsync(() -> doRequest(partner, type, job.material()), executorService)
+            .handle((result, e) -> {
+                if (e != null) {
+                    log.error("Error in {} request for {} and partner {}", type, job.material().getOwnMaterialNumber(), partner.getBpnl(), e);
+                    result = new RefreshResult("Refresh failed for " + type, List.of(new RefreshError(List.of(String.valueOf(e.getMessage())))));
+                }
+                job.result().complete(result);
+                return null;
+            });
+    }
+
+    private RefreshResult doRequest(Partner partner, RefreshType type, Material material) {
+        return switch (type) {
+            case DEMAND -> demandRequestApiService.doReportedDemandRequest(partner, material);
+            case PRODUCT_ITEM_STOCK -> itemStockRequestApiService.doItemStockSubmodelReportedProductItemStockRequest(partner, material);
+            case CUSTOMER_DAYS_OF_SUPPLY -> daysOfSupplyRequestApiService.doReportedDaysOfSupplyRequest(partner, material, DirectionCharacteristic.INBOUND);
+            case PRODUCTION -> productionRequestApiService.doReportedProductionRequest(partner, material);
+            case MATERIAL_ITEM_STOCK -> itemStockRequestApiService.doItemStockSubmodelReportedMaterialItemStockRequest(partner, material);
+            case SUPPLIER_DAYS_OF_SUPPLY -> daysOfSupplyRequestApiService.doReportedDaysOfSupplyRequest(partner, material, DirectionCharacteristic.OUTBOUND);
+            case DELIVERY -> deliveryRequestApiService.doReportedDeliveryRequest(partner, material);
+        };
+    }
+
+    private void publishResults(String ownMaterialNumber, List<RefreshResult> results) {
+        var allErrors = results.stream()
+                .filter(r -> r.getErrors() != null && !r.getErrors().isEmpty())
+                .map(r -> Map.of(
+                "message", r.getMessage(),
+                "errors", r.getErrors()
+                ))
+                .toList();
+
+        var topic = "/topic/material/" + ownMaterialNumber;
+        if (allErrors.isEmpty()) {
+            messagingTemplate.convertAndSend(topic, "SUCCESS");
+            log.info("Successfully refreshed material {}", ownMaterialNumber);
+        } else {
+                try {
+                        var json = objectMapper.writeValueAsString(allErrors);
+                        messagingTemplate.convertAndSend(topic, json);
+                        log.warn("Refresh completed with errors for material {}: {}",
+                                ownMaterialNumber, json);
+                } catch (Exception e) {
+                        messagingTemplate.convertAndSend(topic, "[{\"errors\":[\"Serialization error: "
+                                + e.getMessage().replace("\"","\\\"") + "\"]}]");
+                        log.error("Failed to serialize error payload for material {}", 
+                                ownMaterialNumber, e);
+                }
+        }
+    }
+
+    private enum RefreshType {
+        DEMAND, PRODUCT_ITEM_STOCK, CUSTOMER_DAYS_OF_SUPPLY, PRODUCTION, MATERIAL_ITEM_STOCK, SUPPLIER_DAYS_OF_SUPPLY, DELIVERY
+    }
 
-        executorService.shutdown();
+    private record RefreshJob(Material material, CompletableFuture<RefreshResult> result) {
     }
 }
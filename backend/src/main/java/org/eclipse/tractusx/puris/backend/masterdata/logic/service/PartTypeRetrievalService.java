@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.masterdata.logic.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService;
+import org.eclipse.tractusx.puris.backend.common.util.ExecutorConfiguration;
+import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.MaterialPartnerRelationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Retrieves the CatenaX-Ids that supplier partners assigned to your materials from their
+ * PartTypeInformation submodels and stores them in the corresponding MaterialPartnerRelations.
+ * <p>
+ * There is at most one running retrieval per MaterialPartnerRelation. Concurrent callers for
+ * the same relation share its result and wait for it without occupying a CPU.
+ */
+@Service
+@Slf4j
+public class PartTypeRetrievalService {
+
+    /**
+     * The number of times a failed retrieval is retried.
+     */
+    private static final int RETRIES = 1;
+
+    /**
+     * Pause before each retry (milliseconds).
+     */
+    private static final long RETRY_DELAY = 300;
+
+    @Autowired
+    private MaterialPartnerRelationRepository mprRepository;
+
+    @Autowired
+    private EdcAdapterService edcAdapterService;
+
+    @Autowired
+    private VariablesService variablesService;
+
+    @Autowired
+    @Qualifier(ExecutorConfiguration.PART_TYPE_EXECUTOR)
+    private ExecutorService partTypeExecutorService;
+
+    private final Map<MaterialPartnerRelation.Key, CompletableFuture<String>> runningRetrievals = new ConcurrentHashMap<>();
+
+    /**
+     * Starts the retrieval of the partner's CatenaX-Id for the material of the given relation, unless
+     * there already is a running retrieval for that relation. In that case, its result is returned.
+     * <p>
+     * The returned future is a copy of the shared one, so completing or cancelling it doesn't affect
+     * other callers.
+     *
+     * @param materialPartnerRelation the relation with a supplier partner
+     * @return a future that completes with the partner's CatenaX-Id, or with null if it could not be retrieved
+     */
+    public CompletableFuture<String> retrievePartnerCXNumber(MaterialPartnerRelation materialPartnerRelation) {
+        var key = materialPartnerRelation.getKey();
+        CompletableFuture<String> retrieval = new CompletableFuture<>();
+        CompletableFuture<String> runningRetrieval = runningRetrievals.putIfAbsent(key, retrieval);
+        if (runningRetrieval != null) {
+            return runningRetrieval.copy();
+        }
+        try {
+            partTypeExecutorService.execute(() -> {
+                String partnerCXNumber = null;
+                try {
+                    partnerCXNumber = retrieve(materialPartnerRelation);
+                } finally {
+                    // remove first, so that a caller seeing the result can trigger a new retrieval
+                    runningRetrievals.remove(key, retrieval);
+                    retrieval.complete(partnerCXNumber);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.error("Could not start PartTypeInformation fetch for " + key, e);
+            runningRetrievals.remove(key, retrieval);
+            retrieval.complete(null);
+        }
+        return retrieval.copy();
+    }
+
+    /**
+     * Retrieves the partner's CatenaX-Id for the material of the given relation and waits at most
+     * for the configured timeout.
+     *
+     * @param materialPartnerRelation the relation with a supplier partner
+     * @return the partner's CatenaX-Id, or null if it could not be retrieved in time
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    public String awaitPartnerCXNumber(MaterialPartnerRelation materialPartnerRelation) throws InterruptedException {
+        try {
+            return retrievePartnerCXNumber(materialPartnerRelation).get(variablesService.getPartTypeTimeout(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("PartTypeInformation fetch for " + materialPartnerRelation.getKey() + " did not finish in time");
+        } catch (ExecutionException e) {
+            log.warn("PartTypeInformation fetch for " + materialPartnerRelation.getKey() + " failed", e.getCause());
+        }
+        return null;
+    }
+
+    private String retrieve(MaterialPartnerRelation materialPartnerRelation) {
+        String bpnl = materialPartnerRelation.getPartner().getBpnl();
+        String ownMaterialNumber = materialPartnerRelation.getMaterial().getOwnMaterialNumber();
+        for (int retriesLeft = RETRIES; retriesLeft >= 0; retriesLeft--) {
+            try {
+                if (retriesLeft < RETRIES) {
+                    Thread.sleep(RETRY_DELAY);
+                }
+                String partnerCXId = edcAdapterService.getCxIdFromPartTypeInformation(materialPartnerRelation);
+                if (partnerCXId != null && PatternStore.URN_OR_UUID_PATTERN.matcher(partnerCXId).matches()) {
+                    // store to the current state of the relation, which may have changed in the meantime
+                    var currentRelation = mprRepository.findById(materialPartnerRelation.getKey()).orElse(materialPartnerRelation);
+                    currentRelation.setPartnerCXNumber(partnerCXId);
+                    mprRepository.save(currentRelation);
+                    log.info("Successfully inserted Partner CX Id for Partner " + bpnl + " and Material "
+                        + ownMaterialNumber + " -> " + partnerCXId);
+                    return partnerCXId;
+                }
+                log.warn("PartTypeInformation fetch from " + bpnl + " for " + ownMaterialNumber + " failed. Retries left: " + retriesLeft);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (Exception e) {
+                log.warn("PartTypeInformation fetch from " + bpnl + " for " + ownMaterialNumber + " failed. Retries left: " + retriesLeft, e);
+            }
+        }
+        log.warn("PartTypeInformation fetch from " + bpnl + " for " + ownMaterialNumber + " failed");
+        return null;
+    }
+}
@@ -25,11 +25,13 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService;
 import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcContractMappingService;
+import org.eclipse.tractusx.puris.backend.common.util.ExecutorConfiguration;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.PartnerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.net.URL;
@@ -54,6 +56,7 @@ public class PartnerServiceImpl implements PartnerService {
     private VariablesService variablesService;
 
     @Autowired
+    @Qualifier(ExecutorConfiguration.DTR_EXECUTOR)
     private ExecutorService executorService;
 
     @Autowired
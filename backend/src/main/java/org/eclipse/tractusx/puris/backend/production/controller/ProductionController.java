@@ -26,6 +26,9 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Validator;
+import org.eclipse.tractusx.puris.backend.common.util.ExecutorConfiguration;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetPagination;
+import org.eclipse.tractusx.puris.backend.common.util.NdjsonStreamer;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
@@ -34,23 +37,29 @@ import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartn
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.eclipse.tractusx.puris.backend.production.domain.model.OwnProduction;
+import org.eclipse.tractusx.puris.backend.production.domain.model.Production;
 import org.eclipse.tractusx.puris.backend.production.domain.model.ReportedProduction;
+import org.eclipse.tractusx.puris.backend.production.logic.adapter.ProductionDtoMapper;
 import org.eclipse.tractusx.puris.backend.production.logic.dto.ProductionDto;
 import org.eclipse.tractusx.puris.backend.production.logic.service.OwnProductionService;
 import org.eclipse.tractusx.puris.backend.production.logic.service.ProductionRequestApiService;
 import org.eclipse.tractusx.puris.backend.production.logic.service.ReportedProductionService;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.management.openmbean.KeyAlreadyExistsException;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
@@ -84,20 +93,43 @@ public class ProductionController {
     @Autowired
     private Validator validator;
 
+    @Autowired
+    private NdjsonStreamer ndjsonStreamer;
+
     private final Pattern materialPattern = PatternStore.NON_EMPTY_NON_VERTICAL_WHITESPACE_PATTERN;
 
     @Autowired
+    @Qualifier(ExecutorConfiguration.PARTNER_REQUEST_EXECUTOR)
     private ExecutorService executorService;
 
     @GetMapping()
     @ResponseBody
-    @Operation(summary = "Get all planned productions for the given Material", description = "Get all planned productions for the given material number. Optionally the production site can be filtered by its bpns.")
-    public List<ProductionDto> getAllProductions(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> site) {
+    @Operation(summary = "Get all planned productions for the given Material", description = "Get all planned productions for the given material number. Optionally the production site can be filtered by its bpns. If a limit is given, at most that many entries ordered by uuid are returned and the header X-Next-Cursor holds the value of `after` for the next page.")
+    public ResponseEntity<List<ProductionDto>> getAllProductions(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> site,
+            @Parameter(description = "uuid of the last entry of the previous page") Optional<UUID> after,
+            @Parameter(description = "maximum number of entries to return, all entries if omitted") Optional<Integer> limit) {
         if (ownMaterialNumber != null) {
             ownMaterialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
         }
-        return ownProductionService.findAllByFilters(Optional.of(ownMaterialNumber), Optional.empty(), site, Optional.empty())
-                .stream().map(this::convertToDto).collect(Collectors.toList());
+        Map<UUID, String> partnerMaterialNumbers = mprService.findPartnerMaterialNumbers(ownMaterialNumber);
+        if (limit.isEmpty()) {
+            return ResponseEntity.ok(ownProductionService.findAllByFilters(Optional.of(ownMaterialNumber), Optional.empty(), site, Optional.empty())
+                .stream().map(production -> convertToDto(production, partnerMaterialNumbers)).collect(Collectors.toList()));
+        }
+        int pageSize = KeysetPagination.checkLimit(limit.get());
+        return KeysetPagination.toResponse(
+            ownProductionService.findPageByFilters(Optional.of(ownMaterialNumber), Optional.empty(), site, after, pageSize),
+            pageSize, OwnProduction::getUuid, production -> convertToDto(production, partnerMaterialNumbers));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all planned productions for the given Material", description = "Get all planned productions for the given material number. Optionally the production site can be filtered by its bpns. The entries are streamed as newline delimited JSON while they are read.")
+    public ResponseEntity<StreamingResponseBody> streamAllProductions(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> site) {
+        String materialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
+        Map<UUID, String> partnerMaterialNumbers = mprService.findPartnerMaterialNumbers(materialNumber);
+        return ndjsonStreamer.stream(
+            () -> ownProductionService.streamAllByFilters(Optional.of(materialNumber), Optional.empty(), site),
+            production -> convertToDto(production, partnerMaterialNumbers));
     }
 
     @PostMapping()
@@ -228,15 +260,38 @@ public class ProductionController {
     @ResponseBody
     @Operation(
         summary = "Get all productions of partners for a material", 
-        description = "Get all productions of partners for a material number. Optionally the partners can be filtered by their bpnl and the production site can be filtered by its bpns."
+        description = "Get all productions of partners for a material number. Optionally the partners can be filtered by their bpnl and the production site can be filtered by its bpns. If a limit is given, at most that many entries ordered by uuid are returned and the header X-Next-Cursor holds the value of `after` for the next page."
     )
-    public List<ProductionDto> getAllProductionsForPartner(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> bpnl,
-            Optional<String> site) {
+    public ResponseEntity<List<ProductionDto>> getAllProductionsForPartner(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> bpnl,
+            Optional<String> site,
+            @Parameter(description = "uuid of the last entry of the previous page") Optional<UUID> after,
+            @Parameter(description = "maximum number of entries to return, all entries if omitted") Optional<Integer> limit) {
         if (ownMaterialNumber != null) {
             ownMaterialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
         }
-        return reportedProductionService.findAllByFilters(Optional.of(ownMaterialNumber), bpnl, site, Optional.empty())
-                .stream().map(this::convertToDto).collect(Collectors.toList());
+        Map<UUID, String> partnerMaterialNumbers = mprService.findPartnerMaterialNumbers(ownMaterialNumber);
+        if (limit.isEmpty()) {
+            return ResponseEntity.ok(reportedProductionService.findAllByFilters(Optional.of(ownMaterialNumber), bpnl, site, Optional.empty())
+                .stream().map(production -> convertToDto(production, partnerMaterialNumbers)).collect(Collectors.toList()));
+        }
+        int pageSize = KeysetPagination.checkLimit(limit.get());
+        return KeysetPagination.toResponse(
+            reportedProductionService.findPageByFilters(Optional.of(ownMaterialNumber), bpnl, site, after, pageSize),
+            pageSize, ReportedProduction::getUuid, production -> convertToDto(production, partnerMaterialNumbers));
+    }
+
+    @GetMapping(value = "reported", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Stream all productions of partners for a material",
+        description = "Get all productions of partners for a material number. Optionally the partners can be filtered by their bpnl and the production site can be filtered by its bpns. The entries are streamed as newline delimited JSON while they are read."
+    )
+    public ResponseEntity<StreamingResponseBody> streamAllProductionsForPartner(@Parameter(description = "encoded in base64") String ownMaterialNumber, Optional<String> bpnl,
+            Optional<String> site) {
+        String materialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
+        Map<UUID, String> partnerMaterialNumbers = mprService.findPartnerMaterialNumbers(materialNumber);
+        return ndjsonStreamer.stream(
+            () -> reportedProductionService.streamAllByFilters(Optional.of(materialNumber), bpnl, site),
+            production -> convertToDto(production, partnerMaterialNumbers));
     }
 
     @GetMapping("reported/refresh")
@@ -265,17 +320,14 @@ public class ProductionController {
             .toList());
     }
 
-    private ProductionDto convertToDto(OwnProduction entity) {
-        ProductionDto dto = modelMapper.map(entity, ProductionDto.class);
-
-        dto.getMaterial().setMaterialNumberCx(entity.getMaterial().getMaterialNumberCx());
-        dto.getMaterial().setMaterialNumberSupplier(entity.getMaterial().getOwnMaterialNumber());
-
+    private ProductionDto convertToDto(Production entity) {
         var materialPartnerRelation = mprService.find(entity.getMaterial().getOwnMaterialNumber(),
                 entity.getPartner().getUuid());
-        dto.getMaterial().setMaterialNumberCustomer(materialPartnerRelation.getPartnerMaterialNumber());
+        return ProductionDtoMapper.toDto(entity, materialPartnerRelation.getPartnerMaterialNumber());
+    }
 
-        return dto;
+    private ProductionDto convertToDto(Production entity, Map<UUID, String> partnerMaterialNumbers) {
+        return ProductionDtoMapper.toDto(entity, partnerMaterialNumbers.get(entity.getPartner().getUuid()));
     }
 
     private OwnProduction convertToEntity(ProductionDto dto) {
@@ -295,17 +347,4 @@ public class ProductionController {
         entity.setPartner(existingPartner);
         return entity;
     }
-
-    private ProductionDto convertToDto(ReportedProduction entity) {
-        ProductionDto dto = modelMapper.map(entity, ProductionDto.class);
-
-        dto.getMaterial().setMaterialNumberCx(entity.getMaterial().getMaterialNumberCx());
-        dto.getMaterial().setMaterialNumberSupplier(entity.getMaterial().getOwnMaterialNumber());
-
-        var materialPartnerRelation = mprService.find(entity.getMaterial().getOwnMaterialNumber(),
-                entity.getPartner().getUuid());
-        dto.getMaterial().setMaterialNumberCustomer(materialPartnerRelation.getPartnerMaterialNumber());
-
-        return dto;
-    }
 }
@@ -26,12 +26,15 @@ import jakarta.validation.constraints.Pattern;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
+import org.eclipse.tractusx.puris.backend.common.domain.model.MaterialDataChangeListener;
 import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -42,6 +45,7 @@ import java.util.UUID;
 @SuperBuilder
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
 @Entity
+@EntityListeners(MaterialDataChangeListener.class)
 @ToString
 public abstract class Production {
     @Id
@@ -83,6 +87,22 @@ public abstract class Production {
         return material.getOwnMaterialNumber();
     }
 
+    /**
+     * Provides the values that are compared by {@link #equals(Object)}. In contrast to {@link #hashCode()},
+     * the key can be used to find equal productions in hash based collections.
+     *
+     * Dates are compared by their point in time, so that keys of loaded entities match keys of new ones.
+     *
+     * @return the business key
+     */
+    public List<Object> businessKey() {
+        return Arrays.asList(getClass(),
+            material == null ? null : material.getOwnMaterialNumber(),
+            partner == null ? null : partner.getUuid(),
+            estimatedTimeOfCompletion == null ? null : estimatedTimeOfCompletion.getTime(), productionSiteBpns,
+            customerOrderNumber, customerOrderPositionNumber, supplierOrderNumber);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -20,11 +20,92 @@
 
 package org.eclipse.tractusx.puris.backend.production.domain.repository;
 
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.production.domain.model.Production;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.DatedQuantity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
-public interface ProductionRepository<T extends Production> extends JpaRepository<T, UUID> {
-    
+public interface ProductionRepository<T extends Production> extends JpaRepository<T, UUID>, JpaSpecificationExecutor<T> {
+
+    List<T> findAllByPartner_Bpnl(String bpnl);
+
+    List<T> findAllByMaterial_OwnMaterialNumber(String ownMaterialNumber);
+
+    List<T> findAllByMaterial_OwnMaterialNumberAndPartner_Uuid(String ownMaterialNumber, UUID partnerUuid);
+
+    List<T> findAllByMaterial_OwnMaterialNumberInAndPartner_UuidIn(Collection<String> ownMaterialNumbers, Collection<UUID> partnerUuids);
+
+    /**
+     * @return the ids of all productions, without loading the entities
+     */
+    @Query("select e.uuid from #{#entityName} e")
+    List<UUID> findAllUuids();
+
+    /**
+     * @param uuids the ids of the productions
+     * @return the own material numbers of the materials of the given productions
+     */
+    @Query("select distinct e.material.ownMaterialNumber from #{#entityName} e where e.uuid in :uuids")
+    List<String> findOwnMaterialNumbersByUuidIn(@Param("uuids") Collection<UUID> uuids);
+
+    /**
+     * Deletes all productions of the given partner and material by a single statement. The statement bypasses
+     * the entity listeners.
+     *
+     * @param partner  the partner
+     * @param material the material
+     * @return the number of deleted productions
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from #{#entityName} e where e.partner = :partner and e.material = :material")
+    int deleteAllByPartnerAndMaterialInBulk(@Param("partner") Partner partner, @Param("material") Material material);
+
+    /**
+     * Replaces all productions of the given partner and material by the given productions within one transaction. The
+     * old productions are deleted by a single statement and the new ones are inserted in JDBC batches.
+     *
+     * @param partner  the partner
+     * @param material the material
+     * @param productions the new productions
+     * @return the saved productions
+     */
+    @Transactional
+    default List<T> replaceAllForPartnerAndMaterial(Partner partner, Material material, List<T> productions) {
+        deleteAllByPartnerAndMaterialInBulk(partner, material);
+        return saveAll(productions);
+    }
+
+    /**
+     * Sums up the quantities of the productions for the given material per estimated time of
+     * completion within [from, to).
+     *
+     * @param ownMaterialNumber  the own material number of the material
+     * @param partnerBpnl        the bpnl of the partner or null for all partners
+     * @param productionSiteBpns the bpns of the production site or null for all sites
+     * @param from               inclusive lower bound of the estimated time of completion
+     * @param to                 exclusive upper bound of the estimated time of completion
+     * @return the summed up quantities per estimated time of completion
+     */
+    @Query("select p.estimatedTimeOfCompletion as date, sum(p.quantity) as quantity from #{#entityName} p " +
+        "where p.material.ownMaterialNumber = :ownMaterialNumber " +
+        "and (:partnerBpnl is null or p.partner.bpnl = :partnerBpnl) " +
+        "and (:productionSiteBpns is null or p.productionSiteBpns = :productionSiteBpns) " +
+        "and p.estimatedTimeOfCompletion >= :from and p.estimatedTimeOfCompletion < :to " +
+        "group by p.estimatedTimeOfCompletion")
+    List<DatedQuantity> sumQuantitiesByDay(@Param("ownMaterialNumber") String ownMaterialNumber,
+                                           @Param("partnerBpnl") String partnerBpnl,
+                                           @Param("productionSiteBpns") String productionSiteBpns,
+                                           @Param("from") Date from,
+                                           @Param("to") Date to);
 }
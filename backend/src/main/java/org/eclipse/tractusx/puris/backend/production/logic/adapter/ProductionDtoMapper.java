@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.production.logic.adapter;
+
+import org.eclipse.tractusx.puris.backend.masterdata.logic.adapter.MasterDataDtoMapper;
+import org.eclipse.tractusx.puris.backend.production.domain.model.Production;
+import org.eclipse.tractusx.puris.backend.production.logic.dto.ProductionDto;
+
+/**
+ * Explicit mapping of productions to the dtos of the production endpoints.
+ */
+public final class ProductionDtoMapper {
+
+    private ProductionDtoMapper() {
+    }
+
+    /**
+     * Own and reported productions are both mapped from the supplier's perspective.
+     *
+     * @param entity                the own or reported production
+     * @param partnerMaterialNumber the material number of the customer, may be null
+     * @return the dto
+     */
+    public static ProductionDto toDto(Production entity, String partnerMaterialNumber) {
+        ProductionDto dto = new ProductionDto();
+        dto.setUuid(entity.getUuid());
+        dto.setPartner(MasterDataDtoMapper.toPartnerDto(entity.getPartner()));
+        dto.setMaterial(MasterDataDtoMapper.toMaterialDto(entity.getMaterial()));
+        dto.getMaterial().setMaterialNumberSupplier(entity.getMaterial().getOwnMaterialNumber());
+        dto.getMaterial().setMaterialNumberCustomer(partnerMaterialNumber);
+        dto.setQuantity(entity.getQuantity());
+        dto.setMeasurementUnit(entity.getMeasurementUnit());
+        dto.setProductionSiteBpns(entity.getProductionSiteBpns());
+        dto.setEstimatedTimeOfCompletion(entity.getEstimatedTimeOfCompletion());
+        dto.setCustomerOrderNumber(entity.getCustomerOrderNumber());
+        dto.setCustomerOrderPositionNumber(entity.getCustomerOrderPositionNumber());
+        dto.setSupplierOrderNumber(entity.getSupplierOrderNumber());
+        dto.setLastUpdatedOnDateTime(entity.getLastUpdatedOnDateTime());
+        return dto;
+    }
+}
@@ -50,7 +50,7 @@ public class OwnProductionService extends ProductionService<OwnProduction> {
             
             throw new IllegalArgumentException("Invalid production");
         }
-        if (repository.findAll().stream().anyMatch(prod -> prod.equals(production))) {
+        if (exists(production)) {
             throw new KeyAlreadyExistsException("Production already exists");
         }
         return repository.save(production);
@@ -60,8 +60,7 @@ public class OwnProductionService extends ProductionService<OwnProduction> {
         if (productions.stream().anyMatch(production -> !validator.apply(production))) {
             throw new IllegalArgumentException("Invalid production");
         }
-        if (repository.findAll().stream()
-                .anyMatch(existing -> productions.stream().anyMatch(production -> production.equals(existing)))) {
+        if (anyExists(productions)) {
             throw new KeyAlreadyExistsException("Production already exists");
         }
         return repository.saveAll(productions);
@@ -114,14 +114,8 @@ public class ProductionRequestApiService {
                 return new RefreshResult("Validation failed for reported productions", errors);
             }
    
-            // delete older data:
-            var oldProductions = reportedProductionService.findAllByFilters(Optional.of(material.getOwnMaterialNumber()), Optional.of(partner.getBpnl()), Optional.empty(), Optional.empty());
-            for (var oldProduction : oldProductions) {
-                reportedProductionService.delete(oldProduction.getUuid());
-            }
-            for (var newProduction : productions) {
-                reportedProductionService.create(newProduction);
-            }
+            // replace older data:
+            reportedProductionService.replaceAll(partner, material, productions);
             log.info("Successfully updated ReportedProduction for {} and partner {}", 
                         material.getOwnMaterialNumber(), partner.getBpnl());
             materialService.updateTimestamp(material.getOwnMaterialNumber());
@@ -19,15 +19,18 @@
  */
 package org.eclipse.tractusx.puris.backend.production.logic.service;
 
+import org.eclipse.tractusx.puris.backend.common.domain.model.MaterialDataChangedEvent;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.FilterSpecifications;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.KeysetQueries;
+import org.eclipse.tractusx.puris.backend.common.util.DailyQuantityWindow;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.production.domain.model.Production;
 import org.eclipse.tractusx.puris.backend.production.domain.repository.ProductionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -35,22 +38,27 @@ public abstract class ProductionService<T extends Production>  {
     @Autowired
     protected ProductionRepository<T> repository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public final List<T> findAll() {
         return repository.findAll();
     }
 
+    public final List<UUID> findAllUuids() {
+        return repository.findAllUuids();
+    }
+
     public final T findById(UUID uuid) {
         return repository.findById(uuid).orElse(null);
     }    
 
     public final List<T> findAllByBpnl(String bpnl) {
-        return repository.findAll().stream().filter(production -> production.getPartner().getBpnl().equals(bpnl))
-                .toList();
+        return repository.findAllByPartner_Bpnl(bpnl);
     }
 
     public final List<T> findAllByOwnMaterialNumber(String ownMaterialNumber) {
-        return repository.findAll().stream().filter(production -> production.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber))
-                .toList();
+        return repository.findAllByMaterial_OwnMaterialNumber(ownMaterialNumber);
     }
 
     public final List<T> findAllByFilters(
@@ -58,43 +66,102 @@ public abstract class ProductionService<T extends Production>  {
         Optional<String> bpnl,
         Optional<String> bpns,
         Optional<Date> dayOfCompletion) {
-        Stream<T> stream = repository.findAll().stream();
-        if (ownMaterialNumber.isPresent()) {
-            stream = stream.filter(production -> production.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber.get()));
-        }
-        if (bpnl.isPresent()) {
-            stream = stream.filter(production -> production.getPartner().getBpnl().equals(bpnl.get()));
+        return repository.findAll(filtersOf(ownMaterialNumber, bpnl, bpns, dayOfCompletion));
+    }
+
+    /**
+     * @param after the uuid of the last production of the previous page, empty for the first page
+     * @param limit the maximum number of productions to return
+     * @return the next productions matching the filters, ordered by their uuid
+     * @see #findAllByFilters(Optional, Optional, Optional, Optional)
+     */
+    public final List<T> findPageByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        Optional<String> bpns,
+        Optional<UUID> after,
+        int limit) {
+        return KeysetQueries.findPage(repository, filtersOf(ownMaterialNumber, bpnl, bpns, Optional.empty()), after, limit);
+    }
+
+    /**
+     * The stream must be consumed within a transaction and closed afterwards.
+     *
+     * @return all productions matching the filters, ordered by their uuid
+     * @see #findAllByFilters(Optional, Optional, Optional, Optional)
+     */
+    public final Stream<T> streamAllByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        Optional<String> bpns) {
+        return KeysetQueries.stream(repository, filtersOf(ownMaterialNumber, bpnl, bpns, Optional.empty()));
+    }
+
+    private Specification<T> filtersOf(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        Optional<String> bpns,
+        Optional<Date> dayOfCompletion) {
+        List<Specification<T>> filters = new ArrayList<>();
+        filters.add(FilterSpecifications.fetchesMaterialAndPartner());
+        ownMaterialNumber.ifPresent(number -> filters.add(FilterSpecifications.hasOwnMaterialNumber(number)));
+        bpnl.ifPresent(partnerBpnl -> filters.add(FilterSpecifications.hasPartnerBpnl(partnerBpnl)));
+        bpns.ifPresent(siteBpns -> filters.add(FilterSpecifications.hasAttribute("productionSiteBpns", siteBpns)));
+        dayOfCompletion.ifPresent(day -> filters.add(FilterSpecifications.isOnDay("estimatedTimeOfCompletion", day)));
+        return Specification.allOf(filters);
+    }
+
+    /**
+     * Checks whether a production equal to the given one has already been stored.
+     *
+     * @param production the production to look for
+     * @return true, if an equal production exists
+     */
+    protected final boolean exists(T production) {
+        return anyExists(List.of(production));
+    }
+
+    /**
+     * Checks whether a production equal to one of the given ones has already been stored. The stored productions
+     * for the materials and partners of the given ones are loaded by a single query and compared by their
+     * business key.
+     *
+     * @param productions the productions to look for
+     * @return true, if an equal production exists for at least one of them
+     */
+    protected final boolean anyExists(List<T> productions) {
+        Set<String> ownMaterialNumbers = new HashSet<>();
+        Set<UUID> partnerUuids = new HashSet<>();
+        for (T production : productions) {
+            if (production.getMaterial() != null && production.getPartner() != null) {
+                ownMaterialNumbers.add(production.getMaterial().getOwnMaterialNumber());
+                partnerUuids.add(production.getPartner().getUuid());
+            }
         }
-        if (bpns.isPresent()) {
-            stream = stream.filter(production -> production.getProductionSiteBpns().equals(bpns.get()));
+        if (ownMaterialNumbers.isEmpty()) {
+            return false;
         }
-        if (dayOfCompletion.isPresent()) {
-            LocalDate localEstimatedTimeOfCompletion = Instant.ofEpochMilli(dayOfCompletion.get().getTime())
-                .atOffset(ZoneOffset.UTC)
-                .toLocalDate();
-            stream = stream.filter(production -> {
-                LocalDate productionEstimatedTimeOfCompletion = Instant.ofEpochMilli(production.getEstimatedTimeOfCompletion().getTime())
-                    .atOffset(ZoneOffset.UTC)
-                    .toLocalDate();
-                return productionEstimatedTimeOfCompletion.getDayOfMonth() == localEstimatedTimeOfCompletion.getDayOfMonth();
-            });
+        Set<List<Object>> existingKeys = new HashSet<>();
+        for (T existing : repository.findAllByMaterial_OwnMaterialNumberInAndPartner_UuidIn(ownMaterialNumbers, partnerUuids)) {
+            existingKeys.add(existing.businessKey());
         }
-        return stream.toList();
+        return productions.stream().anyMatch(production -> existingKeys.contains(production.businessKey()));
     }
 
+    /**
+     * Sums up the quantities of the productions per day of completion, starting today. The quantities
+     * are summed up by a single aggregate query.
+     *
+     * @param material     the own material number
+     * @param partnerBpnl  the partner to filter for, if present
+     * @param siteBpns     the production site to filter for, if present
+     * @param numberOfDays the number of days
+     * @return the summed up quantities for each day
+     */
     public final List<Double> getQuantityForDays(String material, Optional<String> partnerBpnl, Optional<String> siteBpns, int numberOfDays) {
-        List<Double> quantities = new ArrayList<>();
-        LocalDate localDate = LocalDate.now();
-
-        for (int i = 0; i < numberOfDays; i++) {
-            Date date = Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
-            List<T> productions = findAllByFilters(Optional.of(material), partnerBpnl, siteBpns, Optional.of(date));
-            double productionQuantity = getSumOfQuantities(productions);
-            quantities.add(productionQuantity);
-
-            localDate = localDate.plusDays(1);
-        }
-        return quantities;
+        DailyQuantityWindow window = DailyQuantityWindow.startingToday(numberOfDays);
+        return window.sum(repository.sumQuantitiesByDay(
+            material, partnerBpnl.orElse(null), siteBpns.orElse(null), window.getStart(), window.getEnd()));
     }
 
     protected List<String> basicValidation(Production production) {
@@ -162,11 +229,35 @@ public abstract class ProductionService<T extends Production>  {
         repository.deleteById(uuid);
     }
 
-    private final double getSumOfQuantities(List<T> productions) {
-        double sum = 0;
-        for (T production : productions) {
-            sum += production.getQuantity();
+    /**
+     * Deletes the given productions by a single statement. As the statement bypasses the entity listeners,
+     * the change of the affected materials is published explicitly.
+     *
+     * @param uuids the ids of the productions
+     */
+    public final void deleteAll(List<UUID> uuids) {
+        if (uuids.isEmpty()) {
+            return;
         }
-        return sum;
+        List<String> ownMaterialNumbers = repository.findOwnMaterialNumbersByUuidIn(uuids);
+        repository.deleteAllByIdInBatch(uuids);
+        ownMaterialNumbers.forEach(ownMaterialNumber ->
+            eventPublisher.publishEvent(new MaterialDataChangedEvent(ownMaterialNumber)));
+    }
+
+    /**
+     * Replaces all productions of the given partner and material by the given ones within one transaction. The
+     * old productions are deleted by a single statement and the new ones are inserted in JDBC batches. The
+     * productions must have been validated before.
+     *
+     * @param partner  the partner
+     * @param material the material
+     * @param productions the new productions
+     * @return the saved productions
+     */
+    public final List<T> replaceAll(Partner partner, Material material, List<T> productions) {
+        List<T> saved = repository.replaceAllForPartnerAndMaterial(partner, material, productions);
+        eventPublisher.publishEvent(new MaterialDataChangedEvent(material.getOwnMaterialNumber()));
+        return saved;
     }
 }
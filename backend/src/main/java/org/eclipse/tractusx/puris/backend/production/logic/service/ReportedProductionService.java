@@ -41,7 +41,7 @@ public class ReportedProductionService extends ProductionService<ReportedProduct
     }
 
     public final ReportedProduction create(ReportedProduction production) {
-        if (repository.findAll().stream().anyMatch(prod -> prod.equals(production))) {
+        if (exists(production)) {
             return null;
         }
         if (!validator.apply(production)) {
@@ -54,8 +54,7 @@ public class ReportedProductionService extends ProductionService<ReportedProduct
         if (productions.stream().anyMatch(production -> !validator.apply(production))) {
             return null;
         }
-        if (repository.findAll().stream()
-                .anyMatch(existing -> productions.stream().anyMatch(production -> production.equals(existing)))) {
+        if (anyExists(productions)) {
             return null;
         }
         return repository.saveAll(productions);
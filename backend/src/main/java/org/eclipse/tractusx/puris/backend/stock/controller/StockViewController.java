@@ -30,6 +30,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.util.ExecutorConfiguration;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetPagination;
+import org.eclipse.tractusx.puris.backend.common.util.NdjsonStreamer;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
@@ -41,17 +44,21 @@ import org.eclipse.tractusx.puris.backend.stock.domain.model.MaterialItemStock;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.ProductItemStock;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.ReportedMaterialItemStock;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.ReportedProductItemStock;
+import org.eclipse.tractusx.puris.backend.stock.logic.adapter.ItemStockDtoMapper;
 import org.eclipse.tractusx.puris.backend.stock.logic.dto.*;
 import org.eclipse.tractusx.puris.backend.stock.logic.service.*;
 import org.eclipse.tractusx.puris.backend.supply.logic.service.CustomerSupplyService;
 import org.eclipse.tractusx.puris.backend.supply.logic.service.SupplierSupplyService;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.*;
 import java.util.concurrent.ExecutorService;
@@ -104,6 +111,10 @@ public class StockViewController {
     private Validator validator;
 
     @Autowired
+    private NdjsonStreamer ndjsonStreamer;
+
+    @Autowired
+    @Qualifier(ExecutorConfiguration.PARTNER_REQUEST_EXECUTOR)
     private ExecutorService executorService;
 
     private final Pattern materialPattern = PatternStore.NON_EMPTY_NON_VERTICAL_WHITESPACE_PATTERN;
@@ -112,18 +123,15 @@ public class StockViewController {
     @ResponseBody
     @Operation(description = "Returns a list of all materials (excluding products)")
     public List<FrontendMaterialDto> getMaterials(Optional<Boolean> includeDaysOfSupply) {
-        return materialService.findAllMaterials()
+        List<Material> materials = materialService.findAllMaterials();
+        Map<String, Double> daysOfSupply = includeDaysOfSupply.orElse(false)
+            ? customerSupplyService.getCurrentDaysOfSupply(materials)
+            : Map.of();
+        return materials
             .stream()
-            .map(mat -> {
-                Optional<Double> daysOfSupply = Optional.empty();
-                if (includeDaysOfSupply.orElse(false)) {
-                    daysOfSupply = Optional.of(
-                        customerSupplyService.calculateCustomerDaysOfSupply(mat.getOwnMaterialNumber(), Optional.empty(), Optional.empty(), 28).get(0).getDaysOfSupply()
-                    );
-                };
-                var newMat = new FrontendMaterialDto(mat.getOwnMaterialNumber(), mat.getName(), mat.getLastUpdatedOn(), daysOfSupply);
-                return newMat;
-            }).collect(Collectors.toList());
+            .map(mat -> new FrontendMaterialDto(mat.getOwnMaterialNumber(), mat.getName(), mat.getLastUpdatedOn(),
+                Optional.ofNullable(daysOfSupply.get(mat.getOwnMaterialNumber()))))
+            .collect(Collectors.toList());
     }
 
     @GetMapping("materialnumbers-mapping")
@@ -152,28 +160,42 @@ public class StockViewController {
     @ResponseBody
     @Operation(description = "Returns a list of all products (excluding materials)")
     public List<FrontendMaterialDto> getProducts(Optional<Boolean> includeDaysOfSupply) {
-        return materialService.findAllProducts()
+        List<Material> materials = materialService.findAllProducts();
+        Map<String, Double> daysOfSupply = includeDaysOfSupply.orElse(false)
+            ? supplierSupplyService.getCurrentDaysOfSupply(materials)
+            : Map.of();
+        return materials
             .stream()
-            .map(mat -> {
-                Optional<Double> daysOfSupply = Optional.empty();
-                if (includeDaysOfSupply.orElse(false)) {
-                    daysOfSupply = Optional.of(
-                        supplierSupplyService.calculateSupplierDaysOfSupply(mat.getOwnMaterialNumber(), Optional.empty(), Optional.empty(), 28).get(0).getDaysOfSupply()
-                    );
-                };
-                var newMat = new FrontendMaterialDto(mat.getOwnMaterialNumber(), mat.getName(), mat.getLastUpdatedOn(), daysOfSupply);
-                return newMat;
-            }).collect(Collectors.toList());
+            .map(mat -> new FrontendMaterialDto(mat.getOwnMaterialNumber(), mat.getName(), mat.getLastUpdatedOn(),
+                Optional.ofNullable(daysOfSupply.get(mat.getOwnMaterialNumber()))))
+            .collect(Collectors.toList());
     }
 
     @GetMapping("product-stocks")
     @ResponseBody
-    @Operation(summary = "Get all material stocks for the given Material", description = "Get all material stocks for the given material number.")
-    public List<ProductStockDto> getProductStocks(@Parameter(description = "encoded in base64") String ownMaterialNumber) {
+    @Operation(summary = "Get all material stocks for the given Material", description = "Get all material stocks for the given material number. If a limit is given, at most that many entries ordered by uuid are returned and the header X-Next-Cursor holds the value of `after` for the next page.")
+    public ResponseEntity<List<ProductStockDto>> getProductStocks(@Parameter(description = "encoded in base64") String ownMaterialNumber,
+        @Parameter(description = "uuid of the last entry of the previous page") Optional<UUID> after,
+        @Parameter(description = "maximum number of entries to return, all entries if omitted") Optional<Integer> limit) {
         ownMaterialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
-        return productItemStockService.findByOwnMaterialNumber(ownMaterialNumber).stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        Map<UUID, String> partnerMaterialNumbers = mprService.findPartnerMaterialNumbers(ownMaterialNumber);
+        if (limit.isEmpty()) {
+            return ResponseEntity.ok(productItemStockService.findByOwnMaterialNumber(ownMaterialNumber).stream()
+                .map(stock -> convertToDto(stock, partnerMaterialNumbers))
+                .collect(Collectors.toList()));
+        }
+        int pageSize = KeysetPagination.checkLimit(limit.get());
+        return KeysetPagination.toResponse(productItemStockService.findPageByOwnMaterialNumber(ownMaterialNumber, after, pageSize),
+            pageSize, ProductItemStock::getUuid, stock -> convertToDto(stock, partnerMaterialNumbers));
+    }
+
+    @GetMapping(value = "product-stocks", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all product stocks for the given Material", description = "Get all product stocks for the given material number. The entries are streamed as newline delimited JSON while they are read.")
+    public ResponseEntity<StreamingResponseBody> streamProductStocks(@Parameter(description = "encoded in base64") String ownMaterialNumber) {
+        String materialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
+        Map<UUID, String> partnerMaterialNumbers = mprService.findPartnerMaterialNumbers(materialNumber);
+        return ndjsonStreamer.stream(() -> productItemStockService.streamByOwnMaterialNumber(materialNumber),
+            stock -> convertToDto(stock, partnerMaterialNumbers));
     }
 
     @PostMapping("product-stocks")
@@ -295,22 +317,13 @@ public class StockViewController {
     }
 
     private ProductStockDto convertToDto(ProductItemStock entity) {
-        ProductStockDto dto = modelMapper.map(entity, ProductStockDto.class);
-        dto.getMaterial().setMaterialNumberSupplier(entity.getMaterial().getOwnMaterialNumber());
         var materialPartnerRelation =
             mprService.find(entity.getMaterial().getOwnMaterialNumber(), entity.getPartner().getUuid());
-        dto.getMaterial().setMaterialNumberCustomer(materialPartnerRelation.getPartnerMaterialNumber());
-
-        dto.getMaterial().setMaterialNumberCx(entity.getMaterial().getMaterialNumberCx());
-
-        dto.setStockLocationBpns(entity.getLocationBpns());
-        dto.setStockLocationBpna(entity.getLocationBpna());
-
-        dto.setCustomerOrderNumber(entity.getCustomerOrderId());
-        dto.setCustomerOrderPositionNumber(entity.getCustomerOrderPositionId());
-        dto.setSupplierOrderNumber(entity.getSupplierOrderId());
+        return ItemStockDtoMapper.toDto(entity, materialPartnerRelation.getPartnerMaterialNumber());
+    }
 
-        return dto;
+    private ProductStockDto convertToDto(ProductItemStock entity, Map<UUID, String> partnerMaterialNumbers) {
+        return ItemStockDtoMapper.toDto(entity, partnerMaterialNumbers.get(entity.getPartner().getUuid()));
     }
 
     private ProductItemStock convertToEntity(ProductStockDto dto) {
@@ -343,13 +356,30 @@ public class StockViewController {
 
     @GetMapping("material-stocks")
     @ResponseBody
-    @Operation(summary = "Get all material stocks for the given Material", description = "Get all material stocks for the given material number.")
-    public List<MaterialStockDto> getMaterialStocks(@Parameter(description = "encoded in base64") String ownMaterialNumber) {
+    @Operation(summary = "Get all material stocks for the given Material", description = "Get all material stocks for the given material number. If a limit is given, at most that many entries ordered by uuid are returned and the header X-Next-Cursor holds the value of `after` for the next page.")
+    public ResponseEntity<List<MaterialStockDto>> getMaterialStocks(@Parameter(description = "encoded in base64") String ownMaterialNumber,
+        @Parameter(description = "uuid of the last entry of the previous page") Optional<UUID> after,
+        @Parameter(description = "maximum number of entries to return, all entries if omitted") Optional<Integer> limit) {
         ownMaterialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
-        List<MaterialStockDto> allMaterialStocks = materialItemStockService.findByOwnMaterialNumber(ownMaterialNumber).stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
-        return allMaterialStocks;
+        Map<UUID, String> partnerMaterialNumbers = mprService.findPartnerMaterialNumbers(ownMaterialNumber);
+        if (limit.isEmpty()) {
+            List<MaterialStockDto> allMaterialStocks = materialItemStockService.findByOwnMaterialNumber(ownMaterialNumber).stream()
+                .map(stock -> convertToDto(stock, partnerMaterialNumbers))
+                .collect(Collectors.toList());
+            return ResponseEntity.ok(allMaterialStocks);
+        }
+        int pageSize = KeysetPagination.checkLimit(limit.get());
+        return KeysetPagination.toResponse(materialItemStockService.findPageByOwnMaterialNumber(ownMaterialNumber, after, pageSize),
+            pageSize, MaterialItemStock::getUuid, stock -> convertToDto(stock, partnerMaterialNumbers));
+    }
+
+    @GetMapping(value = "material-stocks", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all material stocks for the given Material", description = "Get all material stocks for the given material number. The entries are streamed as newline delimited JSON while they are read.")
+    public ResponseEntity<StreamingResponseBody> streamMaterialStocks(@Parameter(description = "encoded in base64") String ownMaterialNumber) {
+        String materialNumber = new String(Base64.getDecoder().decode(ownMaterialNumber));
+        Map<UUID, String> partnerMaterialNumbers = mprService.findPartnerMaterialNumbers(materialNumber);
+        return ndjsonStreamer.stream(() -> materialItemStockService.streamByOwnMaterialNumber(materialNumber),
+            stock -> convertToDto(stock, partnerMaterialNumbers));
     }
 
     @PostMapping("material-stocks")
@@ -464,21 +494,13 @@ public class StockViewController {
     }
 
     private MaterialStockDto convertToDto(MaterialItemStock entity) {
-        MaterialStockDto dto = modelMapper.map(entity, MaterialStockDto.class);
-        dto.getMaterial().setMaterialNumberCx(entity.getMaterial().getMaterialNumberCx());
-        dto.getMaterial().setMaterialNumberCustomer(entity.getMaterial().getOwnMaterialNumber());
         var materialPartnerRelation = mprService.find(entity.getMaterial().getOwnMaterialNumber(),
             entity.getPartner().getUuid());
-        dto.getMaterial().setMaterialNumberSupplier(materialPartnerRelation.getPartnerMaterialNumber());
-
-        dto.setStockLocationBpns(entity.getLocationBpns());
-        dto.setStockLocationBpna(entity.getLocationBpna());
-
-        dto.setCustomerOrderNumber(entity.getCustomerOrderId());
-        dto.setCustomerOrderPositionNumber(entity.getCustomerOrderPositionId());
-        dto.setSupplierOrderNumber(entity.getSupplierOrderId());
+        return ItemStockDtoMapper.toDto(entity, materialPartnerRelation.getPartnerMaterialNumber());
+    }
 
-        return dto;
+    private MaterialStockDto convertToDto(MaterialItemStock entity, Map<UUID, String> partnerMaterialNumbers) {
+        return ItemStockDtoMapper.toDto(entity, partnerMaterialNumbers.get(entity.getPartner().getUuid()));
     }
 
     private MaterialItemStock convertToEntity(MaterialStockDto dto) {
@@ -526,31 +548,14 @@ public class StockViewController {
         if (!materialPattern.matcher(ownMaterialNumber).matches()) {
             return new ResponseEntity<>(HttpStatusCode.valueOf(400));
         }
+        Map<UUID, String> partnerMaterialNumbers = mprService.findPartnerMaterialNumbers(ownMaterialNumber);
         return ResponseEntity.ok(reportedMaterialItemStockService.
             findByOwnMaterialNumber(ownMaterialNumber)
             .stream()
-            .map(this::convertToDto)
+            .map(stock -> ItemStockDtoMapper.toDto(stock, partnerMaterialNumbers.get(stock.getPartner().getUuid())))
             .toList());
     }
 
-    private ReportedMaterialStockDto convertToDto(ReportedMaterialItemStock entity) {
-        ReportedMaterialStockDto dto = modelMapper.map(entity, ReportedMaterialStockDto.class);
-        dto.getMaterial().setMaterialNumberCx(entity.getMaterial().getMaterialNumberCx());
-        dto.getMaterial().setMaterialNumberCustomer(entity.getMaterial().getOwnMaterialNumber());
-        var materialPartnerRelation = mprService.find(entity.getMaterial().getOwnMaterialNumber(),
-            entity.getPartner().getUuid());
-        dto.getMaterial().setMaterialNumberSupplier(materialPartnerRelation.getPartnerMaterialNumber());
-
-        dto.setStockLocationBpns(entity.getLocationBpns());
-        dto.setStockLocationBpna(entity.getLocationBpna());
-
-        dto.setCustomerOrderNumber(entity.getCustomerOrderId());
-        dto.setCustomerOrderPositionNumber(entity.getCustomerOrderPositionId());
-        dto.setSupplierOrderNumber(entity.getSupplierOrderId());
-
-        return dto;
-    }
-
     @GetMapping("reported-product-stocks")
     @Operation(description = "Returns a list of all products the partner (customer) reported he has at his site." +
         " Only stocks for the given material number are returned.")
@@ -568,31 +573,14 @@ public class StockViewController {
         if (!materialPattern.matcher(ownMaterialNumber).matches()) {
             return new ResponseEntity<>(HttpStatusCode.valueOf(400));
         }
+        Map<UUID, String> partnerMaterialNumbers = mprService.findPartnerMaterialNumbers(ownMaterialNumber);
         return ResponseEntity.ok(reportedProductItemStockService.
             findByOwnMaterialNumber(ownMaterialNumber)
             .stream()
-            .map(this::convertToDto)
+            .map(stock -> ItemStockDtoMapper.toDto(stock, partnerMaterialNumbers.get(stock.getPartner().getUuid())))
             .toList());
     }
 
-    private ReportedProductStockDto convertToDto(ReportedProductItemStock entity) {
-        ReportedProductStockDto dto = modelMapper.map(entity, ReportedProductStockDto.class);
-        dto.getMaterial().setMaterialNumberCx(entity.getMaterial().getMaterialNumberCx());
-        dto.getMaterial().setMaterialNumberSupplier(entity.getMaterial().getOwnMaterialNumber());
-        var materialPartnerRelation = mprService.find(entity.getMaterial().getOwnMaterialNumber(),
-            entity.getPartner().getUuid());
-        dto.getMaterial().setMaterialNumberCustomer(materialPartnerRelation.getPartnerMaterialNumber());
-
-        dto.setStockLocationBpns(entity.getLocationBpns());
-        dto.setStockLocationBpna(entity.getLocationBpna());
-
-        dto.setCustomerOrderNumber(entity.getCustomerOrderId());
-        dto.setCustomerOrderPositionNumber(entity.getCustomerOrderPositionId());
-        dto.setSupplierOrderNumber(entity.getSupplierOrderId());
-
-        return dto;
-    }
-
     @GetMapping("customer")
     @Operation(description = "Returns a list of all Partners that are ordering the given material")
     @ApiResponses(value = {
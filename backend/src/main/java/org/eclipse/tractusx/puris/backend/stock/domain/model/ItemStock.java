@@ -25,12 +25,15 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.eclipse.tractusx.puris.backend.common.domain.model.MaterialDataChangeListener;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
 
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -41,6 +44,7 @@ import java.util.UUID;
 @SuperBuilder
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
 @Entity
+@EntityListeners(MaterialDataChangeListener.class)
 @ToString
 public abstract class ItemStock {
 
@@ -103,6 +107,20 @@ public abstract class ItemStock {
         return customerOrderPositionId == null ? "" : customerOrderPositionId;
     }
 
+    /**
+     * Provides the values that are compared by {@link #equals(Object)}. In contrast to {@link #hashCode()},
+     * the key can be used to find equal stocks in hash based collections.
+     *
+     * @return the business key
+     */
+    public List<Object> businessKey() {
+        return Arrays.asList(getClass(),
+            material == null ? null : material.getOwnMaterialNumber(),
+            partner == null ? null : partner.getUuid(),
+            locationBpns, locationBpna, isBlocked,
+            getNonNullSupplierOrderId(), getNonNullCustomerOrderId(), getNonNullCustomerOrderPositionId());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
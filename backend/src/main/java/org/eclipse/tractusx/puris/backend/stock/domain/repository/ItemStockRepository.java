@@ -24,11 +24,57 @@ import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.ItemStock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public interface ItemStockRepository<T extends ItemStock> extends JpaRepository<T, UUID> {
+public interface ItemStockRepository<T extends ItemStock> extends JpaRepository<T, UUID>, JpaSpecificationExecutor<T> {
+
+    /**
+     * @return the ids of all stocks, without loading the entities
+     */
+    @Query("select e.uuid from #{#entityName} e")
+    List<UUID> findAllUuids();
+
+    /**
+     * @param uuids the ids of the stocks
+     * @return the own material numbers of the materials of the given stocks
+     */
+    @Query("select distinct e.material.ownMaterialNumber from #{#entityName} e where e.uuid in :uuids")
+    List<String> findOwnMaterialNumbersByUuidIn(@Param("uuids") Collection<UUID> uuids);
+
+    /**
+     * Deletes all stocks of the given partner and material by a single statement. The statement bypasses
+     * the entity listeners.
+     *
+     * @param partner  the partner
+     * @param material the material
+     * @return the number of deleted stocks
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from #{#entityName} e where e.partner = :partner and e.material = :material")
+    int deleteAllByPartnerAndMaterialInBulk(@Param("partner") Partner partner, @Param("material") Material material);
+
+    /**
+     * Replaces all stocks of the given partner and material by the given stocks within one transaction. The old
+     * stocks are deleted by a single statement and the new ones are inserted in JDBC batches.
+     *
+     * @param partner    the partner
+     * @param material   the material
+     * @param itemStocks the new stocks
+     * @return the saved stocks
+     */
+    @Transactional
+    default List<T> replaceAllForPartnerAndMaterial(Partner partner, Material material, List<T> itemStocks) {
+        deleteAllByPartnerAndMaterialInBulk(partner, material);
+        return saveAll(itemStocks);
+    }
 
     default List<T> getForPartnerAndMaterial(Partner partner, Material material) {
         // default implementation prevents Jpa from trying to
@@ -23,6 +23,7 @@ package org.eclipse.tractusx.puris.backend.stock.domain.repository;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.ReportedMaterialItemStock;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -35,6 +36,7 @@ public interface ReportedMaterialItemStockRepository extends ItemStockRepository
 
     List<ReportedMaterialItemStock> findByMaterial(Material material);
 
+    @EntityGraph(attributePaths = {"material", "partner"})
     List<ReportedMaterialItemStock> findByMaterial_OwnMaterialNumber(String ownMaterialNumber);
 
     List<ReportedMaterialItemStock> findByPartner_Bpnl(String partnerBpnl);
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.stock.logic.adapter;
+
+import org.eclipse.tractusx.puris.backend.masterdata.logic.adapter.MasterDataDtoMapper;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.ItemStock;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.MaterialItemStock;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.ProductItemStock;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.ReportedMaterialItemStock;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.ReportedProductItemStock;
+import org.eclipse.tractusx.puris.backend.stock.logic.dto.MaterialStockDto;
+import org.eclipse.tractusx.puris.backend.stock.logic.dto.ProductStockDto;
+import org.eclipse.tractusx.puris.backend.stock.logic.dto.ReportedMaterialStockDto;
+import org.eclipse.tractusx.puris.backend.stock.logic.dto.ReportedProductStockDto;
+import org.eclipse.tractusx.puris.backend.stock.logic.dto.StockDto;
+
+/**
+ * Explicit mapping of item stocks to the dtos of the stock view. The material number the partner uses is
+ * passed in, so that a list of stocks can be mapped with a single lookup of the material partner relations.
+ */
+public final class ItemStockDtoMapper {
+
+    private ItemStockDtoMapper() {
+    }
+
+    /**
+     * @param entity                the stock of one of your materials
+     * @param partnerMaterialNumber the material number of the supplier, may be null
+     * @return the dto
+     */
+    public static MaterialStockDto toDto(MaterialItemStock entity, String partnerMaterialNumber) {
+        MaterialStockDto dto = fill(new MaterialStockDto(), entity);
+        dto.getMaterial().setMaterialNumberCustomer(entity.getMaterial().getOwnMaterialNumber());
+        dto.getMaterial().setMaterialNumberSupplier(partnerMaterialNumber);
+        return dto;
+    }
+
+    /**
+     * @param entity                the stock of one of your products
+     * @param partnerMaterialNumber the material number of the customer, may be null
+     * @return the dto
+     */
+    public static ProductStockDto toDto(ProductItemStock entity, String partnerMaterialNumber) {
+        ProductStockDto dto = fill(new ProductStockDto(), entity);
+        dto.getMaterial().setMaterialNumberSupplier(entity.getMaterial().getOwnMaterialNumber());
+        dto.getMaterial().setMaterialNumberCustomer(partnerMaterialNumber);
+        return dto;
+    }
+
+    /**
+     * @param entity                the stock a supplier reported for one of your materials
+     * @param partnerMaterialNumber the material number of the supplier, may be null
+     * @return the dto
+     */
+    public static ReportedMaterialStockDto toDto(ReportedMaterialItemStock entity, String partnerMaterialNumber) {
+        ReportedMaterialStockDto dto = fill(new ReportedMaterialStockDto(), entity);
+        dto.getMaterial().setMaterialNumberCustomer(entity.getMaterial().getOwnMaterialNumber());
+        dto.getMaterial().setMaterialNumberSupplier(partnerMaterialNumber);
+        return dto;
+    }
+
+    /**
+     * @param entity                the stock a customer reported for one of your products
+     * @param partnerMaterialNumber the material number of the customer, may be null
+     * @return the dto
+     */
+    public static ReportedProductStockDto toDto(ReportedProductItemStock entity, String partnerMaterialNumber) {
+        ReportedProductStockDto dto = fill(new ReportedProductStockDto(), entity);
+        dto.getMaterial().setMaterialNumberSupplier(entity.getMaterial().getOwnMaterialNumber());
+        dto.getMaterial().setMaterialNumberCustomer(partnerMaterialNumber);
+        return dto;
+    }
+
+    private static <T extends StockDto> T fill(T dto, ItemStock entity) {
+        dto.setUuid(entity.getUuid());
+        dto.setMaterial(MasterDataDtoMapper.toMaterialDto(entity.getMaterial()));
+        dto.setQuantity(entity.getQuantity());
+        dto.setMeasurementUnit(entity.getMeasurementUnit());
+        dto.setStockLocationBpns(entity.getLocationBpns());
+        dto.setStockLocationBpna(entity.getLocationBpna());
+        dto.setCustomerOrderNumber(entity.getCustomerOrderId());
+        dto.setCustomerOrderPositionNumber(entity.getCustomerOrderPositionId());
+        dto.setSupplierOrderNumber(entity.getSupplierOrderId());
+        dto.setLastUpdatedOn(entity.getLastUpdatedOnDateTime());
+        dto.setPartner(MasterDataDtoMapper.toPartnerDto(entity.getPartner()));
+        dto.setBlocked(entity.isBlocked());
+        return dto;
+    }
+}
@@ -161,14 +161,8 @@ public class ItemStockRequestApiService {
                         partner.getBpnl(), errors);
                 return new RefreshResult("Validation failed for reported materials", errors);
             }
-            // delete older data:
-            var oldStocks = reportedMaterialItemStockService.findByPartnerAndMaterial(partner, material);
-            for (var oldStock : oldStocks) {
-                reportedMaterialItemStockService.delete(oldStock.getUuid());
-            }
-            for (var newStock : stocks) {
-                reportedMaterialItemStockService.create(newStock);
-            }
+            // replace older data:
+            reportedMaterialItemStockService.replaceAll(partner, material, stocks);
             log.info("Updated ReportedMaterialItemStocks for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl());
 
             materialService.updateTimestamp(material.getOwnMaterialNumber());
@@ -210,14 +204,8 @@ public class ItemStockRequestApiService {
                         partner.getBpnl(), errors);
                 return new RefreshResult("Validation failed for reported item stocks", errors);
             }
-            // delete older data:
-            var oldStocks = reportedProductItemStockService.findByPartnerAndMaterial(partner, material);
-            for (var oldStock : oldStocks) {
-                reportedProductItemStockService.delete(oldStock.getUuid());
-            }
-            for (var newStock : stocks) {
-                reportedProductItemStockService.create(newStock);
-            }
+            // replace older data:
+            reportedProductItemStockService.replaceAll(partner, material, stocks);
             log.info("Updated ReportedProductItemStocks for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl());
 
             materialService.updateTimestamp(material.getOwnMaterialNumber());
@@ -21,6 +21,9 @@ package org.eclipse.tractusx.puris.backend.stock.logic.service;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.eclipse.tractusx.puris.backend.common.domain.model.MaterialDataChangedEvent;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.FilterSpecifications;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.KeysetQueries;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
@@ -28,10 +31,14 @@ import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartn
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.ItemStock;
 import org.eclipse.tractusx.puris.backend.stock.domain.repository.ItemStockRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
@@ -48,6 +55,9 @@ public abstract class ItemStockService<T extends ItemStock> {
 
     protected final Function<T, Boolean> validator;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public ItemStockService(PartnerService partnerService, MaterialPartnerRelationService mprService,
             ItemStockRepository<T> repository) {
         this.partnerService = partnerService;
@@ -66,6 +76,24 @@ public abstract class ItemStockService<T extends ItemStock> {
         return repository.save(itemStock);
     }
 
+    /**
+     * Creates the given stocks by a single batched insert after one existence check for all of them.
+     *
+     * @param itemStocks the new stocks
+     * @return the saved stocks
+     * @throws IllegalArgumentException if one of the stocks is invalid or already exists
+     */
+    public final List<T> createAll(List<T> itemStocks) {
+        if (itemStocks.stream().anyMatch(itemStock -> !validator.apply(itemStock))) {
+            throw new IllegalArgumentException("Invalid stock");
+        }
+        List<UUID> uuids = itemStocks.stream().map(ItemStock::getUuid).filter(Objects::nonNull).toList();
+        if (!uuids.isEmpty() && !repository.findAllById(uuids).isEmpty()) {
+            throw new IllegalArgumentException("Stock already exists");
+        }
+        return repository.saveAll(itemStocks);
+    }
+
     public final T update(T itemStock) {
         if (itemStock.getUuid() == null || repository.findById(itemStock.getUuid()).isEmpty()) {
             return null;
@@ -81,10 +109,46 @@ public abstract class ItemStockService<T extends ItemStock> {
         repository.deleteById(uuid);
     }
 
+    /**
+     * Deletes the given stocks by a single statement. As the statement bypasses the entity listeners,
+     * the change of the affected materials is published explicitly.
+     *
+     * @param uuids the ids of the stocks
+     */
+    public final void deleteAll(List<UUID> uuids) {
+        if (uuids.isEmpty()) {
+            return;
+        }
+        List<String> ownMaterialNumbers = repository.findOwnMaterialNumbersByUuidIn(uuids);
+        repository.deleteAllByIdInBatch(uuids);
+        ownMaterialNumbers.forEach(ownMaterialNumber ->
+            eventPublisher.publishEvent(new MaterialDataChangedEvent(ownMaterialNumber)));
+    }
+
+    /**
+     * Replaces all stocks of the given partner and material by the given ones within one transaction. The old
+     * stocks are deleted by a single statement and the new ones are inserted in JDBC batches. The stocks must
+     * have been validated before.
+     *
+     * @param partner    the partner
+     * @param material   the material
+     * @param itemStocks the new stocks
+     * @return the saved stocks
+     */
+    public final List<T> replaceAll(Partner partner, Material material, List<T> itemStocks) {
+        List<T> saved = repository.replaceAllForPartnerAndMaterial(partner, material, itemStocks);
+        eventPublisher.publishEvent(new MaterialDataChangedEvent(material.getOwnMaterialNumber()));
+        return saved;
+    }
+
     public final List<T> findAll() {
         return repository.findAll();
     }
 
+    public final List<UUID> findAllUuids() {
+        return repository.findAllUuids();
+    }
+
     public final List<T> findByPartnerAndMaterial(Partner partner, Material material) {
         return repository.getForPartnerAndMaterial(partner, material);
     }
@@ -101,6 +165,29 @@ public abstract class ItemStockService<T extends ItemStock> {
         return repository.getForOwnMatNbr(ownMaterialNumber);
     }
 
+    /**
+     * @param after the uuid of the last stock of the previous page, empty for the first page
+     * @param limit the maximum number of stocks to return
+     * @return the next stocks of the given material, ordered by their uuid
+     */
+    public final List<T> findPageByOwnMaterialNumber(String ownMaterialNumber, Optional<UUID> after, int limit) {
+        return KeysetQueries.findPage(repository, fetchingOwnMaterialNumber(ownMaterialNumber), after, limit);
+    }
+
+    /**
+     * The stream must be consumed within a transaction and closed afterwards.
+     *
+     * @return all stocks of the given material, ordered by their uuid
+     */
+    public final Stream<T> streamByOwnMaterialNumber(String ownMaterialNumber) {
+        return KeysetQueries.stream(repository, fetchingOwnMaterialNumber(ownMaterialNumber));
+    }
+
+    private Specification<T> fetchingOwnMaterialNumber(String ownMaterialNumber) {
+        return Specification.allOf(FilterSpecifications.fetchesMaterialAndPartner(),
+            FilterSpecifications.hasOwnMaterialNumber(ownMaterialNumber));
+    }
+
     public final List<T> findByPartnerBpnl(String partnerBpnl) {
         return repository.getForPartnerBpnl(partnerBpnl);
     }
@@ -110,11 +197,7 @@ public abstract class ItemStockService<T extends ItemStock> {
     }
 
     public final List<T> findAllByMaterialAndPartner(String ownMaterialNumber, String partnerBpnl) {
-        Stream<T> stream = repository.findAll().stream();
-
-        stream = stream.filter(stock -> stock.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber));
-        stream = stream.filter(stock -> stock.getPartner().getBpnl().equals(partnerBpnl));
-        return stream.toList();
+        return repository.getForPartnerBpnlAndOwnMatNbr(partnerBpnl, ownMaterialNumber);
     }
 
     public final double getSumOfQuantities(List<T> stocks) {
@@ -126,13 +209,11 @@ public abstract class ItemStockService<T extends ItemStock> {
     }
 
     public final double getInitialStockQuantity(String material, Optional<String> partnerBpnl, Optional<String> siteBpns) {
-        List<T> stocks = repository.findAll().stream()
-                .filter(stock -> 
-                    stock.getMaterial().getOwnMaterialNumber().equals(material) &&
-                    (partnerBpnl.isEmpty() || stock.getPartner().getBpnl().equals(partnerBpnl.get())) &&
-                    (siteBpns.isEmpty() || stock.getLocationBpns().equals(siteBpns.get()))
-                )
-                .toList();
+        List<Specification<T>> filters = new ArrayList<>();
+        filters.add(FilterSpecifications.hasOwnMaterialNumber(material));
+        partnerBpnl.ifPresent(bpnl -> filters.add(FilterSpecifications.hasPartnerBpnl(bpnl)));
+        siteBpns.ifPresent(bpns -> filters.add(FilterSpecifications.hasAttribute("locationBpns", bpns)));
+        List<T> stocks = repository.findAll(Specification.allOf(filters));
         double initialStockQuantity = getSumOfQuantities(stocks);
 
         return initialStockQuantity;
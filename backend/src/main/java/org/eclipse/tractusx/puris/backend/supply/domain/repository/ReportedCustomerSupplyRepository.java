@@ -25,7 +25,8 @@ import java.util.UUID;
 
 import org.eclipse.tractusx.puris.backend.supply.domain.model.ReportedCustomerSupply;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface ReportedCustomerSupplyRepository extends JpaRepository<ReportedCustomerSupply, UUID> {
+public interface ReportedCustomerSupplyRepository extends JpaRepository<ReportedCustomerSupply, UUID>, JpaSpecificationExecutor<ReportedCustomerSupply> {
     List<ReportedCustomerSupply> findByMaterial_OwnMaterialNumberAndPartner_Bpnl(String ownMaterialNumber, String bpnl);
 }
@@ -57,7 +57,7 @@ public class DaysOfSupplySammMapper {
             return null;
         }
         DaysOfSupply samm = new DaysOfSupply();
-        var mpr = mprService.findAll().stream().filter(mr -> mr.getMaterial().equals(material) && mr.getPartner().equals(partner)).findFirst().orElse(null);
+        var mpr = mprService.find(material, partner);
         if (mpr == null) {
             log.warn("Could not identify materialPartnerRelation with ownMaterialNumber " + material.getOwnMaterialNumber()
                     + " and partner bpnl " + partner.getBpnl());
@@ -88,7 +88,7 @@ public class DaysOfSupplySammMapper {
             log.warn("Can't map supply list with different materials");
             return null;
         }
-        var mpr = mprService.findAll().stream().filter(mr -> mr.getMaterial().equals(material) && mr.getPartner().equals(partner)).findFirst().orElse(null);
+        var mpr = mprService.find(material, partner);
         if (mpr == null) {
             log.warn("Could not identify materialPartnerRelation with ownMaterialNumber " + material.getOwnMaterialNumber()
             + " and partner bpnl " + partner.getBpnl());
@@ -30,6 +30,7 @@ import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.RefreshError;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.RefreshResult;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.eclipse.tractusx.puris.backend.stock.logic.dto.itemstocksamm.DirectionCharacteristic;
 import org.eclipse.tractusx.puris.backend.supply.domain.model.OwnCustomerSupply;
@@ -54,6 +55,8 @@ public class DaysOfSupplyRequestApiService {
     @Autowired
     private MaterialPartnerRelationService mprService;
     @Autowired
+    private MaterialService materialService;
+    @Autowired
     private SupplierSupplyService supplierSupplyService;
     @Autowired
     private CustomerSupplyService customerSupplyService;
@@ -73,9 +76,10 @@ public class DaysOfSupplyRequestApiService {
             return null;
         }
         MaterialPartnerRelation mpr = switch (direction) {
-            case OUTBOUND -> mprService.findAll().stream()
-                    .filter(m -> m.getPartner().equals(partner) && m.getMaterial().getMaterialNumberCx().equals(materialNumberCx))
-                    .findFirst().orElse(null);
+            case OUTBOUND -> {
+                Material ownMaterial = materialService.findByMaterialNumberCx(materialNumberCx);
+                yield ownMaterial != null ? mprService.find(ownMaterial, partner) : null;
+            }
             case INBOUND -> mprService.findByPartnerAndPartnerCXNumber(partner, materialNumberCx);
         };
         if (mpr == null) {
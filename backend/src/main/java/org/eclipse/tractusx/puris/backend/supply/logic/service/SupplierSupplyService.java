@@ -25,8 +25,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Stream;
 
+import org.eclipse.tractusx.puris.backend.common.domain.repository.FilterSpecifications;
 import org.eclipse.tractusx.puris.backend.delivery.logic.service.OwnDeliveryService;
 import org.eclipse.tractusx.puris.backend.delivery.logic.service.ReportedDeliveryService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialService;
@@ -38,6 +38,7 @@ import org.eclipse.tractusx.puris.backend.stock.logic.service.ProductItemStockSe
 import org.eclipse.tractusx.puris.backend.supply.domain.model.OwnSupplierSupply;
 import org.eclipse.tractusx.puris.backend.supply.domain.model.ReportedSupplierSupply;
 import org.eclipse.tractusx.puris.backend.supply.domain.repository.ReportedSupplierSupplyRepository;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -97,17 +98,11 @@ public class SupplierSupplyService extends SupplyService<OwnSupplierSupply, Repo
     }
 
     public final List<ReportedSupplierSupply> findAllByFilters(Optional<String> ownMaterialNumber, Optional<String> bpnl, Optional<String> siteBpns) {
-        Stream<ReportedSupplierSupply> stream = repository.findAll().stream();
-        if (ownMaterialNumber.isPresent()) {
-            stream = stream.filter(dayOfSupply -> dayOfSupply.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber.get()));
-        }
-        if (bpnl.isPresent()) {
-            stream = stream.filter(dayOfSupply -> dayOfSupply.getPartner().getBpnl().equals(bpnl.get()));
-        }
-        if (siteBpns.isPresent()) {
-            stream = stream.filter(daysOfSupply -> daysOfSupply.getStockLocationBPNS().equals(siteBpns.get()));
-        }
-        return stream.toList();
+        List<Specification<ReportedSupplierSupply>> filters = new ArrayList<>();
+        ownMaterialNumber.ifPresent(number -> filters.add(FilterSpecifications.hasOwnMaterialNumber(number)));
+        bpnl.ifPresent(partnerBpnl -> filters.add(FilterSpecifications.hasPartnerBpnl(partnerBpnl)));
+        siteBpns.ifPresent(bpns -> filters.add(FilterSpecifications.hasAttribute("stockLocationBPNS", bpns)));
+        return repository.findAll(Specification.allOf(filters));
     }
 
     public boolean validate(ReportedSupplierSupply daysOfSupply) {
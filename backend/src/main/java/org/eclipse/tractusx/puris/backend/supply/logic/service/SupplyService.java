@@ -24,22 +24,40 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import javax.management.openmbean.KeyAlreadyExistsException;
 
+import lombok.extern.slf4j.Slf4j;
+
+import org.eclipse.tractusx.puris.backend.common.domain.model.MaterialDataChangedEvent;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.FilterSpecifications;
+import org.eclipse.tractusx.puris.backend.common.util.ExecutorConfiguration;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.ItemStock;
 import org.eclipse.tractusx.puris.backend.stock.logic.service.ItemStockService;
 import org.eclipse.tractusx.puris.backend.supply.domain.model.Supply;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-public abstract class SupplyService<T extends Supply, TReported extends Supply, TRepository extends JpaRepository<TReported, UUID>, TStock extends ItemStock, TStockService extends ItemStockService<TStock>> {
+@Slf4j
+public abstract class SupplyService<T extends Supply, TReported extends Supply, TRepository extends JpaRepository<TReported, UUID> & JpaSpecificationExecutor<TReported>, TStock extends ItemStock, TStockService extends ItemStockService<TStock>> {
     private TStockService stockService;
     private MaterialService materialService;
     protected PartnerService partnerService;
@@ -52,6 +70,47 @@ public abstract class SupplyService<T extends Supply, TReported extends Supply,
 
     protected final Function<TReported, Boolean> validator;
 
+    @Value("${puris.supply.cache.enabled}")
+    private boolean cacheEnabled;
+
+    @Value("${puris.supply.cache.ttl}")
+    private long cacheTtl;
+
+    @Value("${puris.supply.cache.maxsize}")
+    private int cacheMaxSize;
+
+    /**
+     * Recalculates the summary of a changed material in the background.
+     */
+    @Autowired
+    @Qualifier(ExecutorConfiguration.PARTNER_REQUEST_EXECUTOR)
+    private ExecutorService summaryExecutor;
+
+    /**
+     * Cached projections by own material number, so that a change of a material drops only its own entries.
+     */
+    private final Map<String, Map<ProjectionKey, CachedProjection>> projections = new ConcurrentHashMap<>();
+
+    private final AtomicInteger projectionCount = new AtomicInteger();
+
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    private record ProjectionKey(String partnerBpnl, String siteBpns, int numberOfDays, LocalDate day) {
+    }
+
+    private record CachedProjection(double[] daysOfSupply, long expiresAt) {
+    }
+
+    /**
+     * The number of days over which the days of supply of the materials overview are calculated.
+     */
+    private static final int SUMMARY_NUMBER_OF_DAYS = 28;
+
+    private final Map<String, SummaryEntry> summary = new ConcurrentHashMap<>();
+
+    private record SummaryEntry(double daysOfSupply, LocalDate day) {
+    }
+
     public SupplyService(TStockService stockService, MaterialService materialService, PartnerService partnerService, TRepository repository) {
         this.repository = repository;
         this.partnerService = partnerService;
@@ -64,7 +123,10 @@ public abstract class SupplyService<T extends Supply, TReported extends Supply,
         if (!validator.apply(supply)) {
             throw new IllegalArgumentException("Invalid days of supply");
         }
-        if (repository.findAll().stream().anyMatch(d -> d.equals(supply))) {
+        Specification<TReported> sameMaterialAndPartner = Specification.allOf(
+            FilterSpecifications.hasOwnMaterialNumber(supply.getMaterial().getOwnMaterialNumber()),
+            FilterSpecifications.hasPartnerUuid(supply.getPartner().getUuid()));
+        if (repository.findAll(sameMaterialAndPartner).stream().anyMatch(d -> d.equals(supply))) {
             throw new KeyAlreadyExistsException("Supply already exists");
         }
         return repository.save(supply);
@@ -79,6 +141,8 @@ public abstract class SupplyService<T extends Supply, TReported extends Supply,
      * It combines the projected item stock of a given day and consumed values (outbound deliveries/demands) on the following days
      * to forecast the number of days the stock will last.
      *
+     * The calculated days of supply are cached until an item stock, delivery, demand or production of the material changes.
+     *
      * NOTE: Added values (inbound deliveries/production) are only used for calculation projected stocks and not for the calculation of Days Of Supply
      * @param material the material identifier for which the days of supply are being calculated.
      * @param partnerBpnl The bpnl of the partner.
@@ -96,38 +160,205 @@ public abstract class SupplyService<T extends Supply, TReported extends Supply,
         if (numberOfDays < 2) {
             return new ArrayList<T>();
         }
-        List<T> supplyList = new ArrayList<>();
-        LocalDate localDate = LocalDate.now();
         Partner partner = partnerBpnl.isPresent()? partnerService.findByBpnl(partnerBpnl.get()) : null;
+        Material materialEntity = materialService.findByOwnMaterialNumber(material);
+        return createSupplies(materialEntity, partner, getDaysOfSupplyValues(material, partnerBpnl, siteBpns, numberOfDays));
+    }
+
+    /**
+     * Calculates the days of supply for all given materials, regardless of partner and site.
+     *
+     * @param materials the materials for which the days of supply are being calculated.
+     * @param numberOfDays the number of days over which the forecast should be calculated.
+     * @return the lists of {@link Supply} objects mapped by the own material number.
+     * @see #calculateDaysOfSupply(String, Optional, Optional, int)
+     */
+    public final Map<String, List<T>> calculateDaysOfSupply(List<Material> materials, int numberOfDays) {
+        Map<String, List<T>> result = new HashMap<>();
+        for (Material material : materials) {
+            List<T> supplies = numberOfDays < 2 ? new ArrayList<>() : createSupplies(material, null,
+                getDaysOfSupplyValues(material.getOwnMaterialNumber(), Optional.empty(), Optional.empty(), numberOfDays));
+            result.put(material.getOwnMaterialNumber(), supplies);
+        }
+        return result;
+    }
+
+    /**
+     * Returns today's days of supply of all given materials, regardless of partner and site, as shown in the
+     * materials overview.
+     * <p>
+     * The value of a material is kept until the day changes. If an item stock, delivery, demand or production of the
+     * material changes, the value is recalculated in the background. Therefore a call usually calculates nothing.
+     *
+     * @param materials the materials for which the days of supply are requested.
+     * @return the days of supply of today mapped by the own material number.
+     * @see #calculateDaysOfSupply(List, int)
+     */
+    public final Map<String, Double> getCurrentDaysOfSupply(List<Material> materials) {
+        LocalDate today = LocalDate.now();
+        Map<String, Double> result = new HashMap<>();
+        for (Material material : materials) {
+            String ownMaterialNumber = material.getOwnMaterialNumber();
+            SummaryEntry entry = cacheEnabled ? summary.get(ownMaterialNumber) : null;
+            if (entry == null || !entry.day().equals(today)) {
+                entry = refreshSummary(ownMaterialNumber, today);
+            }
+            result.put(ownMaterialNumber, entry.daysOfSupply());
+        }
+        return result;
+    }
 
-        List<Double> addedValues = getAddedValues(material, partnerBpnl, siteBpns, numberOfDays);
-        List<Double> consumedValues = getConsumedValues(material, partnerBpnl, siteBpns, numberOfDays);
-        double projectedStockQuantity = stockService.getInitialStockQuantity(material, partnerBpnl, siteBpns);
+    /**
+     * Drops all cached days of supply of the material that has been changed. If the material is part of the summary,
+     * its value is recalculated asynchronously, since the event is handled after the commit of the change.
+     *
+     * @param event the event naming the changed material
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMaterialDataChanged(MaterialDataChangedEvent event) {
+        String ownMaterialNumber = event.ownMaterialNumber();
+        generations.merge(ownMaterialNumber, 1L, Long::sum);
+        var removed = projections.remove(ownMaterialNumber);
+        if (removed != null) {
+            projectionCount.addAndGet(-removed.size());
+        }
+        // a stale value is never returned, even while the recalculation is pending
+        if (summary.remove(ownMaterialNumber) != null) {
+            summaryExecutor.submit(() -> {
+                try {
+                    refreshSummary(ownMaterialNumber, LocalDate.now());
+                } catch (Exception e) {
+                    log.warn("Could not recalculate days of supply of material {}: {}", ownMaterialNumber, e.getMessage());
+                }
+            });
+        }
+    }
+
+    private SummaryEntry refreshSummary(String ownMaterialNumber, LocalDate today) {
+        long generation = generations.getOrDefault(ownMaterialNumber, 0L);
+        double[] daysOfSupply = computeDaysOfSupplyValues(ownMaterialNumber, Optional.empty(), Optional.empty(),
+            SUMMARY_NUMBER_OF_DAYS);
+        SummaryEntry entry = new SummaryEntry(daysOfSupply[0], today);
+        if (cacheEnabled) {
+            summary.put(ownMaterialNumber, entry);
+            // the data changed while calculating, so the value may be outdated already
+            if (generations.getOrDefault(ownMaterialNumber, 0L) != generation) {
+                summary.remove(ownMaterialNumber, entry);
+            }
+        }
+        return entry;
+    }
 
-        for (int i = 0; i < numberOfDays - 1; i++) {
-            Date date = Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    private double[] getDaysOfSupplyValues(String material, Optional<String> partnerBpnl, Optional<String> siteBpns, int numberOfDays) {
+        ProjectionKey key = new ProjectionKey(partnerBpnl.orElse(null), siteBpns.orElse(null), numberOfDays, LocalDate.now());
+        if (cacheEnabled) {
+            var materialProjections = projections.get(material);
+            CachedProjection cached = materialProjections == null ? null : materialProjections.get(key);
+            if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+                return cached.daysOfSupply();
+            }
+        }
+        long generation = generations.getOrDefault(material, 0L);
 
-            projectedStockQuantity = projectedStockQuantity - consumedValues.get(i) + addedValues.get(i);
+        double[] daysOfSupply = computeDaysOfSupplyValues(material, partnerBpnl, siteBpns, numberOfDays);
 
-            var remainingConsumedValues = consumedValues.subList(i + 1, consumedValues.size());
+        if (cacheEnabled) {
+            if (projectionCount.get() >= cacheMaxSize) {
+                projections.clear();
+                projectionCount.set(0);
+            }
+            var materialProjections = projections.computeIfAbsent(material, m -> new ConcurrentHashMap<>());
+            if (materialProjections.put(key, new CachedProjection(daysOfSupply, System.currentTimeMillis() + cacheTtl * 1000)) == null) {
+                projectionCount.incrementAndGet();
+            }
+            // the data changed while calculating, so the result may be outdated already
+            if (generations.getOrDefault(material, 0L) != generation && materialProjections.remove(key) != null) {
+                projectionCount.decrementAndGet();
+            }
+        }
+        return daysOfSupply;
+    }
 
-            double daysOfSupply = getDaysOfSupply(projectedStockQuantity, remainingConsumedValues);
+    private double[] computeDaysOfSupplyValues(String material, Optional<String> partnerBpnl, Optional<String> siteBpns, int numberOfDays) {
+        double[] addedValues = toArray(getAddedValues(material, partnerBpnl, siteBpns, numberOfDays));
+        double[] consumedValues = toArray(getConsumedValues(material, partnerBpnl, siteBpns, numberOfDays));
+        double initialStockQuantity = stockService.getInitialStockQuantity(material, partnerBpnl, siteBpns);
+        return calculateDaysOfSupply(initialStockQuantity, addedValues, consumedValues);
+    }
 
+    private List<T> createSupplies(Material material, Partner partner, double[] daysOfSupply) {
+        List<T> supplyList = new ArrayList<>(daysOfSupply.length);
+        LocalDate localDate = LocalDate.now();
+        for (double value : daysOfSupply) {
             T supply = createSupplyInstance();
-            supply.setMaterial(materialService.findByOwnMaterialNumber(material));
-            supply.setDate(date);
-            supply.setDaysOfSupply(daysOfSupply);
-            if (partner != null){
+            supply.setMaterial(material);
+            supply.setDate(Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+            supply.setDaysOfSupply(value);
+            if (partner != null) {
                 supply.setPartner(partner);
-            };
+            }
             supplyList.add(supply);
-
             localDate = localDate.plusDays(1);
         }
-
         return supplyList;
     }
 
+    /**
+     * Calculates the days of supply for all but the last day in a single pass.
+     * <p>
+     * The stock projected for day i lasts until the cumulated consumption since day i + 1 exceeds it. Both
+     * the projected stock plus the cumulated consumption (i.e. the initial stock plus all added values) and
+     * the cumulated consumption never decrease, as long as there are no negative values. Therefore the
+     * first day that cannot be covered anymore only moves forward from one day to the next.
+     *
+     * @param initialStock the stock quantity before the first day
+     * @param addedValues the added quantities per day
+     * @param consumedValues the consumed quantities per day
+     * @return the days of supply for each day but the last one
+     */
+    static double[] calculateDaysOfSupply(double initialStock, double[] addedValues, double[] consumedValues) {
+        int numberOfDays = consumedValues.length;
+        double[] daysOfSupply = new double[Math.max(numberOfDays - 1, 0)];
+        // consumedBefore[j] is the sum of the consumed values of the days before day j
+        double[] consumedBefore = new double[numberOfDays + 1];
+        boolean nonNegative = true;
+        for (int i = 0; i < numberOfDays; i++) {
+            consumedBefore[i + 1] = consumedBefore[i] + consumedValues[i];
+            nonNegative &= consumedValues[i] >= 0 && addedValues[i] >= 0;
+        }
+
+        double projectedStock = initialStock;
+        double suppliedStock = initialStock;
+        int firstUncoveredDay = 1;
+        for (int i = 0; i < daysOfSupply.length; i++) {
+            projectedStock = projectedStock - consumedValues[i] + addedValues[i];
+            if (!nonNegative) {
+                daysOfSupply[i] = getDaysOfSupply(projectedStock, consumedValues, i + 1);
+                continue;
+            }
+            suppliedStock += addedValues[i];
+            firstUncoveredDay = Math.max(firstUncoveredDay, i + 1);
+            while (firstUncoveredDay < numberOfDays && consumedBefore[firstUncoveredDay + 1] <= suppliedStock) {
+                firstUncoveredDay++;
+            }
+            double value = firstUncoveredDay - (i + 1);
+            double remainingStock = suppliedStock - consumedBefore[firstUncoveredDay];
+            if (firstUncoveredDay < numberOfDays && remainingStock > 0) {
+                value += remainingStock / consumedValues[firstUncoveredDay];
+            }
+            daysOfSupply[i] = value;
+        }
+        return daysOfSupply;
+    }
+
+    private static double[] toArray(List<Double> values) {
+        double[] array = new double[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
     /**
      * Merges own and reported deliveries into a single list.
      * @param list1 Own deliveries
@@ -149,25 +380,24 @@ public abstract class SupplyService<T extends Supply, TReported extends Supply,
     }
 
     /**
-     * Calculates the number of days of supply based on the current stock quantity and a list of consumed values.
+     * Calculates the number of days of supply based on the current stock quantity and the consumed values,
+     * by walking through the consumed values day by day.
      * @param stockQuantity Current stock amount
-     * @param addedValues Remaining list of added values for current iteration
-     * @param consumedValues Remaining list of consumed values for current iteration
+     * @param consumedValues Consumed values of all days
+     * @param firstDay Index of the first day to consume the stock
      * @return The number of days of supply that the stock can cover.
      */
-    private double getDaysOfSupply(double stockQuantity, List<Double> consumedValues) {
+    private static double getDaysOfSupply(double stockQuantity, double[] consumedValues, int firstDay) {
         double daysOfSupply = 0;
 
-        for (int i = 0; i < consumedValues.size(); i++) {
-            Double consumedValue = consumedValues.get(i);
+        for (int i = firstDay; i < consumedValues.length; i++) {
+            double consumedValue = consumedValues[i];
 
             if ((stockQuantity - consumedValue) >= 0) {
                 daysOfSupply += 1;
                 stockQuantity = stockQuantity - consumedValue;
-            } else if ((stockQuantity - consumedValue) < 0 && stockQuantity > 0) {
-                double fractional = stockQuantity / consumedValue;
-                daysOfSupply += fractional;
-                stockQuantity = stockQuantity - consumedValue;
+            } else if (stockQuantity > 0) {
+                daysOfSupply += stockQuantity / consumedValue;
                 break;
             } else {
                 break;
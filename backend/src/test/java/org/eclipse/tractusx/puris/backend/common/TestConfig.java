@@ -20,6 +20,7 @@
  */
 package org.eclipse.tractusx.puris.backend.common;
 
+import okhttp3.OkHttpClient;
 import org.eclipse.tractusx.puris.backend.common.security.logic.KeycloakJwtAuthenticationConverter;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -38,4 +39,9 @@ public class TestConfig {
     public KeycloakJwtAuthenticationConverter keycloakJwtAuthenticationConverter() {
         return Mockito.mock(KeycloakJwtAuthenticationConverter.class);
     }
+
+    @Bean
+    public OkHttpClient httpClient() {
+        return new OkHttpClient();
+    }
 }
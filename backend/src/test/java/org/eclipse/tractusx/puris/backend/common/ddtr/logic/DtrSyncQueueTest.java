@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.ddtr.logic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DtrSyncQueueTest {
+
+    @Mock
+    private VariablesService variablesService;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @InjectMocks
+    private DtrSyncQueue dtrSyncQueue;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final DtrSyncQueue.DtrSyncKey productKey = DtrSyncQueue.DtrSyncKey.product("MNR-7307-AU340474.002");
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(variablesService.getDtrSyncDebounce()).thenReturn(0L);
+        lenient().when(variablesService.getDtrSyncMaxDelay()).thenReturn(30000L);
+        lenient().when(variablesService.getDtrSyncMaxParallel()).thenReturn(4);
+        lenient().when(variablesService.getDtrSyncRetries()).thenReturn(1);
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        ReflectionTestUtils.setField(dtrSyncQueue, "dtrExecutorService", new ExecutorServiceAdapter(new SyncTaskExecutor()));
+        ReflectionTestUtils.invokeMethod(dtrSyncQueue, "init");
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("puris.dtr.sync").tag("result", result).counter().count();
+    }
+
+    @Test
+    public void flush_sendsOnlyLatestUpdatePerShell() {
+        // given
+        List<Integer> sentUpdates = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int update = i;
+            dtrSyncQueue.enqueue(productKey, () -> sentUpdates.add(update));
+        }
+
+        // when
+        dtrSyncQueue.flush();
+
+        // then
+        assertEquals(List.of(4), sentUpdates);
+        assertEquals(0, dtrSyncQueue.getPendingCount());
+        assertEquals(1, count("enqueued"));
+        assertEquals(4, count("coalesced"));
+        assertEquals(1, count("succeeded"));
+    }
+
+    @Test
+    public void flush_waitsForDebouncePeriod() {
+        // given
+        when(variablesService.getDtrSyncDebounce()).thenReturn(60000L);
+        AtomicInteger sent = new AtomicInteger();
+        dtrSyncQueue.enqueue(productKey, () -> sent.incrementAndGet() > 0);
+
+        // when
+        dtrSyncQueue.flush();
+
+        // then
+        assertEquals(0, sent.get());
+        assertEquals(1, dtrSyncQueue.getPendingCount());
+    }
+
+    @Test
+    public void flush_sendsUpdateAfterMaxDelay() {
+        // given
+        when(variablesService.getDtrSyncDebounce()).thenReturn(60000L);
+        when(variablesService.getDtrSyncMaxDelay()).thenReturn(0L);
+        AtomicInteger sent = new AtomicInteger();
+        dtrSyncQueue.enqueue(productKey, () -> sent.incrementAndGet() > 0);
+        dtrSyncQueue.enqueue(productKey, () -> sent.incrementAndGet() > 0);
+
+        // when
+        dtrSyncQueue.flush();
+
+        // then
+        assertEquals(1, sent.get());
+        assertEquals(0, dtrSyncQueue.getPendingCount());
+    }
+
+    @Test
+    public void flush_retriesFailedUpdate() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        dtrSyncQueue.enqueue(productKey, () -> {
+            attempts.incrementAndGet();
+            return false;
+        });
+
+        // when
+        dtrSyncQueue.flush();
+        dtrSyncQueue.flush();
+        dtrSyncQueue.flush();
+
+        // then
+        assertEquals(2, attempts.get());
+        assertEquals(0, dtrSyncQueue.getPendingCount());
+        assertEquals(1, count("retried"));
+        assertEquals(1, count("failed"));
+    }
+
+    @Test
+    public void flush_limitsConcurrentUpdates() throws Exception {
+        // given
+        when(variablesService.getDtrSyncMaxParallel()).thenReturn(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        ReflectionTestUtils.setField(dtrSyncQueue, "dtrExecutorService", executorService);
+        ReflectionTestUtils.invokeMethod(dtrSyncQueue, "init");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            dtrSyncQueue.enqueue(DtrSyncQueue.DtrSyncKey.material("MNR-7307-AU340474.002", UUID.randomUUID()), () -> {
+                release.await();
+                done.countDown();
+                return true;
+            });
+        }
+
+        try {
+            // when
+            dtrSyncQueue.flush();
+
+            // then
+            assertEquals(1, dtrSyncQueue.getPendingCount());
+            release.countDown();
+            assertTrue(waitForPermit());
+            dtrSyncQueue.flush();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(0, dtrSyncQueue.getPendingCount());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private boolean waitForPermit() throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            if (count("succeeded") == 1) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+}
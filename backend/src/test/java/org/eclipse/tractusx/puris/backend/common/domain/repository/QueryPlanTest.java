@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.domain.repository;
+
+import liquibase.Scope;
+import liquibase.command.CommandScope;
+import liquibase.command.core.UpdateCommandStep;
+import liquibase.command.core.helpers.DbUrlConnectionArgumentsCommandStep;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.DirectoryResourceAccessor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Applies the indexes of the liquibase changelog to the schema that hibernate creates in HSQLDB, seeds synthetic
+ * data and checks that the queries issued by the repositories are executed using the indexes instead of table scans.
+ * <p>
+ * The full changelog can't be applied to HSQLDB, as it relies on postgres type names and on constraint names that
+ * are only unique per table. Like postgres, the schema must not index foreign key columns implicitly, so the foreign
+ * keys are dropped before. The statements are the SQL equivalents of the repository methods named in the test
+ * methods.
+ * <p>
+ * HSQLDB only takes equality conditions into account when it chooses an index. For the aggregations over a range of
+ * dates, where postgres uses the indexes on material and date, the tests only make sure that the table isn't scanned.
+ */
+@DataJpaTest
+@DirtiesContext
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class QueryPlanTest {
+
+    private static final String INDEX_CHANGELOG = "db/changelog/changelog-3.x/changelog-3.4.0.yaml";
+
+    private static final int PARTNERS = 20;
+
+    private static final int MATERIALS = 200;
+
+    private static final int ROWS = 10_000;
+
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+
+    private final List<UUID> partnerUuids = new ArrayList<>();
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.queryForList("select table_name, constraint_name from information_schema.table_constraints " +
+                "where constraint_type = 'FOREIGN KEY' and table_schema = 'PUBLIC'")
+            .forEach(constraint -> jdbcTemplate.execute("alter table " + constraint.get("TABLE_NAME") +
+                " drop constraint " + constraint.get("CONSTRAINT_NAME")));
+        // the main resources are packaged to BOOT-INF/classes, so the changelog is read from the sources
+        try (Connection connection = dataSource.getConnection()) {
+            Database database = DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(connection));
+            Scope.child(Scope.Attr.resourceAccessor.name(), new DirectoryResourceAccessor(Path.of("src/main/resources")), () ->
+                new CommandScope(UpdateCommandStep.COMMAND_NAME)
+                    .addArgumentValue(DbUrlConnectionArgumentsCommandStep.DATABASE_ARG, database)
+                    .addArgumentValue(UpdateCommandStep.CHANGELOG_FILE_ARG, INDEX_CHANGELOG)
+                    .execute());
+        }
+        seed();
+    }
+
+    private void seed() {
+        List<Object[]> partners = new ArrayList<>();
+        for (int i = 0; i < PARTNERS; i++) {
+            UUID uuid = UUID.randomUUID();
+            partnerUuids.add(uuid);
+            partners.add(new Object[]{uuid, bpnl(i), "http://partner-" + i, "Partner " + i});
+        }
+        jdbcTemplate.batchUpdate("insert into partner (uuid, bpnl, edc_url, name) values (?, ?, ?, ?)", partners);
+
+        List<Object[]> materials = new ArrayList<>();
+        List<Object[]> relations = new ArrayList<>();
+        for (int i = 0; i < MATERIALS; i++) {
+            materials.add(new Object[]{material(i), i % 2 == 0, i % 2 == 1, UUID.randomUUID().toString(), "Material " + i});
+            for (int j = 0; j < PARTNERS; j++) {
+                relations.add(new Object[]{partnerUuids.get(j), partnerUuids.get(j), material(i), material(i),
+                    i % 2 == 1, i % 2 == 0, "P-" + i + "-" + j});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into material (own_material_number, material_flag, product_flag, material_number_cx, name) " +
+            "values (?, ?, ?, ?, ?)", materials);
+        jdbcTemplate.batchUpdate("insert into material_partner_relation (key_uuid, partner_uuid, key_own_material_number, " +
+            "material_own_material_number, partner_buys_material, partner_supplies_material, partner_material_number) " +
+            "values (?, ?, ?, ?, ?, ?, ?)", relations);
+
+        List<Object[]> demands = new ArrayList<>();
+        List<Object[]> productions = new ArrayList<>();
+        List<Object[]> deliveries = new ArrayList<>();
+        List<Object[]> stocks = new ArrayList<>();
+        long start = System.currentTimeMillis() - 365 * DAY;
+        for (int i = 0; i < ROWS; i++) {
+            UUID partner = partnerUuids.get(i % PARTNERS);
+            String material = material(i % MATERIALS);
+            Timestamp date = new Timestamp(start + (i % 730) * DAY / 2);
+            demands.add(new Object[]{UUID.randomUUID(), partner, material, 1.0, 0, date, "BPNS0000000000AA", 0, date});
+            productions.add(new Object[]{UUID.randomUUID(), partner, material, 1.0, 0, date, "BPNS0000000000AA", date});
+            deliveries.add(new Object[]{UUID.randomUUID(), partner, material, 1.0, 0, date, date, "BPNS0000000000AA", "BPNS0000000001AA", date});
+            stocks.add(new Object[]{UUID.randomUUID(), partner, material, 1.0, 0, false, date, "BPNA0000000000AA", "BPNS0000000000AA"});
+        }
+        jdbcTemplate.batchUpdate("insert into own_demand (uuid, partner_uuid, material_own_material_number, quantity, " +
+            "measurement_unit, day, demand_location_bpns, demand_category_code, last_updated_on_date_time) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?)", demands);
+        jdbcTemplate.batchUpdate("insert into own_production (uuid, partner_uuid, material_own_material_number, quantity, " +
+            "measurement_unit, estimated_time_of_completion, production_site_bpns, last_updated_on_date_time) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?)", productions);
+        jdbcTemplate.batchUpdate("insert into own_delivery (uuid, partner_uuid, material_own_material_number, quantity, " +
+            "measurement_unit, date_of_departure, date_of_arrival, origin_bpns, destination_bpns, last_updated_on_date_time) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", deliveries);
+        jdbcTemplate.batchUpdate("insert into material_item_stock (uuid, partner_uuid, material_own_material_number, quantity, " +
+            "measurement_unit, is_blocked, last_updated_on_date_time, location_bpna, location_bpns) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?)", stocks);
+
+        List<Object[]> triggers = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            triggers.add(new Object[]{bpnl(i % PARTNERS), material(i / PARTNERS), i % 2 == 0 ? "INBOUND" : "OUTBOUND", 0, 0L, (long) i});
+        }
+        jdbcTemplate.batchUpdate("insert into erp_adapter_trigger_dataset (partner_bpnl, own_material_number, " +
+            "direction_characteristic, asset_type, last_partner_request, next_erp_request_scheduled) values (?, ?, ?, ?, ?, ?)", triggers);
+    }
+
+    @Test
+    void partnerRepository_findFirstByBpnl() {
+        assertUsesIndex("select * from partner where bpnl = '" + bpnl(3) + "'", "idx_partner_bpnl");
+    }
+
+    @Test
+    void materialRepository_findByMaterialNumberCx() {
+        assertUsesIndex("select * from material where material_number_cx = 'urn:uuid:1'", "idx_material_material_number_cx");
+    }
+
+    @Test
+    void materialPartnerRelationRepository_findAllByMaterial_OwnMaterialNumberAndPartnerBuysMaterialIsTrue() {
+        assertUsesIndex("select * from material_partner_relation where material_own_material_number = '" + material(1) +
+            "' and partner_buys_material = true", "idx_material_partner_relation_material");
+    }
+
+    @Test
+    void materialPartnerRelationRepository_findAllByPartnerMaterialNumber() {
+        assertUsesIndex("select * from material_partner_relation where partner_material_number = 'P-1-1'",
+            "idx_material_partner_relation_partner_material_number");
+    }
+
+    @Test
+    void materialPartnerRelationRepository_findAllByPartner_Uuid() {
+        assertUsesIndex("select * from material_partner_relation where key_uuid = " + uuid(partnerUuids.get(1)),
+            "sys_pk");
+    }
+
+    @Test
+    void demandRepository_findAllByMaterial_OwnMaterialNumberAndPartner_Uuid() {
+        assertUsesIndex("select * from own_demand where material_own_material_number = '" + material(1) +
+            "' and partner_uuid = " + uuid(partnerUuids.get(1)), "idx_own_demand_material_partner");
+    }
+
+    @Test
+    void demandRepository_findAllByPartner_Bpnl() {
+        String sql = "select d.* from own_demand d join partner p on d.partner_uuid = p.uuid where p.bpnl = '" + bpnl(1) + "'";
+        assertUsesIndex(sql, "idx_partner_bpnl");
+        assertUsesIndex(sql, "idx_own_demand_partner");
+    }
+
+    @Test
+    void demandRepository_sumQuantitiesByDay() {
+        assertUsesNoFullScan("select day, sum(quantity) from own_demand where material_own_material_number = '" + material(1) +
+            "' and day >= " + timestamp(0) + " and day < " + timestamp(28) + " group by day");
+    }
+
+    @Test
+    void productionRepository_sumQuantitiesByDay() {
+        assertUsesNoFullScan("select estimated_time_of_completion, sum(quantity) from own_production " +
+                "where material_own_material_number = '" + material(1) + "' and estimated_time_of_completion >= " + timestamp(0) +
+                " and estimated_time_of_completion < " + timestamp(28) + " group by estimated_time_of_completion");
+    }
+
+    @Test
+    void deliveryRepository_sumInboundQuantitiesByDay() {
+        assertUsesNoFullScan("select date_of_arrival, sum(quantity) from own_delivery " +
+                "where material_own_material_number = '" + material(1) + "' and destination_bpns in ('BPNS0000000001AA') " +
+                "and date_of_arrival >= " + timestamp(0) + " and date_of_arrival < " + timestamp(28) + " group by date_of_arrival");
+    }
+
+    @Test
+    void deliveryRepository_sumOutboundQuantitiesByDay() {
+        assertUsesNoFullScan("select date_of_departure, sum(quantity) from own_delivery " +
+                "where material_own_material_number = '" + material(1) + "' and origin_bpns in ('BPNS0000000000AA') " +
+                "and date_of_departure >= " + timestamp(0) + " and date_of_departure < " + timestamp(28) + " group by date_of_departure");
+    }
+
+    @Test
+    void itemStockRepository_findByPartner_BpnlAndMaterial_OwnMaterialNumber() {
+        assertUsesIndex("select s.* from material_item_stock s join partner p on s.partner_uuid = p.uuid " +
+            "where p.bpnl = '" + bpnl(1) + "' and s.material_own_material_number = '" + material(1) + "'",
+            "idx_material_item_stock_material_partner");
+    }
+
+    @Test
+    void itemStockRepository_findByPartner() {
+        assertUsesIndex("select * from material_item_stock where partner_uuid = " + uuid(partnerUuids.get(1)),
+            "idx_material_item_stock_partner");
+    }
+
+    @Test
+    void erpAdapterTriggerDatasetRepository_findAllByNextErpRequestScheduledLessThanEqual() {
+        assertUsesIndex("select * from erp_adapter_trigger_dataset where next_erp_request_scheduled <= 100",
+            "idx_erp_adapter_trigger_dataset_next_request");
+    }
+
+    private void assertUsesIndex(String sql, String indexName) {
+        String plan = explain(sql);
+        assertTrue(plan.toLowerCase().contains("index=" + indexName.toLowerCase()),
+            "Expected the index " + indexName + " to be used, but the plan was:\n" + plan);
+    }
+
+    private void assertUsesNoFullScan(String sql) {
+        String plan = explain(sql);
+        assertFalse(plan.contains("access=FULL SCAN"), "Expected no table scan, but the plan was:\n" + plan);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("explain plan for " + sql, String.class));
+    }
+
+    private static String timestamp(int daysFromToday) {
+        return "timestamp '" + LocalDate.now().plusDays(daysFromToday) + " 00:00:00'";
+    }
+
+    private static String uuid(UUID uuid) {
+        // hibernate maps the ids to binary columns in HSQLDB
+        return "X'" + uuid.toString().replace("-", "") + "'";
+    }
+
+    private static String bpnl(int partner) {
+        return "BPNL%012dXX".formatted(partner);
+    }
+
+    private static String material(int material) {
+        return "MNR-" + material;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogCacheServiceTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Mock
+    private VariablesService variablesService;
+
+    @InjectMocks
+    private CatalogCacheService catalogCacheService;
+
+    private final CatalogCacheService.CatalogCacheKey key = new CatalogCacheService.CatalogCacheKey(
+        "BPNL1234567890ZZ", "http://supplier-control-plane:9184/api/v1/dsp", Map.of("version", "3.0"));
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(variablesService.isEdcCatalogCacheEnabled()).thenReturn(true);
+        lenient().when(variablesService.getEdcCatalogCacheTtl()).thenReturn(300L);
+    }
+
+    private JsonNode load() {
+        ObjectNode catalog = MAPPER.createObjectNode();
+        catalog.put("load", loads.incrementAndGet());
+        return catalog;
+    }
+
+    @Test
+    public void get_reusesCatalogAndReturnsCopies() throws IOException {
+        // when
+        JsonNode first = catalogCacheService.get(key, this::load);
+        ((ObjectNode) first).put("modified", true);
+        JsonNode second = catalogCacheService.get(key, this::load);
+
+        // then
+        assertEquals(1, loads.get());
+        assertEquals(1, second.get("load").asInt());
+        assertFalse(second.has("modified"));
+    }
+
+    @Test
+    public void invalidate_requestsCatalogAgain() throws IOException {
+        // given
+        catalogCacheService.get(key, this::load);
+
+        // when
+        catalogCacheService.invalidate(key);
+        JsonNode catalog = catalogCacheService.get(key, this::load);
+
+        // then
+        assertEquals(2, catalog.get("load").asInt());
+    }
+
+    @Test
+    public void get_failedRequest_isNotCached() throws IOException {
+        // when
+        assertThrows(IOException.class, () -> catalogCacheService.get(key, () -> {
+            throw new IOException("unreachable");
+        }));
+        JsonNode catalog = catalogCacheService.get(key, this::load);
+
+        // then
+        assertEquals(1, catalog.get("load").asInt());
+    }
+
+    @Test
+    public void get_noCatalog_failsAndIsNotCached() throws IOException {
+        // when
+        assertThrows(IOException.class, () -> catalogCacheService.get(key, () -> null));
+        JsonNode catalog = catalogCacheService.get(key, this::load);
+
+        // then
+        assertEquals(1, catalog.get("load").asInt());
+    }
+
+    @Test
+    public void get_concurrentRequests_loadCatalogOnce() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<JsonNode>> results = new ArrayList<>();
+
+        // when
+        try {
+            results.add(executor.submit(() -> catalogCacheService.get(key, () -> {
+                loading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return load();
+            })));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> catalogCacheService.get(key, this::load)));
+            }
+            release.countDown();
+
+            // then
+            for (Future<JsonNode> result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS).get("load").asInt());
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
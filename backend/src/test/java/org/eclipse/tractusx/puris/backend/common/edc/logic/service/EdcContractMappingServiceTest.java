@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.service;
+
+import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
+import org.eclipse.tractusx.puris.backend.common.edc.domain.model.ItemStockContractMapping;
+import org.eclipse.tractusx.puris.backend.common.edc.domain.repository.ItemStockContractMappingRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class EdcContractMappingServiceTest {
+
+    @Mock
+    private ItemStockContractMappingRepository itemStockContractMappingRepository;
+
+    @InjectMocks
+    private EdcContractMappingService edcContractMappingService;
+
+    private static final String ASSET_ID = "ItemStockSubmodel@BPNL4444444444XX";
+
+    private static final String DSP_URL = "http://customer-control-plane:8184/api/v1/dsp";
+
+    private Partner partner;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        partner = new Partner("Scenario Customer", DSP_URL, "BPNL4444444444XX", "BPNS4444444444XX",
+            "Hauptwerk Musterhausen", "BPNA4444444444AA", "Musterstraße 35b", "77777 Musterhausen", "Germany");
+        when(itemStockContractMappingRepository.findById(partner.getBpnl())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void getContractId_AfterPutContractId_ReturnsCachedContractId() {
+        // given
+        edcContractMappingService.putContractId(partner, AssetType.ITEM_STOCK_SUBMODEL, ASSET_ID, DSP_URL, "contract-1");
+
+        // when
+        String first = edcContractMappingService.getContractId(partner, AssetType.ITEM_STOCK_SUBMODEL, ASSET_ID, DSP_URL);
+        String second = edcContractMappingService.getContractId(partner, AssetType.ITEM_STOCK_SUBMODEL, ASSET_ID, DSP_URL);
+
+        // then
+        assertEquals("contract-1", first);
+        assertEquals("contract-1", second);
+        // only loaded once for the update, lookups are served from the cache
+        verify(itemStockContractMappingRepository, times(1)).findById(partner.getBpnl());
+        ArgumentCaptor<ItemStockContractMapping> captor = ArgumentCaptor.forClass(ItemStockContractMapping.class);
+        verify(itemStockContractMappingRepository).checkedSave(captor.capture());
+        assertEquals("contract-1", captor.getValue().getAssetToContractMapping().values().iterator().next());
+    }
+
+    @Test
+    void getContractId_AfterPutContractIdNull_ReturnsNull() {
+        // given
+        edcContractMappingService.putContractId(partner, AssetType.ITEM_STOCK_SUBMODEL, ASSET_ID, DSP_URL, "contract-1");
+
+        // when
+        edcContractMappingService.putContractId(partner, AssetType.ITEM_STOCK_SUBMODEL, ASSET_ID, DSP_URL, null);
+
+        // then
+        assertNull(edcContractMappingService.getContractId(partner, AssetType.ITEM_STOCK_SUBMODEL, ASSET_ID, DSP_URL));
+        verify(itemStockContractMappingRepository, times(2)).checkedSave(any());
+    }
+}
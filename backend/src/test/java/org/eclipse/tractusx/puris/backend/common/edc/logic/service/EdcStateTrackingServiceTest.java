@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EdcStateTrackingServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private VariablesService variablesService;
+
+    @Mock
+    private EdcAdapterService edcAdapterService;
+
+    @InjectMocks
+    private EdcStateTrackingService edcStateTrackingService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(variablesService.getEdcStateTrackingMinInterval()).thenReturn(10L);
+        lenient().when(variablesService.getEdcStateTrackingMaxInterval()).thenReturn(50L);
+        lenient().when(variablesService.getEdcStateTrackingTimeout()).thenReturn(2000L);
+        lenient().when(variablesService.getEdcStateTrackingBatchSize()).thenReturn(50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        edcStateTrackingService.shutdown();
+    }
+
+    private ArrayNode processes(String state, String... ids) {
+        ArrayNode array = objectMapper.createArrayNode();
+        for (String id : ids) {
+            array.addObject().put("@id", id).put("state", state).put("contractAgreementId", "contract-" + id);
+        }
+        return array;
+    }
+
+    @Test
+    public void awaitTransferState_completesAllWaitersWithOneQuery() throws Exception {
+        // given
+        when(edcAdapterService.queryTransferProcesses(anyCollection()))
+            .thenReturn(processes("STARTED", "tp-1", "tp-2"));
+
+        // when
+        var first = edcStateTrackingService.awaitTransferState("tp-1", "STARTED");
+        var second = edcStateTrackingService.awaitTransferState("tp-2", "STARTED");
+
+        // then
+        assertEquals("tp-1", first.get(1, TimeUnit.SECONDS).get("@id").asText());
+        assertEquals("tp-2", second.get(1, TimeUnit.SECONDS).get("@id").asText());
+        verify(edcAdapterService, atMost(2)).queryTransferProcesses(anyCollection());
+        verify(edcAdapterService, never()).queryNegotiations(anyCollection());
+    }
+
+    @Test
+    public void awaitNegotiationState_waitsUntilStateIsReached() throws Exception {
+        // given
+        when(edcAdapterService.queryNegotiations(List.of("neg-1")))
+            .thenReturn(processes("REQUESTED", "neg-1"))
+            .thenReturn(processes("AGREED", "neg-1"))
+            .thenReturn(processes("FINALIZED", "neg-1"));
+
+        // when
+        var negotiation = edcStateTrackingService.awaitNegotiationState("neg-1", "FINALIZED")
+            .get(1, TimeUnit.SECONDS);
+
+        // then
+        assertEquals("contract-neg-1", negotiation.get("contractAgreementId").asText());
+        verify(edcAdapterService, times(3)).queryNegotiations(List.of("neg-1"));
+    }
+
+    @Test
+    public void awaitTransferState_terminated_completesExceptionally() throws Exception {
+        // given
+        when(edcAdapterService.queryTransferProcesses(anyCollection()))
+            .thenReturn(processes("TERMINATED", "tp-1"));
+
+        // when
+        var future = edcStateTrackingService.awaitTransferState("tp-1", "STARTED");
+
+        // then
+        var exception = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    public void awaitTransferState_timeout_completesExceptionally() throws Exception {
+        // given
+        when(variablesService.getEdcStateTrackingTimeout()).thenReturn(100L);
+        when(edcAdapterService.queryTransferProcesses(anyCollection()))
+            .thenReturn(processes("REQUESTED", "tp-1"));
+
+        // when
+        var future = edcStateTrackingService.awaitTransferState("tp-1", "STARTED");
+
+        // then
+        var exception = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    public void awaitEdr_waitsForStartAndDataAddress() throws Exception {
+        // given
+        var dataAddress = objectMapper.createObjectNode()
+            .put("endpoint", "http://dataplane/api/public")
+            .put("authorization", "token");
+        when(edcAdapterService.queryTransferProcesses(anyCollection()))
+            .thenReturn(processes("REQUESTED", "tp-1"))
+            .thenReturn(processes("STARTED", "tp-1"));
+        when(edcAdapterService.getEdrDataAddress("tp-1"))
+            .thenReturn(null)
+            .thenReturn(dataAddress);
+
+        // when
+        var edr = edcStateTrackingService.awaitEdr("tp-1").get(1, TimeUnit.SECONDS);
+
+        // then
+        assertEquals("token", edr.get("authorization").asText());
+        verify(edcAdapterService, times(2)).getEdrDataAddress("tp-1");
+    }
+
+    @Test
+    public void poll_failedQueryAndMalformedEntries_doNotAffectOtherWaiters() throws Exception {
+        // given
+        ArrayNode transfers = objectMapper.createArrayNode();
+        transfers.addObject().put("state", "STARTED");
+        transfers.addObject().put("@id", "tp-1");
+        transfers.addAll(processes("STARTED", "tp-1"));
+        when(edcAdapterService.queryTransferProcesses(anyCollection()))
+            .thenThrow(new IOException("control plane not available"))
+            .thenReturn(transfers);
+        when(edcAdapterService.queryNegotiations(anyCollection()))
+            .thenReturn(processes("FINALIZED", "neg-1"));
+
+        // when
+        var transfer = edcStateTrackingService.awaitTransferState("tp-1", "STARTED");
+        var negotiation = edcStateTrackingService.awaitNegotiationState("neg-1", "FINALIZED");
+
+        // then
+        assertEquals("contract-neg-1", negotiation.get(1, TimeUnit.SECONDS).get("contractAgreementId").asText());
+        assertEquals("STARTED", transfer.get(1, TimeUnit.SECONDS).get("state").asText());
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.service;
+
+import org.eclipse.tractusx.puris.backend.common.edc.logic.dto.EdrDto;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+public class EdrCacheServiceTest {
+
+    private static final String PARTNER_BPNL = "BPNL1234567890ZZ";
+
+    @Mock
+    private VariablesService variablesService;
+
+    @InjectMocks
+    private EdrCacheService edrCacheService;
+
+    private final EdrCacheService.EdrCacheKey key =
+        new EdrCacheService.EdrCacheKey(PARTNER_BPNL, "asset-id", "contract-id");
+
+    private EdrDto edr(String transferProcessId, long expiresAt) {
+        return new EdrDto("Authorization", "token", "http://dataplane/api/public", transferProcessId, expiresAt);
+    }
+
+    private EdrCacheService.EdrLease acquire(EdrCacheService.EdrCacheKey key, EdrDto edr) {
+        return edrCacheService.acquire(key, current -> CompletableFuture.completedFuture(edr)).join();
+    }
+
+    @Test
+    public void acquire_concurrentCallers_shareOneLoad() {
+        // given
+        lenient().when(variablesService.isEdrCacheEnabled()).thenReturn(true);
+        lenient().when(variablesService.getEdrCacheRefreshMargin()).thenReturn(30L);
+        var loads = new AtomicInteger();
+        var loaded = new CompletableFuture<EdrDto>();
+
+        // when
+        var first = edrCacheService.acquire(key, current -> {
+            loads.incrementAndGet();
+            return loaded;
+        });
+        var second = edrCacheService.acquire(key, current -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(edr("tp-2", 0));
+        });
+        loaded.complete(edr("tp-1", System.currentTimeMillis() + 300_000));
+        var third = acquire(key, edr("tp-3", 0));
+
+        // then
+        assertEquals(1, loads.get());
+        assertEquals("tp-1", first.join().edr().transferProcessId());
+        assertEquals("tp-1", second.join().edr().transferProcessId());
+        assertEquals("tp-1", third.edr().transferProcessId());
+    }
+
+    @Test
+    public void acquire_failedLoad_failsAllWaiters() {
+        // given
+        lenient().when(variablesService.isEdrCacheEnabled()).thenReturn(true);
+        var loaded = new CompletableFuture<EdrDto>();
+
+        // when
+        var first = edrCacheService.acquire(key, current -> loaded);
+        var second = edrCacheService.acquire(key, current -> CompletableFuture.completedFuture(edr("tp-2", 0)));
+        loaded.completeExceptionally(new IOException("transfer did not start"));
+
+        // then
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(second.isCompletedExceptionally());
+    }
+
+    @Test
+    public void release_failedRequest_terminatesAfterLastLease() {
+        // given
+        lenient().when(variablesService.isEdrCacheEnabled()).thenReturn(true);
+        lenient().when(variablesService.getEdrCacheRefreshMargin()).thenReturn(30L);
+        var edr = edr("tp-1", System.currentTimeMillis() + 300_000);
+        var first = acquire(key, edr);
+        var second = acquire(key, edr("tp-2", 0));
+
+        // when
+        boolean terminateOnFailure = edrCacheService.release(first, true);
+        boolean terminateOnLastRelease = edrCacheService.release(second, false);
+
+        // then
+        assertFalse(terminateOnFailure);
+        assertTrue(terminateOnLastRelease);
+        assertEquals("tp-3", acquire(key, edr("tp-3", 0)).edr().transferProcessId());
+    }
+
+    @Test
+    public void release_cachedLease_keepsTransfer() {
+        // given
+        lenient().when(variablesService.isEdrCacheEnabled()).thenReturn(true);
+        lenient().when(variablesService.getEdrCacheRefreshMargin()).thenReturn(30L);
+        var lease = acquire(key, edr("tp-1", System.currentTimeMillis() + 300_000));
+
+        // when
+        boolean terminate = edrCacheService.release(lease, false);
+
+        // then
+        assertFalse(terminate);
+        assertFalse(edrCacheService.release(lease, true));
+    }
+
+    @Test
+    public void acquire_disabled_terminatesOnRelease() {
+        // given
+        lenient().when(variablesService.isEdrCacheEnabled()).thenReturn(false);
+        var lease = acquire(key, edr("tp-1", 0));
+
+        // when
+        boolean terminate = edrCacheService.release(lease, false);
+
+        // then
+        assertTrue(terminate);
+        assertEquals("tp-2", acquire(key, edr("tp-2", 0)).edr().transferProcessId());
+    }
+
+    @Test
+    public void isExpiring_respectsRefreshMargin() {
+        // given
+        lenient().when(variablesService.getEdrCacheRefreshMargin()).thenReturn(30L);
+        long now = System.currentTimeMillis();
+
+        // then
+        assertTrue(edrCacheService.isExpiring(edr("tp-1", 0)));
+        assertTrue(edrCacheService.isExpiring(edr("tp-1", now + 10_000)));
+        assertFalse(edrCacheService.isExpiring(edr("tp-1", now + 120_000)));
+    }
+
+    @Test
+    public void invalidateContract_removesOnlyMatchingEntries() {
+        // given
+        lenient().when(variablesService.isEdrCacheEnabled()).thenReturn(true);
+        var otherKey = new EdrCacheService.EdrCacheKey(PARTNER_BPNL, "other-asset", "other-contract");
+        edrCacheService.release(acquire(key, edr("tp-1", 0)), false);
+        var leased = acquire(otherKey, edr("tp-2", 0));
+
+        // when
+        List<EdrDto> removed = edrCacheService.invalidateContract(PARTNER_BPNL, "contract-id");
+        List<EdrDto> removedOther = edrCacheService.invalidateContract(PARTNER_BPNL, "other-contract");
+
+        // then
+        assertEquals(1, removed.size());
+        assertEquals("tp-1", removed.get(0).transferProcessId());
+        assertTrue(removedOther.isEmpty());
+        assertTrue(edrCacheService.release(leased, false));
+    }
+
+    @Test
+    public void evictIdle_removesOnlyUnleasedEntries() {
+        // given
+        lenient().when(variablesService.isEdrCacheEnabled()).thenReturn(true);
+        lenient().when(variablesService.getEdrCacheMaxIdle()).thenReturn(-1L);
+        var otherKey = new EdrCacheService.EdrCacheKey(PARTNER_BPNL, "other-asset", "other-contract");
+        edrCacheService.release(acquire(key, edr("tp-1", 0)), false);
+        acquire(otherKey, edr("tp-2", 0));
+
+        // when
+        List<EdrDto> removed = edrCacheService.evictIdle();
+
+        // then
+        assertEquals(1, removed.size());
+        assertEquals("tp-1", removed.get(0).transferProcessId());
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.service;
+
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+public class PartnerCircuitBreakerServiceTest {
+
+    private static final String PARTNER_BPNL = "BPNL1234567890ZZ";
+
+    private static final String OTHER_PARTNER_BPNL = "BPNL0987654321ZZ";
+
+    @Mock
+    private VariablesService variablesService;
+
+    @InjectMocks
+    private PartnerCircuitBreakerService partnerCircuitBreakerService;
+
+    @BeforeEach
+    public void setup() {
+        lenient().when(variablesService.getEdcPartnerMaxConcurrentRequests()).thenReturn(1);
+        lenient().when(variablesService.getEdcPartnerMaxWait()).thenReturn(50L);
+        lenient().when(variablesService.getEdcPartnerCircuitBreakerFailureThreshold()).thenReturn(2);
+        lenient().when(variablesService.getEdcPartnerCircuitBreakerOpenTime()).thenReturn(60L);
+    }
+
+    @Test
+    public void call_consecutiveFailures_opensCircuitForPartnerOnly() {
+        // given
+        AtomicInteger requests = new AtomicInteger();
+
+        // when
+        assertThrows(IllegalStateException.class, () -> partnerCircuitBreakerService.call(PARTNER_BPNL, () -> failingRequest(requests)));
+        assertThrows(IllegalStateException.class, () -> partnerCircuitBreakerService.call(PARTNER_BPNL, () -> failingRequest(requests)));
+        String rejected = partnerCircuitBreakerService.call(PARTNER_BPNL, () -> "data");
+        String other = partnerCircuitBreakerService.call(OTHER_PARTNER_BPNL, () -> "data");
+
+        // then
+        assertNull(rejected);
+        assertEquals("data", other);
+        assertEquals(2, requests.get());
+        assertEquals(PartnerCircuitBreakerService.State.OPEN, partnerCircuitBreakerService.getState(PARTNER_BPNL));
+        assertEquals(PartnerCircuitBreakerService.State.CLOSED, partnerCircuitBreakerService.getState(OTHER_PARTNER_BPNL));
+        var health = partnerCircuitBreakerService.getPartnerHealth().get(PARTNER_BPNL);
+        assertEquals(2, health.consecutiveFailures());
+        assertNotNull(health.openUntil());
+    }
+
+    @Test
+    public void call_exception_countsAsFailure() {
+        // given
+        AtomicInteger requests = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class, () -> partnerCircuitBreakerService.call(PARTNER_BPNL, () -> {
+                requests.incrementAndGet();
+                throw new IllegalStateException("connection refused");
+            }));
+        }
+
+        // then
+        assertEquals(PartnerCircuitBreakerService.State.OPEN, partnerCircuitBreakerService.getState(PARTNER_BPNL));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void call_noData_doesNotCountAsFailure() {
+        // given
+        AtomicInteger requests = new AtomicInteger();
+        assertThrows(IllegalStateException.class, () -> partnerCircuitBreakerService.call(PARTNER_BPNL, () -> failingRequest(requests)));
+
+        // when
+        String noData = partnerCircuitBreakerService.call(PARTNER_BPNL, () -> null);
+        assertThrows(IllegalStateException.class, () -> partnerCircuitBreakerService.call(PARTNER_BPNL, () -> failingRequest(requests)));
+
+        // then
+        assertNull(noData);
+        assertEquals(PartnerCircuitBreakerService.State.CLOSED, partnerCircuitBreakerService.getState(PARTNER_BPNL));
+        assertEquals(1, partnerCircuitBreakerService.getPartnerHealth().get(PARTNER_BPNL).consecutiveFailures());
+    }
+
+    @Test
+    public void call_afterOpenTime_successfulProbeClosesCircuit() {
+        // given
+        lenient().when(variablesService.getEdcPartnerCircuitBreakerOpenTime()).thenReturn(0L);
+        AtomicInteger requests = new AtomicInteger();
+        assertThrows(IllegalStateException.class, () -> partnerCircuitBreakerService.call(PARTNER_BPNL, () -> failingRequest(requests)));
+        assertThrows(IllegalStateException.class, () -> partnerCircuitBreakerService.call(PARTNER_BPNL, () -> failingRequest(requests)));
+
+        // when
+        String probe = partnerCircuitBreakerService.call(PARTNER_BPNL, () -> "data");
+
+        // then
+        assertEquals("data", probe);
+        assertEquals(PartnerCircuitBreakerService.State.CLOSED, partnerCircuitBreakerService.getState(PARTNER_BPNL));
+        assertEquals(0, partnerCircuitBreakerService.getPartnerHealth().get(PARTNER_BPNL).consecutiveFailures());
+    }
+
+    @Test
+    public void call_afterOpenTime_failedProbeReopensCircuit() {
+        // given
+        lenient().when(variablesService.getEdcPartnerCircuitBreakerOpenTime()).thenReturn(0L);
+        AtomicInteger requests = new AtomicInteger();
+        assertThrows(IllegalStateException.class, () -> partnerCircuitBreakerService.call(PARTNER_BPNL, () -> failingRequest(requests)));
+        assertThrows(IllegalStateException.class, () -> partnerCircuitBreakerService.call(PARTNER_BPNL, () -> failingRequest(requests)));
+        lenient().when(variablesService.getEdcPartnerCircuitBreakerOpenTime()).thenReturn(60L);
+
+        // when
+        assertThrows(IllegalStateException.class, () -> partnerCircuitBreakerService.call(PARTNER_BPNL, () -> failingRequest(requests)));
+        String rejected = partnerCircuitBreakerService.call(PARTNER_BPNL, () -> "data");
+
+        // then
+        assertNull(rejected);
+        assertEquals(3, requests.get());
+        assertEquals(PartnerCircuitBreakerService.State.OPEN, partnerCircuitBreakerService.getState(PARTNER_BPNL));
+    }
+
+    @Test
+    public void call_bulkheadFull_failsFastWithoutOpeningCircuit() throws Exception {
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> blocking = executor.submit(() -> partnerCircuitBreakerService.call(PARTNER_BPNL, () -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "slow";
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // when
+        String rejected = partnerCircuitBreakerService.call(PARTNER_BPNL, () -> "data");
+        release.countDown();
+
+        // then
+        assertNull(rejected);
+        assertEquals("slow", blocking.get(5, TimeUnit.SECONDS));
+        executor.shutdownNow();
+        assertEquals(PartnerCircuitBreakerService.State.CLOSED, partnerCircuitBreakerService.getState(PARTNER_BPNL));
+        assertEquals(0, partnerCircuitBreakerService.getPartnerHealth().get(PARTNER_BPNL).activeRequests());
+    }
+
+    private static String failingRequest(AtomicInteger requests) {
+        requests.incrementAndGet();
+        throw new IllegalStateException("connection refused");
+    }
+}
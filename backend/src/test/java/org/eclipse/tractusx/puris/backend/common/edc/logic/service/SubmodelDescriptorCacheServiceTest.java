@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.service;
+
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SubmodelDescriptorCacheServiceTest {
+
+    @Mock
+    private VariablesService variablesService;
+
+    @InjectMocks
+    private SubmodelDescriptorCacheService submodelDescriptorCacheService;
+
+    private final SubmodelDescriptorCacheService.SubmodelDescriptorKey key = new SubmodelDescriptorCacheService.SubmodelDescriptorKey(
+        "BPNL1234567890ZZ", "MNR-8101-ID146955.001", "BPNL1234567890ZZ", "urn:samm:io.catenax.item_stock:2.0.0#ItemStock");
+
+    private final SubmodelDescriptorCacheService.SubmodelDescriptor descriptor = new SubmodelDescriptorCacheService.SubmodelDescriptor(
+        key, "ItemStockSubmodelApi@BPNL1234567890ZZ", "http://supplier-control-plane:9184/api/v1/dsp",
+        "http://supplier-data-plane:9285/api/public/ItemStock");
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(variablesService.isDtrDescriptorCacheEnabled()).thenReturn(true);
+        lenient().when(variablesService.getDtrDescriptorCacheTtl()).thenReturn(3600L);
+    }
+
+    @Test
+    public void get_returnsCachedDescriptor() {
+        // when
+        submodelDescriptorCacheService.put(descriptor);
+
+        // then
+        assertEquals(descriptor, submodelDescriptorCacheService.get(key));
+    }
+
+    @Test
+    public void get_dropsExpiredDescriptor() {
+        // given
+        when(variablesService.getDtrDescriptorCacheTtl()).thenReturn(0L);
+
+        // when
+        submodelDescriptorCacheService.put(descriptor);
+
+        // then
+        assertNull(submodelDescriptorCacheService.get(key));
+    }
+
+    @Test
+    public void invalidate_removesDescriptor() {
+        // given
+        submodelDescriptorCacheService.put(descriptor);
+
+        // when
+        submodelDescriptorCacheService.invalidate(descriptor);
+
+        // then
+        assertNull(submodelDescriptorCacheService.get(key));
+    }
+
+    @Test
+    public void invalidate_keepsReplacedDescriptor() {
+        // given
+        var replacement = new SubmodelDescriptorCacheService.SubmodelDescriptor(
+            key, descriptor.assetId(), "http://supplier-control-plane-2:9184/api/v1/dsp", descriptor.href());
+        submodelDescriptorCacheService.put(descriptor);
+        submodelDescriptorCacheService.put(replacement);
+
+        // when
+        submodelDescriptorCacheService.invalidate(descriptor);
+
+        // then
+        assertEquals(replacement, submodelDescriptorCacheService.get(key));
+    }
+
+    @Test
+    public void get_returnsNothingIfDisabled() {
+        // given
+        when(variablesService.isDtrDescriptorCacheEnabled()).thenReturn(false);
+
+        // when
+        submodelDescriptorCacheService.put(descriptor);
+
+        // then
+        assertNull(submodelDescriptorCacheService.get(key));
+    }
+}
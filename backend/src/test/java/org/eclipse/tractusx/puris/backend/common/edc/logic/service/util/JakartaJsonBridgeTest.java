@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.edc.logic.service.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.tractusx.puris.backend.common.edc.logic.util.JakartaJsonBridge;
+import org.eclipse.tractusx.puris.backend.common.edc.logic.util.JsonLdUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JakartaJsonBridgeTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @ParameterizedTest
+    @ValueSource(strings = {JsonLdUtilsTest.test0, JsonLdUtilsTest.test1, JsonLdUtilsTest.test2, JsonLdUtilsTest.test3})
+    public void testBridgeEqualsStringRoundTrip(String input) throws Exception {
+        // given
+        ObjectNode catalog = (ObjectNode) objectMapper.readTree(input);
+        ObjectNode expandedCatalog = new JsonLdUtils().expand(catalog);
+
+        for (ObjectNode node : new ObjectNode[]{catalog, expandedCatalog}) {
+            // when
+            JsonObject jakartaJson = JakartaJsonBridge.toJakarta(node);
+            JsonNode jacksonJson = JakartaJsonBridge.toJackson(jakartaJson);
+
+            // then
+            assertEquals(readJakarta(node.toString()), jakartaJson);
+            assertEquals(objectMapper.readTree(jakartaJson.toString()), jacksonJson);
+            assertEquals(node, jacksonJson);
+        }
+    }
+
+    @Test
+    public void testNumbersAndLiterals() throws Exception {
+        // given
+        String input = "{\"int\":42,\"long\":12345678901,\"big\":123456789012345678901234567890," +
+            "\"double\":1.5,\"negative\":-7,\"true\":true,\"false\":false,\"null\":null,\"array\":[1,\"a\",[]]}";
+        JsonNode node = objectMapper.readTree(input);
+
+        // when
+        JsonObject jakartaJson = JakartaJsonBridge.toJakarta((ObjectNode) node);
+        JsonNode jacksonJson = JakartaJsonBridge.toJackson(jakartaJson);
+
+        // then
+        assertEquals(readJakarta(input), jakartaJson);
+        assertEquals(node, jacksonJson);
+    }
+
+    private JsonObject readJakarta(String json) {
+        try (var reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+}
@@ -22,6 +22,7 @@ package org.eclipse.tractusx.puris.backend.common.security;
 import org.eclipse.tractusx.puris.backend.common.TestConfig;
 import org.eclipse.tractusx.puris.backend.common.security.annotation.WithMockApiKey;
 import org.eclipse.tractusx.puris.backend.common.security.logic.ApiKeyAuthenticationProvider;
+import org.eclipse.tractusx.puris.backend.common.util.NdjsonStreamer;
 import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialService;
@@ -87,6 +88,9 @@ public class ApiKeyTest {
     @MockitoBean
     private ModelMapper modelMapper;
 
+    @MockitoBean
+    private NdjsonStreamer ndjsonStreamer;
+
     @Test
     void StockViewController_MaterialsRequestWithoutAuthHeader_ShouldReturn403() throws Exception {
         this.mockMvc.perform(
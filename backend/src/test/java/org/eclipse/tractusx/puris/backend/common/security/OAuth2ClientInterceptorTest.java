@@ -22,6 +22,7 @@ package org.eclipse.tractusx.puris.backend.common.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -38,7 +39,6 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.MediaType;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +54,7 @@ public class OAuth2ClientInterceptorTest {
     public static final String VALUE_GRANT_TYPE = "client_credentials";
     public static final String VALUE_VALID_MOCK_BEARER_TOKEN = "mock-bearer-token";
     public static final String VALUE_INVALID_MOCK_BEARER_TOKEN = "initial-but-invalid-token";
+    public static final String VALUE_REGISTRATION_ID = "test";
 
     /**
      * Path to configure {@code tokenServer} url
@@ -64,6 +65,8 @@ public class OAuth2ClientInterceptorTest {
      **/
     private final String SERVICE_URL_PATH = "/actual/service";
 
+    private OAuth2TokenManager oAuth2TokenManager;
+
     private OAuth2ClientInterceptor oAuth2ClientInterceptor;
 
     /**
@@ -93,18 +96,21 @@ public class OAuth2ClientInterceptorTest {
 
         ObjectMapper objectMapper = new ObjectMapper();
 
-        oAuth2ClientInterceptor = new OAuth2ClientInterceptor(objectMapper,
+        oAuth2TokenManager = new OAuth2TokenManager(objectMapper, new OkHttpClient(), null, 30);
+        oAuth2TokenManager.register(VALUE_REGISTRATION_ID,
             tokenServer.url(TOKEN_URL_PATH).toString(),
             VALUE_CLIENT_ID,
             VALUE_CLIENT_SECRET,
             VALUE_GRANT_TYPE
         );
+        oAuth2ClientInterceptor = new OAuth2ClientInterceptor(oAuth2TokenManager, VALUE_REGISTRATION_ID);
     }
 
     @AfterEach
     public void teardown() throws IOException {
         tokenServer.shutdown();
         actualRequestServer.shutdown();
+        oAuth2TokenManager.close();
         oAuth2ClientInterceptor = null;
     }
 
@@ -170,9 +176,9 @@ public class OAuth2ClientInterceptorTest {
 
         // assert tokenRequest Values
         assertEquals(TOKEN_URL_PATH, recordedRequest.getPath());
-        assertEquals(VALUE_CLIENT_ID, formFieldMap.get(OAuth2ClientInterceptor.KEY_CLIENT_ID));
-        assertEquals(VALUE_CLIENT_SECRET, formFieldMap.get(OAuth2ClientInterceptor.KEY_CLIENT_SECRET));
-        assertEquals(VALUE_GRANT_TYPE, formFieldMap.get(OAuth2ClientInterceptor.KEY_GRANT_TYPE));
+        assertEquals(VALUE_CLIENT_ID, formFieldMap.get(OAuth2TokenManager.KEY_CLIENT_ID));
+        assertEquals(VALUE_CLIENT_SECRET, formFieldMap.get(OAuth2TokenManager.KEY_CLIENT_SECRET));
+        assertEquals(VALUE_GRANT_TYPE, formFieldMap.get(OAuth2TokenManager.KEY_GRANT_TYPE));
 
         // Verify the intercepted request has the bearer token
         Request interceptedRequest = requestCaptor.getValue();
@@ -187,8 +193,11 @@ public class OAuth2ClientInterceptorTest {
     public void testInterceptor_refreshTokenSuccessfully() throws Exception {
 
         // GIVEN
-        // outdated Token already set
-        setJwtToken(VALUE_INVALID_MOCK_BEARER_TOKEN);
+        // outdated Token obtained first
+        tokenServer.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .setBody("{\"access_token\": \"" + VALUE_INVALID_MOCK_BEARER_TOKEN + "\"}")
+            .addHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE));
 
         MockResponse tokenResponse = new MockResponse()
             .setResponseCode(200)
@@ -239,7 +248,8 @@ public class OAuth2ClientInterceptorTest {
         Request interceptedRequestWithValidToken = interceptedRequests.get(1);
         assertEquals("Bearer " + VALUE_VALID_MOCK_BEARER_TOKEN,
             interceptedRequestWithValidToken.header("Authorization"));
-        assertEquals(VALUE_VALID_MOCK_BEARER_TOKEN, getJwtToken());
+        assertEquals(VALUE_VALID_MOCK_BEARER_TOKEN, oAuth2TokenManager.getToken(VALUE_REGISTRATION_ID));
+        assertEquals(2, tokenServer.getRequestCount());
     }
 
     /**
@@ -280,27 +290,4 @@ public class OAuth2ClientInterceptorTest {
         verify(chain, times(0)).proceed(any(Request.class));
         assertEquals(403, response.code());
     }
-
-    /**
-     * helper to get private field value of {@code oAuth2ClientInterceptor.jwtToken}
-     *
-     * @return value of the jwtToken field
-     * @throws Exception if field can not be accessed (illegal, not existing)
-     */
-    private String getJwtToken() throws Exception {
-        Field jwtTokenField = oAuth2ClientInterceptor.getClass().getDeclaredField("jwtAccessToken");
-        jwtTokenField.setAccessible(true);
-        return (String) jwtTokenField.get(oAuth2ClientInterceptor);
-    }
-
-    /**
-     * helper to set private field value of {@code oAuth2ClientInterceptor.jwtToken}
-     *
-     * @throws Exception if field can not be accessed (illegal, not existing)
-     */
-    private void setJwtToken(String jwtToken) throws Exception {
-        Field jwtTokenField = oAuth2ClientInterceptor.getClass().getDeclaredField("jwtAccessToken");
-        jwtTokenField.setAccessible(true);
-        jwtTokenField.set(oAuth2ClientInterceptor, jwtToken);
-    }
 }
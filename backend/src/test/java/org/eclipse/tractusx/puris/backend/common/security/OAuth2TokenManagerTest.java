@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OAuth2TokenManagerTest {
+
+    private static final String REGISTRATION_ID = "test";
+
+    private static final String TOKEN_URL_PATH = "/mocked/token";
+
+    private MockWebServer tokenServer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OAuth2TokenManager tokenManager;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        tokenServer = new MockWebServer();
+        tokenServer.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        tokenManager.close();
+        tokenServer.shutdown();
+    }
+
+    /**
+     * Concurrent requests without a token share one token request.
+     */
+    @Test
+    public void getToken_concurrentRequests_singleTokenRequest() throws Exception {
+        // given
+        createTokenManager(30);
+        tokenServer.enqueue(tokenResponse("token-1", 300).setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        tokenServer.enqueue(tokenResponse("token-2", 300));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> tokens = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            tokens.add(executor.submit(() -> {
+                start.await();
+                return tokenManager.getToken(REGISTRATION_ID);
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (var token : tokens) {
+            assertEquals("token-1", token.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdownNow();
+        assertEquals(1, tokenServer.getRequestCount());
+        assertEquals(1, meterRegistry.get(OAuth2TokenManager.METRIC_NAME)
+            .tags("registration", REGISTRATION_ID, "outcome", "success").timer().count());
+    }
+
+    /**
+     * A token is refreshed in the background before expires_in elapses, so that
+     * subsequent requests get the new token without waiting.
+     */
+    @Test
+    public void getToken_expiringToken_refreshedInBackground() throws Exception {
+        // given
+        createTokenManager(1);
+        tokenServer.enqueue(tokenResponse("token-1", 2));
+        tokenServer.enqueue(tokenResponse("token-2", 300));
+
+        // when
+        String first = tokenManager.getToken(REGISTRATION_ID);
+        tokenServer.takeRequest();
+        assertNotNull(tokenServer.takeRequest(3, TimeUnit.SECONDS));
+        Thread.sleep(100);
+
+        // then
+        assertEquals("token-1", first);
+        assertEquals("token-2", tokenManager.getToken(REGISTRATION_ID));
+        assertEquals(2, tokenServer.getRequestCount());
+    }
+
+    /**
+     * A rejected token is only renewed once, if it has already been renewed by another request.
+     */
+    @Test
+    public void renewToken_alreadyRenewed_noTokenRequest() {
+        // given
+        createTokenManager(30);
+        tokenServer.enqueue(tokenResponse("token-1", 300));
+        tokenServer.enqueue(tokenResponse("token-2", 300));
+        String rejected = tokenManager.getToken(REGISTRATION_ID);
+
+        // when
+        String renewed = tokenManager.renewToken(REGISTRATION_ID, rejected);
+        String renewedAgain = tokenManager.renewToken(REGISTRATION_ID, rejected);
+
+        // then
+        assertEquals("token-2", renewed);
+        assertEquals("token-2", renewedAgain);
+        assertEquals(2, tokenServer.getRequestCount());
+    }
+
+    /**
+     * Failed token requests result in null and are recorded as failures.
+     */
+    @Test
+    public void getToken_invalidClient_failureRecorded() {
+        // given
+        createTokenManager(30);
+        tokenServer.enqueue(new MockResponse().setResponseCode(401).setBody("{\"error\": \"invalid_client\"}"));
+
+        // when
+        String token = tokenManager.getToken(REGISTRATION_ID);
+
+        // then
+        assertNull(token);
+        assertEquals(1, meterRegistry.get(OAuth2TokenManager.METRIC_NAME)
+            .tags("registration", REGISTRATION_ID, "outcome", "failure").timer().count());
+    }
+
+    private void createTokenManager(long refreshMargin) {
+        tokenManager = new OAuth2TokenManager(new ObjectMapper(), new OkHttpClient(), meterRegistry, refreshMargin);
+        tokenManager.register(REGISTRATION_ID, tokenServer.url(TOKEN_URL_PATH).toString(),
+            "clientId", "clientSecret", "client_credentials");
+    }
+
+    private static MockResponse tokenResponse(String token, long expiresIn) {
+        return new MockResponse()
+            .setResponseCode(200)
+            .setBody("{\"access_token\": \"" + token + "\", \"expires_in\": " + expiresIn + "}")
+            .addHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE);
+    }
+}
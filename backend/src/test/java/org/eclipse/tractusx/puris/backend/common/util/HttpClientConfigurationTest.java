@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HttpClientConfigurationTest {
+
+    private MockWebServer server;
+
+    private MeterRegistry registry;
+
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        registry = new SimpleMeterRegistry();
+
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable()).thenReturn(registry);
+        HttpClientConfiguration configuration = new HttpClientConfiguration();
+        ReflectionTestUtils.setField(configuration, "connectTimeout", 1000);
+        ReflectionTestUtils.setField(configuration, "readTimeout", 1000);
+        ReflectionTestUtils.setField(configuration, "writeTimeout", 1000);
+        ReflectionTestUtils.setField(configuration, "callTimeout", 500);
+        ReflectionTestUtils.setField(configuration, "maxIdleConnections", 4);
+        ReflectionTestUtils.setField(configuration, "keepAlive", 60);
+        ReflectionTestUtils.setField(configuration, "http2", true);
+        ReflectionTestUtils.setField(configuration, "meterRegistry", meterRegistry);
+        client = configuration.httpClient();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void httpClient_GivenSuccessfulCall_RecordsPhasesPerHost() throws IOException {
+        // given
+        server.enqueue(new MockResponse().setBody("ok"));
+        String host = server.url("/").host();
+
+        // when
+        try (Response response = client.newCall(new Request.Builder().url(server.url("/")).build()).execute()) {
+            assertEquals("ok", response.body().string());
+        }
+
+        // then
+        assertAll(
+            () -> assertEquals(1, timer("connect", host).tag("outcome", "success").timer().count()),
+            () -> assertEquals(1, timer("ttfb", host).timer().count()),
+            () -> assertEquals(1, timer("call", host).tag("outcome", "success").timer().count())
+        );
+    }
+
+    @Test
+    void httpClient_GivenSlowServer_AbortsAfterCallTimeout() {
+        // given
+        server.enqueue(new MockResponse().setBody("late").setHeadersDelay(3, TimeUnit.SECONDS));
+        String host = server.url("/").host();
+
+        // when
+        long start = System.nanoTime();
+        assertThrows(InterruptedIOException.class,
+            () -> client.newCall(new Request.Builder().url(server.url("/")).build()).execute());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertAll(
+            () -> assertTrue(elapsedMillis < 2000, "call took " + elapsedMillis + " ms"),
+            () -> assertEquals(1, timer("call", host).tag("outcome", "failure").timer().count())
+        );
+    }
+
+    private Search timer(String phase, String host) {
+        return registry.find(HttpClientMetricsListener.METRIC_PREFIX + phase).tag("host", host);
+    }
+}
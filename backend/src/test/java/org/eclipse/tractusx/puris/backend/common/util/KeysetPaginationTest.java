@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeysetPaginationTest {
+
+    private static final UUID LOW = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private static final UUID MIDDLE = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+
+    // negative as a signed long, but ordered last by the database
+    private static final UUID HIGH = UUID.fromString("f0000000-0000-0000-0000-000000000000");
+
+    @Test
+    void merge_GivenTwoPages_ReturnsFirstEntriesInDatabaseOrder() {
+        // given
+        List<UUID> first = List.of(LOW, HIGH);
+        List<UUID> second = List.of(MIDDLE);
+
+        // when
+        List<UUID> merged = KeysetPagination.merge(first, second, 2, Function.identity());
+
+        // then
+        assertEquals(List.of(LOW, MIDDLE), merged);
+    }
+
+    @Test
+    void toResponse_GivenFullPage_SetsNextCursor() {
+        // when
+        ResponseEntity<List<String>> response = KeysetPagination.toResponse(List.of(LOW, MIDDLE), 2,
+            Function.identity(), UUID::toString);
+
+        // then
+        assertEquals(List.of(LOW.toString(), MIDDLE.toString()), response.getBody());
+        assertEquals(MIDDLE.toString(), response.getHeaders().getFirst(KeysetPagination.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void toResponse_GivenLastPage_SetsNoCursor() {
+        // when
+        ResponseEntity<List<String>> response = KeysetPagination.toResponse(List.of(LOW), 2,
+            Function.identity(), UUID::toString);
+
+        // then
+        assertEquals(1, response.getBody().size());
+        assertFalse(response.getHeaders().containsKey(KeysetPagination.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void checkLimit_GivenLimitOutOfRange_ThrowsBadRequest() {
+        assertEquals(HttpStatus.BAD_REQUEST,
+            assertThrows(ResponseStatusException.class, () -> KeysetPagination.checkLimit(0)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+            () -> KeysetPagination.checkLimit(KeysetPagination.MAX_LIMIT + 1)).getStatusCode());
+        assertEquals(KeysetPagination.MAX_LIMIT, KeysetPagination.checkLimit(KeysetPagination.MAX_LIMIT));
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.delivery.domain.repository;
+
+import org.eclipse.tractusx.puris.backend.common.domain.model.MaterialDataChangedEvent;
+import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.DatedQuantity;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.FilterSpecifications;
+import org.eclipse.tractusx.puris.backend.delivery.domain.model.EventTypeEnumeration;
+import org.eclipse.tractusx.puris.backend.delivery.domain.model.IncotermEnumeration;
+import org.eclipse.tractusx.puris.backend.delivery.domain.model.OwnDelivery;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.MaterialRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.PartnerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@RecordApplicationEvents
+public class OwnDeliveryRepositoryTest {
+
+    private static final Instant DEPARTURE = Instant.parse("2026-03-10T08:00:00Z");
+
+    @Autowired
+    private OwnDeliveryRepository ownDeliveryRepository;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Material material;
+
+    private Material otherMaterial;
+
+    private Partner partner;
+
+    @BeforeEach
+    void setUp() {
+        material = materialRepository.save(Material.builder().ownMaterialNumber("MNR-7307-AU340474.001")
+            .materialFlag(true).name("Semiconductor").build());
+        otherMaterial = materialRepository.save(Material.builder().ownMaterialNumber("MNR-4177-C")
+            .materialFlag(true).name("Steel Coil").build());
+        partner = partnerRepository.save(new Partner(
+            "Scenario Customer",
+            "http://customer-control-plane:8184/api/v1/dsp",
+            "BPNL4444444444XX",
+            "BPNS4444444444XX",
+            "Hauptwerk Musterhausen",
+            "BPNA4444444444AA",
+            "Musterstraße 35b",
+            "77777 Musterhausen",
+            "Germany"
+        ));
+    }
+
+    @Test
+    void findAll_WithMaterialAndDay_ReturnsOnlyMatchingDeliveries() {
+        // given
+        ownDeliveryRepository.save(delivery(material, DEPARTURE, "BPNS4444444444XX", "BPNS1234567890ZZ"));
+        ownDeliveryRepository.save(delivery(material, DEPARTURE.plusSeconds(24 * 60 * 60), "BPNS4444444444XX", "BPNS1234567890ZZ"));
+        ownDeliveryRepository.save(delivery(otherMaterial, DEPARTURE, "BPNS4444444444XX", "BPNS1234567890ZZ"));
+
+        // when
+        List<OwnDelivery> result = ownDeliveryRepository.findAll(Specification.allOf(
+            FilterSpecifications.hasOwnMaterialNumber(material.getOwnMaterialNumber()),
+            FilterSpecifications.hasPartnerBpnl(partner.getBpnl()),
+            FilterSpecifications.isOnDay("dateOfDeparture", Date.from(Instant.parse("2026-03-10T23:30:00Z")))));
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals(Date.from(DEPARTURE), result.get(0).getDateOfDeparture());
+    }
+
+    @Test
+    void findAll_WithSiteInOriginOrDestination_ReturnsMatchingDeliveries() {
+        // given
+        ownDeliveryRepository.save(delivery(material, DEPARTURE, "BPNS4444444444XX", "BPNS1234567890ZZ"));
+        ownDeliveryRepository.save(delivery(material, DEPARTURE, "BPNS1234567890ZZ", "BPNS4444444444XX"));
+        ownDeliveryRepository.save(delivery(material, DEPARTURE, "BPNS1234567890ZZ", "BPNS1234567890YY"));
+
+        // when
+        List<OwnDelivery> bySite = ownDeliveryRepository.findAll(Specification.anyOf(
+            FilterSpecifications.hasAttribute("originBpns", "BPNS4444444444XX"),
+            FilterSpecifications.hasAttribute("destinationBpns", "BPNS4444444444XX")));
+        List<OwnDelivery> byDestinations = ownDeliveryRepository.findAll(
+            FilterSpecifications.hasAttributeIn("destinationBpns", List.of("BPNS4444444444XX", "BPNS1234567890YY")));
+
+        // then
+        assertEquals(2, bySite.size());
+        assertEquals(2, byDestinations.size());
+    }
+
+    @Test
+    void sumOutboundQuantitiesByDay_WithDeliveriesOnSameDate_ReturnsSummedQuantities() {
+        // given
+        ownDeliveryRepository.save(delivery(material, DEPARTURE, "BPNS4444444444XX", "BPNS1234567890ZZ"));
+        ownDeliveryRepository.save(delivery(material, DEPARTURE, "BPNS4444444444XX", "BPNS1234567890ZZ"));
+        ownDeliveryRepository.save(delivery(material, DEPARTURE.plusSeconds(24 * 60 * 60), "BPNS4444444444XX", "BPNS1234567890ZZ"));
+        ownDeliveryRepository.save(delivery(material, DEPARTURE, "BPNS1234567890YY", "BPNS1234567890ZZ"));
+        ownDeliveryRepository.save(delivery(otherMaterial, DEPARTURE, "BPNS4444444444XX", "BPNS1234567890ZZ"));
+
+        // when
+        List<DatedQuantity> result = ownDeliveryRepository.sumOutboundQuantitiesByDay(
+            material.getOwnMaterialNumber(), partner.getBpnl(), null, List.of("BPNS4444444444XX"),
+            Date.from(Instant.parse("2026-03-10T00:00:00Z")), Date.from(Instant.parse("2026-03-11T00:00:00Z")));
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals(Date.from(DEPARTURE).getTime(), result.get(0).getDate().getTime());
+        assertEquals(40, result.get(0).getQuantity());
+    }
+
+    @Test
+    void saveAndFlush_PublishesMaterialDataChangedEvent() {
+        // when
+        ownDeliveryRepository.saveAndFlush(delivery(material, DEPARTURE, "BPNS4444444444XX", "BPNS1234567890ZZ"));
+
+        // then
+        assertEquals(1, events.stream(MaterialDataChangedEvent.class)
+            .filter(event -> event.ownMaterialNumber().equals(material.getOwnMaterialNumber())).count());
+    }
+
+    @Test
+    void saveAllAndFlush_PublishesOneEventPerMaterialAndTransaction() {
+        // when
+        ownDeliveryRepository.saveAllAndFlush(List.of(
+            delivery(material, DEPARTURE, "BPNS4444444444XX", "BPNS1234567890ZZ"),
+            delivery(material, DEPARTURE.plusSeconds(60), "BPNS4444444444XX", "BPNS1234567890ZZ"),
+            delivery(material, DEPARTURE.plusSeconds(120), "BPNS4444444444XX", "BPNS1234567890ZZ"),
+            delivery(otherMaterial, DEPARTURE, "BPNS4444444444XX", "BPNS1234567890ZZ")));
+
+        // then
+        assertEquals(1, events.stream(MaterialDataChangedEvent.class)
+            .filter(event -> event.ownMaterialNumber().equals(material.getOwnMaterialNumber())).count());
+        assertEquals(1, events.stream(MaterialDataChangedEvent.class)
+            .filter(event -> event.ownMaterialNumber().equals(otherMaterial.getOwnMaterialNumber())).count());
+    }
+
+    @Test
+    void replaceAllForPartnerAndMaterial_KeepsDeliveriesOfOtherMaterials() {
+        // given
+        ownDeliveryRepository.saveAll(List.of(
+            delivery(material, DEPARTURE, "BPNS4444444444XX", "BPNS1234567890ZZ"),
+            delivery(material, DEPARTURE.plusSeconds(60), "BPNS4444444444XX", "BPNS1234567890ZZ"),
+            delivery(otherMaterial, DEPARTURE, "BPNS4444444444XX", "BPNS1234567890ZZ")));
+        List<OwnDelivery> newDeliveries = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            newDeliveries.add(delivery(material, DEPARTURE.plusSeconds(3600L * (i + 1)), "BPNS4444444444XX", "BPNS1234567890ZZ"));
+        }
+
+        // when
+        List<OwnDelivery> saved = ownDeliveryRepository.replaceAllForPartnerAndMaterial(partner, material, newDeliveries);
+
+        // then
+        assertEquals(150, saved.size());
+        List<OwnDelivery> deliveries = ownDeliveryRepository.findAllByMaterial_OwnMaterialNumberAndPartner_Uuid(
+            material.getOwnMaterialNumber(), partner.getUuid());
+        assertEquals(150, deliveries.size());
+        assertTrue(deliveries.stream().allMatch(delivery -> delivery.getDateOfDeparture().after(Date.from(DEPARTURE.plusSeconds(60)))));
+        assertEquals(1, ownDeliveryRepository.findAllByMaterial_OwnMaterialNumberAndPartner_Uuid(
+            otherMaterial.getOwnMaterialNumber(), partner.getUuid()).size());
+    }
+
+    private OwnDelivery delivery(Material material, Instant departure, String originBpns, String destinationBpns) {
+        return OwnDelivery.builder()
+            .material(material)
+            .partner(partner)
+            .quantity(20)
+            .measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+            .incoterm(IncotermEnumeration.FAS)
+            .originBpns(originBpns)
+            .destinationBpns(destinationBpns)
+            .dateOfDeparture(Date.from(departure))
+            .dateOfArrival(Date.from(departure.plusSeconds(2 * 24 * 60 * 60)))
+            .departureType(EventTypeEnumeration.ACTUAL_DEPARTURE)
+            .arrivalType(EventTypeEnumeration.ESTIMATED_ARRIVAL)
+            .lastUpdatedOnDateTime(new Date())
+            .build();
+    }
+}
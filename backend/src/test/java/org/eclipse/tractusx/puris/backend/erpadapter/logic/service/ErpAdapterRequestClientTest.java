@@ -22,6 +22,7 @@ package org.eclipse.tractusx.puris.backend.erpadapter.logic.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
 import org.assertj.core.api.Assertions;
@@ -77,7 +78,7 @@ public class ErpAdapterRequestClientTest {
     public void setUp() throws Exception {
         mockWebServer = new MockWebServer();
         mockWebServer.start();
-        erpAdapterRequestClient = new ErpAdapterRequestClient(erpAdapterConfiguration);
+        erpAdapterRequestClient = new ErpAdapterRequestClient(new OkHttpClient(), erpAdapterConfiguration);
     }
 
     @AfterEach
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.erpadapter.logic.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
+import org.eclipse.tractusx.puris.backend.erpadapter.ErpAdapterConfiguration;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequest;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterTriggerDataset;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.repository.ErpAdapterTriggerDatasetRepository;
+import org.eclipse.tractusx.puris.backend.stock.logic.dto.itemstocksamm.DirectionCharacteristic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ErpAdapterTriggerServiceTest {
+
+    private static final String BPNL = "BPNL1234567890ZZ";
+
+    private static final long DAY = 24 * 60 * 60 * 1000;
+
+    @Mock
+    private ErpAdapterTriggerDatasetRepository repository;
+
+    @Mock
+    private ErpAdapterConfiguration erpAdapterConfiguration;
+
+    @Mock
+    private ErpAdapterRequestService erpAdapterRequestService;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private ExecutorService executorService;
+
+    private ScheduledExecutorService scheduler;
+
+    private ErpAdapterTriggerService erpAdapterTriggerService;
+
+    @BeforeEach
+    public void setUp() {
+        executorService = Executors.newSingleThreadExecutor();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        erpAdapterTriggerService = new ErpAdapterTriggerService();
+        ReflectionTestUtils.setField(erpAdapterTriggerService, "repository", repository);
+        ReflectionTestUtils.setField(erpAdapterTriggerService, "erpAdapterConfiguration", erpAdapterConfiguration);
+        ReflectionTestUtils.setField(erpAdapterTriggerService, "erpAdapterRequestService", erpAdapterRequestService);
+        ReflectionTestUtils.setField(erpAdapterTriggerService, "executorService", executorService);
+        ReflectionTestUtils.setField(erpAdapterTriggerService, "scheduler", scheduler);
+        ReflectionTestUtils.setField(erpAdapterTriggerService, "meterRegistry", meterRegistry);
+
+        lenient().when(erpAdapterConfiguration.isErpAdapterEnabled()).thenReturn(true);
+        lenient().when(erpAdapterConfiguration.getRefreshInterval()).thenReturn(200L);
+        lenient().when(erpAdapterConfiguration.getRefreshTimeLimit()).thenReturn(DAY);
+        lenient().when(erpAdapterConfiguration.getNotificationFlushInterval()).thenReturn(50L);
+        lenient().when(meterRegistry.getIfAvailable()).thenReturn(null);
+        lenient().when(repository.findAllById(any())).thenReturn(new ArrayList<>());
+        lenient().when(repository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void notifyPartnerRequest_newRequest_sendsImmediatelyAndWhenDue() {
+        // given
+        when(repository.findAllByNextErpRequestScheduledLessThanEqual(anyLong())).thenReturn(new ArrayList<>());
+
+        // when
+        erpAdapterTriggerService.notifyPartnerRequest(BPNL, "MNR-7307-AU340474.002",
+            AssetType.ITEM_STOCK_SUBMODEL, DirectionCharacteristic.INBOUND);
+
+        // then
+        verify(erpAdapterRequestService, timeout(5000).atLeast(3)).createAndSend(any());
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    public void notifyPartnerRequest_repeatedRequests_areCoalesced() throws Exception {
+        // given
+        when(repository.findAllByNextErpRequestScheduledLessThanEqual(anyLong())).thenReturn(new ArrayList<>());
+        when(erpAdapterConfiguration.getRefreshInterval()).thenReturn(DAY);
+        ArgumentCaptor<List<ErpAdapterTriggerDataset>> written = ArgumentCaptor.captor();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            erpAdapterTriggerService.notifyPartnerRequest(BPNL, "MNR-7307-AU340474.002",
+                AssetType.ITEM_STOCK_SUBMODEL, DirectionCharacteristic.INBOUND);
+        }
+
+        // then
+        verify(erpAdapterRequestService, timeout(5000)).createAndSend(any());
+        awaitCompletions();
+        // the partner requests are written once, the dataset is written again after the request was sent
+        verify(repository, times(2)).saveAll(written.capture());
+        assertEquals(1, written.getAllValues().get(0).size());
+        assertEquals(0, erpAdapterTriggerService.getPendingCount());
+        verify(repository, never()).findById(any());
+        verify(erpAdapterRequestService, times(1)).createAndSend(any());
+    }
+
+    @Test
+    public void notifyPartnerRequest_knownDataset_updatesLastPartnerRequestOnly() throws Exception {
+        // given
+        long now = System.currentTimeMillis();
+        ErpAdapterTriggerDataset stored = new ErpAdapterTriggerDataset(BPNL, "MNR-STORED",
+            AssetType.ITEM_STOCK_SUBMODEL, "", now - DAY, now + DAY);
+        when(repository.findAllByNextErpRequestScheduledLessThanEqual(anyLong())).thenReturn(new ArrayList<>());
+        when(repository.findAllById(any())).thenReturn(new ArrayList<>(List.of(stored)));
+
+        // when
+        erpAdapterTriggerService.notifyPartnerRequest(BPNL, "MNR-STORED", AssetType.ITEM_STOCK_SUBMODEL, null);
+
+        // then
+        verify(repository, timeout(5000)).saveAll(List.of(stored));
+        scheduler.submit(() -> { }).get();
+        assertTrue(stored.getLastPartnerRequest() >= now);
+        assertEquals(now + DAY, stored.getNextErpRequestScheduled());
+        verifyNoInteractions(erpAdapterRequestService);
+    }
+
+    @Test
+    public void notifyPartnerRequest_loadsDueDatasetsAndDeletesExpired() {
+        // given
+        long now = System.currentTimeMillis();
+        ErpAdapterTriggerDataset expired = new ErpAdapterTriggerDataset(BPNL, "MNR-EXPIRED",
+            AssetType.ITEM_STOCK_SUBMODEL, "", now - 2 * DAY, now - 1000);
+        ErpAdapterTriggerDataset due = new ErpAdapterTriggerDataset(BPNL, "MNR-DUE",
+            AssetType.ITEM_STOCK_SUBMODEL, "OUTBOUND", now, now - 1000);
+        when(repository.findAllByNextErpRequestScheduledLessThanEqual(anyLong()))
+            .thenReturn(new ArrayList<>(List.of(expired, due)))
+            .thenReturn(new ArrayList<>());
+        ArgumentCaptor<ErpAdapterRequest> requests = ArgumentCaptor.forClass(ErpAdapterRequest.class);
+
+        // when
+        erpAdapterTriggerService.notifyPartnerRequest(BPNL, "MNR-NEW", AssetType.ITEM_STOCK_SUBMODEL, null);
+
+        // then
+        verify(repository, timeout(5000)).deleteAll(List.of(expired));
+        verify(erpAdapterRequestService, timeout(5000).atLeast(2)).createAndSend(requests.capture());
+        List<String> materials = requests.getAllValues().stream().map(ErpAdapterRequest::getOwnMaterialNumber).toList();
+        assertTrue(materials.contains("MNR-NEW"));
+        assertTrue(materials.contains("MNR-DUE"));
+        assertFalse(materials.contains("MNR-EXPIRED"));
+        awaitCompletions();
+        assertTrue(due.getNextErpRequestScheduled() > now);
+    }
+
+    @Test
+    public void notifyPartnerRequest_requestInFlight_staysDueUntilSent() throws Exception {
+        // given
+        long now = System.currentTimeMillis();
+        when(repository.findAllByNextErpRequestScheduledLessThanEqual(anyLong())).thenReturn(new ArrayList<>());
+        when(erpAdapterConfiguration.getRefreshInterval()).thenReturn(DAY);
+        CountDownLatch sending = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(erpAdapterRequestService).createAndSend(any());
+        ArgumentCaptor<List<ErpAdapterTriggerDataset>> written = ArgumentCaptor.captor();
+
+        // when
+        erpAdapterTriggerService.notifyPartnerRequest(BPNL, "MNR-7307-AU340474.002",
+            AssetType.ITEM_STOCK_SUBMODEL, DirectionCharacteristic.INBOUND);
+
+        // then
+        verify(erpAdapterRequestService, timeout(5000)).createAndSend(any());
+        scheduler.submit(() -> { }).get();
+        // only the partner request has been written, the dataset is still due
+        verify(repository, times(1)).saveAll(written.capture());
+        ErpAdapterTriggerDataset dataset = written.getValue().get(0);
+        assertTrue(dataset.getNextErpRequestScheduled() <= System.currentTimeMillis());
+
+        sending.countDown();
+        awaitCompletions();
+        verify(repository, times(2)).saveAll(any());
+        assertTrue(dataset.getNextErpRequestScheduled() >= now + DAY);
+    }
+
+    @Test
+    public void notifyPartnerRequest_failedRequest_isRetried() throws Exception {
+        // given
+        long now = System.currentTimeMillis();
+        when(repository.findAllByNextErpRequestScheduledLessThanEqual(anyLong())).thenReturn(new ArrayList<>());
+        when(erpAdapterConfiguration.getRefreshInterval()).thenReturn(DAY);
+        doThrow(new IllegalStateException("erp adapter unavailable")).when(erpAdapterRequestService).createAndSend(any());
+        ArgumentCaptor<List<ErpAdapterTriggerDataset>> written = ArgumentCaptor.captor();
+
+        // when
+        erpAdapterTriggerService.notifyPartnerRequest(BPNL, "MNR-7307-AU340474.002",
+            AssetType.ITEM_STOCK_SUBMODEL, DirectionCharacteristic.INBOUND);
+
+        // then
+        verify(erpAdapterRequestService, timeout(5000)).createAndSend(any());
+        awaitCompletions();
+        verify(repository, times(2)).saveAll(written.capture());
+        long nextErpRequestScheduled = written.getAllValues().get(1).get(0).getNextErpRequestScheduled();
+        assertTrue(nextErpRequestScheduled < now + DAY);
+        assertTrue(nextErpRequestScheduled >= now + ErpAdapterTriggerService.LOOKAHEAD);
+    }
+
+    @Test
+    public void notifyPartnerRequest_failingLoad_backsOff() throws Exception {
+        // given
+        when(repository.findAllByNextErpRequestScheduledLessThanEqual(anyLong()))
+            .thenThrow(new IllegalStateException("database unavailable"));
+
+        // when
+        erpAdapterTriggerService.notifyPartnerRequest(BPNL, "MNR-7307-AU340474.002",
+            AssetType.ITEM_STOCK_SUBMODEL, DirectionCharacteristic.INBOUND);
+
+        // then
+        verify(repository, timeout(5000)).findAllByNextErpRequestScheduledLessThanEqual(anyLong());
+        Thread.sleep(500);
+        scheduler.submit(() -> { }).get();
+        verify(repository, times(1)).findAllByNextErpRequestScheduledLessThanEqual(anyLong());
+        verifyNoInteractions(erpAdapterRequestService);
+    }
+
+    @Test
+    public void notifyPartnerRequest_disabled_doesNothing() {
+        // given
+        when(erpAdapterConfiguration.isErpAdapterEnabled()).thenReturn(false);
+
+        // when
+        erpAdapterTriggerService.notifyPartnerRequest(BPNL, "MNR-7307-AU340474.002",
+            AssetType.ITEM_STOCK_SUBMODEL, DirectionCharacteristic.INBOUND);
+
+        // then
+        verifyNoInteractions(repository, erpAdapterRequestService);
+    }
+
+    /**
+     * Waits until all sent requests have been handed back to and processed by the scheduler thread.
+     */
+    private void awaitCompletions() throws Exception {
+        executorService.submit(() -> { }).get();
+        scheduler.submit(() -> { }).get();
+    }
+
+    @Test
+    public void getRefreshInterval_supportsMinutesAndSeconds() {
+        // given
+        ErpAdapterConfiguration configuration = new ErpAdapterConfiguration();
+
+        // when
+        ReflectionTestUtils.setField(configuration, "refreshInterval", "2");
+        long minutes = configuration.getRefreshInterval();
+        ReflectionTestUtils.setField(configuration, "refreshInterval", "30s");
+        long seconds = configuration.getRefreshInterval();
+        ReflectionTestUtils.setField(configuration, "refreshInterval", "PT5S");
+        long isoSeconds = configuration.getRefreshInterval();
+
+        // then
+        assertEquals(2 * 60 * 1000, minutes);
+        assertEquals(30 * 1000, seconds);
+        assertEquals(5 * 1000, isoSeconds);
+    }
+}
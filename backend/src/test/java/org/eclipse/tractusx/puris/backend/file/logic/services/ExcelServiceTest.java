@@ -19,9 +19,11 @@
  */
 package org.eclipse.tractusx.puris.backend.file.logic.services;
 
+import javax.management.openmbean.KeyAlreadyExistsException;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -37,6 +39,7 @@ import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.OwnDelivery;
 import org.eclipse.tractusx.puris.backend.delivery.logic.service.OwnDeliveryService;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.DemandCategoryEnumeration;
 import org.eclipse.tractusx.puris.backend.demand.domain.model.OwnDemand;
 import org.eclipse.tractusx.puris.backend.demand.logic.services.OwnDemandService;
 import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportError;
@@ -59,8 +62,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.InOrder;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
@@ -243,14 +251,50 @@ public class ExcelServiceTest {
         assertTrue(conflicts.isEmpty());
     }
 
+    @Test
+    void testCheckConflicts_EqualDemands_ReturnsConflictingRows() {
+        OwnDemand demand = OwnDemand.builder()
+            .material(testMaterial)
+            .partner(testPartner)
+            .quantity(10)
+            .demandLocationBpns("BPNS4444444444XX")
+            .demandCategoryCode(DemandCategoryEnumeration.DEMAND_SERIES)
+            .day(new Date(1000))
+            .build();
+        OwnDemand otherDay = OwnDemand.builder()
+            .material(testMaterial)
+            .partner(testPartner)
+            .quantity(10)
+            .demandLocationBpns("BPNS4444444444XX")
+            .demandCategoryCode(DemandCategoryEnumeration.DEMAND_SERIES)
+            .day(new Date(2000))
+            .build();
+        OwnDemand sameKey = OwnDemand.builder()
+            .material(testMaterial)
+            .partner(testPartner)
+            .quantity(20)
+            .demandLocationBpns("BPNS4444444444XX")
+            .demandCategoryCode(DemandCategoryEnumeration.DEMAND_SERIES)
+            .day(new Timestamp(1000))
+            .build();
+
+        List<DataImportError> conflicts = excelService.checkConflicts(List.of(demand, otherDay, sameKey, demand));
+
+        assertEquals(2, conflicts.size());
+        assertEquals(4, conflicts.get(0).getRow());
+        assertEquals("The row 4 conflicts with the following rows: [2]", conflicts.get(0).getErrors().get(0));
+        assertEquals(5, conflicts.get(1).getRow());
+        assertEquals("The row 5 conflicts with the following rows: [2, 4]", conflicts.get(1).getErrors().get(0));
+    }
+
     @Test
     void testReadExcelFile_Demand_ValidData_CallsServices() throws IOException {
         ByteArrayInputStream inputStream = createDemandExcelFile();
         when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
         when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
         when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenReturn(Collections.emptyList());
-        when(ownDemandService.findAll()).thenReturn(Collections.emptyList());
-        when(ownDemandService.create(any(OwnDemand.class))).thenReturn(new OwnDemand());
+        when(ownDemandService.findAllUuids()).thenReturn(Collections.emptyList());
+        when(ownDemandService.createAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -260,7 +304,7 @@ public class ExcelServiceTest {
         verify(materialService).findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber());
         verify(partnerService).findByBpnl(testPartner.getBpnl());
         verify(ownDemandService).validateWithDetails(any(OwnDemand.class));
-        verify(ownDemandService).create(any(OwnDemand.class));
+        verify(ownDemandService).createAll(any());
     }
 
     @Test
@@ -269,8 +313,8 @@ public class ExcelServiceTest {
         when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
         when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
         when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenReturn(Collections.emptyList());
-        when(ownDemandService.findAll()).thenReturn(Collections.emptyList());
-        when(ownDemandService.create(any(OwnDemand.class))).thenReturn(new OwnDemand());
+        when(ownDemandService.findAllUuids()).thenReturn(Collections.emptyList());
+        when(ownDemandService.createAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -287,8 +331,8 @@ public class ExcelServiceTest {
         when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
         when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
         when(ownProductionService.validateWithDetails(any(OwnProduction.class))).thenReturn(Collections.emptyList());
-        when(ownProductionService.findAll()).thenReturn(Collections.emptyList());
-        when(ownProductionService.create(any(OwnProduction.class))).thenReturn(new OwnProduction());
+        when(ownProductionService.findAllUuids()).thenReturn(Collections.emptyList());
+        when(ownProductionService.createAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -298,7 +342,7 @@ public class ExcelServiceTest {
         verify(materialService).findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber());
         verify(partnerService).findByBpnl(testPartner.getBpnl());
         verify(ownProductionService).validateWithDetails(any(OwnProduction.class));
-        verify(ownProductionService).create(any(OwnProduction.class));
+        verify(ownProductionService).createAll(any());
     }
 
     @Test
@@ -307,8 +351,8 @@ public class ExcelServiceTest {
         when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
         when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
         when(ownProductionService.validateWithDetails(any(OwnProduction.class))).thenReturn(Collections.emptyList());
-        when(ownProductionService.findAll()).thenReturn(Collections.emptyList());
-        when(ownProductionService.create(any(OwnProduction.class))).thenReturn(new OwnProduction());
+        when(ownProductionService.findAllUuids()).thenReturn(Collections.emptyList());
+        when(ownProductionService.createAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -325,8 +369,8 @@ public class ExcelServiceTest {
         when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
         when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
         when(ownDeliveryService.validateWithDetails(any(OwnDelivery.class))).thenReturn(Collections.emptyList());
-        when(ownDeliveryService.findAll()).thenReturn(Collections.emptyList());
-        when(ownDeliveryService.create(any(OwnDelivery.class))).thenReturn(new OwnDelivery());
+        when(ownDeliveryService.findAllUuids()).thenReturn(Collections.emptyList());
+        when(ownDeliveryService.createAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -336,7 +380,7 @@ public class ExcelServiceTest {
         verify(materialService).findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber());
         verify(partnerService).findByBpnl(testPartner.getBpnl());
         verify(ownDeliveryService).validateWithDetails(any(OwnDelivery.class));
-        verify(ownDeliveryService).create(any(OwnDelivery.class));
+        verify(ownDeliveryService).createAll(any());
     }
 
     @Test
@@ -345,8 +389,8 @@ public class ExcelServiceTest {
         when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
         when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
         when(ownDeliveryService.validateWithDetails(any(OwnDelivery.class))).thenReturn(Collections.emptyList());
-        when(ownDeliveryService.findAll()).thenReturn(Collections.emptyList());
-        when(ownDeliveryService.create(any(OwnDelivery.class))).thenReturn(new OwnDelivery());
+        when(ownDeliveryService.findAllUuids()).thenReturn(Collections.emptyList());
+        when(ownDeliveryService.createAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -363,9 +407,9 @@ public class ExcelServiceTest {
         when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
         when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
         when(materialItemStockService.validateWithDetails(any(MaterialItemStock.class))).thenReturn(Collections.emptyList());
-        when(materialItemStockService.findAll()).thenReturn(Collections.emptyList());
-        when(productItemStockService.findAll()).thenReturn(Collections.emptyList());
-        when(materialItemStockService.create(any(MaterialItemStock.class))).thenReturn(new MaterialItemStock());
+        when(materialItemStockService.findAllUuids()).thenReturn(Collections.emptyList());
+        when(productItemStockService.findAllUuids()).thenReturn(Collections.emptyList());
+        when(materialItemStockService.createAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -375,7 +419,7 @@ public class ExcelServiceTest {
         verify(materialService).findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber());
         verify(partnerService).findByBpnl(testPartner.getBpnl());
         verify(materialItemStockService).validateWithDetails(any(MaterialItemStock.class));
-        verify(materialItemStockService).create(any(MaterialItemStock.class));
+        verify(materialItemStockService).createAll(any());
     }
 
     @Test
@@ -384,8 +428,8 @@ public class ExcelServiceTest {
         when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
         when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
         when(materialItemStockService.validateWithDetails(any(MaterialItemStock.class))).thenReturn(Collections.emptyList());
-        when(materialItemStockService.findAll()).thenReturn(Collections.emptyList());
-        when(materialItemStockService.create(any(MaterialItemStock.class))).thenReturn(new MaterialItemStock());
+        when(materialItemStockService.findAllUuids()).thenReturn(Collections.emptyList());
+        when(materialItemStockService.createAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -396,6 +440,106 @@ public class ExcelServiceTest {
         assertEquals("The row 3 conflicts with the following rows: [2]", result.getErrors().get(0).getErrors().get(0));
     }
 
+    @Test
+    void testReadExcelFile_Demand_ManyRows_PersistsInChunks() throws IOException {
+        ByteArrayInputStream inputStream = createDemandExcelFile(2500);
+        UUID existingDemandUuid = UUID.randomUUID();
+        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
+        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenReturn(Collections.emptyList());
+        when(ownDemandService.findAllUuids()).thenReturn(List.of(existingDemandUuid));
+        when(ownDemandService.createAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        DataImportResult result = excelService.readExcelFile(inputStream);
+
+        assertEquals("Successfully imported demands", result.getMessage());
+        assertTrue(result.getErrors().isEmpty());
+        InOrder inOrder = inOrder(ownDemandService);
+        inOrder.verify(ownDemandService).findAllUuids();
+        inOrder.verify(ownDemandService, times(3)).createAll(any());
+        inOrder.verify(ownDemandService).deleteAll(List.of(existingDemandUuid));
+    }
+
+    @Test
+    void testReadExcelFile_Demand_InvalidRowAfterFirstChunk_RollsBackAndReportsError() throws IOException {
+        ByteArrayInputStream inputStream = createDemandExcelFile(1500);
+        UUID existingDemandUuid = UUID.randomUUID();
+        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
+        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenAnswer(invocation -> {
+            OwnDemand demand = invocation.getArgument(0);
+            return demand.getQuantity() == 1200 ? List.of("Invalid quantity") : Collections.emptyList();
+        });
+        when(ownDemandService.findAllUuids()).thenReturn(List.of(existingDemandUuid));
+        when(ownDemandService.createAll(any())).thenAnswer(invocation -> {
+            List<OwnDemand> demands = invocation.getArgument(0);
+            demands.forEach(demand -> demand.setUuid(UUID.randomUUID()));
+            return demands;
+        });
+        List<DataImportError> reportedErrors = new ArrayList<>();
+
+        DataImportResult result = excelService.readExcelFile(inputStream, reportedErrors::add);
+
+        assertEquals("Failed to process Demand rows", result.getMessage());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(1201, result.getErrors().get(0).getRow());
+        assertEquals(1, reportedErrors.size());
+        assertEquals(1201, reportedErrors.get(0).getRow());
+        verify(ownDemandService, times(1)).createAll(argThat(demands -> demands.size() == 1000));
+        verify(ownDemandService, never()).create(any(OwnDemand.class));
+        verify(ownDemandService).deleteAll(argThat(uuids -> uuids.size() == 1000));
+        verify(ownDemandService, never()).deleteAll(argThat(uuids -> uuids.contains(existingDemandUuid)));
+    }
+
+    @Test
+    void testReadExcelFile_Demand_FailingChunk_PersistsRowByRowAndReportsRow() throws IOException {
+        ByteArrayInputStream inputStream = createDemandExcelFile(5);
+        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
+        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenReturn(Collections.emptyList());
+        when(ownDemandService.findAllUuids()).thenReturn(Collections.emptyList());
+        when(ownDemandService.createAll(any())).thenThrow(new KeyAlreadyExistsException("Demand already exists"));
+        when(ownDemandService.create(any(OwnDemand.class))).thenAnswer(invocation -> {
+            OwnDemand demand = invocation.getArgument(0);
+            if (demand.getQuantity() == 3) {
+                throw new KeyAlreadyExistsException("Demand already exists");
+            }
+            demand.setUuid(UUID.randomUUID());
+            return demand;
+        });
+
+        DataImportResult result = excelService.readExcelFile(inputStream);
+
+        assertEquals("Failed to persist demands", result.getMessage());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(4, result.getErrors().get(0).getRow());
+        assertEquals("Demand already exists", result.getErrors().get(0).getErrors().get(0));
+        verify(ownDemandService).createAll(argThat(demands -> demands.size() == 5));
+        verify(ownDemandService, times(3)).create(any(OwnDemand.class));
+        verify(ownDemandService).deleteAll(argThat(uuids -> uuids.size() == 2));
+    }
+
+    @Test
+    void testReadExcelFile_Demand_FormulaWithoutResult_ReturnsError() throws IOException {
+        Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet("Demands");
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < DEMAND_HEADERS.size(); i++) {
+            headerRow.createCell(i).setCellValue(DEMAND_HEADERS.get(i));
+        }
+        Row dataRow = sheet.createRow(1);
+        dataRow.createCell(0).setCellValue(testMaterial.getOwnMaterialNumber());
+        dataRow.createCell(1).setCellValue(testPartner.getBpnl());
+        dataRow.createCell(2).setCellFormula("50*2");
+        ByteArrayInputStream inputStream = convertWorkbookToInputStream(workbook);
+
+        DataImportResult result = excelService.readExcelFile(inputStream);
+
+        assertEquals("Failed to process Demand rows", result.getMessage());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        assertTrue(result.getErrors().get(0).getErrors().get(0).contains("Formula without calculated result at Sheet 'Demands'!C2"));
+    }
+
     @Test
     void testReadExcelFile_Demand_InvalidUnitOfMeasurement_ReturnsError() throws IOException {
         ByteArrayInputStream inputStream = createDemandExcelFileWithInvalidUnit();
@@ -490,6 +634,18 @@ public class ExcelServiceTest {
         return createExcelFile("Demands", DEMAND_HEADERS, List.of(SAMPLE_DEMAND_ROW));
     }
 
+    private ByteArrayInputStream createDemandExcelFile(int numberOfRows) throws IOException {
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 1; i <= numberOfRows; i++) {
+            rows.add(List.of(
+                testMaterial.getOwnMaterialNumber(), testPartner.getBpnl(), (double) i, "unit:piece",
+                OWN_BPNS, PARTNER_BPNS, "0001",
+                Date.from(Instant.now().plusSeconds(i * 86400L)), todaysDateFromParsing
+            ));
+        }
+        return createExcelFile("Demands", DEMAND_HEADERS, rows);
+    }
+
     private ByteArrayInputStream createConflictingDemandExcelFile() throws IOException {
         return createExcelFile("Demands", DEMAND_HEADERS, List.of(SAMPLE_DEMAND_ROW, SAMPLE_DEMAND_ROW));
     }
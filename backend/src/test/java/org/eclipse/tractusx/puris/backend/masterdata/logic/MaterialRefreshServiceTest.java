@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.masterdata.logic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.eclipse.tractusx.puris.backend.delivery.logic.service.DeliveryRequestApiService;
+import org.eclipse.tractusx.puris.backend.demand.logic.services.DemandRequestApiService;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.RefreshResult;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialRefreshService;
+import org.eclipse.tractusx.puris.backend.production.logic.service.ProductionRequestApiService;
+import org.eclipse.tractusx.puris.backend.stock.logic.dto.itemstocksamm.DirectionCharacteristic;
+import org.eclipse.tractusx.puris.backend.stock.logic.service.ItemStockRequestApiService;
+import org.eclipse.tractusx.puris.backend.supply.logic.service.DaysOfSupplyRequestApiService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class MaterialRefreshServiceTest {
+
+    @Mock
+    private DemandRequestApiService demandRequestApiService;
+
+    @Mock
+    private ProductionRequestApiService productionRequestApiService;
+
+    @Mock
+    private ItemStockRequestApiService itemStockRequestApiService;
+
+    @Mock
+    private DeliveryRequestApiService deliveryRequestApiService;
+
+    @Mock
+    private DaysOfSupplyRequestApiService daysOfSupplyRequestApiService;
+
+    @Mock
+    private MaterialPartnerRelationService mprService;
+
+    @Mock
+    private VariablesService variablesService;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @InjectMocks
+    private MaterialRefreshService materialRefreshService;
+
+    private ExecutorService executorService;
+
+    private static final RefreshResult SUCCESS = new RefreshResult("Success", List.of());
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        executorService = Executors.newFixedThreadPool(4);
+        ReflectionTestUtils.setField(materialRefreshService, "executorService", executorService);
+        when(variablesService.getRefreshMaxRequestsPerPartner()).thenReturn(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void refreshAllPartnerData_WithCustomerOfTwoMaterials_RequestsAllMaterialsAndPublishesResults() {
+        // given
+        Partner customer = new Partner("Scenario Customer", "http://customer-control-plane:8184/api/v1/dsp",
+            "BPNL4444444444XX", "BPNS4444444444XX", "Hauptwerk Musterhausen", "BPNA4444444444AA",
+            "Musterstraße 35b", "77777 Musterhausen", "Germany");
+        ReflectionTestUtils.setField(customer, "uuid", UUID.randomUUID());
+        Material semiconductor = new Material(false, true, "MNR-8101-ID146955.001", UUID.randomUUID().toString(), "Semiconductor", new Date());
+        Material steelCoil = new Material(false, true, "MNR-4177-C", UUID.randomUUID().toString(), "Steel Coil", new Date());
+        when(mprService.findAll()).thenReturn(List.of(
+            new MaterialPartnerRelation(semiconductor, customer, "MNR-7307-AU340474.002", false, true),
+            new MaterialPartnerRelation(steelCoil, customer, "MNR-4177-S", false, true)));
+        when(demandRequestApiService.doReportedDemandRequest(any(), any())).thenReturn(SUCCESS);
+        when(itemStockRequestApiService.doItemStockSubmodelReportedProductItemStockRequest(any(), any())).thenReturn(SUCCESS);
+        when(daysOfSupplyRequestApiService.doReportedDaysOfSupplyRequest(any(), any(), any())).thenReturn(SUCCESS);
+        when(deliveryRequestApiService.doReportedDeliveryRequest(any(), any())).thenReturn(SUCCESS);
+
+        // when
+        boolean started = materialRefreshService.refreshAllPartnerData();
+
+        // then
+        assertTrue(started);
+        verify(messagingTemplate, timeout(5000)).convertAndSend("/topic/material/" + semiconductor.getOwnMaterialNumber(), "SUCCESS");
+        verify(messagingTemplate, timeout(5000)).convertAndSend("/topic/material/" + steelCoil.getOwnMaterialNumber(), "SUCCESS");
+        for (Material material : List.of(semiconductor, steelCoil)) {
+            verify(demandRequestApiService).doReportedDemandRequest(customer, material);
+            verify(itemStockRequestApiService).doItemStockSubmodelReportedProductItemStockRequest(customer, material);
+            verify(daysOfSupplyRequestApiService).doReportedDaysOfSupplyRequest(customer, material, DirectionCharacteristic.INBOUND);
+            verify(deliveryRequestApiService).doReportedDeliveryRequest(customer, material);
+        }
+        verifyNoInteractions(productionRequestApiService);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.masterdata.logic;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService;
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.MaterialPartnerRelationRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartTypeRetrievalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+public class PartTypeRetrievalServiceTest {
+
+    private static final String PARTNER_CX_ID = "urn:uuid:" + UUID.randomUUID();
+
+    @Mock
+    private MaterialPartnerRelationRepository mprRepository;
+
+    @Mock
+    private EdcAdapterService edcAdapterService;
+
+    @Mock
+    private VariablesService variablesService;
+
+    @InjectMocks
+    private PartTypeRetrievalService partTypeRetrievalService;
+
+    private ExecutorService partTypeExecutorService;
+
+    private MaterialPartnerRelation mpr;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        partTypeExecutorService = Executors.newFixedThreadPool(4);
+        ReflectionTestUtils.setField(partTypeRetrievalService, "partTypeExecutorService", partTypeExecutorService);
+        when(variablesService.getPartTypeTimeout()).thenReturn(10000L);
+
+        Partner supplier = new Partner("Scenario Supplier", "http://supplier-control-plane:9184/api/v1/dsp",
+            "BPNL1234567890ZZ", "BPNS1234567890ZZ", "Konzernzentrale Dudelsdorf", "BPNA1234567890AA",
+            "Heinrich-Supplier-Straße 1", "77785 Dudelsdorf", "Germany");
+        ReflectionTestUtils.setField(supplier, "uuid", UUID.randomUUID());
+        Material semiconductor = new Material(true, false, "MNR-7307-AU340474.002", UUID.randomUUID().toString(), "Semiconductor", new Date());
+        mpr = new MaterialPartnerRelation(semiconductor, supplier, "MNR-8101-ID146955.001", true, false);
+        when(mprRepository.findById(mpr.getKey())).thenReturn(Optional.of(mpr));
+        when(mprRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        partTypeExecutorService.shutdownNow();
+    }
+
+    @Test
+    void awaitPartnerCXNumber_WithConcurrentCallers_RetrievesOnceAndStoresResult() throws Exception {
+        // given
+        when(edcAdapterService.getCxIdFromPartTypeInformation(any())).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return PARTNER_CX_ID;
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        try {
+            // when
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> partTypeRetrievalService.awaitPartnerCXNumber(mpr)));
+            }
+
+            // then
+            for (var result : results) {
+                assertEquals(PARTNER_CX_ID, result.get(5, TimeUnit.SECONDS));
+            }
+            verify(edcAdapterService, times(1)).getCxIdFromPartTypeInformation(mpr);
+            verify(mprRepository, times(1)).save(mpr);
+            assertEquals(PARTNER_CX_ID, mpr.getPartnerCXNumber());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void awaitPartnerCXNumber_WhenRetrievalFails_RetriesAndReturnsNull() throws Exception {
+        // given
+        when(edcAdapterService.getCxIdFromPartTypeInformation(any())).thenReturn(null);
+
+        // when
+        String result = partTypeRetrievalService.awaitPartnerCXNumber(mpr);
+
+        // then
+        assertNull(result);
+        verify(edcAdapterService, times(2)).getCxIdFromPartTypeInformation(mpr);
+        verify(mprRepository, never()).save(any());
+    }
+
+    @Test
+    void awaitPartnerCXNumber_WhenTimeoutExpires_ReturnsNullWithoutCancellingRetrieval() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(variablesService.getPartTypeTimeout()).thenReturn(50L);
+        when(edcAdapterService.getCxIdFromPartTypeInformation(any())).thenAnswer(invocation -> {
+            release.await();
+            return PARTNER_CX_ID;
+        });
+
+        // when
+        String result = partTypeRetrievalService.awaitPartnerCXNumber(mpr);
+        var runningRetrieval = partTypeRetrievalService.retrievePartnerCXNumber(mpr);
+        release.countDown();
+
+        // then
+        assertNull(result);
+        assertEquals(PARTNER_CX_ID, runningRetrieval.get(5, TimeUnit.SECONDS));
+        verify(edcAdapterService, times(1)).getCxIdFromPartTypeInformation(mpr);
+    }
+
+    /**
+     * Load test: many inbound requests wait for the same slow retrieval. Waiting threads must be
+     * parked instead of spinning, so their CPU time stays far below the time they spend waiting.
+     */
+    @Test
+    void awaitPartnerCXNumber_UnderConcurrentLoad_WaitsWithoutBurningCpu() throws Exception {
+        // given
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeCpuTimeSupported(threadMXBean);
+        long retrievalMillis = 1000;
+        int callerCount = 32;
+        when(edcAdapterService.getCxIdFromPartTypeInformation(any())).thenAnswer(invocation -> {
+            Thread.sleep(retrievalMillis);
+            return PARTNER_CX_ID;
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(callerCount);
+
+        try {
+            // when
+            List<Future<Long>> cpuTimes = new ArrayList<>();
+            for (int i = 0; i < callerCount; i++) {
+                cpuTimes.add(callers.submit(() -> {
+                    long start = threadMXBean.getCurrentThreadCpuTime();
+                    assertEquals(PARTNER_CX_ID, partTypeRetrievalService.awaitPartnerCXNumber(mpr));
+                    return threadMXBean.getCurrentThreadCpuTime() - start;
+                }));
+            }
+            long totalCpuNanos = 0;
+            for (var cpuTime : cpuTimes) {
+                totalCpuNanos += cpuTime.get(10, TimeUnit.SECONDS);
+            }
+
+            // then
+            long totalCpuMillis = TimeUnit.NANOSECONDS.toMillis(totalCpuNanos);
+            log.info("{} concurrent callers waited {} ms for the retrieval and used {} ms cpu time in total",
+                callerCount, retrievalMillis, totalCpuMillis);
+            // busy waiting would use about callerCount * retrievalMillis ms of cpu time
+            assertTrue(totalCpuMillis < callerCount * retrievalMillis / 10,
+                "Waiting callers used " + totalCpuMillis + " ms cpu time");
+            verify(edcAdapterService, times(1)).getCxIdFromPartTypeInformation(mpr);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private void assumeCpuTimeSupported(ThreadMXBean threadMXBean) {
+        assumeTrue(threadMXBean.isCurrentThreadCpuTimeSupported());
+        if (!threadMXBean.isThreadCpuTimeEnabled()) {
+            threadMXBean.setThreadCpuTimeEnabled(true);
+        }
+    }
+}
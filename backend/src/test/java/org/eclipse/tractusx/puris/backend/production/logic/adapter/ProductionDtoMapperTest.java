@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.production.logic.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
+import org.eclipse.tractusx.puris.backend.production.domain.model.OwnProduction;
+import org.eclipse.tractusx.puris.backend.production.logic.dto.ProductionDto;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ProductionDtoMapperTest {
+
+    @Test
+    void toDto_GivenOwnProduction_EqualsModelMapperConversion() {
+        // given
+        Partner customer = new Partner(
+            "Scenario Customer",
+            "http://customer-control-plane:8184/api/v1/dsp",
+            "BPNL4444444444XX",
+            "BPNS4444444444XX",
+            "Hauptwerk Musterhausen",
+            "BPNA4444444444ZZ",
+            "Musterstraße 35b",
+            "77777 Musterhausen",
+            "Germany"
+        );
+        customer.setUuid(UUID.randomUUID());
+        customer.getSites().add(new Site("BPNS4444444444YY", "Nebenwerk", "BPNA4444444444YY", "Nebenstraße 1",
+            "77777 Musterhausen", "Germany"));
+        Material material = Material.builder()
+            .ownMaterialNumber("MNR-8101-ID146955.001")
+            .materialNumberCx(UUID.randomUUID().toString())
+            .productFlag(true)
+            .name("Central Control Unit")
+            .build();
+        OwnProduction production = OwnProduction.builder()
+            .partner(customer)
+            .material(material)
+            .quantity(120)
+            .measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+            .productionSiteBpns("BPNS1234567890ZZ")
+            .estimatedTimeOfCompletion(new Date())
+            .lastUpdatedOnDateTime(new Date())
+            .customerOrderNumber("C-Nbr-4711")
+            .customerOrderPositionNumber("C-Nbr-4711-Pos-1")
+            .supplierOrderNumber("S-Nbr-4712")
+            .build();
+        production.setUuid(UUID.randomUUID());
+
+        // the conversion the production endpoints used before
+        ProductionDto expected = new ModelMapper().map(production, ProductionDto.class);
+        expected.getMaterial().setMaterialNumberCx(material.getMaterialNumberCx());
+        expected.getMaterial().setMaterialNumberSupplier(material.getOwnMaterialNumber());
+        expected.getMaterial().setMaterialNumberCustomer("MNR-7307-AU340474.002");
+
+        // when
+        ProductionDto dto = ProductionDtoMapper.toDto(production, "MNR-7307-AU340474.002");
+
+        // then
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(objectMapper.valueToTree(expected), objectMapper.valueToTree(dto));
+    }
+}
@@ -26,12 +26,18 @@ import org.eclipse.tractusx.puris.backend.common.security.DtrSecurityConfigurati
 import org.eclipse.tractusx.puris.backend.common.security.SecurityConfig;
 import org.eclipse.tractusx.puris.backend.common.security.annotation.WithMockApiKey;
 import org.eclipse.tractusx.puris.backend.common.security.logic.ApiKeyAuthenticationProvider;
+import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetPagination;
+import org.eclipse.tractusx.puris.backend.common.util.NdjsonStreamer;
 import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.MaterialItemStock;
 import org.eclipse.tractusx.puris.backend.stock.logic.dto.FrontendMaterialDto;
+import org.eclipse.tractusx.puris.backend.stock.logic.dto.MaterialStockDto;
 import org.eclipse.tractusx.puris.backend.stock.logic.service.*;
 import org.eclipse.tractusx.puris.backend.supply.logic.service.CustomerSupplyService;
 import org.eclipse.tractusx.puris.backend.supply.logic.service.SupplierSupplyService;
@@ -42,16 +48,25 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(StockViewController.class)
@@ -94,6 +109,9 @@ class StockViewControllerTest {
     @MockBean
     private ModelMapper modelMapper;
 
+    @MockBean
+    private NdjsonStreamer ndjsonStreamer;
+
     @Test
     @WithMockApiKey
     void getMaterials_GivenTwoMaterials_ReturnsListOfMaterials() throws Exception {
@@ -148,4 +166,91 @@ class StockViewControllerTest {
             });
     }
 
+    @Test
+    @WithMockApiKey
+    void getMaterialStocks_GivenLimit_ReturnsPageWithNextCursor() throws Exception {
+
+        // given
+        Material material = Material.builder()
+            .ownMaterialNumber("MNR-4711")
+            .materialFlag(true)
+            .name("Test Material 1")
+            .build();
+        MaterialItemStock stock1 = materialStock(material);
+        MaterialItemStock stock2 = materialStock(material);
+        when(materialItemStockService.findPageByOwnMaterialNumber("MNR-4711", Optional.empty(), 2))
+            .thenReturn(List.of(stock1, stock2));
+        when(mprService.findPartnerMaterialNumbers("MNR-4711")).thenReturn(Map.of(
+            stock1.getPartner().getUuid(), "MNR-8101",
+            stock2.getPartner().getUuid(), "MNR-8101"));
+
+        // when
+        this.mockMvc.perform(
+                get("/stockView/material-stocks")
+                    .param("ownMaterialNumber", Base64.getEncoder().encodeToString("MNR-4711".getBytes()))
+                    .param("limit", "2")
+            )
+            .andDo(print())
+            // then
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(header().string(KeysetPagination.NEXT_CURSOR_HEADER, stock2.getUuid().toString()))
+            .andDo(result -> {
+                List<MaterialStockDto> returnedStocks = new ObjectMapper().readValue(
+                    result.getResponse().getContentAsString(), new TypeReference<>() {
+                    });
+                assertAll(
+                    () -> assertEquals(2, returnedStocks.size()),
+                    () -> assertEquals(stock1.getUuid(), returnedStocks.get(0).getUuid()),
+                    () -> assertEquals("MNR-8101", returnedStocks.get(0).getMaterial().getMaterialNumberSupplier())
+                );
+            });
+        verify(materialItemStockService, never()).findByOwnMaterialNumber(any());
+    }
+
+    @Test
+    @WithMockApiKey
+    void getMaterialStocks_GivenLimitOfZero_ReturnsBadRequest() throws Exception {
+        this.mockMvc.perform(
+                get("/stockView/material-stocks")
+                    .param("ownMaterialNumber", Base64.getEncoder().encodeToString("MNR-4711".getBytes()))
+                    .param("limit", "0")
+            )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockApiKey
+    void getMaterialStocks_AcceptingNdjson_StreamsStocks() throws Exception {
+
+        // given
+        when(ndjsonStreamer.stream(any(), any())).thenReturn(ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(outputStream -> outputStream.write("{}\n".getBytes())));
+
+        // when
+        this.mockMvc.perform(
+                get("/stockView/material-stocks")
+                    .param("ownMaterialNumber", Base64.getEncoder().encodeToString("MNR-4711".getBytes()))
+                    .accept(MediaType.APPLICATION_NDJSON)
+            )
+            // then
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+        verify(ndjsonStreamer).stream(any(), any());
+        verify(materialItemStockService, never()).findByOwnMaterialNumber(any());
+    }
+
+    private static MaterialItemStock materialStock(Material material) {
+        Partner partner = new Partner();
+        partner.setUuid(UUID.randomUUID());
+        MaterialItemStock stock = MaterialItemStock.builder()
+            .material(material)
+            .partner(partner)
+            .quantity(5)
+            .measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+            .build();
+        stock.setUuid(UUID.randomUUID());
+        return stock;
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.stock.domain.repository;
+
+import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.FilterSpecifications;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.KeysetQueries;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetPagination;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.MaterialRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.PartnerRepository;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.ReportedMaterialItemStock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class ReportedMaterialItemStockRepositoryTest {
+
+    @Autowired
+    private ReportedMaterialItemStockRepository stockRepository;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Test
+    void replaceAllForPartnerAndMaterial_KeepsStocksOfOtherMaterials() {
+        // Given
+        Partner partner = partnerRepository.save(new Partner(
+            "Scenario Supplier",
+            "http://supplier-control-plane:9184/api/v1/dsp",
+            "BPNL1234567890ZZ",
+            "BPNS1234567890ZZ",
+            "Konzernzentrale Dudelsdorf",
+            "BPNA1234567890AA",
+            "Heinrich-Supplier-Straße 1",
+            "77785 Dudelsdorf",
+            "Germany"
+        ));
+        Material material = materialRepository.save(new Material(true, false, "MNR-123", UUID.randomUUID().toString(), "Test Material 1", new Date()));
+        Material otherMaterial = materialRepository.save(new Material(true, false, "MNR-234", UUID.randomUUID().toString(), "Test Material 2", new Date()));
+        stockRepository.saveAll(List.of(stock(partner, material, 1), stock(partner, material, 2), stock(partner, otherMaterial, 3)));
+
+        List<ReportedMaterialItemStock> newStocks = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            newStocks.add(stock(partner, material, 10 + i));
+        }
+
+        // When
+        List<ReportedMaterialItemStock> saved = stockRepository.replaceAllForPartnerAndMaterial(partner, material, newStocks);
+
+        // Then
+        assertEquals(250, saved.size());
+        List<ReportedMaterialItemStock> stocks = stockRepository.findByPartnerAndMaterial(partner, material);
+        assertEquals(250, stocks.size());
+        assertTrue(stocks.stream().allMatch(stock -> stock.getQuantity() >= 10));
+        List<ReportedMaterialItemStock> otherStocks = stockRepository.findByPartnerAndMaterial(partner, otherMaterial);
+        assertEquals(1, otherStocks.size());
+        assertEquals(3, otherStocks.get(0).getQuantity());
+    }
+
+    @Test
+    void findPage_GivenLimit_ReturnsAllStocksPageByPageInDatabaseOrder() {
+        // Given
+        Partner partner = partnerRepository.save(new Partner(
+            "Scenario Supplier",
+            "http://supplier-control-plane:9184/api/v1/dsp",
+            "BPNL1234567890ZZ",
+            "BPNS1234567890ZZ",
+            "Konzernzentrale Dudelsdorf",
+            "BPNA1234567890AA",
+            "Heinrich-Supplier-Straße 1",
+            "77785 Dudelsdorf",
+            "Germany"
+        ));
+        Material material = materialRepository.save(new Material(true, false, "MNR-123", UUID.randomUUID().toString(), "Test Material 1", new Date()));
+        Material otherMaterial = materialRepository.save(new Material(true, false, "MNR-234", UUID.randomUUID().toString(), "Test Material 2", new Date()));
+        List<ReportedMaterialItemStock> stocks = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            stocks.add(stock(partner, material, i));
+        }
+        stocks.add(stock(partner, otherMaterial, 100));
+        stockRepository.saveAll(stocks);
+        Specification<ReportedMaterialItemStock> filter = FilterSpecifications.hasOwnMaterialNumber("MNR-123");
+
+        // When
+        List<UUID> pagedUuids = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        Optional<UUID> after = Optional.empty();
+        List<ReportedMaterialItemStock> page;
+        do {
+            page = KeysetQueries.findPage(stockRepository, filter, after, 10);
+            pageSizes.add(page.size());
+            page.forEach(stock -> pagedUuids.add(stock.getUuid()));
+            after = page.isEmpty() ? after : Optional.of(page.get(page.size() - 1).getUuid());
+        } while (page.size() == 10);
+        List<UUID> streamedUuids;
+        try (Stream<ReportedMaterialItemStock> stream = KeysetQueries.stream(stockRepository, filter)) {
+            streamedUuids = stream.map(ReportedMaterialItemStock::getUuid).toList();
+        }
+
+        // Then
+        assertEquals(List.of(10, 10, 5), pageSizes);
+        assertEquals(25, new HashSet<>(pagedUuids).size());
+        assertEquals(pagedUuids, streamedUuids);
+        // the order of the database is the one used to merge pages of different tables
+        assertEquals(pagedUuids, KeysetPagination.merge(pagedUuids, List.of(), pagedUuids.size(), Function.identity()));
+    }
+
+    private static ReportedMaterialItemStock stock(Partner partner, Material material, double quantity) {
+        return ReportedMaterialItemStock.builder()
+            .partner(partner)
+            .material(material)
+            .quantity(quantity)
+            .measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+            .locationBpns("BPNS1234567890ZZ")
+            .locationBpna("BPNA1234567890AA")
+            .lastUpdatedOnDateTime(new Date())
+            .build();
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.stock.domain.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
+import org.eclipse.tractusx.puris.backend.common.domain.repository.FilterSpecifications;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.MaterialPartnerRelationRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.MaterialRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.PartnerMaterialNumber;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.PartnerRepository;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.MaterialItemStock;
+import org.eclipse.tractusx.puris.backend.stock.logic.adapter.ItemStockDtoMapper;
+import org.eclipse.tractusx.puris.backend.stock.logic.dto.MaterialStockDto;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the assembly of the material stock list of the stock view before and after it was switched from a
+ * ModelMapper with one material partner relation lookup per stock to explicit mapping with one lookup per list.
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class StockListAssemblyTest {
+
+    @Autowired
+    private MaterialItemStockRepository stockRepository;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private MaterialPartnerRelationRepository mprRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    void assemble_GivenMorePartners_IssuesSameNumberOfStatements() {
+        // given
+        givenStocks("MNR-123", 0, 2, 5);
+        givenStocks("MNR-234", 2, 20, 5);
+
+        // when
+        long fewPartners = statementsOf(this::assemble, "MNR-123");
+        long manyPartners = statementsOf(this::assemble, "MNR-234");
+        long legacyManyPartners = statementsOf(this::assembleLegacy, "MNR-234");
+
+        // then
+        assertAll(
+            () -> assertEquals(fewPartners, manyPartners),
+            () -> assertTrue(legacyManyPartners > 20, "one lookup per partner at least"),
+            () -> assertEquals(100, assemble("MNR-234").size()),
+            () -> assertTrue(assemble("MNR-234").stream()
+                .allMatch(dto -> dto.getMaterial().getMaterialNumberSupplier().startsWith("SUP-")))
+        );
+    }
+
+    /**
+     * Run with -Dbenchmark=true to log the cost per stock of both ways to assemble the list.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void assemble_Benchmark() {
+        // given
+        int partners = 50;
+        int stocksPerPartner = 100;
+        givenStocks("MNR-345", 0, partners, stocksPerPartner);
+        int rows = partners * stocksPerPartner;
+        for (int i = 0; i < 5; i++) {
+            statementsOf(this::assembleLegacy, "MNR-345");
+            statementsOf(this::assemble, "MNR-345");
+        }
+
+        // when
+        long legacyStatements = 0;
+        long statements = 0;
+        long legacyNanos = 0;
+        long nanos = 0;
+        int runs = 20;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            legacyStatements += statementsOf(this::assembleLegacy, "MNR-345");
+            legacyNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            statements += statementsOf(this::assemble, "MNR-345");
+            nanos += System.nanoTime() - start;
+        }
+
+        // then
+        log.info("{} stocks of {} partners, ModelMapper and lookup per stock: {} statements, {} ns per stock",
+            rows, partners, legacyStatements / runs, legacyNanos / runs / rows);
+        log.info("{} stocks of {} partners, explicit mapping and lookup per list: {} statements, {} ns per stock",
+            rows, partners, statements / runs, nanos / runs / rows);
+        assertTrue(statements < legacyStatements);
+    }
+
+    private List<MaterialStockDto> assemble(String ownMaterialNumber) {
+        Map<UUID, String> partnerMaterialNumbers = new HashMap<>();
+        for (PartnerMaterialNumber number : mprRepository.findPartnerMaterialNumbersByOwnMaterialNumber(ownMaterialNumber)) {
+            partnerMaterialNumbers.put(number.getPartnerUuid(), number.getPartnerMaterialNumber());
+        }
+        return stockRepository.findByMaterial_OwnMaterialNumber(ownMaterialNumber).stream()
+            .map(stock -> ItemStockDtoMapper.toDto(stock, partnerMaterialNumbers.get(stock.getPartner().getUuid())))
+            .toList();
+    }
+
+    private List<MaterialStockDto> assembleLegacy(String ownMaterialNumber) {
+        return stockRepository.findAll(FilterSpecifications.<MaterialItemStock>hasOwnMaterialNumber(ownMaterialNumber)).stream()
+            .map(stock -> {
+                MaterialStockDto dto = modelMapper.map(stock, MaterialStockDto.class);
+                dto.getMaterial().setMaterialNumberCx(stock.getMaterial().getMaterialNumberCx());
+                dto.getMaterial().setMaterialNumberCustomer(stock.getMaterial().getOwnMaterialNumber());
+                var materialPartnerRelation = mprRepository.findById(new MaterialPartnerRelation.Key(
+                    stock.getMaterial().getOwnMaterialNumber(), stock.getPartner().getUuid())).get();
+                dto.getMaterial().setMaterialNumberSupplier(materialPartnerRelation.getPartnerMaterialNumber());
+                dto.setStockLocationBpns(stock.getLocationBpns());
+                dto.setStockLocationBpna(stock.getLocationBpna());
+                return dto;
+            })
+            .toList();
+    }
+
+    private long statementsOf(Function<String, List<MaterialStockDto>> assembly, String ownMaterialNumber) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assembly.apply(ownMaterialNumber);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void givenStocks(String ownMaterialNumber, int firstPartner, int partners, int stocksPerPartner) {
+        Material material = materialRepository.save(new Material(true, false, ownMaterialNumber,
+            UUID.randomUUID().toString(), "Test Material " + ownMaterialNumber, new Date()));
+        List<MaterialItemStock> stocks = new ArrayList<>();
+        for (int i = firstPartner; i < firstPartner + partners; i++) {
+            Partner partner = partnerRepository.save(new Partner(
+                "Supplier " + i,
+                "http://supplier-control-plane-" + i + ":9184/api/v1/dsp",
+                String.format("BPNL%012d", i),
+                String.format("BPNS%012d", i),
+                "Site " + i,
+                String.format("BPNA%012d", i),
+                "Heinrich-Supplier-Straße " + i,
+                "77785 Dudelsdorf",
+                "Germany"
+            ));
+            mprRepository.save(new MaterialPartnerRelation(material, partner, "SUP-" + i, true, false));
+            for (int j = 0; j < stocksPerPartner; j++) {
+                stocks.add(MaterialItemStock.builder()
+                    .partner(partner)
+                    .material(material)
+                    .quantity(j)
+                    .measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+                    .locationBpns(String.format("BPNS%012d", i))
+                    .locationBpna(String.format("BPNA%012d", i))
+                    .lastUpdatedOnDateTime(new Date())
+                    .build());
+            }
+        }
+        stockRepository.saveAll(stocks);
+    }
+}
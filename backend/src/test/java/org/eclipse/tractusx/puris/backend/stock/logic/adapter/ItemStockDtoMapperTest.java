@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.stock.logic.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.MaterialItemStock;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.ReportedProductItemStock;
+import org.eclipse.tractusx.puris.backend.stock.logic.dto.MaterialStockDto;
+import org.eclipse.tractusx.puris.backend.stock.logic.dto.ReportedProductStockDto;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemStockDtoMapperTest {
+
+    private static final String OWN_MAT_NUMBER = "MNR-7307-AU340474.002";
+    private static final String PARTNER_MAT_NUMBER = "MNR-8101-ID146955.001";
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void toDto_GivenMaterialItemStock_EqualsModelMapperConversion() {
+        // given
+        MaterialItemStock stock = MaterialItemStock.builder()
+            .partner(partner())
+            .material(material())
+            .quantity(20)
+            .measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+            .locationBpns("BPNS1111111111SI")
+            .locationBpna("BPNA1111111111AD")
+            .lastUpdatedOnDateTime(new Date())
+            .isBlocked(true)
+            .customerOrderId("C-Nbr-4711")
+            .customerOrderPositionId("C-Nbr-4711-Pos-1")
+            .supplierOrderId("S-Nbr-4712")
+            .build();
+        stock.setUuid(UUID.randomUUID());
+
+        // the conversion the stock view used before
+        MaterialStockDto expected = modelMapper.map(stock, MaterialStockDto.class);
+        expected.getMaterial().setMaterialNumberCx(stock.getMaterial().getMaterialNumberCx());
+        expected.getMaterial().setMaterialNumberCustomer(stock.getMaterial().getOwnMaterialNumber());
+        expected.getMaterial().setMaterialNumberSupplier(PARTNER_MAT_NUMBER);
+        expected.setStockLocationBpns(stock.getLocationBpns());
+        expected.setStockLocationBpna(stock.getLocationBpna());
+        expected.setCustomerOrderNumber(stock.getCustomerOrderId());
+        expected.setCustomerOrderPositionNumber(stock.getCustomerOrderPositionId());
+        expected.setSupplierOrderNumber(stock.getSupplierOrderId());
+        // materials have no uuid, the model mapper just copied the one of the stock
+        expected.getMaterial().setUuid(null);
+
+        // when
+        MaterialStockDto dto = ItemStockDtoMapper.toDto(stock, PARTNER_MAT_NUMBER);
+
+        // then
+        assertEquals(objectMapper.valueToTree(expected), objectMapper.valueToTree(dto));
+    }
+
+    @Test
+    void toDto_GivenReportedProductItemStock_EqualsModelMapperConversion() {
+        // given
+        ReportedProductItemStock stock = ReportedProductItemStock.builder()
+            .partner(partner())
+            .material(material())
+            .quantity(5.5)
+            .measurementUnit(ItemUnitEnumeration.UNIT_KILOGRAM)
+            .locationBpns("BPNS1111111111SI")
+            .locationBpna("BPNA1111111111AD")
+            .lastUpdatedOnDateTime(new Date())
+            .build();
+        stock.setUuid(UUID.randomUUID());
+
+        // the conversion the stock view used before
+        ReportedProductStockDto expected = modelMapper.map(stock, ReportedProductStockDto.class);
+        expected.getMaterial().setMaterialNumberCx(stock.getMaterial().getMaterialNumberCx());
+        expected.getMaterial().setMaterialNumberSupplier(stock.getMaterial().getOwnMaterialNumber());
+        expected.getMaterial().setMaterialNumberCustomer(PARTNER_MAT_NUMBER);
+        expected.setStockLocationBpns(stock.getLocationBpns());
+        expected.setStockLocationBpna(stock.getLocationBpna());
+
+        // when
+        ReportedProductStockDto dto = ItemStockDtoMapper.toDto(stock, PARTNER_MAT_NUMBER);
+
+        // then
+        assertEquals(objectMapper.valueToTree(expected), objectMapper.valueToTree(dto));
+    }
+
+    @Test
+    void toDto_GivenNoPartnerMaterialNumber_LeavesItEmpty() {
+        // given
+        MaterialItemStock stock = MaterialItemStock.builder()
+            .partner(partner())
+            .material(material())
+            .quantity(1)
+            .measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+            .build();
+
+        // when
+        MaterialStockDto dto = ItemStockDtoMapper.toDto(stock, null);
+
+        // then
+        assertAll(
+            () -> assertEquals(OWN_MAT_NUMBER, dto.getMaterial().getMaterialNumberCustomer()),
+            () -> assertNull(dto.getMaterial().getMaterialNumberSupplier())
+        );
+    }
+
+    private static Material material() {
+        return Material.builder()
+            .ownMaterialNumber(OWN_MAT_NUMBER)
+            .materialNumberCx(UUID.randomUUID().toString())
+            .materialFlag(true)
+            .productFlag(true)
+            .name("Semiconductor")
+            .build();
+    }
+
+    private static Partner partner() {
+        Partner partner = new Partner(
+            "Scenario Supplier",
+            "http://supplier-control-plane:9184/api/v1/dsp",
+            "BPNL1111111111LE",
+            "BPNS1111111111SI",
+            "Konzernzentrale Dudelsdorf",
+            "BPNA1111111111AD",
+            "Heinrich-Supplier-Straße 1",
+            "77785 Dudelsdorf",
+            "Germany"
+        );
+        partner.setUuid(UUID.randomUUID());
+        return partner;
+    }
+}
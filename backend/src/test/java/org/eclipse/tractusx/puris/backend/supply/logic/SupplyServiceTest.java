@@ -20,11 +20,15 @@ SPDX-License-Identifier: Apache-2.0
 
 package org.eclipse.tractusx.puris.backend.supply.logic;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 
+import org.eclipse.tractusx.puris.backend.common.domain.model.MaterialDataChangedEvent;
 import org.eclipse.tractusx.puris.backend.delivery.logic.service.OwnDeliveryService;
 import org.eclipse.tractusx.puris.backend.delivery.logic.service.ReportedDeliveryService;
 import org.eclipse.tractusx.puris.backend.demand.logic.services.OwnDemandService;
@@ -51,6 +55,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -241,6 +250,80 @@ public class SupplyServiceTest {
         
     }
 
+    @Test
+    void testCalculateCustomerDaysOfSupply_CachedUntilMaterialChanged() {
+        // given
+        ReflectionTestUtils.setField(customerSupplyService, "cacheEnabled", true);
+        ReflectionTestUtils.setField(customerSupplyService, "cacheTtl", 300L);
+        ReflectionTestUtils.setField(customerSupplyService, "cacheMaxSize", 100);
+        List<Double> demandQuantities = List.of(40.0, 60.0, 50.0, 50.0, 60.0, 50.0);
+        List<Double> noDeliveries = List.of(0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
+        testCalculateCustomerDaysOfSupply(6, demandQuantities, noDeliveries, noDeliveries, List.of(1.0, 0.0, 0.0, 0.0, 0.0), 100.0);
+
+        // when
+        customerSupplyService.calculateCustomerDaysOfSupply(TEST_MATERIAL.getOwnMaterialNumber(), Optional.of(BPNL_SUPPLIER), Optional.empty(), 6);
+        customerSupplyService.onMaterialDataChanged(new MaterialDataChangedEvent(TEST_MATERIAL.getOwnMaterialNumber()));
+        customerSupplyService.calculateCustomerDaysOfSupply(TEST_MATERIAL.getOwnMaterialNumber(), Optional.of(BPNL_SUPPLIER), Optional.empty(), 6);
+
+        // then
+        verify(ownDemandService, times(2)).getQuantityForDays(TEST_MATERIAL.getOwnMaterialNumber(), Optional.of(BPNL_SUPPLIER), Optional.empty(), 6);
+    }
+
+    @Test
+    void testCalculateDaysOfSupply_ForAllMaterials() {
+        // given
+        Material otherMaterial = new Material(true, false, "Other-Mnr", UUID.randomUUID().toString(), "Other Material", new Date());
+        stubOverviewQuantities(100.0);
+
+        // when
+        Map<String, List<OwnCustomerSupply>> daysOfSupply = customerSupplyService.calculateDaysOfSupply(List.of(TEST_MATERIAL, otherMaterial), 6);
+
+        // then
+        assertEquals(2, daysOfSupply.size());
+        assertEquals(5, daysOfSupply.get(TEST_MATERIAL.getOwnMaterialNumber()).size());
+        assertEquals(1.0, daysOfSupply.get(otherMaterial.getOwnMaterialNumber()).get(0).getDaysOfSupply());
+    }
+
+    @Test
+    void testGetCurrentDaysOfSupply_RecalculatedAfterChangeOnlyForChangedMaterial() {
+        // given
+        ReflectionTestUtils.setField(customerSupplyService, "cacheEnabled", true);
+        ReflectionTestUtils.setField(customerSupplyService, "summaryExecutor", directExecutor());
+        Material otherMaterial = new Material(true, false, "Other-Mnr", UUID.randomUUID().toString(), "Other Material", new Date());
+        List<Material> materials = List.of(TEST_MATERIAL, otherMaterial);
+        stubOverviewQuantities(100.0);
+        customerSupplyService.getCurrentDaysOfSupply(materials);
+        when(materialItemStockService.getInitialStockQuantity(TEST_MATERIAL.getOwnMaterialNumber(), Optional.empty(), Optional.empty())).thenReturn(200.0);
+
+        // when
+        customerSupplyService.onMaterialDataChanged(new MaterialDataChangedEvent(TEST_MATERIAL.getOwnMaterialNumber()));
+        Map<String, Double> daysOfSupply = customerSupplyService.getCurrentDaysOfSupply(materials);
+
+        // then
+        assertEquals(Map.of(TEST_MATERIAL.getOwnMaterialNumber(), 3.0, otherMaterial.getOwnMaterialNumber(), 1.0), daysOfSupply);
+        verify(ownDemandService, times(2)).getQuantityForDays(TEST_MATERIAL.getOwnMaterialNumber(), Optional.empty(), Optional.empty(), 28);
+        verify(ownDemandService, times(1)).getQuantityForDays(otherMaterial.getOwnMaterialNumber(), Optional.empty(), Optional.empty(), 28);
+    }
+
+    private void stubOverviewQuantities(double initialStockValue) {
+        when(ownDemandService.getQuantityForDays(anyString(), eq(Optional.empty()), eq(Optional.empty()), anyInt()))
+            .thenAnswer(invocation -> Collections.nCopies(invocation.<Integer>getArgument(3), 50.0));
+        when(ownDeliveryService.getQuantityForDays(anyString(), eq(Optional.empty()), eq(Optional.empty()), eq(DirectionCharacteristic.INBOUND), anyInt()))
+            .thenAnswer(invocation -> Collections.nCopies(invocation.<Integer>getArgument(4), 0.0));
+        when(reportedDeliveryService.getQuantityForDays(anyString(), eq(Optional.empty()), eq(Optional.empty()), eq(DirectionCharacteristic.INBOUND), anyInt()))
+            .thenAnswer(invocation -> Collections.nCopies(invocation.<Integer>getArgument(4), 0.0));
+        when(materialItemStockService.getInitialStockQuantity(anyString(), eq(Optional.empty()), eq(Optional.empty()))).thenReturn(initialStockValue);
+    }
+
+    private static ExecutorService directExecutor() {
+        ExecutorService executor = mock(ExecutorService.class);
+        when(executor.submit(any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        });
+        return executor;
+    }
+
     @Test
     void testCalculateSupplierDaysOfSupply_StandardCase() {
         List<Double> productionQuantities = List.of(0.0, 60.0, 100.0, 0.0, 0.0, 40.0);